@@ -0,0 +1,49 @@
+package io.fair_acc.benchmarks;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the self-contained 'benchmarks.jar'.
+ * <p>
+ * Accepts the standard JMH command-line options (e.g. a benchmark regexp, '-p nSamples=1000' or '-prof gc') and, unless
+ * specified otherwise via '-rf' and '-rff', writes the machine-readable results to {@value #DEFAULT_RESULT_FILE} in JSON
+ * format so that they can be archived and compared between runs (e.g. via https://jmh.morethan.io).
+ * <p>
+ * Usage: {@code java -jar chartfx-benchmarks/target/benchmarks.jar [regexp] [JMH options]}
+ */
+public final class BenchmarkRunner {
+    public static final String DEFAULT_RESULT_FILE = "jmh-results.json";
+
+    private BenchmarkRunner() {
+        // utility class
+    }
+
+    public static void main(final String[] args) throws CommandLineOptionException, RunnerException, IOException {
+        final CommandLineOptions cmdOptions = new CommandLineOptions(args);
+        if (cmdOptions.shouldHelp()) {
+            cmdOptions.showHelp();
+            return;
+        }
+        final ChainedOptionsBuilder options = new OptionsBuilder().parent(cmdOptions);
+        if (!cmdOptions.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!cmdOptions.getResult().hasValue()) {
+            options.result(DEFAULT_RESULT_FILE);
+        }
+        final Runner runner = new Runner(options.build());
+        if (cmdOptions.shouldList()) {
+            runner.list();
+            return;
+        }
+        runner.run();
+    }
+}
@@ -0,0 +1,129 @@
+package io.fair_acc.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import javafx.application.Platform;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.fair_acc.chartfx.axes.Axis;
+import io.fair_acc.chartfx.axes.spi.DefaultNumericAxis;
+import io.fair_acc.chartfx.renderer.ErrorStyle;
+import io.fair_acc.chartfx.renderer.spi.CachedDataPoints;
+import io.fair_acc.chartfx.ui.geometry.Side;
+import io.fair_acc.dataset.DataSet;
+import io.fair_acc.dataset.spi.DoubleDataSet;
+import io.fair_acc.dataset.spi.DoubleErrorDataSet;
+
+/**
+ * Performance of the data set to screen-coordinate transform in {@link CachedDataPoints} (serial vs. parallel), i.e.
+ * the hot path of the ErrorDataSetRenderer before the data reduction.
+ * <p>
+ * N.B. the protected compute functions are accessed through a subclass, without the need of a rendered chart. The
+ * JavaFX platform is started headless via Monocle.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g", "-Djava.awt.headless=true", "-Dglass.platform=Monocle", "-Dmonocle.platform=Headless", "-Dprism.order=sw" })
+public class CachedDataPointsBenchmark {
+    private static final double CANVAS_WIDTH = 1920.0;
+    private static final double CANVAS_HEIGHT = 1080.0;
+
+    @Param({ "1000", "100000", "1000000" })
+    private int nSamples;
+
+    @Param({ "false", "true" })
+    private boolean withErrors;
+
+    private final BenchmarkCache cache = new BenchmarkCache();
+    private DefaultNumericAxis xAxis;
+    private DefaultNumericAxis yAxis;
+    private DataSet dataSet;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        try {
+            Platform.startup(() -> {});
+        } catch (final IllegalStateException e) {
+            // platform has already been started by a previous trial in this JVM
+        }
+
+        final double[] xValues = new double[nSamples];
+        final double[] yValues = new double[nSamples];
+        final double[] yErrors = new double[nSamples];
+        for (int i = 0; i < nSamples; i++) {
+            xValues[i] = i;
+            yValues[i] = Math.sin(2.0 * Math.PI * 5.0 * i / nSamples);
+            yErrors[i] = 0.05;
+        }
+        dataSet = withErrors ? new DoubleErrorDataSet("data", xValues, yValues, yErrors, yErrors, nSamples, false)
+                             : new DoubleDataSet("data", xValues, yValues, nSamples, false);
+
+        xAxis = new BenchmarkAxis(Side.BOTTOM, 0, nSamples, CANVAS_WIDTH);
+        yAxis = new BenchmarkAxis(Side.LEFT, -1.5, +1.5, CANVAS_HEIGHT);
+
+        cache.setup(xAxis, yAxis, dataSet, nSamples);
+    }
+
+    @Benchmark
+    public double[] computeScreenCoordinatesNonThreaded() {
+        return cache.computeNonThreaded(xAxis, yAxis, dataSet, nSamples);
+    }
+
+    @Benchmark
+    public double[] computeScreenCoordinatesParallel() {
+        return cache.computeParallel(xAxis, yAxis, dataSet, nSamples);
+    }
+
+    /**
+     * exposes the protected compute functions of {@link CachedDataPoints}
+     */
+    private static class BenchmarkCache extends CachedDataPoints {
+        private void setup(final Axis xAxis, final Axis yAxis, final DataSet dataSet, final int nSamples) {
+            // equivalent to CachedDataPoints#setBoundaryConditions(..) for a non-polar plot without style information
+            resizeMin(0, nSamples, nSamples, false);
+            polarPlot = false;
+            allowForNaNs = false;
+            rendererErrorStyle = ErrorStyle.ERRORCOMBO;
+            computeBoundaryVariables(xAxis, yAxis);
+            setErrorType(dataSet, ErrorStyle.ERRORCOMBO);
+        }
+
+        private double[] computeNonThreaded(final Axis xAxis, final Axis yAxis, final DataSet dataSet, final int nSamples) {
+            computeScreenCoordinatesNonThreaded(xAxis, yAxis, dataSet, 0, nSamples);
+            return yValues;
+        }
+
+        private double[] computeParallel(final Axis xAxis, final Axis yAxis, final DataSet dataSet, final int nSamples) {
+            computeScreenCoordinatesParallel(xAxis, yAxis, dataSet, 0, nSamples);
+            return yValues;
+        }
+    }
+
+    /**
+     * fixed-range axis with a given pixel length, as otherwise set during the chart layout
+     */
+    private static class BenchmarkAxis extends DefaultNumericAxis {
+        private BenchmarkAxis(final Side side, final double min, final double max, final double length) {
+            super("axis", min, max, (max - min) / 10.0);
+            setSide(side);
+            setLength(length);
+            updateScale();
+            updateCachedTransforms();
+        }
+    }
+}
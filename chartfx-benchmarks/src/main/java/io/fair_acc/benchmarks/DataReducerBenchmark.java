@@ -0,0 +1,120 @@
+package io.fair_acc.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.fair_acc.chartfx.renderer.RendererDataReducer;
+import io.fair_acc.chartfx.renderer.datareduction.DefaultDataReducer;
+import io.fair_acc.chartfx.renderer.datareduction.MaxDataReducer;
+import io.fair_acc.chartfx.renderer.datareduction.RamanDouglasPeukerDataReducer;
+import io.fair_acc.chartfx.renderer.datareduction.VisvalingamMaheswariWhyattDataReducer;
+
+/**
+ * Performance of the {@link RendererDataReducer} implementations on screen-coordinate data as provided by the
+ * ErrorDataSetRenderer (noisy sine wave spanning a full-HD canvas).
+ * <p>
+ * The reducers operate in-place, hence each invocation first restores the pristine input arrays. This copy is included
+ * in the score and bounded by the 'copy' baseline benchmark.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class DataReducerBenchmark {
+    private static final double CANVAS_WIDTH = 1920.0;
+    private static final double CANVAS_HEIGHT = 1080.0;
+
+    @Param({ "10000", "100000", "1000000" })
+    private int nSamples;
+
+    @Param({ "DEFAULT", "MAX", "RAMER_DOUGLAS_PEUCKER", "VISVALINGAM_WHYATT" })
+    private String reducerType;
+
+    private RendererDataReducer reducer;
+    private double[] xSource;
+    private double[] ySource;
+    private double[] eSource;
+    private double[] xValues;
+    private double[] yValues;
+    private double[] xErrorsPos;
+    private double[] xErrorsNeg;
+    private double[] yErrorsPos;
+    private double[] yErrorsNeg;
+    private int[] styleIds;
+    private boolean[] selected;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        switch (reducerType) {
+        case "MAX":
+            reducer = new MaxDataReducer();
+            break;
+        case "RAMER_DOUGLAS_PEUCKER":
+            reducer = new RamanDouglasPeukerDataReducer();
+            break;
+        case "VISVALINGAM_WHYATT":
+            reducer = new VisvalingamMaheswariWhyattDataReducer();
+            break;
+        case "DEFAULT":
+        default:
+            reducer = new DefaultDataReducer();
+            break;
+        }
+
+        final Random rnd = new Random(42);
+        xSource = new double[nSamples];
+        ySource = new double[nSamples];
+        eSource = new double[nSamples];
+        for (int i = 0; i < nSamples; i++) {
+            xSource[i] = CANVAS_WIDTH * i / nSamples;
+            ySource[i] = 0.5 * CANVAS_HEIGHT * (1.0 + 0.8 * Math.sin(2.0 * Math.PI * 5.0 * i / nSamples)) + 5.0 * rnd.nextGaussian();
+            eSource[i] = 2.0;
+        }
+        xValues = new double[nSamples];
+        yValues = new double[nSamples];
+        xErrorsPos = new double[nSamples];
+        xErrorsNeg = new double[nSamples];
+        yErrorsPos = new double[nSamples];
+        yErrorsNeg = new double[nSamples];
+        styleIds = new int[nSamples];
+        selected = new boolean[nSamples];
+    }
+
+    @Benchmark
+    public int copy() {
+        restoreInput();
+        return nSamples;
+    }
+
+    @Benchmark
+    public int reducePoints() {
+        restoreInput();
+        return reducer.reducePoints(xValues, yValues, xErrorsPos, xErrorsNeg, yErrorsPos, yErrorsNeg, styleIds, selected, 0, nSamples);
+    }
+
+    private void restoreInput() {
+        System.arraycopy(xSource, 0, xValues, 0, nSamples);
+        System.arraycopy(ySource, 0, yValues, 0, nSamples);
+        System.arraycopy(xSource, 0, xErrorsPos, 0, nSamples);
+        System.arraycopy(xSource, 0, xErrorsNeg, 0, nSamples);
+        for (int i = 0; i < nSamples; i++) {
+            yErrorsPos[i] = ySource[i] - eSource[i];
+            yErrorsNeg[i] = ySource[i] + eSource[i];
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package io.fair_acc.benchmarks;
+
+import static io.fair_acc.dataset.DataSet.DIM_X;
+import static io.fair_acc.dataset.DataSet.DIM_Y;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.fair_acc.dataset.DataSet;
+import io.fair_acc.dataset.spi.CircularDoubleErrorDataSet;
+import io.fair_acc.dataset.spi.DoubleDataSet;
+import io.fair_acc.dataset.spi.FifoDoubleErrorDataSet;
+
+/**
+ * Point-wise append and read-back performance of the commonly used (ring-buffered) data set implementations.
+ * <p>
+ * Each 'fill' invocation appends 'nSamples' points to an initially empty data set, i.e. the score divided by
+ * 'nSamples' is the cost per {@code add(..)}. The 'get' benchmarks read back a full data set either point-by-point or
+ * via the bulk {@link DataSet#getValues(int)} accessor.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class DataSetBenchmark {
+    @Param({ "1000", "100000", "1000000" })
+    private int nSamples;
+
+    @Param({ "DoubleDataSet", "CircularDoubleErrorDataSet", "FifoDoubleErrorDataSet" })
+    private String implementation;
+
+    private double[] xValues;
+    private double[] yValues;
+    private DataSet empty;
+    private DataSet filled;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        xValues = new double[nSamples];
+        yValues = new double[nSamples];
+        for (int i = 0; i < nSamples; i++) {
+            xValues[i] = i;
+            yValues[i] = Math.sin(2.0 * Math.PI * i / 1000.0);
+        }
+        empty = newDataSet();
+        filled = fill(newDataSet());
+    }
+
+    @Benchmark
+    public DataSet fill() {
+        clear();
+        return fill(empty);
+    }
+
+    @Benchmark
+    public double getPointByPoint() {
+        double sum = 0.0;
+        final int n = filled.getDataCount();
+        for (int i = 0; i < n; i++) {
+            sum += filled.get(DIM_X, i) + filled.get(DIM_Y, i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public void getValues(final Blackhole blackhole) {
+        blackhole.consume(filled.getValues(DIM_X));
+        blackhole.consume(filled.getValues(DIM_Y));
+    }
+
+    private void clear() {
+        // constant-time for all benchmarked implementations, negligible w.r.t. the 'fill' cost
+        switch (implementation) {
+        case "CircularDoubleErrorDataSet":
+            ((CircularDoubleErrorDataSet) empty).reset();
+            break;
+        case "FifoDoubleErrorDataSet":
+            ((FifoDoubleErrorDataSet) empty).reset();
+            break;
+        case "DoubleDataSet":
+        default:
+            ((DoubleDataSet) empty).clearData();
+            break;
+        }
+    }
+
+    private DataSet fill(final DataSet dataSet) {
+        switch (implementation) {
+        case "CircularDoubleErrorDataSet":
+            final CircularDoubleErrorDataSet circular = (CircularDoubleErrorDataSet) dataSet;
+            for (int i = 0; i < nSamples; i++) {
+                circular.add(xValues[i], yValues[i], 0.1, 0.1);
+            }
+            break;
+        case "FifoDoubleErrorDataSet":
+            final FifoDoubleErrorDataSet fifo = (FifoDoubleErrorDataSet) dataSet;
+            for (int i = 0; i < nSamples; i++) {
+                fifo.add(xValues[i], yValues[i], 0.1, 0.1);
+            }
+            break;
+        case "DoubleDataSet":
+        default:
+            final DoubleDataSet plain = (DoubleDataSet) dataSet;
+            for (int i = 0; i < nSamples; i++) {
+                plain.add(xValues[i], yValues[i]);
+            }
+            break;
+        }
+        return dataSet;
+    }
+
+    private DataSet newDataSet() {
+        switch (implementation) {
+        case "CircularDoubleErrorDataSet":
+            return new CircularDoubleErrorDataSet(implementation, nSamples);
+        case "FifoDoubleErrorDataSet":
+            return new FifoDoubleErrorDataSet(implementation, nSamples);
+        case "DoubleDataSet":
+        default:
+            return new DoubleDataSet(implementation, nSamples);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package io.fair_acc.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.fair_acc.dataset.DataSet;
+import io.fair_acc.dataset.spi.DoubleErrorDataSet;
+import io.fair_acc.math.DataSetMath;
+import io.fair_acc.math.DataSetMath.Filter;
+
+/**
+ * Performance of the {@link DataSetMath} window filters.
+ * <p>
+ * The filter width is given in samples of the (equidistant) test signal, so that both the per-sample cost and its
+ * scaling with the window size can be read off the parameter sweep.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class DataSetMathBenchmark {
+    @Param({ "1024", "65536" })
+    private int nSamples;
+
+    @Param({ "8", "128" })
+    private int filterWidth;
+
+    @Param({ "MEAN", "MEDIAN", "MAX" })
+    private Filter filter;
+
+    private DataSet dataSet;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random rnd = new Random(42);
+        final double[] xValues = new double[nSamples];
+        final double[] yValues = new double[nSamples];
+        final double[] yErrors = new double[nSamples];
+        for (int i = 0; i < nSamples; i++) {
+            xValues[i] = i;
+            yValues[i] = Math.sin(2.0 * Math.PI * 0.05 * i) + 0.1 * rnd.nextGaussian();
+            yErrors[i] = 0.1;
+        }
+        dataSet = new DoubleErrorDataSet("signal", xValues, yValues, yErrors, yErrors, nSamples, true);
+    }
+
+    @Benchmark
+    public DataSet filterFunction() {
+        return DataSetMath.filterFunction(dataSet, 0.5 * filterWidth, filter);
+    }
+}
@@ -0,0 +1,80 @@
+package io.fair_acc.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jtransforms.fft.DoubleFFT_1D;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.fair_acc.math.spectra.SpectrumTools;
+
+/**
+ * Performance of the {@link SpectrumTools} post-processing of (real-valued) FFT spectra, with the FFT itself as
+ * reference.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class SpectrumToolsBenchmark {
+    @Param({ "1024", "65536", "1048576" })
+    private int nSamples;
+
+    private DoubleFFT_1D fft;
+    private double[] signal;
+    private double[] spectrum;
+    private double[] buffer;
+    private double[] magnitude;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random rnd = new Random(42);
+        signal = new double[nSamples];
+        for (int i = 0; i < nSamples; i++) {
+            signal[i] = Math.sin(2.0 * Math.PI * 0.05 * i) + 0.1 * rnd.nextGaussian();
+        }
+        fft = new DoubleFFT_1D(nSamples);
+        spectrum = signal.clone();
+        fft.realForward(spectrum);
+        buffer = new double[nSamples];
+        magnitude = SpectrumTools.computeMagnitudeSpectrum(spectrum, true);
+    }
+
+    @Benchmark
+    public double[] fft() {
+        // N.B. the FFT is computed in-place
+        System.arraycopy(signal, 0, buffer, 0, nSamples);
+        fft.realForward(buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public double[] magnitudeSpectrum() {
+        SpectrumTools.computeMagnitudeSpectrum(spectrum, 0, nSamples, magnitude, 0, true);
+        return magnitude;
+    }
+
+    @Benchmark
+    public double[] magnitudeSpectrumDecibel() {
+        SpectrumTools.computeMagnitudeSpectrum_dB(spectrum, 0, nSamples, magnitude, 0, true);
+        return magnitude;
+    }
+
+    @Benchmark
+    public double[][] spectrumMaxima() {
+        return SpectrumTools.computeMaxima(magnitude);
+    }
+}
@@ -0,0 +1,4 @@
+package io.fair_acc.benchmarks.generated;
+public class CachedDataPointsBenchmark_jmhType extends CachedDataPointsBenchmark_jmhType_B3 {
+}
+
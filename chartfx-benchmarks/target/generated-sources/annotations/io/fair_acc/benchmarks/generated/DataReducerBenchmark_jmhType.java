@@ -0,0 +1,4 @@
+package io.fair_acc.benchmarks.generated;
+public class DataReducerBenchmark_jmhType extends DataReducerBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package io.fair_acc.benchmarks.generated;
+public class DataSetBenchmark_jmhType extends DataSetBenchmark_jmhType_B3 {
+}
+
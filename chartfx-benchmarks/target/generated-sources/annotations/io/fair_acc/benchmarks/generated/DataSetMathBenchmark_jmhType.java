@@ -0,0 +1,4 @@
+package io.fair_acc.benchmarks.generated;
+public class DataSetMathBenchmark_jmhType extends DataSetMathBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package io.fair_acc.benchmarks.generated;
+public class SpectrumToolsBenchmark_jmhType extends SpectrumToolsBenchmark_jmhType_B3 {
+}
+
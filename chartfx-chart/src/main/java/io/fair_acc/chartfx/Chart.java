@@ -101,6 +101,7 @@ public abstract class Chart extends Region implements EventSource, Measurable {
     protected final ResizableCanvas canvas = StyleUtil.addStyles(new ResizableCanvas(), "chart-canvas");
     protected final Pane canvasForeground = StyleUtil.addStyles(new FullSizePane(), "chart-canvas-foreground");
     protected final Group pluginsArea = FXUtils.createUnmanagedGroup();
+    private Canvas drawTarget = canvas;
 
     // Area where plots get drawn
     protected final Pane plotBackground = StyleUtil.addStyles(new FullSizePane(), "chart-plot-background");
@@ -324,7 +325,17 @@ public abstract class Chart extends Region implements EventSource, Measurable {
      * @return the actual canvas the data is being drawn upon
      */
     public final Canvas getCanvas() {
-        return canvas;
+        return drawTarget;
+    }
+
+    /**
+     * Redirects subsequent draw calls of renderers to another canvas, e.g., a cached layer that is stacked on top of
+     * the main canvas and has the same size and position.
+     *
+     * @param target canvas that renderers should draw into, or null to reset to the main canvas
+     */
+    protected void setDrawTarget(final Canvas target) {
+        drawTarget = target == null ? canvas : target;
     }
 
     public final Pane getCanvasForeground() {
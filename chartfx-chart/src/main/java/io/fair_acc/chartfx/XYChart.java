@@ -1,5 +1,10 @@
 package io.fair_acc.chartfx;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleBooleanProperty;
@@ -8,7 +13,9 @@ import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.geometry.Orientation;
+import javafx.scene.Node;
 import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.Pane;
 
 import io.fair_acc.bench.DurationMeasure;
 import io.fair_acc.bench.MeasurementRecorder;
@@ -20,11 +27,13 @@ import io.fair_acc.chartfx.renderer.Renderer;
 import io.fair_acc.chartfx.renderer.spi.ErrorDataSetRenderer;
 import io.fair_acc.chartfx.renderer.spi.GridRenderer;
 import io.fair_acc.chartfx.renderer.spi.LabelledMarkerRenderer;
+import io.fair_acc.chartfx.ui.ResizableCanvas;
 import io.fair_acc.chartfx.ui.css.DataSetNode;
 import io.fair_acc.chartfx.ui.geometry.Side;
 import io.fair_acc.chartfx.utils.FXUtils;
 import io.fair_acc.chartfx.utils.PropUtil;
 import io.fair_acc.dataset.DataSet;
+import io.fair_acc.dataset.events.BitState;
 import io.fair_acc.dataset.events.ChartBits;
 import io.fair_acc.dataset.utils.AssertUtils;
 
@@ -44,6 +53,16 @@ public class XYChart extends Chart {
     protected final BooleanProperty polarPlot = new SimpleBooleanProperty(this, "polarPlot", false);
     private final ObjectProperty<PolarTickStep> polarStepSize = new SimpleObjectProperty<>(PolarTickStep.THIRTY);
     private final GridRenderer gridRenderer = new GridRenderer(this);
+    protected final BooleanProperty layeredRendering = new SimpleBooleanProperty(this, "layeredRendering", false);
+
+    // chart changes that affect the content of every layer
+    private static final int LAYER_GLOBAL_MASK = BitState.mask(ChartBits.ChartLayout, ChartBits.ChartAxes, ChartBits.ChartRenderers,
+            ChartBits.ChartDataSets, ChartBits.AxisRange);
+    private final Map<Renderer, CanvasLayer> layers = new IdentityHashMap<>();
+    private final List<Node> layerNodes = new ArrayList<>();
+    private CanvasLayer gridLayer;
+    private boolean gridDirty = true;
+    private boolean mainCanvasEmpty;
 
     /**
      * Construct a new XYChart with the given axes.
@@ -81,7 +100,10 @@ public class XYChart extends Chart {
         }
 
         styleableNodes.getChildren().add(gridRenderer);
-        PropUtil.runOnChange(getBitState().onAction(ChartBits.ChartCanvas),
+        PropUtil.runOnChange(() -> {
+            gridDirty = true;
+            fireInvalidated(ChartBits.ChartCanvas);
+        },
                 gridRenderer.getHorizontalMajorGrid().changeCounterProperty(),
                 gridRenderer.getHorizontalMinorGrid().changeCounterProperty(),
                 gridRenderer.getVerticalMajorGrid().changeCounterProperty(),
@@ -89,6 +111,7 @@ public class XYChart extends Chart {
                 gridRenderer.drawOnTopProperty());
 
         getRenderers().addListener(this::rendererChanged);
+        PropUtil.runOnChange(() -> fireInvalidated(ChartBits.ChartLayout, ChartBits.ChartCanvas), layeredRendering);
 
         // TODO: get rid of default instance. It's created if anyone wants to use getDatasets()
         getRenderers().add(new ErrorDataSetRenderer());
@@ -184,6 +207,36 @@ public class XYChart extends Chart {
         return polarStepSize;
     }
 
+    /**
+     * whether the grid and each renderer are drawn into separate cached canvas layers
+     *
+     * @return true if only layers with changed datasets, styles, or axes are being redrawn
+     */
+    public final boolean isLayeredRendering() {
+        return layeredRenderingProperty().get();
+    }
+
+    /**
+     * Enables rendering the grid and each renderer into a separate canvas layer. A layer only gets redrawn if one of
+     * its datasets, the renderer properties, or the axes changed, so mostly static traces don't need to be redrawn
+     * when a single trace gets updated. The layers get composited by the scene graph, so this trades additional
+     * texture memory for less drawing.
+     *
+     * @return layeredRendering property
+     */
+    public final BooleanProperty layeredRenderingProperty() {
+        return layeredRendering;
+    }
+
+    /**
+     * @param state true if the grid and each renderer should be drawn into separate cached canvas layers
+     * @return itself (fluent design)
+     */
+    public final XYChart setLayeredRendering(final boolean state) {
+        layeredRenderingProperty().set(state);
+        return this;
+    }
+
     /**
      * Sets whether renderer should use polar coordinates (x -&gt; interpreted as phi, y as radial coordinate)
      *
@@ -260,9 +313,15 @@ public class XYChart extends Chart {
     @Override
     protected void redrawCanvas() {
         FXUtils.assertJavaFxThread();
+        if (isLayeredRendering()) {
+            redrawLayers();
+            return;
+        }
+        removeLayers();
 
         final GraphicsContext gc = canvas.getGraphicsContext2D();
         gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        mainCanvasEmpty = false;
 
         // Bottom grid
         if (!gridRenderer.isDrawOnTop()) {
@@ -286,6 +345,144 @@ public class XYChart extends Chart {
         }
     }
 
+    /**
+     * Redraws only the layers whose content changed. The main canvas stays empty and serves as the bottom of the
+     * layer stack, so the layers inherit its size and position.
+     */
+    protected void redrawLayers() {
+        updateLayerNodes();
+        if (!mainCanvasEmpty) {
+            canvas.getGraphicsContext2D().clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+            mainCanvasEmpty = true;
+        }
+
+        // Changes that can't be attributed to a single layer invalidate all of them
+        final boolean redrawAll = state.isDirty(LAYER_GLOBAL_MASK) || isUnattributedCanvasChange();
+
+        if (gridLayer.prepare(canvas.getWidth(), canvas.getHeight(), redrawAll || gridDirty)) {
+            benchDrawGrid.start();
+            drawLayer(gridLayer, gridRenderer);
+            benchDrawGrid.stop();
+        }
+        gridDirty = false;
+
+        benchDrawData.start();
+        for (final Renderer renderer : getRenderers()) {
+            final CanvasLayer layer = layers.get(renderer);
+            if (layer.prepare(canvas.getWidth(), canvas.getHeight(), redrawAll || renderer.isCanvasDirty() || isDataSetDirty(renderer))) {
+                drawLayer(layer, renderer);
+            }
+            renderer.clearCanvasDirty();
+        }
+        benchDrawData.stop();
+    }
+
+    private void drawLayer(final CanvasLayer layer, final Renderer renderer) {
+        setDrawTarget(layer.canvas);
+        try {
+            renderer.render();
+        } finally {
+            setDrawTarget(null);
+        }
+    }
+
+    private boolean isUnattributedCanvasChange() {
+        if (state.isClean(ChartBits.ChartCanvas) || gridDirty) {
+            return false;
+        }
+        for (final Renderer renderer : getRenderers()) {
+            if (renderer.isCanvasDirty() || isDataSetDirty(renderer)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDataSetDirty(final Renderer renderer) {
+        for (final DataSet dataSet : renderer.getDatasets()) {
+            if (dataSet.getBitState().isDirty(ChartBits.DataSetMask)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Creates, removes, and orders the layer canvases so that they match the current renderers and grid placement.
+     */
+    private void updateLayerNodes() {
+        if (gridLayer == null) {
+            gridLayer = new CanvasLayer();
+        }
+        layers.keySet().retainAll(getRenderers());
+
+        layerNodes.clear();
+        if (!gridRenderer.isDrawOnTop()) {
+            layerNodes.add(gridLayer.canvas);
+        }
+        for (final Renderer renderer : getRenderers()) {
+            layerNodes.add(layers.computeIfAbsent(renderer, r -> new CanvasLayer()).canvas);
+        }
+        if (gridRenderer.isDrawOnTop()) {
+            layerNodes.add(gridLayer.canvas);
+        }
+
+        final Pane canvasArea = (Pane) canvas.getParent();
+        final List<Node> children = canvasArea.getChildren();
+        final int start = children.indexOf(canvas) + 1;
+        final int end = start + layerNodes.size();
+        if (end <= children.size() && children.subList(start, end).equals(layerNodes)
+                && (end == children.size() || !(children.get(end) instanceof LayerCanvas))) {
+            return; // already in the correct order
+        }
+        children.removeIf(node -> node instanceof LayerCanvas);
+        children.addAll(children.indexOf(canvas) + 1, layerNodes);
+    }
+
+    private void removeLayers() {
+        if (gridLayer == null) {
+            return;
+        }
+        ((Pane) canvas.getParent()).getChildren().removeIf(node -> node instanceof LayerCanvas);
+        layers.clear();
+        layerNodes.clear();
+        gridLayer = null;
+        gridDirty = true;
+    }
+
+    /**
+     * Marker type so that the layers can be identified among the other canvas area children
+     */
+    private static class LayerCanvas extends ResizableCanvas {
+        LayerCanvas() {
+            super();
+            setMouseTransparent(true);
+        }
+    }
+
+    private static class CanvasLayer {
+        final LayerCanvas canvas = new LayerCanvas();
+        boolean valid;
+
+        /**
+         * @return true if the layer got cleared and needs to be redrawn
+         */
+        boolean prepare(final double width, final double height, final boolean dirty) {
+            if (canvas.getWidth() != width || canvas.getHeight() != height) {
+                // the layer may not have been laid out yet, so match the main canvas explicitly
+                canvas.setWidth(width);
+                canvas.setHeight(height);
+                valid = false;
+            }
+            if (valid && !dirty) {
+                return false;
+            }
+            canvas.getGraphicsContext2D().clearRect(0, 0, width, height);
+            valid = true;
+            return true;
+        }
+    }
+
     /**
      * @param recorder recorder for this chart and all nested components
      */
@@ -79,6 +79,24 @@ public interface Axis extends AxisDescription, Measurable.EmptyDefault {
      */
     double getDisplayPosition(double value);
 
+    /**
+     * Bulk version of {@link #getDisplayPosition(double)} that transforms the data values {@code src[from..to-1]} into
+     * display positions stored in {@code dst[from..to-1]}. The arrays may be identical for in-place transformations.
+     * <p>
+     * Axis implementations are expected to override this with a tight loop over their cached transform parameters,
+     * provided that the result is identical to calling {@link #getDisplayPosition(double)} for each value.
+     *
+     * @param src data values
+     * @param from first index (inclusive)
+     * @param to last index (exclusive)
+     * @param dst storage for the display positions (may be identical to {@code src})
+     */
+    default void getDisplayPositions(final double[] src, final int from, final int to, final double[] dst) {
+        for (int i = from; i < to; i++) {
+            dst[i] = getDisplayPosition(src[i]);
+        }
+    }
+
     double getHeight();
 
     /**
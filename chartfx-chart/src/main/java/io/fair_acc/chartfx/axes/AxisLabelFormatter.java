@@ -55,6 +55,16 @@ public interface AxisLabelFormatter {
      */
     String toString(Number val);
 
+    /**
+     * Converts the primitive value into its string form, implementations may override this to avoid boxing.
+     *
+     * @param val the number to be converted
+     * @return a string representation of the value passed in.
+     */
+    default String toString(final double val) {
+        return toString((Number) val);
+    }
+
     /**
      * Called just before new TickMarks are computed
      *
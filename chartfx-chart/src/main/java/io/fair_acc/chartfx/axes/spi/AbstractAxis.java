@@ -49,6 +49,7 @@ public abstract class AbstractAxis extends AbstractAxisParameter implements Axis
     protected double maxLabelWidth;
     private double canvasPadX;
     private double canvasPadY;
+    private transient Class<?> displayPositionImpl; // class that declares the effective getDisplayPosition(double)
 
     private final transient ObjectProperty<AxisLabelFormatter> axisFormatter = new SimpleObjectProperty<>(this,
             "axisLabelFormatter", null) {
@@ -172,6 +173,39 @@ public abstract class AbstractAxis extends AbstractAxisParameter implements Axis
         return cachedOffset + ((value - getMin()) * getScale());
     }
 
+    /**
+     * Optimised bulk transforms are only valid as long as the per-value transform has not been overridden by a
+     * sub-class (e.g. a non-linear axis). Such implementations should fall back to
+     * {@link #getDisplayPositionsPerValue(double[], int, int, double[])} if this returns {@code true}.
+     *
+     * @param bulkImpl class providing the optimised {@link #getDisplayPositions(double[], int, int, double[])}
+     * @return {@code true} if {@link #getDisplayPosition(double)} is not declared by {@code bulkImpl}
+     */
+    protected boolean isDisplayPositionOverridden(final Class<?> bulkImpl) {
+        if (displayPositionImpl == null) {
+            try {
+                displayPositionImpl = getClass().getMethod("getDisplayPosition", double.class).getDeclaringClass();
+            } catch (final NoSuchMethodException e) {
+                throw new IllegalStateException("getDisplayPosition(double) is part of the Axis interface", e);
+            }
+        }
+        return displayPositionImpl != bulkImpl;
+    }
+
+    /**
+     * Reference bulk transform that calls {@link #getDisplayPosition(double)} for each value.
+     *
+     * @param src data values
+     * @param from first index (inclusive)
+     * @param to last index (exclusive)
+     * @param dst storage for the display positions (may be identical to {@code src})
+     */
+    protected void getDisplayPositionsPerValue(final double[] src, final int from, final int to, final double[] dst) {
+        for (int i = from; i < to; i++) {
+            dst[i] = getDisplayPosition(src[i]);
+        }
+    }
+
     public GraphicsContext getGraphicsContext() {
         return canvas.getGraphicsContext2D();
     }
@@ -668,7 +702,7 @@ public abstract class AbstractAxis extends AbstractAxisParameter implements Axis
         }
 
         // Update the existing mark objects
-        List<TickMark> marks = FXUtils.sizedList(getTickMarks(), newTickValues.size(), () -> new TickMark(getTickLabelStyle()));
+        List<TickMark> marks = FXUtils.sizedList(getTickMarks(), newTickValues.size(), () -> new TickMark(tickLabelSizeCache));
         int i = 0;
         for (var mark : marks) {
             var tick = newTickValues.getDouble(i++);
@@ -692,7 +726,7 @@ public abstract class AbstractAxis extends AbstractAxisParameter implements Axis
         }
 
         // Update
-        List<TickMark> marks = FXUtils.sizedList(getMinorTickMarks(), newTickValues.size(), () -> new TickMark(getTickLabelStyle()));
+        List<TickMark> marks = FXUtils.sizedList(getMinorTickMarks(), newTickValues.size(), () -> new TickMark(tickLabelSizeCache));
         int i = 0;
         for (var mark : marks) {
             mark.setValue(newTickValues.getDouble(i++), "");
@@ -954,12 +988,13 @@ public abstract class AbstractAxis extends AbstractAxisParameter implements Axis
     }
 
     protected double measureTickMarkLength(final double major) {
-        // N.B. this is a known performance hot-spot -> start optimisation here
+        // N.B. this is a known performance hot-spot -> label sizes are cached per label text
         tmpTickMark.setValue(major, getTickMarkLabel(major));
         return getSide().isHorizontal() ? tmpTickMark.getWidth() : tmpTickMark.getHeight();
     }
 
-    private final TickMark tmpTickMark = new TickMark(getTickLabelStyle());
+    private final TickLabelSizeCache tickLabelSizeCache = new TickLabelSizeCache(getTickLabelStyle());
+    private final TickMark tmpTickMark = new TickMark(tickLabelSizeCache);
 
     protected void updateAxisLabelAlignment() {
         // TODO: maybe set this via CSS?
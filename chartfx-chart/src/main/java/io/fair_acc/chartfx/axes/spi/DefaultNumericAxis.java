@@ -194,6 +194,40 @@ public class DefaultNumericAxis extends AbstractAxis implements Axis {
         return getDisplayPositionImpl(value);
     }
 
+    /**
+     * Bulk version of {@link #getDisplayPosition(double)} with the axis type and inversion checks hoisted out of the
+     * loop. Falls back to the per-value transform if a sub-class overrides {@link #getDisplayPosition(double)}.
+     *
+     * @param src data values
+     * @param from first index (inclusive)
+     * @param to last index (exclusive)
+     * @param dst storage for the display positions (may be identical to {@code src})
+     */
+    @Override
+    public void getDisplayPositions(final double[] src, final int from, final int to, final double[] dst) {
+        if (isDisplayPositionOverridden(DefaultNumericAxis.class)) {
+            getDisplayPositionsPerValue(src, from, to, dst);
+            return;
+        }
+        final double sign = isInvertedAxis ? -1.0 : 1.0;
+        if (isLogAxis) {
+            final double lowerBoundLog = cache.lowerBoundLog;
+            final double logScaleLengthInv = cache.logScaleLengthInv;
+            final double localOffset = (isInvertedAxis ? offset : 0.0) + sign * (cache.isVerticalAxis ? cache.axisLength : 0.0);
+            final double localScale = sign * (cache.isVerticalAxis ? -logScaleLengthInv : logScaleLengthInv);
+            for (int i = from; i < to; i++) {
+                dst[i] = localOffset + (axisTransform.forward(src[i]) - lowerBoundLog) * localScale;
+            }
+            return;
+        }
+
+        final double localOffset = (isInvertedAxis ? offset : 0.0) + sign * cache.localOffset2;
+        final double localScale = sign * cache.localScale;
+        for (int i = from; i < to; i++) {
+            dst[i] = localOffset + src[i] * localScale;
+        }
+    }
+
     /**
      * Returns the value of the {@link #logarithmBaseProperty()}.
      *
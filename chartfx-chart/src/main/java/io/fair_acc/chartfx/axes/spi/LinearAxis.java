@@ -203,6 +203,20 @@ public class LinearAxis extends AbstractAxis {
         return cache.localOffset + (value - cache.localCurrentLowerBound) * cache.localScale;
     }
 
+    @Override
+    public void getDisplayPositions(final double[] src, final int from, final int to, final double[] dst) {
+        if (isDisplayPositionOverridden(LinearAxis.class)) {
+            getDisplayPositionsPerValue(src, from, to, dst);
+            return;
+        }
+        final double offset = cache.localOffset;
+        final double lowerBound = cache.localCurrentLowerBound;
+        final double scale = cache.localScale;
+        for (int i = from; i < to; i++) {
+            dst[i] = offset + (src[i] - lowerBound) * scale;
+        }
+    }
+
     /**
      * @return the log axis Type @see LogAxisType
      */
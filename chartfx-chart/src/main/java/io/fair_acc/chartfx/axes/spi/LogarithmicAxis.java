@@ -146,6 +146,26 @@ public class LogarithmicAxis extends AbstractAxis {
         return valueLogOffset * cache.logScaleLengthInv;
     }
 
+    @Override
+    public void getDisplayPositions(final double[] src, final int from, final int to, final double[] dst) {
+        if (isDisplayPositionOverridden(LogarithmicAxis.class)) {
+            getDisplayPositionsPerValue(src, from, to, dst);
+            return;
+        }
+        final double lowerBoundLog = cache.lowerBoundLog;
+        final double logScaleLengthInv = cache.logScaleLengthInv;
+        if (cache.isVerticalAxis) {
+            final double axisHeight = cache.axisHeight;
+            for (int i = from; i < to; i++) {
+                dst[i] = axisHeight - (log(src[i]) - lowerBoundLog) * logScaleLengthInv;
+            }
+            return;
+        }
+        for (int i = from; i < to; i++) {
+            dst[i] = (log(src[i]) - lowerBoundLog) * logScaleLengthInv;
+        }
+    }
+
     /**
      * Returns the value of the {@link #logarithmBaseProperty()}.
      *
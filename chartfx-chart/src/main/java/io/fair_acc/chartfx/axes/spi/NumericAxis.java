@@ -242,6 +242,16 @@ public final class NumericAxis extends AbstractAxis {
         return localOffset + (value - localCurrentLowerBound) * localScale;
     }
 
+    @Override
+    public void getDisplayPositions(final double[] src, final int from, final int to, final double[] dst) {
+        final double offset = localOffset;
+        final double lowerBound = localCurrentLowerBound;
+        final double scale = localScale;
+        for (int i = from; i < to; i++) {
+            dst[i] = offset + (src[i] - lowerBound) * scale;
+        }
+    }
+
     @Override
     public LogAxisType getLogAxisType() {
         return LogAxisType.LINEAR_SCALE;
@@ -0,0 +1,74 @@
+package io.fair_acc.chartfx.axes.spi;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javafx.geometry.Bounds;
+
+import io.fair_acc.chartfx.ui.css.TextStyle;
+import io.fair_acc.dataset.utils.AssertUtils;
+
+/**
+ * Caches the rendered size of tick mark labels per label text for a given text style (font, rotation, ...). Measuring
+ * text via the scene-graph is expensive, while scrolling axes tend to re-use the same labels at different tick
+ * positions. All cached sizes are discarded whenever the style changes. Least-recently used labels are evicted once the
+ * capacity is reached.
+ */
+public class TickLabelSizeCache {
+    public static final int DEFAULT_CAPACITY = 256;
+    private final TextStyle style;
+    private final Map<String, Bounds> cache;
+    private long usedStyle = -1;
+
+    /**
+     * @param style the style the label text is rendered with
+     */
+    public TickLabelSizeCache(final TextStyle style) {
+        this(style, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param style the style the label text is rendered with
+     * @param capacity maximum number of cached labels
+     */
+    public TickLabelSizeCache(final TextStyle style, final int capacity) {
+        AssertUtils.notNull("style", style);
+        AssertUtils.gtThanZero("capacity", capacity);
+        this.style = style;
+        this.cache = new LinkedHashMap<>(2 * capacity, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Bounds> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * N.B. uses {@code getBoundsInParent()} which also takes into account text rotations
+     *
+     * @param text the label text (non-empty)
+     * @return bounds of the rendered text
+     */
+    public Bounds getBounds(final String text) {
+        if (usedStyle != style.getChangeCounter()) {
+            cache.clear();
+            usedStyle = style.getChangeCounter();
+        }
+        Bounds bounds = cache.get(text);
+        if (bounds == null) {
+            style.setText(text);
+            bounds = style.getBoundsInParent();
+            cache.put(text, bounds);
+        }
+        return bounds;
+    }
+
+    /**
+     * @return the style the label text is rendered with
+     */
+    public TextStyle getStyle() {
+        return style;
+    }
+}
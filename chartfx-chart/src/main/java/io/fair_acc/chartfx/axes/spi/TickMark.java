@@ -4,6 +4,7 @@ import java.util.Objects;
 
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.geometry.Bounds;
 import javafx.geometry.VPos;
 import javafx.scene.text.Text;
 import javafx.scene.text.TextAlignment;
@@ -27,6 +28,7 @@ public class TickMark {
     private double tickPosition = Double.NaN; // tick position along axis in display units
     private boolean visible = true; // whether the tick mark should be displayed
     private final TextStyle style;
+    private final TickLabelSizeCache sizeCache;
     private long usedStyle = -1;
 
     /**
@@ -34,6 +36,16 @@ public class TickMark {
      */
     public TickMark(TextStyle style) {
         this.style = style;
+        this.sizeCache = null;
+    }
+
+    /**
+     * @param sizeCache label size cache (shared between tick marks), also provides the styleable node that the text
+     *            can be rendered into
+     */
+    public TickMark(TickLabelSizeCache sizeCache) {
+        this.style = sizeCache.getStyle();
+        this.sizeCache = sizeCache;
     }
 
     /**
@@ -59,8 +71,13 @@ public class TickMark {
             } else {
                 // N.B. important: usage of getBoundsInParent() which also takes into
                 // account text rotations
-                style.setText(text);
-                var bounds = style.getBoundsInParent();
+                final Bounds bounds;
+                if (sizeCache == null) {
+                    style.setText(text);
+                    bounds = style.getBoundsInParent();
+                } else {
+                    bounds = sizeCache.getBounds(text);
+                }
                 height = bounds.getHeight();
                 width = bounds.getWidth();
             }
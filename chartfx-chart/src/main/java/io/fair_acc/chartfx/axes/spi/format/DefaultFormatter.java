@@ -2,7 +2,7 @@ package io.fair_acc.chartfx.axes.spi.format;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.WeakHashMap;
+import java.util.function.DoubleFunction;
 
 import javafx.util.StringConverter;
 
@@ -18,9 +18,9 @@ import io.fair_acc.dataset.spi.fastutil.DoubleArrayList;
  */
 public class DefaultFormatter extends AbstractFormatter {
     private static final TickUnitSupplier DEFAULT_TICK_UNIT_SUPPLIER = new DefaultTickUnitSupplier();
-    private final WeakHashMap<Integer, WeakHashMap<Number, String>> numberFormatCache = new WeakHashMap<>();
 
     protected NumberFormatterImpl formatter = new NumberFormatterImpl();
+    private final DoubleFunction<String> formatFunction = value -> formatter.toString(value);
     private final List<Schubfach.DecomposedDouble> decompositions = new ArrayList<>();
     protected int rangeIndex = 0;
     protected int oldRangeIndex = 0;
@@ -238,6 +238,11 @@ public class DefaultFormatter extends AbstractFormatter {
      */
     @Override
     public String toString(final Number object) {
-        return labelCache.get(formatter, object.doubleValue());
+        return toString(object.doubleValue());
+    }
+
+    @Override
+    public String toString(final double value) {
+        return labelCache.get(value, formatFunction);
     }
 }
@@ -5,6 +5,7 @@ import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
 import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleFunction;
 
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
@@ -17,13 +18,21 @@ import io.fair_acc.chartfx.axes.TickUnitSupplier;
  */
 public class DefaultTimeFormatter extends AbstractFormatter {
     private static final TickUnitSupplier DEFAULT_TICK_UNIT_SUPPLIER = new DefaultTimeTickUnitSupplier();
-    private static final DateTimeFormatter HIGHRES_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss +SSS",
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+    private static final String HIGHRES_PATTERN = "HH:mm:ss +SSS";
+    private static final DateTimeFormatter HIGHRES_FORMATTER = DateTimeFormatter.ofPattern(HIGHRES_PATTERN,
             Locale.ENGLISH);
+    private static final TimeLabelPattern HIGHRES_LABEL_PATTERN = TimeLabelPattern.parse(HIGHRES_PATTERN, LINE_SEPARATOR);
     protected final DateTimeFormatter[] dateFormat;
+    // direct formatting of the default patterns, only used while the corresponding 'dateFormat' entry is unchanged
+    private final DateTimeFormatter[] defaultDateFormat;
+    private final TimeLabelPattern[] labelPattern;
+    private final StringBuilder labelBuilder = new StringBuilder();
     protected int oldIndex = -1;
     protected int formatterIndex;
 
     protected ObjectProperty<ZoneOffset> timeZone = new SimpleObjectProperty<>(ZoneOffset.UTC);
+    private final DoubleFunction<String> timeStringFunction = this::getTimeString;
 
     /**
      * Construct a DefaultFormatter for the given NumberAxis
@@ -42,24 +51,38 @@ public class DefaultTimeFormatter extends AbstractFormatter {
         setTickUnitSupplier(DefaultTimeFormatter.DEFAULT_TICK_UNIT_SUPPLIER);
 
         dateFormat = new DateTimeFormatter[DefaultTimeTickUnitSupplier.TICK_UNIT_FORMATTER_DEFAULTS.length];
+        labelPattern = new TimeLabelPattern[dateFormat.length];
         for (int i = 0; i < dateFormat.length; i++) {
             final String format = DefaultTimeTickUnitSupplier.TICK_UNIT_FORMATTER_DEFAULTS[i];
             if (format.contains(DefaultTimeTickUnitSupplier.HIGHRES_MODE)) {
                 dateFormat[i] = DefaultTimeFormatter.HIGHRES_FORMATTER;
+                labelPattern[i] = HIGHRES_LABEL_PATTERN;
             } else {
                 dateFormat[i] = DateTimeFormatter.ofPattern(format, Locale.ENGLISH);
+                labelPattern[i] = TimeLabelPattern.parse(format, LINE_SEPARATOR);
             }
         }
+        defaultDateFormat = dateFormat.clone();
+        // cached labels depend on the time zone
+        timeZone.addListener((obs, oldValue, newValue) -> labelCache.clear());
     }
 
     public String formatHighResString(final Number utcValueSeconds) {
-        final double timeAbs = Math.abs(utcValueSeconds.doubleValue());
+        return formatHighResString(utcValueSeconds.doubleValue());
+    }
+
+    private String formatHighResString(final double utcValueSeconds) {
+        final double timeAbs = Math.abs(utcValueSeconds);
         final long timeUS = (long) (TimeUnit.SECONDS.toMicros(1) * timeAbs);
-        final long longUTCSeconds = Math.abs(utcValueSeconds.longValue());
+        final long longUTCSeconds = Math.abs((long) utcValueSeconds);
         final int longNanoSeconds = (int) ((timeAbs - longUTCSeconds) * 1e9);
+        final StringBuilder builder = resetLabelBuilder();
+        if (HIGHRES_LABEL_PATTERN.format(builder, longUTCSeconds, longNanoSeconds, getTimeZoneOffset().getTotalSeconds())) {
+            return builder.append(timeUS % 1000).append("us").toString();
+        }
         final LocalDateTime dateTime = LocalDateTime.ofEpochSecond(longUTCSeconds, longNanoSeconds,
                 getTimeZoneOffset());
-        return dateTime.format(DefaultTimeFormatter.HIGHRES_FORMATTER).concat(Long.toString(timeUS % 1000)).concat("us").replaceAll(" ", System.lineSeparator());
+        return toMultiLine(dateTime.format(DefaultTimeFormatter.HIGHRES_FORMATTER).concat(Long.toString(timeUS % 1000)).concat("us"));
     }
 
     @Override
@@ -71,21 +94,39 @@ public class DefaultTimeFormatter extends AbstractFormatter {
         return LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS"));
     }
 
-    private String getTimeString(final Number utcValueSeconds) {
+    private String getTimeString(final double utcValueSeconds) {
         if (formatterIndex <= DefaultTimeTickUnitSupplier.HIGHRES_MODE_INDICES) {
             return formatHighResString(utcValueSeconds);
         }
 
-        long longUTCSeconds = utcValueSeconds.longValue();
-        int nanoSeconds = (int) ((utcValueSeconds.doubleValue() - longUTCSeconds) * 1e9);
+        long longUTCSeconds = (long) utcValueSeconds;
+        int nanoSeconds = (int) ((utcValueSeconds - longUTCSeconds) * 1e9);
         if (nanoSeconds < 0) { // Correctly Handle dates before EPOCH
             longUTCSeconds -= 1;
             nanoSeconds += (int) 1e9;
         }
+        final TimeLabelPattern pattern = labelPattern[formatterIndex];
+        if (pattern != null && dateFormat[formatterIndex] == defaultDateFormat[formatterIndex]) {
+            final StringBuilder builder = resetLabelBuilder();
+            if (pattern.format(builder, longUTCSeconds, nanoSeconds, getTimeZoneOffset().getTotalSeconds())) {
+                return builder.toString();
+            }
+        }
+        // fall-back for user-defined formats and dates outside of the years 1 to 9999
         final LocalDateTime dateTime = LocalDateTime.ofEpochSecond(longUTCSeconds, nanoSeconds,
                 getTimeZoneOffset());
 
-        return dateTime.format(dateFormat[formatterIndex]).replaceAll(" ", System.lineSeparator());
+        return toMultiLine(dateTime.format(dateFormat[formatterIndex]));
+    }
+
+    private StringBuilder resetLabelBuilder() {
+        labelBuilder.setLength(0);
+        return labelBuilder;
+    }
+
+    private static String toMultiLine(final String label) {
+        // N.B. plain (non-regex) replacement
+        return label.indexOf(' ') < 0 ? label : label.replace(" ", LINE_SEPARATOR);
     }
 
     /**
@@ -130,6 +171,11 @@ public class DefaultTimeFormatter extends AbstractFormatter {
 
     @Override
     public String toString(final Number utcValueSeconds) {
-        return labelCache.computeIfAbsent(utcValueSeconds, this::getTimeString);
+        return toString(utcValueSeconds.doubleValue());
+    }
+
+    @Override
+    public String toString(final double utcValueSeconds) {
+        return labelCache.get(utcValueSeconds, timeStringFunction);
     }
 }
@@ -1,36 +1,183 @@
 package io.fair_acc.chartfx.axes.spi.format;
 
-import java.util.WeakHashMap;
+import java.util.Arrays;
+import java.util.function.DoubleFunction;
 
 import javafx.util.StringConverter;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import io.fair_acc.dataset.utils.AssertUtils;
 
 /**
  * Simple cache to keep recurring results of String formatters
+ * <p>
+ * The labels are keyed by the primitive {@code double} value (i.e. no boxing) using an open-addressing hash table and
+ * the least-recently used label is evicted once the capacity is reached. The storage is pre-allocated, i.e. look-ups
+ * and insertions do not allocate besides the newly formatted label. N.B. the values are compared by their bit pattern,
+ * i.e. {@code -0.0} and {@code +0.0} are cached separately. Not thread-safe.
+ * <p>
+ * N.B. API change: this class no longer extends {@code WeakHashMap<Number, String>}, i.e. the inherited {@code Map}
+ * methods are not available anymore. Use {@link #get(StringConverter, Number)} or
+ * {@link #get(double, DoubleFunction)} instead.
  *
  * @author rstein
  */
-public class FormatterLabelCache extends WeakHashMap<Number, String> {
-    private static final Logger LOGGER = LoggerFactory.getLogger(FormatterLabelCache.class);
+public class FormatterLabelCache {
+    public static final int DEFAULT_CAPACITY = 1024;
+    private final int capacity;
+    private final long[] keys; // indexed by entry: raw bits of the formatted value
+    private final String[] labels; // indexed by entry
+    private final int[] previous; // indexed by entry: LRU list towards the most recently used entry
+    private final int[] next; // indexed by entry: LRU list towards the least recently used entry
+    private final int[] slots; // indexed by entry: position in 'table'
+    private final int[] table; // hash table of 'entry + 1', '0' marks an empty slot
+    private final int mask;
+    private int size;
+    private int head = -1; // most recently used entry
+    private int tail = -1; // least recently used entry
 
     public FormatterLabelCache() {
-        super();
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity maximum number of cached labels
+     */
+    public FormatterLabelCache(final int capacity) {
+        AssertUtils.gtThanZero("capacity", capacity);
+        this.capacity = capacity;
+        keys = new long[capacity];
+        labels = new String[capacity];
+        previous = new int[capacity];
+        next = new int[capacity];
+        slots = new int[capacity];
+        // load factor <= 0.5
+        table = new int[Integer.highestOneBit(2 * capacity - 1) << 1];
+        mask = table.length - 1;
+    }
+
+    /**
+     * removes all cached labels
+     */
+    public void clear() {
+        Arrays.fill(table, 0);
+        Arrays.fill(labels, 0, size, null);
+        size = 0;
+        head = -1;
+        tail = -1;
+    }
+
+    /**
+     * @param value the value to be formatted
+     * @param formatter generates the label if it is not cached
+     * @return cached or newly formatted label
+     */
+    public String get(final double value, final DoubleFunction<String> formatter) {
+        final long key = Double.doubleToLongBits(value);
+        int pos = hash(key);
+        for (int stored = table[pos]; stored != 0; stored = table[pos]) {
+            if (keys[stored - 1] == key) {
+                moveToFront(stored - 1);
+                return labels[stored - 1];
+            }
+            pos = (pos + 1) & mask;
+        }
+
+        final String label = formatter.apply(value);
+        final int entry;
+        if (size < capacity) {
+            entry = size++;
+        } else {
+            // evict the least recently used label
+            entry = tail;
+            unlink(entry);
+            removeSlot(slots[entry]);
+            pos = hash(key);
+            while (table[pos] != 0) {
+                pos = (pos + 1) & mask;
+            }
+        }
+        keys[entry] = key;
+        labels[entry] = label;
+        slots[entry] = pos;
+        table[pos] = entry + 1;
+        linkFirst(entry);
+        return label;
     }
 
     public String get(final StringConverter<Number> formatter, final Number value) {
-        return computeIfAbsent(value, formatter::toString);
-    }
-
-    // @Override
-    // public String get(Object key) {
-    // String ret = super.get(key);
-    // if (ret == null) {
-    // System.out.println("cache missed");
-    // } else {
-    // System.out.println("cache hit");
-    // }
-    // return ret;
-    // }
+        return get(value.doubleValue(), formatter::toString);
+    }
+
+    /**
+     * @return maximum number of cached labels
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return number of cached labels
+     */
+    public int size() {
+        return size;
+    }
+
+    private int hash(final long key) {
+        final long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private void linkFirst(final int entry) {
+        previous[entry] = -1;
+        next[entry] = head;
+        if (head >= 0) {
+            previous[head] = entry;
+        }
+        head = entry;
+        if (tail < 0) {
+            tail = entry;
+        }
+    }
+
+    private void moveToFront(final int entry) {
+        if (entry != head) {
+            unlink(entry);
+            linkFirst(entry);
+        }
+    }
+
+    private void removeSlot(final int slot) {
+        // backward-shift deletion: moves subsequent entries of the probe sequence into the freed slot
+        int free = slot;
+        int pos = slot;
+        while (true) {
+            pos = (pos + 1) & mask;
+            final int stored = table[pos];
+            if (stored == 0) {
+                break;
+            }
+            final int home = hash(keys[stored - 1]);
+            if (((pos - home) & mask) >= ((pos - free) & mask)) {
+                table[free] = stored;
+                slots[stored - 1] = free;
+                free = pos;
+            }
+        }
+        table[free] = 0;
+    }
+
+    private void unlink(final int entry) {
+        final int before = previous[entry];
+        final int after = next[entry];
+        if (before >= 0) {
+            next[before] = after;
+        } else {
+            head = after;
+        }
+        if (after >= 0) {
+            previous[after] = before;
+        } else {
+            tail = before;
+        }
+    }
 }
@@ -0,0 +1,170 @@
+package io.fair_acc.chartfx.axes.spi.format;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pre-parsed subset of the {@link java.time.format.DateTimeFormatter} patterns used for the time-axis tick labels
+ * ('yyyy', 'MMM', 'MM', 'dd', 'HH', 'mm', 'ss', 'SSS' and unquoted literals) that formats the epoch seconds directly
+ * into a {@link StringBuilder}, i.e. without the intermediate {@link java.time.LocalDateTime} and formatter objects
+ * being created for each label.
+ * <p>
+ * Month names are the English short names, as for the {@code Locale.ENGLISH} formatters in
+ * {@link DefaultTimeFormatter}. Dates are computed in the proleptic ISO calendar.
+ */
+final class TimeLabelPattern {
+    private static final String[] MONTH_NAMES = { "Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec" };
+    private static final int SECONDS_PER_DAY = 86_400;
+    private static final int NANOS_PER_MILLI = 1_000_000;
+    private static final int DAYS_0000_TO_1970 = 719_468; // days from 0000-03-01 to 1970-01-01
+    private static final int DAYS_PER_ERA = 146_097; // 400 years
+    private static final int LITERAL = 0;
+    private static final int YEAR = 1;
+    private static final int MONTH = 2;
+    private static final int MONTH_NAME = 3;
+    private static final int DAY = 4;
+    private static final int HOUR = 5;
+    private static final int MINUTE = 6;
+    private static final int SECOND = 7;
+    private static final int MILLI = 8;
+    private final int[] fields;
+    private final String[] literals;
+
+    private TimeLabelPattern(final int[] fields, final String[] literals) {
+        this.fields = fields;
+        this.literals = literals;
+    }
+
+    /**
+     * @param builder storage the label is appended to
+     * @param epochSecond seconds since 1970-01-01T00:00:00Z
+     * @param nanoOfSecond nano-second fraction [0, 999 999 999]
+     * @param offsetSeconds time-zone offset [s]
+     * @return {@code false} if the date cannot be represented by this pattern (year outside [1, 9999]), in which case
+     *         the builder content is undefined
+     */
+    public boolean format(final StringBuilder builder, final long epochSecond, final int nanoOfSecond, final int offsetSeconds) {
+        final long localSecond = epochSecond + offsetSeconds;
+        final long epochDay = Math.floorDiv(localSecond, SECONDS_PER_DAY);
+        final int secondOfDay = (int) Math.floorMod(localSecond, SECONDS_PER_DAY);
+
+        // civil date from day number, see H. Hinnant, 'chrono-Compatible Low-Level Date Algorithms'
+        final long shiftedDay = epochDay + DAYS_0000_TO_1970;
+        final long era = Math.floorDiv(shiftedDay, DAYS_PER_ERA);
+        final int dayOfEra = (int) (shiftedDay - era * DAYS_PER_ERA);
+        final int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / (DAYS_PER_ERA - 1)) / 365;
+        final int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100); // starting at March 1st
+        final int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        final int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        final int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        final long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        if (year < 1 || year > 9999) {
+            return false;
+        }
+
+        int literal = 0;
+        for (final int field : fields) {
+            switch (field) {
+            case YEAR:
+                appendPadded(builder, (int) year, 4);
+                break;
+            case MONTH:
+                appendPadded(builder, month, 2);
+                break;
+            case MONTH_NAME:
+                builder.append(MONTH_NAMES[month - 1]);
+                break;
+            case DAY:
+                appendPadded(builder, day, 2);
+                break;
+            case HOUR:
+                appendPadded(builder, secondOfDay / 3600, 2);
+                break;
+            case MINUTE:
+                appendPadded(builder, secondOfDay / 60 % 60, 2);
+                break;
+            case SECOND:
+                appendPadded(builder, secondOfDay % 60, 2);
+                break;
+            case MILLI:
+                appendPadded(builder, nanoOfSecond / NANOS_PER_MILLI, 3);
+                break;
+            default:
+                builder.append(literals[literal++]);
+                break;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param pattern {@link java.time.format.DateTimeFormatter} pattern
+     * @param spaceReplacement string that is emitted instead of the ' ' literal (e.g. a line separator)
+     * @return pre-parsed pattern or {@code null} if the pattern contains unsupported letters, widths or special
+     *         characters
+     */
+    public static TimeLabelPattern parse(final String pattern, final String spaceReplacement) {
+        final List<Integer> fields = new ArrayList<>();
+        final List<String> literals = new ArrayList<>();
+        int pos = 0;
+        while (pos < pattern.length()) {
+            final char c = pattern.charAt(pos);
+            int end = pos + 1;
+            while (end < pattern.length() && pattern.charAt(end) == c) {
+                end++;
+            }
+            final int width = end - pos;
+            final int field = getField(c, width);
+            if (field < 0) {
+                return null;
+            }
+            if (field == LITERAL) {
+                // each character of a repeated literal is emitted
+                for (int i = 0; i < width; i++) {
+                    fields.add(LITERAL);
+                    literals.add(c == ' ' ? spaceReplacement : String.valueOf(c));
+                }
+            } else {
+                fields.add(field);
+            }
+            pos = end;
+        }
+        return new TimeLabelPattern(fields.stream().mapToInt(Integer::intValue).toArray(), literals.toArray(new String[0]));
+    }
+
+    private static void appendPadded(final StringBuilder builder, final int value, final int width) {
+        for (int limit = 10, digits = 1; digits < width; limit *= 10, digits++) {
+            if (value < limit) {
+                builder.append('0');
+            }
+        }
+        builder.append(value);
+    }
+
+    private static int getField(final char c, final int width) {
+        if ("[]{}#'".indexOf(c) >= 0) {
+            return -1; // optional sections, reserved characters and quotes are not supported
+        }
+        if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+            switch (c) {
+            case 'y':
+                return width == 4 ? YEAR : -1;
+            case 'M':
+                return width == 2 ? MONTH : width == 3 ? MONTH_NAME : -1;
+            case 'd':
+                return width == 2 ? DAY : -1;
+            case 'H':
+                return width == 2 ? HOUR : -1;
+            case 'm':
+                return width == 2 ? MINUTE : -1;
+            case 's':
+                return width == 2 ? SECOND : -1;
+            case 'S':
+                return width == 3 ? MILLI : -1;
+            default:
+                return -1; // other pattern letters are not supported
+            }
+        }
+        return LITERAL;
+    }
+}
@@ -22,7 +22,9 @@ import io.fair_acc.chartfx.Chart;
 import io.fair_acc.chartfx.XYChart;
 import io.fair_acc.chartfx.axes.Axis;
 import io.fair_acc.chartfx.renderer.Renderer;
+import io.fair_acc.chartfx.renderer.spi.AbstractRendererXY;
 import io.fair_acc.chartfx.renderer.spi.ErrorDataSetRenderer;
+import io.fair_acc.chartfx.renderer.spi.utils.ScreenSpaceIndex;
 import io.fair_acc.dataset.DataSet;
 import io.fair_acc.dataset.GridDataSet;
 import io.fair_acc.dataset.spi.utils.Tuple;
@@ -32,6 +34,10 @@ import io.fair_acc.dataset.spi.utils.Tuple;
  * created/shown for given plot, the tool tip is shown for the closest data point that is within the
  * {@link #pickingDistanceProperty()} from the mouse cursor.
  * <p>
+ * For renderers derived from {@link AbstractRendererXY} the points are looked up in the renderer's
+ * {@link ScreenSpaceIndex}, i.e. independent of whether the data is sorted or not. For {@link GridDataSet}s the tool
+ * tip is shown for the grid point of the cell under the mouse cursor.
+ * <p>
  * CSS style class name: {@value #STYLE_CLASS_LABEL}
  * <p>
  * TODO: extend so that label = new Label(); is a generic object and can also be overwritten with
@@ -124,7 +130,20 @@ public class DataPointTooltip extends AbstractDataFormattingPlugin {
         }
 
         if (dataset instanceof GridDataSet) {
-            return Stream.empty(); // TODO: correct impl for grid data sets
+            return getGridPointUnderCursor((GridDataSet) dataset, renderer, xAxis, yAxis, mouseLocation);
+        }
+
+        // use the renderer's screen-space index if available, i.e. no need to transform all points on each mouse move
+        final ScreenSpaceIndex index = renderer instanceof AbstractRendererXY ? ((AbstractRendererXY<?>) renderer).getScreenSpaceIndex(dataset) : null;
+        if (index != null) {
+            return dataset.lock().readLockGuard(() -> {
+                final int nearest = index.findNearest(mouseLocation.getX(), mouseLocation.getY(), getPickingDistance());
+                if (nearest < 0 || nearest >= dataset.getDataCount()) {
+                    return Stream.empty();
+                }
+                final DataPoint dataPoint = getDataPointFromDataSet(renderer, dataset, xAxis, yAxis, mouseLocation, nearest);
+                return Stream.of(dataPoint.withFormattedLabel(formatLabel(dataPoint)));
+            });
         }
 
         return dataset.lock().readLockGuard(() -> {
@@ -149,6 +168,47 @@ public class DataPointTooltip extends AbstractDataFormattingPlugin {
         });
     }
 
+    /**
+     * Returns the grid point of the cell under the mouse cursor, i.e. the closest grid point in x and y, if the cursor
+     * is within the grid's range.
+     *
+     * @param dataset grid data set
+     * @param renderer renderer the data set is attached to
+     * @param xAxis x-axis of the renderer
+     * @param yAxis y-axis of the renderer
+     * @param mouseLocation mouse location in the plot area
+     * @return stream containing the grid point under the cursor or an empty stream
+     */
+    protected Stream<DataPoint> getGridPointUnderCursor(final GridDataSet dataset, final Renderer renderer, final Axis xAxis, final Axis yAxis, final Point2D mouseLocation) {
+        if (dataset.getNGrid() < 2 || dataset.getDimension() < 3) {
+            return Stream.empty();
+        }
+        return dataset.lock().readLockGuard(() -> {
+            if (dataset.getShape(DataSet.DIM_X) == 0 || dataset.getShape(DataSet.DIM_Y) == 0) {
+                return Stream.empty();
+            }
+            final double xValue = xAxis.getValueForDisplay(mouseLocation.getX());
+            final double yValue = yAxis.getValueForDisplay(mouseLocation.getY());
+            if (!isWithinGrid(dataset, DataSet.DIM_X, xValue) || !isWithinGrid(dataset, DataSet.DIM_Y, yValue)) {
+                return Stream.empty();
+            }
+            final int xIndex = dataset.getGridIndex(DataSet.DIM_X, xValue);
+            final int yIndex = dataset.getGridIndex(DataSet.DIM_Y, yValue);
+            final double x = dataset.getGrid(DataSet.DIM_X, xIndex);
+            final double y = dataset.getGrid(DataSet.DIM_Y, yIndex);
+            final double distanceFromMouseLocation = Math.hypot(xAxis.getDisplayPosition(x) - mouseLocation.getX(), yAxis.getDisplayPosition(y) - mouseLocation.getY());
+            final String label = String.format("%s [%d, %d] = %s", dataset.getName(), xIndex, yIndex, dataset.get(DataSet.DIM_Z, xIndex, yIndex));
+            final DataPoint dataPoint = new DataPoint(renderer, x, y, label, distanceFromMouseLocation);
+            return Stream.of(dataPoint.withFormattedLabel(formatLabel(dataPoint)));
+        });
+    }
+
+    private static boolean isWithinGrid(final GridDataSet dataset, final int dimIndex, final double value) {
+        final double first = dataset.getGrid(dimIndex, 0);
+        final double last = dataset.getGrid(dimIndex, dataset.getShape(dimIndex) - 1);
+        return value >= Math.min(first, last) && value <= Math.max(first, last);
+    }
+
     private boolean isDataSorted(final Renderer renderer) {
         return renderer instanceof ErrorDataSetRenderer && ((ErrorDataSetRenderer) renderer).isAssumeSortedData();
     }
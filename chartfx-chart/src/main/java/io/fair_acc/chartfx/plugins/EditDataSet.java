@@ -50,6 +50,8 @@ import io.fair_acc.chartfx.Chart;
 import io.fair_acc.chartfx.XYChart;
 import io.fair_acc.chartfx.axes.Axis;
 import io.fair_acc.chartfx.renderer.Renderer;
+import io.fair_acc.chartfx.renderer.spi.AbstractRendererXY;
+import io.fair_acc.chartfx.renderer.spi.utils.ScreenSpaceIndex;
 import io.fair_acc.chartfx.utils.FXUtils;
 import io.fair_acc.dataset.DataSet;
 import io.fair_acc.dataset.EditConstraints;
@@ -296,6 +298,19 @@ public class EditDataSet extends TableViewer {
                 continue;
             }
             final EditableDataSet dataSet = (EditableDataSet) ds;
+            final ConcurrentHashMap<Integer, SelectedDataPoint> dataSetHashMap = markedPoints.computeIfAbsent(dataSet,
+                    k -> new ConcurrentHashMap<>());
+
+            final ScreenSpaceIndex index = getScreenSpaceIndex(ds);
+            if (index != null) {
+                // query the screen-space rectangle directly, i.e. also for data that is not sorted in x
+                dataSet.lock().readLockGuard(() -> index.forEachInRectangle(xMinScreen, yMinScreen, xMaxScreen, yMaxScreen, i -> {
+                    if (i < dataSet.getDataCount()) {
+                        selectDataPoint(xAxis, yAxis, dataSet, dataSetHashMap, i);
+                    }
+                }));
+                continue;
+            }
 
             final int indexMin = Math.max(0, ds.getIndex(DataSet.DIM_X, xAxis.getValueForDisplay(xMinScreen)));
             final int indexMax = Math.min(ds.getIndex(DataSet.DIM_X, xAxis.getValueForDisplay(xMaxScreen)) + 1,
@@ -306,26 +321,28 @@ public class EditDataSet extends TableViewer {
             final double yMax = yAxis.getValueForDisplay(yMinScreen);
             final double yMin = yAxis.getValueForDisplay(yMaxScreen);
 
-            final ConcurrentHashMap<Integer, SelectedDataPoint> dataSetHashMap = markedPoints.computeIfAbsent(dataSet,
-                    k -> new ConcurrentHashMap<>());
             for (int i = indexMin; i < indexMax; i++) {
                 final double y = dataSet.get(DataSet.DIM_Y, i);
                 if ((y >= yMin) && (y <= yMax)) {
-                    if (isShiftDown()) {
-                        // add if not existing/remove if existing
-                        if (dataSetHashMap.get(i) != null) {
-                            dataSetHashMap.remove(i);
-                        } else {
-                            dataSetHashMap.put(i, new SelectedDataPoint(xAxis, yAxis, dataSet, i));
-                        }
-                    } else {
-                        dataSetHashMap.put(i, new SelectedDataPoint(xAxis, yAxis, dataSet, i));
-                    }
+                    selectDataPoint(xAxis, yAxis, dataSet, dataSetHashMap, i);
                 }
             }
         }
     }
 
+    private void selectDataPoint(final Axis xAxis, final Axis yAxis, final EditableDataSet dataSet, final ConcurrentHashMap<Integer, SelectedDataPoint> dataSetHashMap, final int index) {
+        if (isShiftDown()) {
+            // add if not existing/remove if existing
+            if (dataSetHashMap.get(index) != null) {
+                dataSetHashMap.remove(index);
+            } else {
+                dataSetHashMap.put(index, new SelectedDataPoint(xAxis, yAxis, dataSet, index));
+            }
+        } else {
+            dataSetHashMap.put(index, new SelectedDataPoint(xAxis, yAxis, dataSet, index));
+        }
+    }
+
     protected DataPoint findNearestDataPoint(final Chart chart, final Point2D mouseLocation) {
         if (!(chart instanceof XYChart)) {
             return null;
@@ -335,8 +352,22 @@ public class EditDataSet extends TableViewer {
         final double xValue = xyChart.getXAxis().getValueForDisplay(mouseLocation.getX());
 
         DataPoint nearestDataPoint = null;
-        for (final DataPoint dataPoint : findNeighborPoints(xyChart, xValue)) {
-            if (getChart().getFirstAxis(Orientation.HORIZONTAL) != null) {
+        for (final DataSet dataSet : xyChart.getAllDatasets()) {
+            final ScreenSpaceIndex index = getScreenSpaceIndex(dataSet);
+            if (index != null) {
+                // closest point in screen coordinates, i.e. no need to scan the whole data set
+                final DataPoint dataPoint = findNearestDataPoint(index, dataSet, mouseLocation);
+                if (dataPoint != null && (nearestDataPoint == null || dataPoint.getDistanceFromMouse() < nearestDataPoint.getDistanceFromMouse())) {
+                    nearestDataPoint = dataPoint;
+                }
+                continue;
+            }
+
+            final Pair<DataPoint, DataPoint> neighborPoints = findNeighborPoints(dataSet, xValue);
+            for (final DataPoint dataPoint : new DataPoint[] { neighborPoints.getKey(), neighborPoints.getValue() }) {
+                if (dataPoint == null || getChart().getFirstAxis(Orientation.HORIZONTAL) == null) {
+                    continue;
+                }
                 final double x = xyChart.getXAxis().getDisplayPosition(dataPoint.getX());
                 final double y = xyChart.getYAxis().getDisplayPosition(dataPoint.getY());
                 final Point2D displayPoint = new Point2D(x, y);
@@ -350,6 +381,37 @@ public class EditDataSet extends TableViewer {
         return nearestDataPoint;
     }
 
+    private DataPoint findNearestDataPoint(final ScreenSpaceIndex index, final DataSet dataSet, final Point2D mouseLocation) {
+        return dataSet.lock().readLockGuard(() -> {
+            final int i = index.findNearest(mouseLocation.getX(), mouseLocation.getY(), Double.POSITIVE_INFINITY);
+            if (i < 0 || i >= dataSet.getDataCount()) {
+                return null;
+            }
+            final DataPoint dataPoint = new DataPoint(getChart(), dataSet, i, dataSet.get(DataSet.DIM_X, i), dataSet.get(DataSet.DIM_Y, i), dataSet.getDataLabel(i));
+            dataPoint.setDistanceFromMouse(Math.hypot(index.getX(i) - mouseLocation.getX(), index.getY(i) - mouseLocation.getY()));
+            return dataPoint;
+        });
+    }
+
+    /**
+     * @param dataSet data set
+     * @return screen-space index of the (first) renderer drawing the data set or {@code null} if not available
+     */
+    protected ScreenSpaceIndex getScreenSpaceIndex(final DataSet dataSet) {
+        if (!(getChart() instanceof XYChart)) {
+            return null;
+        }
+        for (final Renderer renderer : ((XYChart) getChart()).getRenderers()) {
+            if (renderer instanceof AbstractRendererXY) {
+                final ScreenSpaceIndex index = ((AbstractRendererXY<?>) renderer).getScreenSpaceIndex(dataSet);
+                if (index != null) {
+                    return index;
+                }
+            }
+        }
+        return null;
+    }
+
     /**
      * Handles series that have data sorted or not sorted with respect to X coordinate.
      *
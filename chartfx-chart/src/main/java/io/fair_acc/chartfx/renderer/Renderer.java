@@ -109,6 +109,23 @@ public interface Renderer extends Measurable.EmptyDefault {
      */
     void render();
 
+    /**
+     * Used by charts that cache the output of each renderer in a separate layer. Renderers that do not track their
+     * own state report true, which redraws them whenever anything in the chart changes.
+     *
+     * @return true if any renderer property that affects the drawn content changed since the last {@link #clearCanvasDirty()}
+     */
+    default boolean isCanvasDirty() {
+        return true;
+    }
+
+    /**
+     * Marks the renderer specific drawing state as up to date
+     */
+    default void clearCanvasDirty() { // #NOPMD
+        // empty by default
+    }
+
     /**
      * Sets whether DataSets attached to this renderer shall be shown in the legend
      *
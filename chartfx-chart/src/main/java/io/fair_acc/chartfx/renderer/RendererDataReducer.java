@@ -15,7 +15,7 @@ public interface RendererDataReducer {
      * @param xPointErrorsNeg array of coordinates containing x-exn
      * @param yPointErrorsPos array of coordinates containing x+eyp
      * @param yPointErrorsNeg array of coordinates containing x+eyn
-     * @param styles point styles
+     * @param styleIds ids of the per-point styles (see DataSetStyleCache, 0: no custom style)
      * @param pointSelected array containing the points that have been specially selected by the user
      * @param indexMin minimum index of those array that shall be considered
      * @param indexMax maximum index of those array that shall be considered
@@ -23,5 +23,5 @@ public interface RendererDataReducer {
      */
     int reducePoints(final double[] xValues, final double[] yValues, final double[] xPointErrorsPos,
             final double[] xPointErrorsNeg, final double[] yPointErrorsPos, final double[] yPointErrorsNeg,
-            final String[] styles, final boolean[] pointSelected, final int indexMin, final int indexMax);
+            final int[] styleIds, final boolean[] pointSelected, final int indexMin, final int indexMax);
 }
@@ -0,0 +1,146 @@
+package io.fair_acc.chartfx.renderer.datareduction;
+
+import java.util.Arrays;
+
+import io.fair_acc.chartfx.renderer.RendererDataReducer;
+import io.fair_acc.dataset.utils.AssertUtils;
+import io.fair_acc.dataset.utils.ProcessingProfiler;
+import io.fair_acc.math.ArrayUtils;
+
+/**
+ * Common base for line-simplification algorithms that select a subset of the original data points (i.e. that preserve
+ * the shape of the poly-line rather than averaging neighbouring points).
+ * <p>
+ * The data is split into runs of finite points, non-finite points and the first and last point of each run are always
+ * retained. Implementations only mark the interior points of each run that shall be retained. The selected points are
+ * then compacted in-place to the beginning of the arrays. The error envelope and the selection state of dropped points
+ * are propagated to the following retained point (same as for the {@link DefaultDataReducer}).
+ * <p>
+ * N.B. the work arrays are retained between invocations to avoid re-allocations, hence instances must not be shared
+ * between concurrently rendering threads.
+ */
+public abstract class AbstractShapePreservingDataReducer implements RendererDataReducer {
+    protected boolean[] retained = new boolean[0]; // index relative to 'indexMin'
+
+    @Override
+    public int reducePoints(final double[] xValues, final double[] yValues, final double[] xPointErrorsPos,
+            final double[] xPointErrorsNeg, final double[] yPointErrorsPos, final double[] yPointErrorsNeg,
+            final int[] styleIds, final boolean[] pointSelected, final int indexMin, final int indexMax) {
+        AssertUtils.nonEmptyArray("xValues", xValues);
+        final int defaultDataLength = xValues.length;
+        AssertUtils.checkArrayDimension("yValues", yValues, defaultDataLength);
+        AssertUtils.checkArrayDimension("pointSelected", pointSelected, defaultDataLength);
+        AssertUtils.gtEqThanZero("indexMin", indexMin);
+        AssertUtils.indexOrder(indexMin, "indexMin", indexMax, "indexMax");
+        final long start = ProcessingProfiler.getTimeStamp();
+
+        final int nPoints = indexMax - indexMin;
+        retained = ArrayUtils.resizeMin(retained, nPoints);
+        Arrays.fill(retained, 0, nPoints, false);
+
+        // split into runs of finite points
+        int runStart = -1;
+        for (int i = indexMin; i < indexMax; i++) {
+            if (Double.isFinite(xValues[i]) && Double.isFinite(yValues[i])) {
+                if (runStart < 0) {
+                    runStart = i;
+                }
+                continue;
+            }
+            retained[i - indexMin] = true;
+            if (runStart >= 0) {
+                markRun(xValues, yValues, indexMin, runStart, i - 1);
+                runStart = -1;
+            }
+        }
+        if (runStart >= 0) {
+            markRun(xValues, yValues, indexMin, runStart, indexMax - 1);
+        }
+
+        final int count = compact(xValues, yValues, xPointErrorsPos, xPointErrorsNeg, yPointErrorsPos, yPointErrorsNeg,
+                styleIds, pointSelected, indexMin, indexMax);
+        if (ProcessingProfiler.getDebugState()) {
+            ProcessingProfiler.getTimeDiff(start, String.format("data reduction (from %d to %d)", nPoints, count));
+        }
+        return count;
+    }
+
+    /**
+     * Marks the interior points of a run of finite points that shall be retained (in {@link #retained}, relative to
+     * 'indexMin'). The first and last point of the run are retained implicitly.
+     *
+     * @param xValues array of x coordinates
+     * @param yValues array of y coordinates
+     * @param indexMin index offset of the {@link #retained} array
+     * @param first first point of the run (inclusive), at least two points before 'last'
+     * @param last last point of the run (inclusive)
+     */
+    protected abstract void simplify(final double[] xValues, final double[] yValues, final int indexMin, final int first, final int last);
+
+    private int compact(final double[] xValues, final double[] yValues, final double[] xPointErrorsPos,
+            final double[] xPointErrorsNeg, final double[] yPointErrorsPos, final double[] yPointErrorsNeg,
+            final int[] styleIds, final boolean[] pointSelected, final int indexMin, final int indexMax) {
+        final boolean xErrors = xPointErrorsPos != null && xPointErrorsNeg != null;
+        final boolean yErrors = yPointErrorsPos != null && yPointErrorsNeg != null;
+        int count = 0;
+        double xLow = Double.NaN;
+        double xHigh = Double.NaN;
+        double yLow = Double.NaN;
+        double yHigh = Double.NaN;
+        boolean sel = false;
+        for (int i = indexMin; i < indexMax; i++) {
+            sel |= pointSelected[i];
+            if (xErrors) {
+                xLow = min(xLow, Math.min(xPointErrorsNeg[i], xPointErrorsPos[i]));
+                xHigh = max(xHigh, Math.max(xPointErrorsNeg[i], xPointErrorsPos[i]));
+            }
+            if (yErrors) {
+                yLow = min(yLow, Math.min(yPointErrorsNeg[i], yPointErrorsPos[i]));
+                yHigh = max(yHigh, Math.max(yPointErrorsNeg[i], yPointErrorsPos[i]));
+            }
+            if (!retained[i - indexMin]) {
+                continue;
+            }
+
+            xValues[count] = xValues[i];
+            yValues[count] = yValues[i];
+            styleIds[count] = styleIds[i];
+            pointSelected[count] = sel;
+            if (xErrors) {
+                // keep the orientation of the retained point's error bar (inverted axes)
+                final boolean ascending = xPointErrorsNeg[i] <= xPointErrorsPos[i];
+                xPointErrorsNeg[count] = ascending ? xLow : xHigh;
+                xPointErrorsPos[count] = ascending ? xHigh : xLow;
+            }
+            if (yErrors) {
+                final boolean ascending = yPointErrorsNeg[i] <= yPointErrorsPos[i];
+                yPointErrorsNeg[count] = ascending ? yLow : yHigh;
+                yPointErrorsPos[count] = ascending ? yHigh : yLow;
+            }
+            count++;
+            sel = false;
+            xLow = Double.NaN;
+            xHigh = Double.NaN;
+            yLow = Double.NaN;
+            yHigh = Double.NaN;
+        }
+        return count;
+    }
+
+    private void markRun(final double[] xValues, final double[] yValues, final int indexMin, final int first, final int last) {
+        retained[first - indexMin] = true;
+        retained[last - indexMin] = true;
+        if (last - first >= 2) {
+            simplify(xValues, yValues, indexMin, first, last);
+        }
+    }
+
+    // 'a': accumulator that is NaN while unset
+    private static double max(final double a, final double b) {
+        return Double.isNaN(a) ? b : Math.max(a, b);
+    }
+
+    private static double min(final double a, final double b) {
+        return Double.isNaN(a) ? b : Math.min(a, b);
+    }
+}
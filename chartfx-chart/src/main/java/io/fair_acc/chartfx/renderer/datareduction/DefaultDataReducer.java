@@ -4,6 +4,7 @@ import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 
 import io.fair_acc.chartfx.renderer.RendererDataReducer;
+import io.fair_acc.chartfx.ui.css.DataSetStyleCache;
 import io.fair_acc.dataset.utils.AssertUtils;
 import io.fair_acc.dataset.utils.ProcessingProfiler;
 
@@ -55,7 +56,7 @@ public class DefaultDataReducer implements RendererDataReducer {
     @Override
     public int reducePoints(final double[] xValues, final double[] yValues, final double[] xPointErrorsPos,
             final double[] xPointErrorsNeg, final double[] yPointErrorsPos, final double[] yPointErrorsNeg,
-            final String[] styles, final boolean[] pointSelected, final int indexMin, final int indexMax) {
+            final int[] styleIds, final boolean[] pointSelected, final int indexMin, final int indexMax) {
         AssertUtils.nonEmptyArray("xValues", xValues);
         final int defaultDataLength = xValues.length;
         AssertUtils.checkArrayDimension("yValues", yValues, defaultDataLength);
@@ -74,20 +75,20 @@ public class DefaultDataReducer implements RendererDataReducer {
             AssertUtils.checkArrayDimension("yPointErrorsPos", yPointErrorsPos, defaultDataLength);
             AssertUtils.checkArrayDimension("yPointErrorsNeg", yPointErrorsNeg, defaultDataLength);
             return reducePointsInternal(xValues, yValues, xPointErrorsPos, xPointErrorsNeg, yPointErrorsPos,
-                    yPointErrorsNeg, styles, pointSelected, indexMin, indexMax);
+                    yPointErrorsNeg, styleIds, pointSelected, indexMin, indexMax);
         } else if (yErrorPos && yErrorNeg) {
             AssertUtils.checkArrayDimension("yPointErrorsPos", yPointErrorsPos, defaultDataLength);
             AssertUtils.checkArrayDimension("yPointErrorsNeg", yPointErrorsNeg, defaultDataLength);
-            return reducePointsInternal(xValues, yValues, yPointErrorsPos, yPointErrorsNeg, styles, pointSelected,
+            return reducePointsInternal(xValues, yValues, yPointErrorsPos, yPointErrorsNeg, styleIds, pointSelected,
                     indexMin, indexMax);
         } else {
-            return reducePointsInternal(xValues, yValues, styles, pointSelected, indexMin, indexMax);
+            return reducePointsInternal(xValues, yValues, styleIds, pointSelected, indexMin, indexMax);
         }
     }
 
     private int reducePointsInternal(final double[] xValues, final double[] yValues, final double[] xPointErrorsPos,
             final double[] xPointErrorsNeg, final double[] yPointErrorsPos, final double[] yPointErrorsNeg,
-            final String[] styles, final boolean[] pointSelected, final int indexMin, final int indexMax) {
+            final int[] styleIds, final boolean[] pointSelected, final int indexMin, final int indexMax) {
         final long start = ProcessingProfiler.getTimeStamp();
         int count = 0;
         int ncount = 0;
@@ -97,7 +98,7 @@ public class DefaultDataReducer implements RendererDataReducer {
         int maxY = -Integer.MAX_VALUE;
         int minX = +Integer.MAX_VALUE;
         int maxX = -Integer.MAX_VALUE;
-        String style = null;
+        int style = DataSetStyleCache.NO_STYLE;
         boolean sel = false;
         double xold = xValues[indexMin];
         double yold = yValues[indexMin];
@@ -112,7 +113,7 @@ public class DefaultDataReducer implements RendererDataReducer {
         yPointErrorsNeg[count] = yPointErrorsNeg[indexMin];
         yPointErrorsPos[count] = yPointErrorsPos[indexMin];
         pointSelected[count] = pointSelected[indexMin];
-        styles[count] = styles[indexMin];
+        styleIds[count] = styleIds[indexMin];
         count++;
         // have added first point regardless of reduction criteria
         // 'count == 1' and 'ncount == 0'
@@ -145,7 +146,7 @@ public class DefaultDataReducer implements RendererDataReducer {
                     yPointErrorsNeg[count] = maxY;
                     yPointErrorsPos[count] = minY;
                     pointSelected[count] = sel;
-                    styles[count] = style;
+                    styleIds[count] = style;
                     count++;
                     // aggregated/merged previous points - accumulation phase is finished
                 }
@@ -160,7 +161,7 @@ public class DefaultDataReducer implements RendererDataReducer {
                     yPointErrorsNeg[count] = Double.NaN;
                     yPointErrorsPos[count] = Double.NaN;
                     pointSelected[count] = pointSelected[i];
-                    styles[count] = styles[i];
+                    styleIds[count] = styleIds[i];
                     count++;
                     // reset accumulation
                     meanX = 0;
@@ -170,7 +171,7 @@ public class DefaultDataReducer implements RendererDataReducer {
                     minY = Integer.MAX_VALUE;
                     maxY = Integer.MIN_VALUE;
                     sel = false;
-                    style = null;
+                    style = DataSetStyleCache.NO_STYLE;
                     ncount = 0;
                 } else { // start new accumulation phase
                     meanX = newXValue;
@@ -180,7 +181,7 @@ public class DefaultDataReducer implements RendererDataReducer {
                     minY = (int) yPointErrorsPos[i];
                     maxY = (int) yPointErrorsNeg[i];
                     sel = pointSelected[i];
-                    style = styles[i];
+                    style = styleIds[i];
                     ncount = 1;
                 }
                 xold = newXValue;
@@ -214,7 +215,7 @@ public class DefaultDataReducer implements RendererDataReducer {
             yPointErrorsNeg[count] = maxY;
             yPointErrorsPos[count] = minY;
             pointSelected[count] = sel;
-            styles[count] = style;
+            styleIds[count] = style;
             count++;
             // aggregated/merged previous points - accumulation phase is finished
         }
@@ -228,7 +229,7 @@ public class DefaultDataReducer implements RendererDataReducer {
         yPointErrorsNeg[count] = yPointErrorsNeg[indexMax - 1];
         yPointErrorsPos[count] = yPointErrorsPos[indexMax - 1];
         pointSelected[count] = pointSelected[indexMax - 1];
-        styles[count] = styles[indexMax - 1];
+        styleIds[count] = styleIds[indexMax - 1];
         count++;
 
         if (ProcessingProfiler.getDebugState()) {
@@ -239,7 +240,7 @@ public class DefaultDataReducer implements RendererDataReducer {
     }
 
     private int reducePointsInternal(final double[] xValues, final double[] yValues, final double[] yPointErrorsPos,
-            final double[] yPointErrorsNeg, final String[] styles, final boolean[] pointSelected, final int indexMin,
+            final double[] yPointErrorsNeg, final int[] styleIds, final boolean[] pointSelected, final int indexMin,
             final int indexMax) {
         final long start = ProcessingProfiler.getTimeStamp();
         int count = 0;
@@ -248,7 +249,7 @@ public class DefaultDataReducer implements RendererDataReducer {
         double meanY = 0;
         int minY = +Integer.MAX_VALUE;
         int maxY = -Integer.MAX_VALUE;
-        String style = null;
+        int style = DataSetStyleCache.NO_STYLE;
         boolean sel = false;
         double xold = xValues[indexMin];
         double yold = yValues[indexMin];
@@ -261,7 +262,7 @@ public class DefaultDataReducer implements RendererDataReducer {
         yPointErrorsNeg[count] = yPointErrorsNeg[indexMin];
         yPointErrorsPos[count] = yPointErrorsPos[indexMin];
         pointSelected[count] = pointSelected[indexMin];
-        styles[count] = styles[indexMin];
+        styleIds[count] = styleIds[indexMin];
         count++;
         // have added first point regardless of reduction criteria
         // 'count == 1' and 'ncount == 0'
@@ -292,7 +293,7 @@ public class DefaultDataReducer implements RendererDataReducer {
                     yPointErrorsNeg[count] = maxY;
                     yPointErrorsPos[count] = minY;
                     pointSelected[count] = sel;
-                    styles[count] = style;
+                    styleIds[count] = style;
                     count++;
                     // aggregated/merged previous points - accumulation phase is finished
                 }
@@ -304,7 +305,7 @@ public class DefaultDataReducer implements RendererDataReducer {
                     yPointErrorsNeg[count] = Double.NaN;
                     yPointErrorsPos[count] = Double.NaN;
                     pointSelected[count] = pointSelected[i];
-                    styles[count] = styles[i];
+                    styleIds[count] = styleIds[i];
                     count++;
                     // reset accumulation values
                     meanX = 0;
@@ -312,7 +313,7 @@ public class DefaultDataReducer implements RendererDataReducer {
                     minY = Integer.MAX_VALUE;
                     maxY = Integer.MIN_VALUE;
                     sel = pointSelected[i];
-                    style = styles[i];
+                    style = styleIds[i];
                     ncount = 0;
                 } else {
                     // add new point outside the accumulated region
@@ -322,7 +323,7 @@ public class DefaultDataReducer implements RendererDataReducer {
                     minY = (int) yPointErrorsPos[i];
                     maxY = (int) yPointErrorsNeg[i];
                     sel = pointSelected[i];
-                    style = styles[i];
+                    style = styleIds[i];
                     ncount = 1;
                 }
                 xold = newXValue;
@@ -352,7 +353,7 @@ public class DefaultDataReducer implements RendererDataReducer {
             yPointErrorsNeg[count] = maxY;
             yPointErrorsPos[count] = minY;
             pointSelected[count] = sel;
-            styles[count] = style;
+            styleIds[count] = style;
             count++;
             // aggregated/merged previous points - accumulation phase is finished
         }
@@ -364,7 +365,7 @@ public class DefaultDataReducer implements RendererDataReducer {
         yPointErrorsNeg[count] = yPointErrorsNeg[indexMax - 1];
         yPointErrorsPos[count] = yPointErrorsPos[indexMax - 1];
         pointSelected[count] = pointSelected[indexMax - 1];
-        styles[count] = styles[indexMax - 1];
+        styleIds[count] = styleIds[indexMax - 1];
         count++;
 
         if (ProcessingProfiler.getDebugState()) {
@@ -374,14 +375,14 @@ public class DefaultDataReducer implements RendererDataReducer {
         return count;
     }
 
-    private int reducePointsInternal(final double[] xValues, final double[] yValues, final String[] styles,
+    private int reducePointsInternal(final double[] xValues, final double[] yValues, final int[] styleIds,
             final boolean[] pointSelected, final int indexMin, final int indexMax) {
         final long start = ProcessingProfiler.getTimeStamp();
         int count = 0;
         int ncount = 0;
         double meanX = 0;
         double meanY = 0;
-        String style = null;
+        int style = DataSetStyleCache.NO_STYLE;
         boolean sel = false;
         double xold = xValues[indexMin];
         double yold = yValues[indexMin];
@@ -392,7 +393,7 @@ public class DefaultDataReducer implements RendererDataReducer {
         xValues[count] = xValues[indexMin];
         yValues[count] = yValues[indexMin];
         pointSelected[count] = pointSelected[indexMin];
-        styles[count] = styles[indexMin];
+        styleIds[count] = styleIds[indexMin];
         count++;
         // have added first point regardless of reduction criteria
         // 'count == 1' and 'ncount == 0'
@@ -421,7 +422,7 @@ public class DefaultDataReducer implements RendererDataReducer {
                         yValues[count] = (int) (meanY / ncount);
                     }
                     pointSelected[count] = sel;
-                    styles[count] = style;
+                    styleIds[count] = style;
                     count++;
 
                     // aggregated/merged previous points - accumulation phase is finished
@@ -432,18 +433,18 @@ public class DefaultDataReducer implements RendererDataReducer {
                     xValues[count] = (int) newXValue;
                     yValues[count] = Double.NaN;
                     pointSelected[count] = pointSelected[i];
-                    styles[count] = styles[i];
+                    styleIds[count] = styleIds[i];
                     count++;
                     meanX = 0;
                     meanY = 0;
                     sel = false;
-                    style = null;
+                    style = DataSetStyleCache.NO_STYLE;
                     ncount = 0;
                 } else { // start new accumulation phase
                     meanX = newXValue;
                     meanY = newYValue;
                     sel = pointSelected[i];
-                    style = styles[i];
+                    style = styleIds[i];
                     ncount = 1;
                 }
                 xold = newXValue;
@@ -469,7 +470,7 @@ public class DefaultDataReducer implements RendererDataReducer {
                 yValues[count] = (int) (meanY / ncount);
             }
             pointSelected[count] = sel;
-            styles[count] = style;
+            styleIds[count] = style;
             count++;
 
             // aggregated/merged previous points - accumulation phase is finished
@@ -480,7 +481,7 @@ public class DefaultDataReducer implements RendererDataReducer {
         xValues[count] = xValues[indexMax - 1];
         yValues[count] = yValues[indexMax - 1];
         pointSelected[count] = pointSelected[indexMax - 1];
-        styles[count] = styles[indexMax - 1];
+        styleIds[count] = styleIds[indexMax - 1];
         count++;
 
         if (ProcessingProfiler.getDebugState()) {
@@ -19,7 +19,7 @@ public class MaxDataReducer implements RendererDataReducer {
     // TODO: check again algorithm with original implementation... some error was introduced
     private int reduce(final double[] xValues, final double[] yValues, final double[] xPointErrorsPos,
             final double[] xPointErrorsNeg, final double[] yPointErrorsPos, final double[] yPointErrorsNeg,
-            final String[] styles, final boolean[] pointSelected, final int indexMin, final int indexMax,
+            final int[] styleIds, final boolean[] pointSelected, final int indexMin, final int indexMax,
             final int maxPointsCount) {
         final long start = ProcessingProfiler.getTimeStamp();
         final int size = indexMax - indexMin;
@@ -27,7 +27,7 @@ public class MaxDataReducer implements RendererDataReducer {
         int n = indexMin;
         int nLastAdded = n;
         MaxDataReducer.moveInPlace(xValues, yValues, xPointErrorsPos, xPointErrorsNeg, yPointErrorsPos, yPointErrorsNeg,
-                styles, pointSelected, n++, count++);
+                styleIds, pointSelected, n++, count++);
         final double d = (double) size / (double) maxPointsCount;
         int b = 1;
         final int limit = (int) Math.round(b * d);
@@ -38,7 +38,7 @@ public class MaxDataReducer implements RendererDataReducer {
             if (n - nLastAdded >= limit) {
                 nLastAdded = n;
                 MaxDataReducer.moveInPlace(xValues, yValues, xPointErrorsPos, xPointErrorsNeg, yPointErrorsPos,
-                        yPointErrorsNeg, styles, pointSelected, n++, count++);
+                        yPointErrorsNeg, styleIds, pointSelected, n++, count++);
                 // System.err.println(String.format("add point(%d)=%f",count,delta));
                 // yValues[count-1] += delta;
                 b++;
@@ -62,7 +62,7 @@ public class MaxDataReducer implements RendererDataReducer {
     @Override
     public int reducePoints(final double[] xValues, final double[] yValues, final double[] xPointErrorsPos,
             final double[] xPointErrorsNeg, final double[] yPointErrorsPos, final double[] yPointErrorsNeg,
-            final String[] styles, final boolean[] pointSelected, final int indexMin, final int indexMax) {
+            final int[] styleIds, final boolean[] pointSelected, final int indexMin, final int indexMax) {
         final int size = indexMax - indexMin;
         if (size <= MaxDataReducer.DEFAULT_MAX_POINTS_COUNT) {
             // just shift the data set to front
@@ -80,7 +80,7 @@ public class MaxDataReducer implements RendererDataReducer {
             MaxDataReducer.shiftDataToFront(yPointErrorsPos, indexMin, indexMax);
             MaxDataReducer.shiftDataToFront(yPointErrorsNeg, indexMin, indexMax);
 
-            MaxDataReducer.shiftDataToFront(styles, indexMin, indexMax);
+            MaxDataReducer.shiftDataToFront(styleIds, indexMin, indexMax);
             MaxDataReducer.shiftDataToFront(pointSelected, indexMin, indexMax);
 
             return size;
@@ -89,13 +89,13 @@ public class MaxDataReducer implements RendererDataReducer {
         return reduce(xValues, yValues, //
                 xPointErrorsPos == null ? new double[indexMax - indexMin] : xPointErrorsPos, //
                 xPointErrorsNeg == null ? new double[indexMax - indexMin] : xPointErrorsNeg, //
-                yPointErrorsPos, yPointErrorsNeg, styles, pointSelected, indexMin, indexMax,
+                yPointErrorsPos, yPointErrorsNeg, styleIds, pointSelected, indexMin, indexMax,
                 MaxDataReducer.DEFAULT_MAX_POINTS_COUNT);
     }
 
     private static void moveInPlace(final double[] xValues, final double[] yValues, final double[] xPointErrorsPos,
             final double[] xPointErrorsNeg, final double[] yPointErrorsPos, final double[] yPointErrorsNeg,
-            final String[] styles, final boolean[] pointSelected, final int fromIndex, final int toIndex) {
+            final int[] styleIds, final boolean[] pointSelected, final int fromIndex, final int toIndex) {
         xValues[toIndex] = xValues[fromIndex];
         yValues[toIndex] = yValues[fromIndex];
 
@@ -104,7 +104,7 @@ public class MaxDataReducer implements RendererDataReducer {
         yPointErrorsPos[toIndex] = yPointErrorsPos[fromIndex];
         yPointErrorsNeg[toIndex] = yPointErrorsNeg[fromIndex];
 
-        styles[toIndex] = styles[fromIndex];
+        styleIds[toIndex] = styleIds[fromIndex];
         pointSelected[toIndex] = pointSelected[fromIndex];
     }
 
@@ -118,7 +118,7 @@ public class MaxDataReducer implements RendererDataReducer {
         System.arraycopy(data, indexMin, data, 0, size);
     }
 
-    private static void shiftDataToFront(final String[] data, final int indexMin, final int indexMax) {
+    private static void shiftDataToFront(final int[] data, final int indexMin, final int indexMax) {
         final int size = indexMax - indexMin;
         System.arraycopy(data, indexMin, data, 0, size);
     }
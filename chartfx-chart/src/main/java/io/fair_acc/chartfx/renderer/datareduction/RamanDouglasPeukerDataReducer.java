@@ -1,19 +1,21 @@
 package io.fair_acc.chartfx.renderer.datareduction;
 
-import io.fair_acc.chartfx.renderer.RendererDataReducer;
 import io.fair_acc.dataset.utils.AssertUtils;
-import io.fair_acc.dataset.utils.ProcessingProfiler;
 import io.fair_acc.math.ArrayUtils;
 
 /**
  * Filters data using Ramer-Douglas-Peucker algorithm with specified tolerance N.B. numberical complexity: average O(n
  * log (n)) -&gt; worst-case O(n^2)
+ * <p>
+ * The reduction is performed in-place and index-based using an explicit stack of segments instead of recursion, i.e.
+ * it does not allocate temporary point arrays (see {@link AbstractShapePreservingDataReducer}).
  *
  * @author Rzeźnik
  * @see <a href= "http://en.wikipedia.org/wiki/Ramer-Douglas-Peucker_algorithm">Ramer-Douglas-Peucker algorithm</a>
  */
-public class RamanDouglasPeukerDataReducer implements RendererDataReducer {
-    private double epsilon = 0.1;
+public class RamanDouglasPeukerDataReducer extends AbstractShapePreservingDataReducer {
+    private double epsilon = 1.0;
+    private int[] stack = new int[0]; // pairs of [first, last] segment indices
 
     public double[][] filter(final double[][] data) {
         return ramerDouglasPeuckerFunction(data, 0, data.length - 1);
@@ -53,53 +55,53 @@ public class RamanDouglasPeukerDataReducer implements RendererDataReducer {
         }
     }
 
-    @Override
-    public int reducePoints(final double[] xValues, final double[] yValues, final double[] xPointErrorsPos,
-            final double[] xPointErrorsNeg, final double[] yPointErrorsPos, final double[] yPointErrorsNeg,
-            final String[] styles, final boolean[] pointSelected, final int indexMin, final int indexMax) {
-        final long startTimeStamp = ProcessingProfiler.getTimeStamp();
-        final double[][] data = new double[indexMax - indexMin][2];
-        int count = 0;
-        for (int i = indexMin; i < indexMax; i++) {
-            data[count][0] = xValues[i];
-            data[count][1] = yValues[i];
-            count++;
-        }
-
-        final double[][] ret = ramerDouglasPeuckerFunction(data, 0, data.length - 1);
-        double minY = +Double.MAX_VALUE;
-        double maxY = -Double.MAX_VALUE;
-        final double[] xValuesNew = new double[ret.length];
-        final double[] yValuesNew = new double[ret.length];
-        for (int i = 0; i < ret.length; i++) {
-            xValuesNew[i] = ret[i][0];
-            yValuesNew[i] = ret[i][1];
-            minY = Math.min(minY, yValuesNew[i]);
-            maxY = Math.max(maxY, yValuesNew[i]);
-        }
-        double range = maxY - minY;
-        if (range <= 0) {
-            range = 1.0;
-        }
-        epsilon = 100 / range;
-
-        System.arraycopy(xValuesNew, 0, xValues, 0, xValuesNew.length);
-        System.arraycopy(yValuesNew, 0, yValues, 0, yValuesNew.length);
-        // ArrayUtils.fillArray(xPointErrorsPos, 0);
-        // ArrayUtils.fillArray(xPointErrorsNeg, 0);
-        ArrayUtils.fillArray(yPointErrorsPos, epsilon);
-        ArrayUtils.fillArray(yPointErrorsNeg, epsilon);
-
-        ProcessingProfiler.getTimeDiff(startTimeStamp,
-                String.format("data reduction (from %d to %d)", indexMax - indexMin, xValuesNew.length));
-        return xValuesNew.length;
-    }
-
     /**
-     * @param epsilon maximum distance of a point in data between original curve and simplified curve
+     * @param epsilon maximum distance of a point in data between original curve and simplified curve (in screen
+     *            coordinates, i.e. pixel, default: 1.0)
      */
     public void setEpsilon(final double epsilon) {
         AssertUtils.gtEqThanZero("epsilon", epsilon);
         this.epsilon = epsilon;
     }
+
+    @Override
+    protected void simplify(final double[] xValues, final double[] yValues, final int indexMin, final int first, final int last) {
+        // each split point is retained once and splits one segment into two -> depth of the stack is bounded by 'n'
+        stack = ArrayUtils.resizeMin(stack, 2 * (last - first + 1));
+        int top = 0;
+        stack[top++] = first;
+        stack[top++] = last;
+        while (top > 0) {
+            final int end = stack[--top];
+            final int start = stack[--top];
+            final double x0 = xValues[start];
+            final double y0 = yValues[start];
+            final double dx = xValues[end] - x0;
+            final double dy = yValues[end] - y0;
+            final double norm = Math.sqrt(dx * dx + dy * dy);
+
+            // compare un-normalised distances to avoid the division in the inner loop
+            double dmax = -1.0;
+            int idx = -1;
+            for (int i = start + 1; i < end; i++) {
+                final double distance = norm > 0 ? Math.abs(dy * (xValues[i] - x0) - dx * (yValues[i] - y0)) : Math.hypot(xValues[i] - x0, yValues[i] - y0);
+                if (distance > dmax) {
+                    idx = i;
+                    dmax = distance;
+                }
+            }
+            if (idx < 0 || (norm > 0 ? dmax / norm : dmax) < epsilon) {
+                continue;
+            }
+            retained[idx - indexMin] = true;
+            if (idx - start >= 2) {
+                stack[top++] = start;
+                stack[top++] = idx;
+            }
+            if (end - idx >= 2) {
+                stack[top++] = idx;
+                stack[top++] = end;
+            }
+        }
+    }
 }
@@ -1,13 +1,154 @@
 package io.fair_acc.chartfx.renderer.datareduction;
 
+import io.fair_acc.dataset.utils.AssertUtils;
+import io.fair_acc.math.ArrayUtils;
+
 /**
  * Line generalisation by repeated elimination of the smallest area Visvalingam, Maheswari; Whyatt, J. D. (James Duncan)
  * Cartography -- Data processing; Computer science July 1992 https://hydra.hull.ac.uk/resources/hull:8338
  * https://bost.ocks.org/mike/simplify/
- *
- *
- * TODO: flesh out algorithm
- *
+ * <p>
+ * Points are eliminated in order of increasing effective area, i.e. the area of the triangle formed with their current
+ * neighbours, until the smallest remaining area exceeds {@link #getMinArea()}. The effective area of a point is never
+ * smaller than that of a previously eliminated neighbour, which keeps the elimination order consistent. N.B. numerical
+ * complexity: O(n log(n))
+ * <p>
+ * The reduction is performed in-place and index-based using a primitive binary min-heap and a linked list of the
+ * remaining points, i.e. it does not allocate temporary objects (see {@link AbstractShapePreservingDataReducer}).
  */
-public class VisvalingamMaheswariWhyattDataReducer {
+public class VisvalingamMaheswariWhyattDataReducer extends AbstractShapePreservingDataReducer {
+    private double minArea = 1.0;
+    // work arrays, indices relative to 'first' of the processed run
+    private double[] area = new double[0];
+    private int[] prev = new int[0];
+    private int[] next = new int[0];
+    private int[] heap = new int[0];
+    private int[] heapPosition = new int[0];
+    private int heapSize;
+
+    /**
+     * @return minimum triangle area of points that are retained (in screen coordinates, i.e. pixel^2)
+     */
+    public double getMinArea() {
+        return minArea;
+    }
+
+    /**
+     * @param minArea minimum triangle area of points that are retained (in screen coordinates, i.e. pixel^2, default:
+     *            1.0)
+     */
+    public void setMinArea(final double minArea) {
+        AssertUtils.gtEqThanZero("minArea", minArea);
+        this.minArea = minArea;
+    }
+
+    @Override
+    protected void simplify(final double[] xValues, final double[] yValues, final int indexMin, final int first, final int last) {
+        final int n = last - first + 1;
+        area = ArrayUtils.resizeMin(area, n);
+        prev = ArrayUtils.resizeMin(prev, n);
+        next = ArrayUtils.resizeMin(next, n);
+        heap = ArrayUtils.resizeMin(heap, n);
+        heapPosition = ArrayUtils.resizeMin(heapPosition, n);
+
+        // interior points only, the end-points are always retained
+        heapSize = 0;
+        for (int i = 1; i < n - 1; i++) {
+            prev[i] = i - 1;
+            next[i] = i + 1;
+            area[i] = triangleArea(xValues, yValues, first, i - 1, i, i + 1);
+            heap[heapSize] = i;
+            heapPosition[i] = heapSize;
+            heapSize++;
+        }
+        for (int i = heapSize / 2 - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+
+        while (heapSize > 0 && area[heap[0]] < minArea) {
+            final int point = heap[0];
+            removeTop();
+            final double eliminatedArea = area[point];
+            final int left = prev[point];
+            final int right = next[point];
+            if (left > 0) {
+                next[left] = right;
+                update(left, Math.max(eliminatedArea, triangleArea(xValues, yValues, first, prev[left], left, right)));
+            }
+            if (right < n - 1) {
+                prev[right] = left;
+                update(right, Math.max(eliminatedArea, triangleArea(xValues, yValues, first, left, right, next[right])));
+            }
+        }
+
+        // remaining points in the heap are retained
+        for (int i = 0; i < heapSize; i++) {
+            retained[first + heap[i] - indexMin] = true;
+        }
+    }
+
+    private void removeTop() {
+        heapSize--;
+        if (heapSize > 0) {
+            heap[0] = heap[heapSize];
+            heapPosition[heap[0]] = 0;
+            siftDown(0);
+        }
+    }
+
+    private void siftDown(final int position) {
+        int pos = position;
+        final int point = heap[pos];
+        final double value = area[point];
+        while (true) {
+            int child = 2 * pos + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && area[heap[child + 1]] < area[heap[child]]) {
+                child++;
+            }
+            if (area[heap[child]] >= value) {
+                break;
+            }
+            heap[pos] = heap[child];
+            heapPosition[heap[pos]] = pos;
+            pos = child;
+        }
+        heap[pos] = point;
+        heapPosition[point] = pos;
+    }
+
+    private void siftUp(final int position) {
+        int pos = position;
+        final int point = heap[pos];
+        final double value = area[point];
+        while (pos > 0) {
+            final int parent = (pos - 1) / 2;
+            if (area[heap[parent]] <= value) {
+                break;
+            }
+            heap[pos] = heap[parent];
+            heapPosition[heap[pos]] = pos;
+            pos = parent;
+        }
+        heap[pos] = point;
+        heapPosition[point] = pos;
+    }
+
+    private void update(final int point, final double newArea) {
+        final double oldArea = area[point];
+        area[point] = newArea;
+        if (newArea < oldArea) {
+            siftUp(heapPosition[point]);
+        } else {
+            siftDown(heapPosition[point]);
+        }
+    }
+
+    private static double triangleArea(final double[] xValues, final double[] yValues, final int offset, final int a, final int b, final int c) {
+        final double xa = xValues[offset + a];
+        final double ya = yValues[offset + a];
+        return 0.5 * Math.abs((xValues[offset + b] - xa) * (yValues[offset + c] - ya) - (xValues[offset + c] - xa) * (yValues[offset + b] - ya));
+    }
 }
@@ -23,6 +23,7 @@ public abstract class AbstractContourDataSetRendererParameter<R extends Abstract
             ColorGradient.DEFAULT);
 
     private final BooleanProperty computeLocalZRange = new SimpleBooleanProperty(this, "computeLocalZRange", true);
+    private final BooleanProperty incrementalUpdate = new SimpleBooleanProperty(this, "incrementalUpdate", false);
     private final ObjectProperty<ContourType> contourType = new SimpleObjectProperty<>(this, "contourType",
             ContourType.HEATMAP);
 
@@ -153,6 +154,27 @@ public abstract class AbstractContourDataSetRendererParameter<R extends Abstract
         return reductionTypeProperty().get();
     }
 
+    /**
+     * Indicates if the HEATMAP image should be retained between updates and only the rows that changed should be
+     * re-computed (waterfall/spectrogram-type displays). Shifted rows are scrolled rather than redrawn. A full rebuild
+     * is performed on axis, zoom, z-range or colour gradient changes. N.B. not applicable and ignored while the data is
+     * being down-sampled (see {@link #pointReductionProperty()}).
+     *
+     * @return incrementalUpdate property
+     */
+    public BooleanProperty incrementalUpdateProperty() {
+        return incrementalUpdate;
+    }
+
+    /**
+     * Returns the value of the {@link #incrementalUpdateProperty()}.
+     *
+     * @return {@code true} if the HEATMAP image is updated incrementally
+     */
+    public boolean isIncrementalUpdate() {
+        return incrementalUpdateProperty().get();
+    }
+
     /**
      * This is used to compare different implementation and to potentially fall-back to an older reference
      * implementation
@@ -236,6 +258,15 @@ public abstract class AbstractContourDataSetRendererParameter<R extends Abstract
         contourTypeProperty().set(value);
     }
 
+    /**
+     * Sets the value of the {@link #incrementalUpdateProperty()}.
+     *
+     * @param state {@code true} to update the HEATMAP image incrementally
+     */
+    public void setIncrementalUpdate(final boolean state) {
+        incrementalUpdateProperty().set(state);
+    }
+
     /**
      * suppresses contour segments being drawn that have more than the specified number of sub-segments
      *
@@ -267,7 +267,7 @@ public abstract class AbstractErrorDataSetRendererParameter<R extends AbstractEr
      * <li>{@link MaxDataReducer} (a simple down-sampling algorithm, returning fixed number of max. 1000 points)</li>
      * <li>{@link RamanDouglasPeukerDataReducer}</li>
      * <li>{@code DouglasPeukerDataReducer}</li>
-     * <li>{@link VisvalingamMaheswariWhyattDataReducer} (being developed)</li>
+     * <li>{@link VisvalingamMaheswariWhyattDataReducer}</li>
      * </ul>
      *
      * @return the rendererDataReducerProperty
@@ -70,6 +70,7 @@ public abstract class AbstractPointReducingRenderer<R extends AbstractPointReduc
      *
      * @return true if points should be assumed to be sorted (default)
      */
+    @Override
     public boolean isAssumeSortedData() {
         return assumeSortedData.get();
     }
@@ -44,6 +44,7 @@ public abstract class AbstractRenderer<R extends Renderer> extends Parent implem
     private final ObservableList<DataSetNode> readOnlyDataSetNodes = FXCollections.unmodifiableObservableList(dataSetNodes);
     private final ObservableList<Axis> axesList = FXCollections.observableList(new NoDuplicatesList<>());
     private final ObjectProperty<Chart> chart = new SimpleObjectProperty<>();
+    private boolean canvasDirty = true;
 
     protected DataSetNode createNode(DataSet dataSet) {
         // Reuse existing nodes when possible
@@ -266,7 +267,20 @@ public abstract class AbstractRenderer<R extends Renderer> extends Parent implem
         fireInvalidated(ChartBits.ChartCanvas);
     }
 
+    @Override
+    public boolean isCanvasDirty() {
+        return canvasDirty;
+    }
+
+    @Override
+    public void clearCanvasDirty() {
+        canvasDirty = false;
+    }
+
     protected void fireInvalidated(IntSupplier bit) {
+        if (ChartBits.ChartCanvas.isSet(bit.getAsInt())) {
+            canvasDirty = true;
+        }
         var chart = getChart();
         if (chart != null) {
             chart.fireInvalidated(bit);
@@ -1,6 +1,8 @@
 package io.fair_acc.chartfx.renderer.spi;
 
 import java.security.InvalidParameterException;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 import javafx.geometry.Orientation;
 import javafx.scene.canvas.GraphicsContext;
@@ -13,8 +15,10 @@ import io.fair_acc.chartfx.XYChart;
 import io.fair_acc.chartfx.axes.Axis;
 import io.fair_acc.chartfx.axes.spi.AxisRange;
 import io.fair_acc.chartfx.axes.spi.CategoryAxis;
+import io.fair_acc.chartfx.renderer.spi.utils.ScreenSpaceIndex;
 import io.fair_acc.chartfx.ui.css.DataSetNode;
 import io.fair_acc.dataset.DataSet;
+import io.fair_acc.dataset.GridDataSet;
 import io.fair_acc.dataset.utils.AssertUtils;
 
 /**
@@ -55,6 +59,7 @@ public abstract class AbstractRendererXY<R extends AbstractRendererXY<R>> extend
 
         benchDrawAll.start();
         updateCachedVariables();
+        invalidateScreenSpaceIndices();
 
         // N.B. importance of reverse order: start with last index, so that
         // most(-like) important DataSet is drawn on top of the others
@@ -72,6 +77,80 @@ public abstract class AbstractRendererXY<R extends AbstractRendererXY<R>> extend
 
     protected abstract void render(GraphicsContext gc, DataSet dataSet, DataSetNode style);
 
+    /**
+     * Returns the screen-space index of the data points as drawn in the last frame, e.g. for picking data points with
+     * the mouse. The index is built lazily on the first query after a redraw and retained otherwise, i.e. repeated
+     * queries (mouse moves) do not need to transform or scan the data set again.
+     * <p>
+     * N.B. to be called on the FX thread. The index contains all data points of the data set within the visible x range
+     * if the data is assumed to be sorted (see {@link #isAssumeSortedData()}) or all data points otherwise (not only the
+     * reduced subset that is drawn). The data set may have changed since, i.e. data indices need to be checked against
+     * {@link DataSet#getDataCount()}.
+     *
+     * @param dataSet data set rendered by this renderer
+     * @return the index or {@code null} if the data set is not rendered by this renderer, has no x/y coordinates (e.g.
+     *         {@link GridDataSet}) or if the data is drawn in polar coordinates
+     */
+    public ScreenSpaceIndex getScreenSpaceIndex(final DataSet dataSet) {
+        if (dataSet == null || xAxis == null || yAxis == null || dataSet instanceof GridDataSet || dataSet.getDimension() < 2
+                || getChart() == null || getChart().isPolarPlot() || !isRendered(dataSet)) {
+            return null;
+        }
+        final ScreenSpaceIndex index = screenSpaceIndices.computeIfAbsent(dataSet, ds -> new ScreenSpaceIndex());
+        if (index.isValid()) {
+            return index;
+        }
+        dataSet.lock().readLockGuard(() -> {
+            int indexMin = 0;
+            int indexMax = dataSet.getDataCount();
+            if (isAssumeSortedData()) {
+                // same visible range as used while rendering
+                indexMin = Math.max(0, dataSet.getIndex(DataSet.DIM_X, xMin) - 1);
+                indexMax = Math.min(dataSet.getIndex(DataSet.DIM_X, xMax) + 2, indexMax);
+            }
+            final int nDataPoints = Math.max(0, indexMax - indexMin);
+            index.resize(indexMin, indexMin + nDataPoints);
+            // N.B. point-wise access rather than getValues(..) which may copy the whole data set (e.g. circular buffers)
+            final double[] xValues = index.getXValues();
+            final double[] yValues = index.getYValues();
+            for (int i = 0; i < nDataPoints; i++) {
+                xValues[i] = dataSet.get(DataSet.DIM_X, indexMin + i);
+                yValues[i] = dataSet.get(DataSet.DIM_Y, indexMin + i);
+            }
+            xAxis.getDisplayPositions(xValues, 0, nDataPoints, xValues);
+            yAxis.getDisplayPositions(yValues, 0, nDataPoints, yValues);
+        });
+        // points within one cell outside the plot area can still be picked near the border
+        final double margin = ScreenSpaceIndex.DEFAULT_CELL_SIZE;
+        index.build(-margin, -margin, xAxis.getLength() + margin, yAxis.getLength() + margin);
+        return index;
+    }
+
+    /**
+     * @return true if the data is assumed to be sorted in x, i.e. only the visible index range needs to be processed
+     */
+    public boolean isAssumeSortedData() {
+        return false;
+    }
+
+    protected void invalidateScreenSpaceIndices() {
+        if (screenSpaceIndices.isEmpty()) {
+            return;
+        }
+        // drop indices of data sets that have been removed, the others are rebuilt on demand
+        screenSpaceIndices.keySet().removeIf(dataSet -> !isRendered(dataSet));
+        screenSpaceIndices.values().forEach(ScreenSpaceIndex::invalidate);
+    }
+
+    private boolean isRendered(final DataSet dataSet) {
+        for (final DataSetNode node : getDatasetNodes()) {
+            if (node.getDataSet() == dataSet) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public void updateAxes() {
         // Default to explicitly set axes
@@ -138,6 +217,7 @@ public abstract class AbstractRendererXY<R extends AbstractRendererXY<R>> extend
     protected double xMin, xMax;
     protected Axis xAxis;
     protected Axis yAxis;
+    private final Map<DataSet, ScreenSpaceIndex> screenSpaceIndices = new IdentityHashMap<>();
 
     @Override
     public void setRecorder(MeasurementRecorder recorder) {
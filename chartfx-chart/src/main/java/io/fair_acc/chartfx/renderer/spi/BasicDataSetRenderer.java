@@ -180,6 +180,7 @@ public class BasicDataSetRenderer extends AbstractRendererXY<BasicDataSetRendere
         });
     }
 
+    @Override
     public boolean isAssumeSortedData() {
         return assumeSortedData.get();
     }
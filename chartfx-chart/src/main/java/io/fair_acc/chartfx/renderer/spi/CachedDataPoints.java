@@ -15,11 +15,14 @@ import io.fair_acc.chartfx.axes.Axis;
 import io.fair_acc.chartfx.renderer.ErrorStyle;
 import io.fair_acc.chartfx.renderer.RendererDataReducer;
 import io.fair_acc.chartfx.ui.css.DataSetNode;
+import io.fair_acc.chartfx.ui.css.DataSetStyleCache;
 import io.fair_acc.dataset.DataSet;
 import io.fair_acc.dataset.DataSetError;
 import io.fair_acc.dataset.DataSetError.ErrorType;
+import io.fair_acc.dataset.MinMaxIndexedDataSet;
 import io.fair_acc.dataset.utils.CachedDaemonThreadFactory;
 import io.fair_acc.dataset.utils.IndexedStringConsumer;
+import io.fair_acc.dataset.utils.MinMaxPyramid;
 import io.fair_acc.dataset.utils.ProcessingProfiler;
 import io.fair_acc.math.ArrayUtils;
 
@@ -40,7 +43,9 @@ public class CachedDataPoints {
     protected double[] errorYNeg;
     protected double[] errorYPos;
     protected boolean[] selected;
-    protected String[] styles;
+    protected int[] styleIds; // see DataSetStyleCache
+    protected int[] indexMap; // cached point -> data set index (see decimate(..)), only valid if 'decimated' is set
+    protected boolean decimated;
     protected boolean xAxisInverted;
     protected boolean yAxisInverted;
     protected boolean allowForNaNs;
@@ -57,6 +62,7 @@ public class CachedDataPoints {
     protected double xMax;
     protected boolean polarPlot;
     protected ErrorStyle rendererErrorStyle;
+    protected final DataSetStyleCache styleCache = new DataSetStyleCache();
     protected double xRange;
     protected double yRange;
     protected double maxRadius;
@@ -71,7 +77,7 @@ public class CachedDataPoints {
         errorXNeg = clearIfLarger(errorXNeg, maxDataCount);
         errorXPos = clearIfLarger(errorXPos, maxDataCount);
         selected = clearIfLarger(selected, maxDataCount);
-        styles = clearIfLarger(styles, maxDataCount);
+        styleIds = clearIfLarger(styleIds, maxDataCount);
         errorType = clearIfLarger(errorType, 10); // depends on ds dimensions
     }
 
@@ -264,37 +270,37 @@ public class CachedDataPoints {
 
     private void computeWithError(final Axis yAxis, final DataSet dataSet, final int dimIndex, final int min,
             final int max) {
+        final double[] values = dimIndex == DIM_X ? xValues : yValues;
+        final double[] valuesEN = dimIndex == DIM_X ? errorXNeg : errorYNeg;
+        final double[] valuesEP = dimIndex == DIM_X ? errorXPos : errorYPos;
+        final double minValue = dimIndex == DIM_X ? xMin : yMin;
         if (dataSet instanceof DataSetError) {
-            final double[] values = dimIndex == DIM_X ? xValues : yValues;
-            final double[] valuesEN = dimIndex == DIM_X ? errorXNeg : errorYNeg;
-            final double[] valuesEP = dimIndex == DIM_X ? errorXPos : errorYPos;
-            final double minValue = dimIndex == DIM_X ? xMin : yMin;
             final DataSetError ds = (DataSetError) dataSet;
             for (int index = min; index < max; index++) {
-                final double value = dataSet.get(dimIndex, index);
-
-                values[index] = yAxis.getDisplayPosition(value);
+                final int dataIndex = getDataIndex(index);
+                final double value = dataSet.get(dimIndex, dataIndex);
+                values[index] = value;
+                valuesEN[index] = value - ds.getErrorNegative(dimIndex, dataIndex);
+                valuesEP[index] = value + ds.getErrorPositive(dimIndex, dataIndex);
+            }
+            yAxis.getDisplayPositions(values, min, max, values);
+            yAxis.getDisplayPositions(valuesEN, min, max, valuesEN);
+            yAxis.getDisplayPositions(valuesEP, min, max, valuesEP);
 
-                if (!Double.isNaN(values[index])) {
-                    valuesEN[index] = yAxis.getDisplayPosition(value - ds.getErrorNegative(dimIndex, index));
-                    valuesEP[index] = yAxis.getDisplayPosition(value + ds.getErrorPositive(dimIndex, index));
-                    continue;
+            for (int index = min; index < max; index++) {
+                if (Double.isNaN(values[index])) {
+                    values[index] = minValue;
+                    valuesEN[index] = minValue;
+                    valuesEP[index] = minValue;
                 }
-                values[index] = minValue;
-                valuesEN[index] = minValue;
-                valuesEP[index] = minValue;
             }
             return;
         }
 
         // default dataset
-        final double[] values = dimIndex == DIM_X ? xValues : yValues;
-        final double[] valuesEN = dimIndex == DIM_X ? errorXNeg : errorYNeg;
-        final double[] valuesEP = dimIndex == DIM_X ? errorXPos : errorYPos;
-        final double minValue = dimIndex == DIM_X ? xMin : yMin;
-
+        copyValues(dataSet, dimIndex, min, max, values);
+        yAxis.getDisplayPositions(values, min, max, values);
         for (int index = min; index < max; index++) {
-            values[index] = yAxis.getDisplayPosition(dataSet.get(dimIndex, index));
             if (Double.isFinite(values[index])) {
                 valuesEN[index] = values[index];
                 valuesEP[index] = values[index];
@@ -308,13 +314,14 @@ public class CachedDataPoints {
 
     private void computeWithErrorAllowingNaNs(final Axis yAxis, final DataSet dataSet, final int dimIndex,
             final int min, final int max) {
+        final double[] values = dimIndex == DIM_X ? xValues : yValues;
+        final double[] valuesEN = dimIndex == DIM_X ? errorXNeg : errorYNeg;
+        final double[] valuesEP = dimIndex == DIM_X ? errorXPos : errorYPos;
         if (dataSet instanceof DataSetError) {
-            final double[] values = dimIndex == DIM_X ? xValues : yValues;
-            final double[] valuesEN = dimIndex == DIM_X ? errorXNeg : errorYNeg;
-            final double[] valuesEP = dimIndex == DIM_X ? errorXPos : errorYPos;
             final DataSetError ds = (DataSetError) dataSet;
             for (int index = min; index < max; index++) {
-                final double value = dataSet.get(dimIndex, index);
+                final int dataIndex = getDataIndex(index);
+                final double value = dataSet.get(dimIndex, dataIndex);
 
                 if (!Double.isFinite(value)) {
                     values[index] = Double.NaN;
@@ -323,21 +330,21 @@ public class CachedDataPoints {
                     continue;
                 }
 
-                values[index] = yAxis.getDisplayPosition(value);
-                valuesEN[index] = yAxis.getDisplayPosition(value - ds.getErrorNegative(dimIndex, index));
-                valuesEP[index] = yAxis.getDisplayPosition(value + ds.getErrorPositive(dimIndex, index));
+                values[index] = value;
+                valuesEN[index] = value - ds.getErrorNegative(dimIndex, dataIndex);
+                valuesEP[index] = value + ds.getErrorPositive(dimIndex, dataIndex);
             }
+            // N.B. NaN values remain NaN in the transform
+            yAxis.getDisplayPositions(values, min, max, values);
+            yAxis.getDisplayPositions(valuesEN, min, max, valuesEN);
+            yAxis.getDisplayPositions(valuesEP, min, max, valuesEP);
             return;
         }
 
         // default dataset
-        final double[] values = dimIndex == DIM_X ? xValues : yValues;
-        final double[] valuesEN = dimIndex == DIM_X ? errorXNeg : errorYNeg;
-        final double[] valuesEP = dimIndex == DIM_X ? errorXPos : errorYPos;
-
+        copyValues(dataSet, dimIndex, min, max, values);
+        yAxis.getDisplayPositions(values, min, max, values);
         for (int index = min; index < max; index++) {
-            values[index] = yAxis.getDisplayPosition(dataSet.get(dimIndex, index));
-
             if (Double.isFinite(values[index])) {
                 valuesEN[index] = values[index];
                 valuesEP[index] = values[index];
@@ -354,13 +361,11 @@ public class CachedDataPoints {
         // no error attached
         final double[] values = dimIndex == DIM_X ? xValues : yValues;
         final double minValue = dimIndex == DIM_X ? xMin : yMin;
+        copyValues(dataSet, dimIndex, min, max, values);
+        axis.getDisplayPositions(values, min, max, values);
         for (int index = min; index < max; index++) {
-            final double value = dataSet.get(dimIndex, index);
-
-            values[index] = axis.getDisplayPosition(value);
-
             if (Double.isNaN(values[index])) {
-                yValues[index] = minValue;
+                values[index] = minValue;
             }
         }
 
@@ -375,14 +380,11 @@ public class CachedDataPoints {
         // no error attached
         final double[] values = dimIndex == DIM_X ? xValues : yValues;
         for (int index = min; index < max; index++) {
-            final double value = dataSet.get(dimIndex, index);
-
-            if (Double.isFinite(value)) {
-                values[index] = axis.getDisplayPosition(value);
-            } else {
-                values[index] = Double.NaN;
-            }
+            final double value = dataSet.get(dimIndex, getDataIndex(index));
+            // N.B. NaN values remain NaN in the transform
+            values[index] = Double.isFinite(value) ? value : Double.NaN;
         }
+        axis.getDisplayPositions(values, min, max, values);
 
         if ((dimIndex == DIM_Y) && (rendererErrorStyle != ErrorStyle.NONE)) {
             System.arraycopy(values, min, errorYNeg, min, max - min);
@@ -390,6 +392,52 @@ public class CachedDataPoints {
         }
     }
 
+    private void copyValues(final DataSet dataSet, final int dimIndex, final int min, final int max, final double[] dst) {
+        if (decimated) {
+            for (int index = min; index < max; index++) {
+                dst[index] = dataSet.get(dimIndex, indexMap[index]);
+            }
+            return;
+        }
+        for (int index = min; index < max; index++) {
+            dst[index] = dataSet.get(dimIndex, index);
+        }
+    }
+
+    /**
+     * Optional M4-type pre-reduction for data sets maintaining a {@link MinMaxPyramid}: selects the first, last,
+     * minimum and maximum data point of every pyramid bucket with at most one pixel's worth of data points. Once
+     * decimated, the cached points [0, n) map to the selected data set indices and subsequent screen coordinate
+     * computations only transform these O(pixels) rather than all data points.
+     * <p>
+     * N.B. not applicable to polar plots or data sets with per-point styles, the decimation is reset by passing a
+     * {@code null} data set.
+     *
+     * @param dataSet data set to be decimated (may be {@code null})
+     * @param min first data point index (inclusive)
+     * @param max last data point index (exclusive)
+     * @param nPixels number of pixels the data range is mapped onto
+     * @return number 'n' of selected data points or {@code -1} if the data set is not decimated
+     */
+    protected int decimate(final DataSet dataSet, final int min, final int max, final int nPixels) {
+        decimated = false;
+        if (!(dataSet instanceof MinMaxIndexedDataSet)) {
+            return -1;
+        }
+        final MinMaxPyramid pyramid = ((MinMaxIndexedDataSet) dataSet).getMinMaxPyramid();
+        final int level = pyramid == null ? -1 : pyramid.getLevel(min, max, nPixels);
+        if (level < 0) {
+            return -1;
+        }
+        indexMap = ArrayUtils.resizeMin(indexMap, MinMaxPyramid.getReducedSizeLimit(level, min, max));
+        decimated = true;
+        return pyramid.reduce(dataSet.getValues(DIM_Y), level, min, max, indexMap);
+    }
+
+    private int getDataIndex(final int index) {
+        return decimated ? indexMap[index] : index;
+    }
+
     private void computeYonlyPolar(final Axis yAxis, final DataSet dataSet, final int min, final int max) {
         for (int index = min; index < max; index++) {
             final double x = dataSet.get(DIM_X, index);
@@ -461,6 +509,9 @@ public class CachedDataPoints {
             System.arraycopy(xValues, indexMin, xValues, 0, actualDataCount);
             System.arraycopy(yValues, indexMin, yValues, 0, actualDataCount);
             System.arraycopy(selected, indexMin, selected, 0, actualDataCount);
+            if (hasStyles) {
+                System.arraycopy(styleIds, indexMin, styleIds, 0, actualDataCount);
+            }
             if (errorType[DIM_X] != ErrorType.NO_ERROR) {
                 // XY: // symmetric errors around x and y
                 // X: // only symmetric errors around x
@@ -480,11 +531,11 @@ public class CachedDataPoints {
             return;
         }
         if (errorType[DIM_X] == ErrorType.NO_ERROR) {
-            actualDataCount = cruncher.reducePoints(xValues, yValues, null, null, errorYPos, errorYNeg, styles,
+            actualDataCount = cruncher.reducePoints(xValues, yValues, null, null, errorYPos, errorYNeg, styleIds,
                     selected, indexMin, indexMax);
         } else {
             actualDataCount = cruncher.reducePoints(xValues, yValues, errorXPos, errorXNeg, errorYPos, errorYNeg,
-                    styles, selected, indexMin, indexMax);
+                    styleIds, selected, indexMin, indexMax);
         }
         minDataPointDistanceX();
     }
@@ -498,21 +549,27 @@ public class CachedDataPoints {
         this.allowForNaNs = doAllowForNaNs;
         this.rendererErrorStyle = rendererErrorStyle;
 
-        // set optional styles
-        hasStyles = dataSet.hasStyles();
+        // set optional styles (the array is needed by the reducers also for data sets without styles)
+        styleIds = ArrayUtils.resizeMin(styleIds, maxDataCount);
+        hasStyles = !decimated && dataSet.hasStyles();
         if (hasStyles) {
-            styles = ArrayUtils.resizeMinNulled(styles, maxDataCount, String[] ::new);
+            styleCache.trim(); // ids of previously drawn data sets are no longer in use
+            Arrays.fill(styleIds, min, max, DataSetStyleCache.NO_STYLE);
             dataSet.forEachStyle(min, max, styleSetter);
-        } else {
-            // For now we still need to allocate the array to not break other code
-            // (e.g. reducer). TODO: remove unnecessary array
-            styles = ArrayUtils.resizeMin(styles, maxDataCount, String[] ::new, false);
         }
 
         computeBoundaryVariables(xAxis, yAxis);
         setErrorType(dataSet, rendererErrorStyle);
     }
-    private final IndexedStringConsumer styleSetter = (i, style) -> styles[i] = style;
+    private final IndexedStringConsumer styleSetter = (i, style) -> styleIds[i] = styleCache.getId(style);
+
+    /**
+     * @param index index of the (reduced) data point
+     * @return pre-compiled custom style of the point or {@code null} if none is defined
+     */
+    protected DataSetStyleCache.Style getStyle(final int index) {
+        return hasStyles ? styleCache.get(styleIds[index]) : null;
+    }
 
     protected void setErrorType(final DataSet dataSet, final ErrorStyle errorStyle) {
         errorType = ArrayUtils.resizeMinNulled(errorType, dataSet.getDimension(), ErrorType[] ::new);
@@ -38,6 +38,7 @@ class ContourDataSetCache extends WritableImageCache {
     private static final int BGRA_BYTE_SIZE = 4;
     private static final int REF_WIDTH_PARALLEL = 1024;
     private static final int REF_HEIGHT_PARALLEL = 1000;
+    private static final int MIN_PIXELS_PARALLEL = 1 << 16; // minimum number of pixels per colour-map worker
 
     protected final DataSet dataSet;
     protected final Axis xAxis;
@@ -79,6 +80,17 @@ class ContourDataSetCache extends WritableImageCache {
     protected final double[] reduced;
 
     public ContourDataSetCache(final XYChart chart, final ContourDataSetRenderer renderer, final DataSet dataSet) {
+        this(chart, renderer, dataSet, true);
+    }
+
+    /**
+     * @param chart the chart
+     * @param renderer the renderer providing the axes and processing parameters
+     * @param dataSet the grid data set to be processed
+     * @param quantise {@code false}: the (possibly reduced) data is kept in the original z units and needs to be
+     *            quantised via {@link #quantize(int)} before being drawn
+     */
+    ContourDataSetCache(final XYChart chart, final ContourDataSetRenderer renderer, final DataSet dataSet, final boolean quantise) {
         if (dataSet.getDimension() < 3) {
             throw new IllegalArgumentException("dataSet needs be at least 3D but is " + dataSet.getDimension());
         }
@@ -161,14 +173,35 @@ class ContourDataSetCache extends WritableImageCache {
         }
         ProcessingProfiler.getTimeDiff(start, "recompute local z range");
 
-        // process continuous to quantised z values
+        if (quantise) {
+            quantize(renderer.getNumberQuantisationLevels());
+            ProcessingProfiler.getTimeDiff(start, "quantized data");
+        }
+    }
+
+    /**
+     * @return {@code true} if the data has been down-sampled, i.e. {@link #reduced} is not identical to the copied
+     *         sub-frame in {@link #dataBuffer}
+     */
+    protected boolean isReduced() {
+        return reduced != dataBuffer; // NOPMD NOSONAR -- identity comparison on purpose
+    }
+
+    /**
+     * process continuous to quantised z values
+     *
+     * @param nQuant number of quantisation levels
+     */
+    protected void quantize(final int nQuant) {
+        quantizeData(reduced, xSize, ySize, zInverted, zMin, zMax, getZAxisTransform(), nQuant);
+    }
+
+    protected AxisTransform getZAxisTransform() {
         final AxisTransform axisTransform = zAxis.getAxisTransform();
         if (axisTransform == null) {
             throw new IllegalArgumentException("zAxis of renderer needs to have an axis transform for its z-Axis");
         }
-        final int nQuant = renderer.getNumberQuantisationLevels();
-        quantizeData(reduced, xSize, ySize, zInverted, zMin, zMax, axisTransform, nQuant);
-        ProcessingProfiler.getTimeDiff(start, "quantized data");
+        return axisTransform;
     }
 
     protected static void quantizeData(final double[] input, final int width, final int height, final boolean inverted,
@@ -238,44 +271,21 @@ class ContourDataSetCache extends WritableImageCache {
             final int yMinDst) {
         final int dstWidth = Math.abs(xMaxIndex - xMinIndex) + 1;
         final int dataDim = dataSet.getNGrid(); // use values from the first non-grid dimension
-
-        switch (InvertedAxisCase.get(xAxisInverted, yAxisInverted)) {
-        case X_ONLY:
-            for (int yIndex = yMinIndex; yIndex <= yMaxIndex; yIndex++) {
-                final int rowIndex2 = (yIndex - yMinDst + 1) * dstWidth - 1;
-                for (int xIndex = 0; xIndex < dstWidth; xIndex++) {
-                    dataBuffer[rowIndex2 - xIndex] = dataSet.get(dataDim, xIndex + xMinIndex, yIndex);
-                }
-            }
-            break;
-        case Y_ONLY: {
-            int rowIndex2 = dataLength - (yMinIndex - yMinDst + 1) * dstWidth;
-            for (int yIndex = yMinIndex; yIndex <= yMaxIndex; yIndex++) {
-                for (int xIndex = 0; xIndex < dstWidth; xIndex++) {
-                    dataBuffer[rowIndex2 + xIndex] = dataSet.get(dataDim, xIndex + xMinIndex, yIndex);
-                }
-                rowIndex2 -= dstWidth;
-            }
-            break;
-        }
-        case BOTH: {
-            int rowIndex2 = dataLength - 1 - (yMinIndex - yMinDst) * dstWidth;
-            for (int yIndex = yMinIndex; yIndex <= yMaxIndex; yIndex++) {
-                for (int xIndex = 0; xIndex < dstWidth; xIndex++) {
-                    dataBuffer[rowIndex2 - xIndex] = dataSet.get(dataDim, xIndex + xMinIndex, yIndex);
-                }
-                rowIndex2 -= dstWidth;
-            }
-        } break;
-        case NORMAL:
-        default:
-            for (int yIndex = yMinIndex; yIndex <= yMaxIndex; yIndex++) {
-                final int rowIndex2 = (yIndex - yMinDst) * dstWidth;
-                for (int xIndex = 0; xIndex < dstWidth; xIndex++) {
-                    dataBuffer[rowIndex2 + xIndex] = dataSet.get(dataDim, xIndex + xMinIndex, yIndex);
+        final int[] indices = new int[2];
+        indices[DIM_X] = xMinIndex;
+
+        // copy whole rows and mirror them in place for inverted x-axes
+        for (int yIndex = yMinIndex; yIndex <= yMaxIndex; yIndex++) {
+            final int rowStart = yAxisInverted ? dataLength - (yIndex - yMinDst + 1) * dstWidth : (yIndex - yMinDst) * dstWidth;
+            indices[DIM_Y] = yIndex;
+            dataSet.getSlice(dataDim, DIM_X, indices, dstWidth, dataBuffer, rowStart);
+            if (xAxisInverted) {
+                for (int left = rowStart, right = rowStart + dstWidth - 1; left < right; left++, right--) {
+                    final double tmp = dataBuffer[left];
+                    dataBuffer[left] = dataBuffer[right];
+                    dataBuffer[right] = tmp;
                 }
             }
-            break;
         }
     }
 
@@ -341,7 +351,7 @@ class ContourDataSetCache extends WritableImageCache {
     }
 
     protected WritableImage convertDataArrayToImage(final double[] inputData, final int dataWidth, final int dataHeight,
-            final ColorGradient colorGradient) {
+            final ColorGradient colorGradient, final int nQuant, final boolean parallelImplementation) {
         final int length = dataWidth * dataHeight;
 
         final byte[] byteBuffer = ByteArrayCache.getInstance().getArrayExact(length * BGRA_BYTE_SIZE);
@@ -355,18 +365,32 @@ class ContourDataSetCache extends WritableImageCache {
             return image;
         }
 
-        final int hMinus1 = dataHeight - 1;
-        for (int yIndex = 0; yIndex < dataHeight; yIndex++) {
-            final int rowIndex = dataWidth * yIndex;
-            final int rowPixelIndex = rowSizeInBytes * (hMinus1 - yIndex);
-            for (int xIndex = 0; xIndex < dataWidth; xIndex++) {
-                final int[] color = colorGradient.getColorBytes(inputData[rowIndex + xIndex]);
+        final int[] lookupTable = colorGradient.getColorLookupTable(nQuant);
+        if (!parallelImplementation || length < MIN_PIXELS_PARALLEL) {
+            convertRowsToBgra(inputData, dataWidth, dataHeight, 0, dataHeight, lookupTable, nQuant, byteBuffer);
+        } else {
+            final int nMaxThreads = CachedDaemonThreadFactory.getNumbersOfThreads();
+            final int minRows = Math.max(1, MIN_PIXELS_PARALLEL / dataWidth);
+            final int stepSize = Math.max((int) Math.ceil(dataHeight / (double) nMaxThreads), minRows);
+            final List<Callable<Boolean>> workers = new ArrayList<>();
+            for (int i = 0; i < dataHeight; i += stepSize) {
+                final int start = i;
+                workers.add(() -> {
+                    convertRowsToBgra(inputData, dataWidth, dataHeight, start, Math.min(start + stepSize, dataHeight), lookupTable, nQuant, byteBuffer);
+                    return Boolean.TRUE;
+                });
+            }
 
-                final int pixelIndex = rowPixelIndex + xIndex * BGRA_BYTE_SIZE;
-                byteBuffer[pixelIndex] = (byte) (color[3]);
-                byteBuffer[pixelIndex + 1] = (byte) (color[2]);
-                byteBuffer[pixelIndex + 2] = (byte) (color[1]);
-                byteBuffer[pixelIndex + 3] = (byte) (color[0]);
+            try {
+                final List<Future<Boolean>> jobs = CachedDaemonThreadFactory.getCommonPool().invokeAll(workers);
+                for (final Future<Boolean> future : jobs) {
+                    final Boolean r = future.get();
+                    if (Boolean.FALSE.equals(r)) {
+                        throw new IllegalStateException(PARALLEL_WORKER_ERROR);
+                    }
+                }
+            } catch (final InterruptedException | ExecutionException e) {
+                throw new IllegalStateException(PARALLEL_WORKER_ERROR, e);
             }
         }
 
@@ -376,25 +400,40 @@ class ContourDataSetCache extends WritableImageCache {
         return image;
     }
 
-    protected static int roundDownEven(double d) {
-        return (int) Math.floor(d / 2) * 2;
-    }
-
-    protected enum InvertedAxisCase {
-        NORMAL,
-        X_ONLY,
-        Y_ONLY,
-        BOTH;
-
-        public static InvertedAxisCase get(final boolean xInverted, final boolean yInverted) {
-            if (xInverted && yInverted) {
-                return BOTH;
-            } else if (xInverted) {
-                return X_ONLY;
-            } else if (yInverted) {
-                return Y_ONLY;
+    /**
+     * converts the quantised data rows [yMin, yMax) to BGRA pixels (N.B. image rows are flipped w.r.t. the data rows)
+     *
+     * @param inputData quantised data in [0, 1] as computed by {@link #quantizeData}
+     * @param dataWidth number of data columns
+     * @param dataHeight number of data rows
+     * @param yMin first data row (inclusive)
+     * @param yMax last data row (exclusive)
+     * @param lookupTable packed ARGB colours as provided by {@link ColorGradient#getColorLookupTable(int)}
+     * @param nQuant number of quantisation levels
+     * @param byteBuffer BGRA output buffer
+     */
+    protected static void convertRowsToBgra(final double[] inputData, final int dataWidth, final int dataHeight, final int yMin, final int yMax,
+            final int[] lookupTable, final int nQuant, final byte[] byteBuffer) {
+        final int rowSizeInBytes = BGRA_BYTE_SIZE * dataWidth;
+        final int hMinus1 = dataHeight - 1;
+        for (int yIndex = yMin; yIndex < yMax; yIndex++) {
+            final int rowIndex = dataWidth * yIndex;
+            int pixelIndex = rowSizeInBytes * (hMinus1 - yIndex);
+            for (int xIndex = 0; xIndex < dataWidth; xIndex++) {
+                final double value = inputData[rowIndex + xIndex];
+                // values outside [0, 1] (and NaNs) are transparent
+                final int argb = value >= 0.0 && value <= 1.0 ? lookupTable[(int) (value * nQuant + 0.5)] : 0;
+
+                byteBuffer[pixelIndex] = (byte) argb;
+                byteBuffer[pixelIndex + 1] = (byte) (argb >>> 8);
+                byteBuffer[pixelIndex + 2] = (byte) (argb >>> 16);
+                byteBuffer[pixelIndex + 3] = (byte) (argb >>> 24);
+                pixelIndex += BGRA_BYTE_SIZE;
             }
-            return NORMAL;
         }
     }
+
+    protected static int roundDownEven(double d) {
+        return (int) Math.floor(d / 2) * 2;
+    }
 }
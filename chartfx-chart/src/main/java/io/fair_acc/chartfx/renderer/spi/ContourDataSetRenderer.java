@@ -6,6 +6,8 @@ import java.security.InvalidParameterException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 import java.util.concurrent.ExecutionException;
 
 import javafx.beans.binding.Bindings;
@@ -35,6 +37,7 @@ import io.fair_acc.chartfx.axes.Axis;
 import io.fair_acc.chartfx.axes.AxisTransform;
 import io.fair_acc.chartfx.axes.spi.DefaultNumericAxis;
 import io.fair_acc.chartfx.plugins.Zoomer;
+import io.fair_acc.chartfx.renderer.ContourType;
 import io.fair_acc.chartfx.renderer.Renderer;
 import io.fair_acc.chartfx.renderer.spi.hexagon.Hexagon;
 import io.fair_acc.chartfx.renderer.spi.hexagon.HexagonMap;
@@ -65,6 +68,8 @@ import io.fair_acc.dataset.utils.ProcessingProfiler;
  * data reduction is controlled via {@link #setPointReduction(boolean)} and the reduction type (MIN, MAX, AVERAGE,
  * DOWN_SAMPLE) via {@link #setReductionType}, and the {@link #setReductionFactorX(int)} and
  * {@link #setReductionFactorY(int)} functions.
+ * For waterfall or spectrogram-type data where only a few rows change or are being scrolled per update, the HEATMAP
+ * image can be updated incrementally, see {@link #setIncrementalUpdate(boolean)}.
  * N.B. Regarding implementation of user-level DataSet interfaces: While the DataSet3D::getZ(int) and
  * DataSet::get(DIM_Z, int) routines should match, the DataSet3D is considered a convenience interface primarily to be
  * used for external user-level code.
@@ -77,6 +82,7 @@ import io.fair_acc.dataset.utils.ProcessingProfiler;
 public class ContourDataSetRenderer extends AbstractContourDataSetRendererParameter<ContourDataSetRenderer> implements Renderer {
     private static final Logger LOGGER = LoggerFactory.getLogger(ContourDataSetRenderer.class);
     private ContourDataSetCache localCache;
+    private final Map<DataSet, ContourDataSetWaterfallCache> waterfallCaches = new WeakHashMap<>();
     protected final ColorGradientBar gradientBar = new ColorGradientBar();
 
     private void drawContour(final GraphicsContext gc, final ContourDataSetCache lCache) {
@@ -204,7 +210,7 @@ public class ContourDataSetRenderer extends AbstractContourDataSetRendererParame
         gc.setImageSmoothing(isSmooth());
 
         // process z quantisation to colour transform
-        final WritableImage image = localCache.convertDataArrayToImage(lCache.reduced, lCache.xSize, lCache.ySize, getColorGradient());
+        final WritableImage image = localCache.convertDataArrayToImage(lCache.reduced, lCache.xSize, lCache.ySize, getColorGradient(), getNumberQuantisationLevels(), isParallelImplementation());
         ProcessingProfiler.getTimeDiff(start, "color map");
 
         gc.drawImage(image, lCache.xDataPixelMin, lCache.yDataPixelMin, lCache.xDataPixelRange, lCache.yDataPixelRange);
@@ -213,11 +219,32 @@ public class ContourDataSetRenderer extends AbstractContourDataSetRendererParame
         ProcessingProfiler.getTimeDiff(start, "drawHeatMap");
     }
 
+    /**
+     * @return {@code false} if the incremental update is not applicable and the default rendering needs to be used
+     */
+    private boolean drawIncrementalHeatMap(final GraphicsContext gc, final DataSet dataSet) {
+        if (localCache.xSize == 0 || localCache.ySize == 0) {
+            return true;
+        }
+        final long start = ProcessingProfiler.getTimeStamp();
+        final ContourDataSetWaterfallCache waterfallCache = waterfallCaches.computeIfAbsent(dataSet, ds -> new ContourDataSetWaterfallCache());
+        if (!waterfallCache.update(localCache, getColorGradient(), getNumberQuantisationLevels())) {
+            waterfallCaches.remove(dataSet);
+            return false;
+        }
+        ProcessingProfiler.getTimeDiff(start, "incremental color map");
+
+        gc.setImageSmoothing(isSmooth());
+        waterfallCache.draw(gc, localCache);
+        ProcessingProfiler.getTimeDiff(start, "drawIncrementalHeatMap");
+        return true;
+    }
+
     private void drawHexagonHeatMap(final GraphicsContext gc, final ContourDataSetCache lCache) {
         final long start = ProcessingProfiler.getTimeStamp();
 
         // process z quantisation to colour transform
-        final WritableImage image = localCache.convertDataArrayToImage(lCache.reduced, lCache.xSize, lCache.ySize, getColorGradient());
+        final WritableImage image = localCache.convertDataArrayToImage(lCache.reduced, lCache.xSize, lCache.ySize, getColorGradient(), getNumberQuantisationLevels(), isParallelImplementation());
 
         final int tileSize = Math.max(getMinHexTileSizeProperty(), (int) lCache.xAxisWidth / lCache.xSize);
         final int nWidthInTiles = (int) (lCache.xAxisWidth / (tileSize * Math.sqrt(3))) + 1;
@@ -250,7 +277,7 @@ public class ContourDataSetRenderer extends AbstractContourDataSetRendererParame
         final long start = ProcessingProfiler.getTimeStamp();
 
         // process z quantisation to colour transform
-        final WritableImage image = localCache.convertDataArrayToImage(lCache.reduced, lCache.xSize, lCache.ySize, getColorGradient());
+        final WritableImage image = localCache.convertDataArrayToImage(lCache.reduced, lCache.xSize, lCache.ySize, getColorGradient(), getNumberQuantisationLevels(), isParallelImplementation());
 
         final int tileSize = Math.max(getMinHexTileSizeProperty(), (int) lCache.xAxisWidth / lCache.xSize);
         final int nWidthInTiles = (int) (lCache.xAxisWidth / (tileSize * Math.sqrt(3)));
@@ -435,11 +462,22 @@ public class ContourDataSetRenderer extends AbstractContourDataSetRendererParame
     @Override
     protected void render(GraphicsContext gc, DataSet dataSet, DataSetNode style) {
         long start = ProcessingProfiler.getTimeStamp();
-        localCache = new ContourDataSetCache(getChart(), this, dataSet); // NOPMD
+        final boolean incremental = isIncrementalUpdate() && getContourType() == ContourType.HEATMAP;
+        if (!incremental) {
+            waterfallCaches.clear();
+        }
+        localCache = new ContourDataSetCache(getChart(), this, dataSet, !incremental); // NOPMD
         ProcessingProfiler.getTimeDiff(start, "updateCachedVariables");
 
-        // data reduction algorithm here
-        paintCanvas(gc);
+        if (!incremental || !drawIncrementalHeatMap(gc, dataSet)) {
+            if (incremental) {
+                // fall-back, e.g. data reduction being active
+                localCache.quantize(getNumberQuantisationLevels());
+                ProcessingProfiler.getTimeDiff(start, "quantized data");
+            }
+            // data reduction algorithm here
+            paintCanvas(gc);
+        }
         localCache.releaseCachedVariables();
         ProcessingProfiler.getTimeDiff(start, "finished drawing");
     }
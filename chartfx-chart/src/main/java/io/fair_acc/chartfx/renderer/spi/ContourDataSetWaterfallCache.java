@@ -0,0 +1,219 @@
+package io.fair_acc.chartfx.renderer.spi;
+
+import java.util.Arrays;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+
+import io.fair_acc.chartfx.axes.AxisTransform;
+import io.fair_acc.chartfx.renderer.spi.utils.ColorGradient;
+import io.fair_acc.dataset.DataSet;
+
+/**
+ * Persistent heat-map image for the incremental (waterfall/spectrogram-type) update mode of the
+ * {@link ContourDataSetRenderer}.
+ * <p>
+ * The raw sub-frame of the previous update is retained and compared row-by-row against the new one. The typical
+ * waterfall update, i.e. all rows being shifted by one or a few rows and new rows being added at one end, is detected
+ * and handled by scrolling the ring-buffered image instead of redrawing it. Only rows that are new or whose content
+ * changed are quantised, colour-mapped and written to the image. A full rebuild is performed if the axis ranges,
+ * zoom, z-range, colour gradient or number of quantisation levels change.
+ * <p>
+ * N.B. an auto-ranging z-axis whose limits change with every update inherently requires a full rebuild. A fixed
+ * z-axis range is recommended for best performance.
+ */
+class ContourDataSetWaterfallCache {
+    private static final int BGRA_BYTE_SIZE = 4;
+    protected static final int NO_SHIFT = Integer.MIN_VALUE;
+
+    // raw sub-frame of the last update in ContourDataSetCache row ordering (row 0: bottom of the image)
+    private double[] data = new double[0];
+    private double[] quantised = new double[0];
+    private byte[] pixels = new byte[0];
+    private WritableImage image;
+    private int top; // physical image row of the top-most displayed row
+    private int lastUpdatedRows;
+
+    // parameters that require a full rebuild when changed
+    private DataSet dataSet;
+    private int xSize;
+    private int ySize;
+    private int indexXMin;
+    private int indexXMax;
+    private int indexYMin;
+    private int indexYMax;
+    private double zMin;
+    private double zMax;
+    private boolean zInverted;
+    private AxisTransform zTransform;
+    private ColorGradient colorGradient;
+    private int nQuant;
+
+    /**
+     * drops the retained image and data, the next update performs a full rebuild
+     */
+    public void clear() {
+        dataSet = null; // NOPMD
+        image = null; // NOPMD
+        data = new double[0];
+        quantised = new double[0];
+        pixels = new byte[0];
+        top = 0;
+    }
+
+    /**
+     * draws the ring-buffered image (in up to two parts) into the data range of the given cache
+     *
+     * @param gc graphics context to draw into
+     * @param cache the geometry of the current update
+     */
+    public void draw(final GraphicsContext gc, final ContourDataSetCache cache) {
+        if (image == null) {
+            return;
+        }
+        final double scaleY = cache.yDataPixelRange / ySize;
+        final int nUpper = ySize - top;
+        gc.drawImage(image, 0, top, xSize, nUpper, cache.xDataPixelMin, cache.yDataPixelMin, cache.xDataPixelRange, nUpper * scaleY);
+        if (top > 0) {
+            gc.drawImage(image, 0, 0, xSize, top, cache.xDataPixelMin, cache.yDataPixelMin + nUpper * scaleY, cache.xDataPixelRange, top * scaleY);
+        }
+    }
+
+    /**
+     * @return the ring-buffered image (N.B. displayed rows start at {@link #getTop()} and wrap around)
+     */
+    public WritableImage getImage() {
+        return image;
+    }
+
+    /**
+     * @return number of rows that have been quantised and colour-mapped during the last update
+     */
+    public int getLastUpdatedRows() {
+        return lastUpdatedRows;
+    }
+
+    /**
+     * @return physical image row of the top-most displayed row
+     */
+    public int getTop() {
+        return top;
+    }
+
+    /**
+     * Updates the image with the rows that changed w.r.t. the previous update
+     *
+     * @param cache non-quantised data and geometry of the current update
+     * @param gradient colour gradient
+     * @param nLevels number of quantisation levels
+     * @return {@code false} if the incremental update is not applicable (i.e. data reduction is active) and the cache
+     *         has been cleared, {@code true} otherwise
+     */
+    public boolean update(final ContourDataSetCache cache, final ColorGradient gradient, final int nLevels) {
+        if (cache.isReduced()) {
+            clear();
+            return false;
+        }
+        final AxisTransform transform = cache.getZAxisTransform();
+        final double[] newData = cache.dataBuffer;
+        final int length = cache.xSize * cache.ySize;
+        final boolean rebuild = image == null || dataSet != cache.dataSet // NOPMD NOSONAR -- identity on purpose
+                                || xSize != cache.xSize || ySize != cache.ySize //
+                                || indexXMin != cache.indexXMin || indexXMax != cache.indexXMax //
+                                || indexYMin != cache.indexYMin || indexYMax != cache.indexYMax //
+                                || Double.compare(zMin, cache.zMin) != 0 || Double.compare(zMax, cache.zMax) != 0 //
+                                || zInverted != cache.zInverted || zTransform != transform //
+                                || colorGradient != gradient || nQuant != nLevels; // NOPMD NOSONAR -- identity on purpose
+        final int shift = rebuild ? NO_SHIFT : findRowShift(data, newData, xSize, ySize);
+
+        if (shift == NO_SHIFT) {
+            dataSet = cache.dataSet;
+            xSize = cache.xSize;
+            ySize = cache.ySize;
+            indexXMin = cache.indexXMin;
+            indexXMax = cache.indexXMax;
+            indexYMin = cache.indexYMin;
+            indexYMax = cache.indexYMax;
+            zMin = cache.zMin;
+            zMax = cache.zMax;
+            zInverted = cache.zInverted;
+            zTransform = transform;
+            colorGradient = gradient;
+            nQuant = nLevels;
+            if (data.length != length) {
+                data = new double[length];
+                quantised = new double[length];
+                pixels = new byte[length * BGRA_BYTE_SIZE];
+            }
+            if (image == null || (int) image.getWidth() != xSize || (int) image.getHeight() != ySize) {
+                image = new WritableImage(xSize, ySize);
+            }
+            top = 0;
+
+            System.arraycopy(newData, 0, quantised, 0, length);
+            ContourDataSetCache.quantizeData(quantised, xSize, ySize, zInverted, zMin, zMax, zTransform, nQuant);
+            ContourDataSetCache.convertRowsToBgra(quantised, xSize, ySize, 0, ySize, gradient.getColorLookupTable(nQuant), nQuant, pixels);
+            final PixelWriter pixelWriter = image.getPixelWriter();
+            pixelWriter.setPixels(0, 0, xSize, ySize, PixelFormat.getByteBgraPreInstance(), pixels, 0, xSize * BGRA_BYTE_SIZE);
+            System.arraycopy(newData, 0, data, 0, length);
+            lastUpdatedRows = ySize;
+            return true;
+        }
+
+        // incremental update: scroll and re-colour only the new/modified rows
+        top = Math.floorMod(top - shift, ySize);
+        final int[] lookupTable = gradient.getColorLookupTable(nQuant);
+        final PixelWriter pixelWriter = image.getPixelWriter();
+        final int rowSizeInBytes = xSize * BGRA_BYTE_SIZE;
+        int updatedRows = 0;
+        for (int row = 0; row < ySize; row++) {
+            final int oldRow = row + shift;
+            if (oldRow >= 0 && oldRow < ySize && isRowEqual(newData, row, data, oldRow, xSize)) {
+                continue;
+            }
+            System.arraycopy(newData, row * xSize, quantised, 0, xSize);
+            ContourDataSetCache.quantizeData(quantised, xSize, 1, zInverted, zMin, zMax, zTransform, nQuant);
+            ContourDataSetCache.convertRowsToBgra(quantised, xSize, 1, 0, 1, lookupTable, nQuant, pixels);
+            // image rows are flipped w.r.t. the data rows
+            final int imageRow = (ySize - 1 - row + top) % ySize;
+            pixelWriter.setPixels(0, imageRow, xSize, 1, PixelFormat.getByteBgraPreInstance(), pixels, 0, rowSizeInBytes);
+            updatedRows++;
+        }
+        System.arraycopy(newData, 0, data, 0, length);
+        lastUpdatedRows = updatedRows;
+        return true;
+    }
+
+    /**
+     * @param oldData raw sub-frame of the previous update
+     * @param newData raw sub-frame of the current update
+     * @param width number of columns
+     * @param height number of rows
+     * @return row shift {@code s} such that new row {@code r} matches old row {@code r + s} at both ends of the
+     *         overlapping range, or {@link #NO_SHIFT} if no such shift of at most half the height exists
+     */
+    protected static int findRowShift(final double[] oldData, final double[] newData, final int width, final int height) {
+        final int maxShift = height / 2;
+        for (int shift = 0; shift <= maxShift; shift++) {
+            if (isShifted(oldData, newData, width, height, shift)) {
+                return shift;
+            }
+            if (shift > 0 && isShifted(oldData, newData, width, height, -shift)) {
+                return -shift;
+            }
+        }
+        return NO_SHIFT;
+    }
+
+    protected static boolean isRowEqual(final double[] a, final int rowA, final double[] b, final int rowB, final int width) {
+        return Arrays.equals(a, rowA * width, (rowA + 1) * width, b, rowB * width, (rowB + 1) * width);
+    }
+
+    private static boolean isShifted(final double[] oldData, final double[] newData, final int width, final int height, final int shift) {
+        final int firstRow = Math.max(0, -shift);
+        final int lastRow = Math.min(height, height - shift) - 1;
+        return isRowEqual(newData, firstRow, oldData, firstRow + shift, width) && isRowEqual(newData, lastRow, oldData, lastRow + shift, width);
+    }
+}
@@ -12,7 +12,7 @@ import io.fair_acc.chartfx.renderer.ErrorStyle;
 import io.fair_acc.chartfx.renderer.Renderer;
 import io.fair_acc.chartfx.renderer.spi.utils.BezierCurve;
 import io.fair_acc.chartfx.ui.css.DataSetNode;
-import io.fair_acc.chartfx.ui.css.DataSetStyleParser;
+import io.fair_acc.chartfx.ui.css.DataSetStyleCache;
 import io.fair_acc.chartfx.utils.FastDoubleArrayCache;
 import io.fair_acc.dataset.DataSet;
 import io.fair_acc.dataset.DataSetError.ErrorType;
@@ -35,8 +35,6 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
         implements Renderer {
     private static final Logger LOGGER = LoggerFactory.getLogger(ErrorDataSetRenderer.class);
 
-    private final DataSetStyleParser styleParser = DataSetStyleParser.newInstance();
-
     /**
      * Creates new <code>ErrorDataSetRenderer</code>.
      */
@@ -125,14 +123,23 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
                     "get min/max" + String.format(" from:%d to:%d", indexMin, indexMax));
         }
 
+        // optional M4-type pre-reduction using the min/max index of large sorted data sets (see MinMaxIndexedDataSet)
+        final boolean isPolarPlot = getChart().isPolarPlot();
+        final boolean isDecimatable = isReducePoints() && isAssumeSortedData() && !isPolarPlot && !dataSet.hasStyles();
+        final int nDecimated = SHARED_POINTS_CACHE.decimate(isDecimatable ? dataSet : null, indexMin, indexMax, (int) Math.ceil(xAxis.getLength()));
+        if (nDecimated >= 0) {
+            indexMin = 0;
+            indexMax = nDecimated;
+        }
+
         final boolean enableErrorsX = true; // TODO: what is this used for?
-        final CachedDataPoints points = SHARED_POINTS_CACHE.resizeMin(indexMin, indexMax, dataSet.getDataCount(), enableErrorsX);
+        final int dataLength = nDecimated >= 0 ? nDecimated : dataSet.getDataCount();
+        final CachedDataPoints points = SHARED_POINTS_CACHE.resizeMin(indexMin, indexMax, dataLength, enableErrorsX);
         if (ProcessingProfiler.getDebugState()) {
-            timestamp = ProcessingProfiler.getTimeDiff(timestamp, "get CachedPoints");
+            timestamp = ProcessingProfiler.getTimeDiff(timestamp, "get CachedPoints" + (nDecimated >= 0 ? " (decimated)" : ""));
         }
 
         // compute local screen coordinates
-        final boolean isPolarPlot = getChart().isPolarPlot();
         if (isParallelImplementation()) {
             points.computeScreenCoordinatesInParallel(xAxis, yAxis, dataSet, style,
                     indexMin, indexMax, getErrorType(), isPolarPlot,
@@ -184,13 +191,16 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
 
         if (points.polarPlot) {
             for (int i = 0; i < points.actualDataCount; i++) {
-                if (!points.hasStyles || !styleParser.tryParse(points.styles[i])) {
+                final DataSetStyleCache.Style pointStyle = points.getStyle(i);
+                if (pointStyle == null) {
                     gc.strokeLine(points.xZero, points.yZero, points.xValues[i],
                             points.yValues[i]);
                 } else {
                     // work-around: bar colour controlled by the marker color
                     gc.save();
-                    styleParser.getMarkerColor().ifPresent(gc::setFill);
+                    if (pointStyle.hasMarkerColor()) {
+                        gc.setFill(pointStyle.getMarkerColor(markerColor));
+                    }
                     gc.setLineWidth(barWidthHalf);
                     gc.strokeLine(points.xZero, points.yZero, points.xValues[i],
                             points.yValues[i]);
@@ -208,12 +218,15 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
                     yDiff = Math.abs(yDiff);
                 }
 
-                if (!points.hasStyles || !styleParser.tryParse(points.styles[i])) {
+                final DataSetStyleCache.Style pointStyle = points.getStyle(i);
+                if (pointStyle == null) {
                     gc.fillRect(points.xValues[i] - barWidthHalf, yMin, localBarWidth, yDiff);
 
                 } else {
                     gc.save();
-                    styleParser.getMarkerColor().ifPresent(gc::setFill);
+                    if (pointStyle.hasMarkerColor()) {
+                        gc.setFill(pointStyle.getMarkerColor(markerColor));
+                    }
                     gc.fillRect(points.xValues[i] - barWidthHalf, yMin, localBarWidth, yDiff);
                     gc.restore();
                 }
@@ -467,18 +480,19 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
         for (int i = 0; i < points.actualDataCount; i++) {
             final double x = points.xValues[i];
             final double y = points.yValues[i];
-            if (!points.hasStyles || !styleParser.tryParse(points.styles[i])) {
+            final DataSetStyleCache.Style pointStyle = points.getStyle(i);
+            if (pointStyle == null) {
                 if (markerSize == 0) {
                     continue;
                 }
                 marker.draw(gc, x, y, markerSize);
             } else {
-                double customSize = styleParser.getMarkerSize().orElse(markerSize);
+                double customSize = pointStyle.getMarkerSize(markerSize);
                 if (customSize == 0) {
                     continue;
                 }
-                var customColor = styleParser.getMarkerColor().orElse(markerColor);
-                Marker customMarker = styleParser.getMarkerType().orElse(marker);
+                var customColor = pointStyle.getMarkerColor(markerColor);
+                Marker customMarker = pointStyle.getMarkerType(marker);
                 gc.save();
                 gc.setFill(customColor);
                 gc.setStroke(customColor);
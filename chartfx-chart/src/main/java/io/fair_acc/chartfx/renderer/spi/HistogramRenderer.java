@@ -255,14 +255,14 @@ public class HistogramRenderer extends AbstractErrorDataSetRendererParameter<His
 
         for (int i = 0; i < nRange; i++) {
             final int index = indexMin + i;
-            final double binValue = ordinate.getDisplayPosition(ds.get(dimIndexOrdinate, index));
-            final double binStart = abscissa.getDisplayPosition(getBinStart(ds, dimIndexAbscissa, index));
-            final double binStop = abscissa.getDisplayPosition(getBinStop(ds, dimIndexAbscissa, index));
-            newX[2 * i + 1] = binStart;
+            final double binValue = ds.get(dimIndexOrdinate, index);
+            newX[2 * i + 1] = getBinStart(ds, dimIndexAbscissa, index);
             newY[2 * i + 1] = binValue;
-            newX[2 * i + 2] = binStop;
+            newX[2 * i + 2] = getBinStop(ds, dimIndexAbscissa, index);
             newY[2 * i + 2] = binValue;
         }
+        abscissa.getDisplayPositions(newX, 1, 2 * nRange + 1, newX);
+        ordinate.getDisplayPositions(newY, 1, 2 * nRange + 1, newY);
         // first point
         newX[0] = newX[1];
         newY[0] = axisMin;
@@ -304,9 +304,11 @@ public class HistogramRenderer extends AbstractErrorDataSetRendererParameter<His
         final double[] yValues = SHARED_ARRAYS.getArray(5, nRange);
 
         for (int i = 0; i < nRange; i++) {
-            xValues[i] = xAxis.getDisplayPosition(ds.get(DIM_X, min + i));
-            yValues[i] = yAxis.getDisplayPosition(ds.get(DIM_Y, min + i));
+            xValues[i] = ds.get(DIM_X, min + i);
+            yValues[i] = ds.get(DIM_Y, min + i);
         }
+        xAxis.getDisplayPositions(xValues, 0, nRange, xValues);
+        yAxis.getDisplayPositions(yValues, 0, nRange, yValues);
         BezierCurve.calcCurveControlPoints(xValues, yValues, xCp1, yCp1, xCp2, yCp2, nRange);
 
         gc.save();
@@ -412,16 +414,18 @@ public class HistogramRenderer extends AbstractErrorDataSetRendererParameter<His
 
         for (int i = 0; i < nRange - 1; i++) {
             final int index = i + min;
-            newX[2 * i] = abscissa.getDisplayPosition(ds.get(dimIndexAbscissa, index));
-            newY[2 * i] = ordinate.getDisplayPosition(ds.get(dimIndexOrdinate, index));
-            newX[2 * i + 1] = abscissa.getDisplayPosition(ds.get(dimIndexAbscissa, index + 1));
+            newX[2 * i] = ds.get(dimIndexAbscissa, index);
+            newY[2 * i] = ds.get(dimIndexOrdinate, index);
+            newX[2 * i + 1] = ds.get(dimIndexAbscissa, index + 1);
             newY[2 * i + 1] = newY[2 * i];
         }
         // last point
-        newX[2 * (nRange - 1)] = abscissa.getDisplayPosition(ds.get(dimIndexAbscissa, min + nRange - 1));
-        newY[2 * (nRange - 1)] = ordinate.getDisplayPosition(ds.get(dimIndexOrdinate, min + nRange - 1));
-        newX[2 * nRange - 1] = abscissa.getDisplayPosition(axisMin);
+        newX[2 * (nRange - 1)] = ds.get(dimIndexAbscissa, min + nRange - 1);
+        newY[2 * (nRange - 1)] = ds.get(dimIndexOrdinate, min + nRange - 1);
+        newX[2 * nRange - 1] = axisMin;
         newY[2 * nRange - 1] = newY[2 * (nRange - 1)];
+        abscissa.getDisplayPositions(newX, 0, 2 * nRange, newX);
+        ordinate.getDisplayPositions(newY, 0, 2 * nRange, newY);
 
         gc.save();
         style.applyLineStrokeStyle(gc);
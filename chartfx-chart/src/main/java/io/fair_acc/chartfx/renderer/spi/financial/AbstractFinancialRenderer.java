@@ -1,6 +1,7 @@
 package io.fair_acc.chartfx.renderer.spi.financial;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -58,6 +59,9 @@ public abstract class AbstractFinancialRenderer<R extends AbstractRendererXY<R>>
 
     protected PaintBarMarker paintBarMarker;
 
+    // screen coordinates per data set dimension, re-used between render passes
+    private double[][] displayPositions = new double[OhlcvDataSet.DIM_Y_CLOSE + 1][];
+
     private final BooleanProperty computeLocalYRange = new SimpleBooleanProperty(this, "computeLocalYRange", true);
 
     /**
@@ -182,6 +186,39 @@ public abstract class AbstractFinancialRenderer<R extends AbstractRendererXY<R>>
 
     // services --------------------------------------------------------
 
+    /**
+     * Transforms the data set values of the given dimension within [min, max) into screen coordinates using the bulk
+     * {@link Axis#getDisplayPositions(double[], int, int, double[])} transform. The values of {@link OhlcvDataSet}s are
+     * copied in bulk.
+     * N.B. the returned array is indexed like the data set and re-used for subsequent calls with the same dimension.
+     *
+     * @param axis axis used for the transform
+     * @param ds source data set
+     * @param dimIndex data set dimension (e.g. DIM_X or one of the OhlcvDataSet DIM_Y_... indices)
+     * @param min first index (inclusive)
+     * @param max last index (exclusive)
+     * @return screen coordinates stored at [min, max)
+     */
+    protected double[] computeDisplayPositions(final Axis axis, final DataSet ds, final int dimIndex, final int min, final int max) {
+        if (dimIndex >= displayPositions.length) {
+            displayPositions = Arrays.copyOf(displayPositions, dimIndex + 1);
+        }
+        double[] values = displayPositions[dimIndex];
+        if (values == null || values.length < max) {
+            values = new double[max];
+            displayPositions[dimIndex] = values;
+        }
+        if (ds instanceof OhlcvDataSet) {
+            ((OhlcvDataSet) ds).getValues(dimIndex, min, max, values, min);
+        } else {
+            for (int i = min; i < max; i++) {
+                values[i] = ds.get(dimIndex, i);
+            }
+        }
+        axis.getDisplayPositions(values, min, max, values);
+        return values;
+    }
+
     @FunctionalInterface
     protected interface FindAreaDistances {
         double[] findAreaDistances(DataSet dataset, Axis xAxis, Axis yAxis, double xmin, double xmax);
@@ -7,6 +7,7 @@ import static io.fair_acc.dataset.DataSet.DIM_X;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
 import javafx.scene.canvas.Canvas;
@@ -209,12 +210,14 @@ public class FootprintRenderer extends AbstractFinancialRenderer<FootprintRender
             FontMetrics metricsBasicFont = getFontMetrics(basicFont);
             heightText = metricsBasicFont.getLeading() + metricsBasicFont.getAscent();
 
+            final double[] xCenters = computeDisplayPositions(xAxis, ds, DIM_X, iMin, iMax);
+            final IOhlcvItem lastOhlcvItem = itemAware.getLastItem();
+            final Date lastTimeStamp = lastOhlcvItem == null ? null : lastOhlcvItem.getTimeStamp();
             for (int i = iMin; i < iMax; i++) {
-                double x0 = xAxis.getDisplayPosition(ds.get(DIM_X, i));
+                double x0 = xCenters[i];
                 // get all additional information for footprints
                 IOhlcvItem ohlcvItem = itemAware.getItem(i);
-                IOhlcvItem lastOhlcvItem = itemAware.getLastItem();
-                boolean isLastBar = lastOhlcvItem == null || lastOhlcvItem.getTimeStamp().equals(ohlcvItem.getTimeStamp());
+                boolean isLastBar = lastTimeStamp == null || lastTimeStamp.equals(ohlcvItem.getTimeStamp());
                 if (!footprintRenderedApi.isFootprintAvailable(ohlcvItem)) {
                     continue;
                 }
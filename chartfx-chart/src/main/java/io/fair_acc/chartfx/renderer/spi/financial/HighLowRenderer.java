@@ -143,12 +143,18 @@ public class HighLowRenderer extends AbstractFinancialRenderer<HighLowRenderer>
             double localBarWidth = minRequiredWidth * barWidthPercent;
             double barWidthHalf = localBarWidth / 2.0;
 
+            final double[] xCenters = computeDisplayPositions(xAxis, ds, DIM_X, iMin, iMax);
+            final double[] yOpens = computeDisplayPositions(yAxis, ds, OhlcvDataSet.DIM_Y_OPEN, iMin, iMax);
+            final double[] yHighs = computeDisplayPositions(yAxis, ds, OhlcvDataSet.DIM_Y_HIGH, iMin, iMax);
+            final double[] yLows = computeDisplayPositions(yAxis, ds, OhlcvDataSet.DIM_Y_LOW, iMin, iMax);
+            final double[] yCloses = computeDisplayPositions(yAxis, ds, OhlcvDataSet.DIM_Y_CLOSE, iMin, iMax);
+
             for (int i = iMin; i < iMax; i++) {
-                double x0 = xAxis.getDisplayPosition(ds.get(DIM_X, i));
-                double yOpen = yAxis.getDisplayPosition(ds.get(OhlcvDataSet.DIM_Y_OPEN, i));
-                double yHigh = yAxis.getDisplayPosition(ds.get(OhlcvDataSet.DIM_Y_HIGH, i));
-                double yLow = yAxis.getDisplayPosition(ds.get(OhlcvDataSet.DIM_Y_LOW, i));
-                double yClose = yAxis.getDisplayPosition(ds.get(OhlcvDataSet.DIM_Y_CLOSE, i));
+                double x0 = xCenters[i];
+                double yOpen = yOpens[i];
+                double yHigh = yHighs[i];
+                double yLow = yLows[i];
+                double yClose = yCloses[i];
 
                 // prepare extension point data (if EPs available)
                 OhlcvRendererEpData data = null;
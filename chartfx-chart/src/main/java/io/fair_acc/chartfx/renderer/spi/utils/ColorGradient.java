@@ -7,7 +7,9 @@ package io.fair_acc.chartfx.renderer.spi.utils;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javafx.scene.paint.Color;
 import javafx.scene.paint.CycleMethod;
@@ -112,6 +114,7 @@ public class ColorGradient {
     private final String name;
     private final WeakHashMap<Double, Color> colorMap = new WeakHashMap<>();
     private final WeakHashMap<Double, int[]> colorMapBytes = new WeakHashMap<>();
+    private final Map<Integer, int[]> colorLookupTables = new ConcurrentHashMap<>(); // keyed by number of levels
 
     /**
      * Creates a new instance of ColorGradient.**
@@ -200,37 +203,32 @@ public class ColorGradient {
      */
     public int[] getColorBytes(final double offset) {
         return colorMapBytes.computeIfAbsent(offset, value -> {
-            double lowerOffset = 0.0;
-            double upperOffset = 1.0;
-            Color lowerColor = Color.TRANSPARENT;
-            Color upperColor = Color.TRANSPARENT;
-            final int[] color = new int[4];
+            final int argb = computeArgb(offset);
+            return new int[] { (argb >>> 24) & 0xFF, (argb >>> 16) & 0xFF, (argb >>> 8) & 0xFF, argb & 0xFF };
+        });
+    }
 
-            for (final Stop stop : getStops()) {
-                final double currentOffset = stop.getOffset();
-                if (currentOffset == offset) {
-                    color[0] = (int) Math.round(255 * stop.getColor().getOpacity());
-                    color[1] = (int) Math.round(255 * stop.getColor().getRed());
-                    color[2] = (int) Math.round(255 * stop.getColor().getGreen());
-                    color[3] = (int) Math.round(255 * stop.getColor().getBlue());
-                    return color;
-                } else if (currentOffset < offset) {
-                    lowerOffset = currentOffset;
-                    lowerColor = stop.getColor();
-                } else {
-                    upperOffset = currentOffset;
-                    upperColor = stop.getColor();
-                    break;
-                }
+    /**
+     * Dense colour look-up table for data that has been quantised to {@code nLevels} levels, i.e. to offsets
+     * {@code k / nLevels} with {@code k = 0...nLevels}. The entry at index {@code k} contains the same colour as
+     * {@link #getColorBytes(double) getColorBytes(k / (double) nLevels)} packed as ARGB integer ({@code 0xAARRGGBB}).
+     * <p>
+     * The table is computed once per number of levels and re-used, i.e. renderers sharing a gradient with different
+     * quantisation settings do not recompute it. N.B. the returned array is shared and must not be modified.
+     *
+     * @param nLevels number of quantisation levels (&gt; 0)
+     * @return packed ARGB colours of length {@code nLevels + 1}
+     */
+    public int[] getColorLookupTable(final int nLevels) {
+        if (nLevels <= 0) {
+            throw new IllegalArgumentException("number of quantisation levels must be positive: " + nLevels);
+        }
+        return colorLookupTables.computeIfAbsent(nLevels, levels -> {
+            final int[] lookupTable = new int[levels + 1];
+            for (int k = 0; k <= levels; k++) {
+                lookupTable[k] = computeArgb(k / (double) levels);
             }
-
-            final double interpolationOffset = (offset - lowerOffset) / (upperOffset - lowerOffset);
-            final Color interpolatedColor = lowerColor.interpolate(upperColor, interpolationOffset);
-            color[0] = (int) Math.round(255 * interpolatedColor.getOpacity());
-            color[1] = (int) Math.round(255 * interpolatedColor.getRed());
-            color[2] = (int) Math.round(255 * interpolatedColor.getGreen());
-            color[3] = (int) Math.round(255 * interpolatedColor.getBlue());
-            return color;
+            return lookupTable;
         });
     }
 
@@ -255,6 +253,38 @@ public class ColorGradient {
                 ColorGradient.VIRIDIS, ColorGradient.BLUERED, ColorGradient.PINK, ColorGradient.RAINBOW_EQ);
     }
 
+    private int computeArgb(final double offset) {
+        double lowerOffset = 0.0;
+        double upperOffset = 1.0;
+        Color lowerColor = Color.TRANSPARENT;
+        Color upperColor = Color.TRANSPARENT;
+
+        for (final Stop stop : getStops()) {
+            final double currentOffset = stop.getOffset();
+            if (currentOffset == offset) {
+                return toArgb(stop.getColor());
+            } else if (currentOffset < offset) {
+                lowerOffset = currentOffset;
+                lowerColor = stop.getColor();
+            } else {
+                upperOffset = currentOffset;
+                upperColor = stop.getColor();
+                break;
+            }
+        }
+
+        final double interpolationOffset = (offset - lowerOffset) / (upperOffset - lowerOffset);
+        return toArgb(lowerColor.interpolate(upperColor, interpolationOffset));
+    }
+
+    private static int toArgb(final Color color) {
+        final int alpha = (int) Math.round(255 * color.getOpacity());
+        final int red = (int) Math.round(255 * color.getRed());
+        final int green = (int) Math.round(255 * color.getGreen());
+        final int blue = (int) Math.round(255 * color.getBlue());
+        return (alpha << 24) | (red << 16) | (green << 8) | blue;
+    }
+
     private static ColorGradient viridis() {
         // From MatPlotLib
         final float[][] vals = new float[][] { { 0.267004f, 0.004874f, 0.329415f }, { 0.268510f, 0.009605f, 0.335427f },
@@ -0,0 +1,292 @@
+package io.fair_acc.chartfx.renderer.spi.utils;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+import io.fair_acc.dataset.utils.AssertUtils;
+import io.fair_acc.math.ArrayUtils;
+
+/**
+ * Screen-space spatial index of the data points of one data set, used for picking data points with the mouse (tool
+ * tips, selection and editing).
+ * <p>
+ * The index is a uniform grid of square cells stored in a compressed (CSR-like) layout: the data indices are sorted by
+ * cell using a counting sort, i.e. building is O(n) and queries only need to visit the cells around the query
+ * location, independent of whether the data is sorted or not. Points with non-finite coordinates or outside the indexed
+ * area (bounds inclusive) are not indexed.
+ * <p>
+ * Usage: {@link #resize(int, int)} to the range of data indices to be indexed, fill {@link #getXValues()} and
+ * {@link #getYValues()} with the screen coordinates of these data points and
+ * {@link #build(double, double, double, double)} the index. All arrays are retained between builds to avoid
+ * re-allocations.
+ */
+public class ScreenSpaceIndex {
+    public static final double DEFAULT_CELL_SIZE = 8.0; // [pixel]
+    private static final int MAX_CELLS_PER_AXIS = 4096;
+    private final double cellSize;
+    private double[] xValues = new double[0]; // screen coordinates, indexed by data index - fromIndex
+    private double[] yValues = new double[0];
+    private int[] cellStart = new int[1]; // offsets into 'cellIndices', length nCells + 1
+    private int[] cellIndices = new int[0]; // storage indices sorted by cell (ascending within a cell)
+    private int fromIndex;
+    private int dataCount;
+    private int nCellsX;
+    private int nCellsY;
+    private double cellWidth; // effective cell size, may exceed 'cellSize' for very large areas
+    private double cellHeight;
+    private double xMin;
+    private double xMax;
+    private double yMin;
+    private double yMax;
+    private boolean valid;
+
+    /**
+     * Creates an index with a cell size of {@value #DEFAULT_CELL_SIZE} pixel
+     */
+    public ScreenSpaceIndex() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * @param cellSize width and height of the grid cells [pixel]
+     */
+    public ScreenSpaceIndex(final double cellSize) {
+        if (!(cellSize > 0)) {
+            throw new IllegalArgumentException("cellSize must be greater than zero: " + cellSize);
+        }
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * (Re-)builds the index from the coordinates stored in {@link #getXValues()} and {@link #getYValues()}.
+     *
+     * @param xMin lower horizontal bound of the indexed area [pixel]
+     * @param yMin lower vertical bound of the indexed area [pixel]
+     * @param xMax upper horizontal bound of the indexed area [pixel]
+     * @param yMax upper vertical bound of the indexed area [pixel]
+     */
+    public void build(final double xMin, final double yMin, final double xMax, final double yMax) {
+        if (!(xMin <= xMax) || !(yMin <= yMax) || !Double.isFinite(xMax - xMin) || !Double.isFinite(yMax - yMin)) {
+            throw new IllegalArgumentException("invalid index area [" + xMin + ", " + xMax + "] x [" + yMin + ", " + yMax + "]");
+        }
+        this.xMin = xMin;
+        this.xMax = xMax;
+        this.yMin = yMin;
+        this.yMax = yMax;
+        cellWidth = Math.max(cellSize, (xMax - xMin) / (MAX_CELLS_PER_AXIS - 1));
+        cellHeight = Math.max(cellSize, (yMax - yMin) / (MAX_CELLS_PER_AXIS - 1));
+        nCellsX = (int) Math.floor((xMax - xMin) / cellWidth) + 1;
+        nCellsY = (int) Math.floor((yMax - yMin) / cellHeight) + 1;
+        final int nCells = nCellsX * nCellsY;
+        cellStart = ArrayUtils.resizeMin(cellStart, nCells + 1);
+        Arrays.fill(cellStart, 0, nCells + 1, 0);
+
+        // counting sort: cellStart[c] = number of points in cells [0, c] ...
+        int count = 0;
+        for (int i = 0; i < dataCount; i++) {
+            final int cell = getCell(xValues[i], yValues[i]);
+            if (cell >= 0) {
+                cellStart[cell]++;
+                count++;
+            }
+        }
+        for (int cell = 1; cell < nCells; cell++) {
+            cellStart[cell] += cellStart[cell - 1];
+        }
+        // ... filled in reverse so that cellStart[c] ends up as the first entry of cell c
+        cellIndices = ArrayUtils.resizeMin(cellIndices, count);
+        for (int i = dataCount - 1; i >= 0; i--) {
+            final int cell = getCell(xValues[i], yValues[i]);
+            if (cell >= 0) {
+                cellIndices[--cellStart[cell]] = i;
+            }
+        }
+        cellStart[nCells] = count;
+        valid = true;
+    }
+
+    /**
+     * @param x horizontal screen coordinate [pixel]
+     * @param y vertical screen coordinate [pixel]
+     * @param maxDistance maximum distance to the data point [pixel], may be {@link Double#POSITIVE_INFINITY}
+     * @return data index of the closest indexed point within 'maxDistance' (ties resolved in favour of the lower index)
+     *         or '-1' if there is none
+     */
+    public int findNearest(final double x, final double y, final double maxDistance) {
+        if (!valid || nCellsX * nCellsY == 0 || !Double.isFinite(x) || !Double.isFinite(y)) {
+            return -1;
+        }
+        final int cx = clamp((int) Math.floor((x - xMin) / cellWidth), nCellsX);
+        final int cy = clamp((int) Math.floor((y - yMin) / cellHeight), nCellsY);
+        final int maxRing = Math.max(Math.max(cx, nCellsX - 1 - cx), Math.max(cy, nCellsY - 1 - cy));
+
+        int nearest = -1;
+        double nearestDistance2 = maxDistance * maxDistance;
+        for (int ring = 0; ring <= maxRing; ring++) {
+            // points beyond this ring are at least (ring - 1) cells away
+            final double ringDistance = (ring - 1) * Math.min(cellWidth, cellHeight);
+            if (ring > 1 && ringDistance * ringDistance > nearestDistance2) {
+                break;
+            }
+            final int yLow = cy - ring;
+            final int yHigh = cy + ring;
+            for (int iy = Math.max(0, yLow); iy <= Math.min(nCellsY - 1, yHigh); iy++) {
+                // only the boundary of the ring needs to be visited
+                final int step = iy == yLow || iy == yHigh ? 1 : Math.max(1, 2 * ring);
+                for (int ix = cx - ring; ix <= cx + ring; ix += step) {
+                    if (ix < 0 || ix >= nCellsX) {
+                        continue;
+                    }
+                    final int cell = iy * nCellsX + ix;
+                    for (int k = cellStart[cell]; k < cellStart[cell + 1]; k++) {
+                        final int index = cellIndices[k];
+                        final double dx = xValues[index] - x;
+                        final double dy = yValues[index] - y;
+                        final double distance2 = dx * dx + dy * dy;
+                        if (distance2 < nearestDistance2 || (distance2 == nearestDistance2 && (nearest < 0 || index < nearest))) {
+                            nearest = index;
+                            nearestDistance2 = distance2;
+                        }
+                    }
+                }
+            }
+        }
+        return nearest < 0 ? -1 : fromIndex + nearest;
+    }
+
+    /**
+     * Invokes 'action' for the data index of each indexed point inside the given rectangle (bounds inclusive, order
+     * not specified).
+     *
+     * @param xMin lower horizontal bound [pixel]
+     * @param yMin lower vertical bound [pixel]
+     * @param xMax upper horizontal bound [pixel]
+     * @param yMax upper vertical bound [pixel]
+     * @param action consumer of the data indices
+     */
+    public void forEachInRectangle(final double xMin, final double yMin, final double xMax, final double yMax, final IntConsumer action) {
+        AssertUtils.notNull("action", action);
+        if (!valid || !(xMin <= xMax) || !(yMin <= yMax)) {
+            return;
+        }
+        final int ixMin = Math.max(0, (int) Math.floor((xMin - this.xMin) / cellWidth));
+        final int ixMax = Math.min(nCellsX - 1, (int) Math.floor((xMax - this.xMin) / cellWidth));
+        final int iyMin = Math.max(0, (int) Math.floor((yMin - this.yMin) / cellHeight));
+        final int iyMax = Math.min(nCellsY - 1, (int) Math.floor((yMax - this.yMin) / cellHeight));
+        for (int iy = iyMin; iy <= iyMax; iy++) {
+            for (int ix = ixMin; ix <= ixMax; ix++) {
+                final int cell = iy * nCellsX + ix;
+                for (int k = cellStart[cell]; k < cellStart[cell + 1]; k++) {
+                    final int index = cellIndices[k];
+                    final double x = xValues[index];
+                    final double y = yValues[index];
+                    if (x >= xMin && x <= xMax && y >= yMin && y <= yMax) {
+                        action.accept(fromIndex + index);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return number of data points the screen coordinates are stored for
+     */
+    public int getDataCount() {
+        return dataCount;
+    }
+
+    /**
+     * @return data index of the first data point the screen coordinates are stored for
+     */
+    public int getFromIndex() {
+        return fromIndex;
+    }
+
+    /**
+     * @param index data index within [{@link #getFromIndex()}, {@link #getFromIndex()} + {@link #getDataCount()})
+     * @return horizontal screen coordinate of the data point [pixel]
+     */
+    public double getX(final int index) {
+        return xValues[index - fromIndex];
+    }
+
+    /**
+     * @return storage of the horizontal screen coordinates, indexed by data index - {@link #getFromIndex()} (length
+     *         may exceed {@link #getDataCount()})
+     */
+    public double[] getXValues() {
+        return xValues;
+    }
+
+    /**
+     * @param index data index within [{@link #getFromIndex()}, {@link #getFromIndex()} + {@link #getDataCount()})
+     * @return vertical screen coordinate of the data point [pixel]
+     */
+    public double getY(final int index) {
+        return yValues[index - fromIndex];
+    }
+
+    /**
+     * @return storage of the vertical screen coordinates, indexed by data index - {@link #getFromIndex()} (length may
+     *         exceed {@link #getDataCount()})
+     */
+    public double[] getYValues() {
+        return yValues;
+    }
+
+    /**
+     * Marks the index as outdated, e.g. after the data or axes changed. The storage is retained for the next build.
+     */
+    public void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * @return true if the index has been built and not been invalidated since
+     */
+    public boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * Invalidates the index and ensures that the coordinate storage can hold 'dataCount' points starting at data index
+     * '0'.
+     *
+     * @param dataCount number of data points
+     */
+    public void resize(final int dataCount) {
+        resize(0, dataCount);
+    }
+
+    /**
+     * Invalidates the index and ensures that the coordinate storage can hold the data points with indices
+     * [fromIndex, toIndex), e.g. only the visible range of a data set that is sorted in x.
+     *
+     * @param fromIndex first data index (inclusive)
+     * @param toIndex last data index (exclusive)
+     */
+    public void resize(final int fromIndex, final int toIndex) {
+        AssertUtils.gtEqThanZero("fromIndex", fromIndex);
+        AssertUtils.gtEqThanZero("toIndex - fromIndex", toIndex - fromIndex);
+        final int count = toIndex - fromIndex;
+        xValues = ArrayUtils.resizeMin(xValues, count);
+        yValues = ArrayUtils.resizeMin(yValues, count);
+        this.fromIndex = fromIndex;
+        this.dataCount = count;
+        valid = false;
+    }
+
+    private int getCell(final double x, final double y) {
+        // N.B. negated comparison to also reject NaN coordinates
+        if (!(x >= xMin && x <= xMax && y >= yMin && y <= yMax)) {
+            return -1;
+        }
+        final int ix = Math.min(nCellsX - 1, (int) ((x - xMin) / cellWidth));
+        final int iy = Math.min(nCellsY - 1, (int) ((y - yMin) / cellHeight));
+        return iy * nCellsX + ix;
+    }
+
+    private static int clamp(final int value, final int n) {
+        return Math.max(0, Math.min(n - 1, value));
+    }
+}
@@ -0,0 +1,157 @@
+package io.fair_acc.chartfx.ui.css;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.scene.paint.Paint;
+
+import io.fair_acc.chartfx.marker.Marker;
+
+/**
+ * Cache of pre-compiled per-point styles used in the ErrorDataSetRenderer
+ * <p>
+ * Each distinct style string is parsed only once and mapped to a small integer id that can be passed through the
+ * screen-coordinate cache and the data reducers instead of the string itself. The id resolves to an immutable
+ * {@link Style} holding the parsed properties. Strings that are empty or do not contain any applicable property map to
+ * {@link #NO_STYLE}.
+ */
+public class DataSetStyleCache {
+    /**
+     * id of points without (applicable) custom style
+     */
+    public static final int NO_STYLE = 0;
+    private static final int DEFAULT_MAX_SIZE = 4096;
+    private final DataSetStyleParser parser = DataSetStyleParser.newInstance();
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<Style> styles = new ArrayList<>();
+    private final int maxSize;
+    // consecutive points frequently share the same string instance -> skips hashing
+    private String lastStyle;
+    private int lastId = NO_STYLE;
+
+    public DataSetStyleCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param maxSize maximum number of distinct style strings retained by {@link #trim()}
+     */
+    public DataSetStyleCache(final int maxSize) {
+        this.maxSize = maxSize;
+        styles.add(null); // NO_STYLE
+    }
+
+    /**
+     * drops all compiled styles. N.B. previously returned ids become invalid.
+     */
+    public void clear() {
+        ids.clear();
+        styles.clear();
+        styles.add(null); // NO_STYLE
+        lastStyle = null;
+        lastId = NO_STYLE;
+    }
+
+    /**
+     * @param id style id as returned by {@link #getId(String)}
+     * @return compiled style or {@code null} for {@link #NO_STYLE}
+     */
+    public Style get(final int id) {
+        return styles.get(id);
+    }
+
+    /**
+     * @param style CSS-type style string (may be {@code null})
+     * @return id of the compiled style or {@link #NO_STYLE} if the string does not contain any applicable property
+     */
+    public int getId(final String style) {
+        if (style == null || style.isEmpty()) {
+            return NO_STYLE;
+        }
+        if (style == lastStyle) { // NOPMD NOSONAR -- identity comparison on purpose, equal strings are handled below
+            return lastId;
+        }
+        Integer id = ids.get(style);
+        if (id == null) {
+            id = compile(style);
+        }
+        lastStyle = style;
+        lastId = id;
+        return id;
+    }
+
+    /**
+     * @return number of distinct style strings that have been compiled
+     */
+    public int size() {
+        return ids.size();
+    }
+
+    /**
+     * clears the cache if it grew beyond its maximum size (e.g. due to many unique, dynamically generated styles).
+     * N.B. to be called only while no previously returned ids are in use.
+     */
+    public void trim() {
+        if (ids.size() > maxSize) {
+            clear();
+        }
+    }
+
+    private int compile(final String style) {
+        int id = NO_STYLE;
+        if (parser.tryParse(style)) {
+            id = styles.size();
+            styles.add(new Style(parser));
+        }
+        ids.put(style, id);
+        return id;
+    }
+
+    /**
+     * immutable subset of the {@link DataSetStyleParser} properties that are evaluated per data point
+     */
+    public static final class Style {
+        private final Marker markerType;
+        private final Paint markerColor;
+        private final double markerSize;
+
+        private Style(final DataSetStyleParser parser) {
+            markerType = parser.getMarkerType().orElse(null);
+            markerColor = parser.getMarkerColor().orElse(null);
+            markerSize = parser.getMarkerSize().orElse(Double.NaN);
+        }
+
+        /**
+         * @return {@code true} if the style defines a marker color
+         */
+        public boolean hasMarkerColor() {
+            return markerColor != null;
+        }
+
+        /**
+         * @param defaultValue value returned if the style does not define a marker color
+         * @return marker color
+         */
+        public Paint getMarkerColor(final Paint defaultValue) {
+            return markerColor == null ? defaultValue : markerColor;
+        }
+
+        /**
+         * @param defaultValue value returned if the style does not define a marker size
+         * @return marker size
+         */
+        public double getMarkerSize(final double defaultValue) {
+            return Double.isNaN(markerSize) ? defaultValue : markerSize;
+        }
+
+        /**
+         * @param defaultValue value returned if the style does not define a marker type
+         * @return marker type
+         */
+        public Marker getMarkerType(final Marker defaultValue) {
+            return markerType == null ? defaultValue : markerType;
+        }
+    }
+}
@@ -12,6 +12,7 @@ import javafx.util.StringConverter;
 
 public class NumberFormatterImpl extends StringConverter<Number> implements NumberFormatter {
     public final static char DEFAULT_DECIMAL_SEPARATOR = ' ';
+    private final Schubfach.DoubleEncoder encoder = this::encodeDouble; // avoids a method reference per call
 
     public NumberFormatterImpl() {
         super();
@@ -53,7 +54,7 @@ public class NumberFormatterImpl extends StringConverter<Number> implements Numb
 
     @Override
     public String toString(final double val) {
-        switch (Schubfach.encodeDouble(val, this::encodeDouble)) {
+        switch (Schubfach.encodeDouble(val, encoder)) {
         case Schubfach.NON_SPECIAL:
             return bytesToString();
         case Schubfach.PLUS_ZERO:
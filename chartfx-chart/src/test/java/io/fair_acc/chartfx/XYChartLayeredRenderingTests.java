@@ -0,0 +1,159 @@
+package io.fair_acc.chartfx;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.canvas.Canvas;
+import javafx.stage.Stage;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.framework.junit5.Start;
+
+import io.fair_acc.chartfx.axes.spi.DefaultNumericAxis;
+import io.fair_acc.chartfx.renderer.spi.ErrorDataSetRenderer;
+import io.fair_acc.chartfx.ui.utils.JavaFXInterceptorUtils.SelectiveJavaFxInterceptor;
+import io.fair_acc.chartfx.ui.utils.TestFx;
+import io.fair_acc.dataset.spi.DoubleDataSet;
+
+/**
+ * Tests the layered canvas mode of {@link XYChart}
+ */
+@ExtendWith(ApplicationExtension.class)
+@ExtendWith(SelectiveJavaFxInterceptor.class)
+class XYChartLayeredRenderingTests {
+    private XYChart chart;
+    private RecordingRenderer renderer1;
+    private RecordingRenderer renderer2;
+    private DoubleDataSet dataSet1;
+    private DoubleDataSet dataSet2;
+
+    @Start
+    void start(final Stage stage) {
+        final DefaultNumericAxis xAxis = new DefaultNumericAxis("x", 0, 10, 1);
+        final DefaultNumericAxis yAxis = new DefaultNumericAxis("y", 0, 10, 1);
+        xAxis.setAutoRanging(false);
+        yAxis.setAutoRanging(false);
+        chart = new XYChart(xAxis, yAxis);
+        chart.getGridRenderer().setDrawOnTop(false);
+
+        dataSet1 = new DoubleDataSet("dataSet1");
+        dataSet1.add(1, 1);
+        dataSet2 = new DoubleDataSet("dataSet2");
+        dataSet2.add(2, 2);
+        renderer1 = new RecordingRenderer();
+        renderer1.getDatasets().add(dataSet1);
+        renderer2 = new RecordingRenderer();
+        renderer2.getDatasets().add(dataSet2);
+        chart.getRenderers().setAll(renderer1, renderer2);
+
+        stage.setScene(new Scene(chart, 400, 300));
+        stage.show();
+    }
+
+    @TestFx
+    void layersAreCreatedAndRemoved() {
+        redraw();
+        assertTrue(getLayers().isEmpty(), "no layers by default");
+        assertSame(chart.canvas, renderer1.target);
+
+        chart.setLayeredRendering(true);
+        redraw();
+        assertEquals(3, getLayers().size(), "grid and one layer per renderer");
+        assertNotSame(chart.canvas, renderer1.target);
+        assertNotSame(renderer1.target, renderer2.target);
+        assertSame(chart.canvas, chart.getCanvas(), "draw target is reset after rendering");
+        for (final Canvas layer : getLayers()) {
+            assertEquals(chart.canvas.getWidth(), layer.getWidth());
+            assertEquals(chart.canvas.getHeight(), layer.getHeight());
+        }
+
+        final RecordingRenderer renderer3 = new RecordingRenderer();
+        chart.getRenderers().add(renderer3);
+        redraw();
+        assertEquals(4, getLayers().size());
+        assertTrue(getLayers().contains(renderer3.target));
+
+        chart.getRenderers().remove(renderer1);
+        redraw();
+        assertEquals(3, getLayers().size());
+        assertFalse(getLayers().contains(renderer1.target), "layer of removed renderer");
+
+        chart.setLayeredRendering(false);
+        redraw();
+        assertTrue(getLayers().isEmpty());
+        assertSame(chart.canvas, renderer2.target);
+    }
+
+    @TestFx
+    void layersFollowRendererOrder() {
+        chart.setLayeredRendering(true);
+        redraw();
+        List<Canvas> layers = getLayers();
+        assertEquals(List.of(renderer1.target, renderer2.target), layers.subList(1, 3), "grid at the bottom, then renderers");
+
+        chart.getRenderers().setAll(renderer2, renderer1);
+        redraw();
+        layers = getLayers();
+        assertEquals(List.of(renderer2.target, renderer1.target), layers.subList(1, 3), "reordered renderers");
+
+        final Canvas gridLayer = layers.get(0);
+        chart.getGridRenderer().setDrawOnTop(true);
+        redraw();
+        layers = getLayers();
+        assertEquals(List.of(renderer2.target, renderer1.target, gridLayer), layers, "grid on top");
+    }
+
+    @TestFx
+    void onlyChangedLayersAreRedrawn() {
+        chart.setLayeredRendering(true);
+        redraw();
+        final int count1 = renderer1.count;
+        final int count2 = renderer2.count;
+        assertTrue(count1 > 0 && count2 > 0);
+
+        redraw();
+        assertEquals(count1, renderer1.count, "nothing changed");
+        assertEquals(count2, renderer2.count, "nothing changed");
+
+        dataSet1.add(3, 3);
+        redraw();
+        assertEquals(count1 + 1, renderer1.count, "data set changed");
+        assertEquals(count2, renderer2.count, "unrelated layer is cached");
+
+        chart.getXAxis().set(0, 20);
+        redraw();
+        assertEquals(count1 + 2, renderer1.count, "axis range changed");
+        assertEquals(count2 + 1, renderer2.count, "axis range changed");
+    }
+
+    private void redraw() {
+        chart.runPreLayout();
+        chart.layoutChildren();
+        chart.runPostLayout();
+    }
+
+    private List<Canvas> getLayers() {
+        final List<Node> children = chart.canvas.getParent().getChildrenUnmodifiable();
+        final List<Canvas> layers = new ArrayList<>();
+        for (int i = children.indexOf(chart.canvas) + 1; i < children.size() && children.get(i) instanceof Canvas; i++) {
+            layers.add((Canvas) children.get(i));
+        }
+        return layers;
+    }
+
+    private static class RecordingRenderer extends ErrorDataSetRenderer {
+        private Canvas target;
+        private int count;
+
+        @Override
+        public void render() {
+            target = getChart().getCanvas();
+            count++;
+        }
+    }
+}
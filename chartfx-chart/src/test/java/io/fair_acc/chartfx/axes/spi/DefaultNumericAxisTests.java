@@ -1,5 +1,6 @@
 package io.fair_acc.chartfx.axes.spi;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -11,6 +12,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.fair_acc.chartfx.axes.LogAxisType;
+import io.fair_acc.chartfx.ui.geometry.Side;
 import io.fair_acc.dataset.spi.fastutil.DoubleArrayList;
 
 /**
@@ -93,4 +95,55 @@ public class DefaultNumericAxisTests {
         tickValues.clear();
         axis.calculateMinorTickValues(tickValues);
     }
+
+    @Test
+    public void bulkDisplayPositionTests() {
+        final double[] values = { 0.1, 0.5, 1.0, 2.5, 7.0, 10.0, 42.0, Double.NaN };
+        for (final Side side : new Side[] { Side.BOTTOM, Side.LEFT }) {
+            for (final boolean logAxis : new boolean[] { false, true }) {
+                for (final boolean inverted : new boolean[] { false, true }) {
+                    final DefaultNumericAxis axis = new DefaultNumericAxis("axis name", 0.1, 10, 1.0);
+                    axis.setSide(side);
+                    axis.setLength(800);
+                    axis.setLogAxis(logAxis);
+                    axis.invertAxis(inverted);
+                    axis.updateScale();
+                    axis.updateCachedTransforms();
+
+                    final double[] expected = new double[values.length];
+                    for (int i = 0; i < values.length; i++) {
+                        expected[i] = axis.getDisplayPosition(values[i]);
+                    }
+                    final double[] actual = new double[values.length];
+                    axis.getDisplayPositions(values, 0, values.length, actual);
+                    assertArrayEquals(expected, actual, 1e-9, "side=" + side + " log=" + logAxis + " inverted=" + inverted);
+
+                    // in-place transform of a sub-range
+                    final double[] inPlace = values.clone();
+                    axis.getDisplayPositions(inPlace, 2, 5, inPlace);
+                    for (int i = 0; i < values.length; i++) {
+                        assertEquals(i >= 2 && i < 5 ? expected[i] : values[i], inPlace[i], 1e-9, "index " + i);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void bulkDisplayPositionOverriddenTests() {
+        final DefaultNumericAxis axis = new DefaultNumericAxis("axis name", 0.1, 10, 1.0) {
+            @Override
+            public double getDisplayPosition(final double value) {
+                return value * value; // non-linear transform of a derived axis
+            }
+        };
+        axis.setLength(800);
+        axis.updateScale();
+        axis.updateCachedTransforms();
+
+        final double[] values = { 0.5, 1.0, 2.5, 7.0 };
+        final double[] actual = new double[values.length];
+        axis.getDisplayPositions(values, 0, values.length, actual);
+        assertArrayEquals(new double[] { 0.25, 1.0, 6.25, 49.0 }, actual, 1e-9, "bulk transform follows the overridden method");
+    }
 }
@@ -0,0 +1,75 @@
+package io.fair_acc.chartfx.axes.spi.format;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleFunction;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the primitive LRU label cache against a {@link LinkedHashMap} reference
+ */
+class FormatterLabelCacheTests {
+    @Test
+    void basicTests() {
+        assertThrows(IllegalArgumentException.class, () -> new FormatterLabelCache(0));
+        final FormatterLabelCache cache = new FormatterLabelCache(2);
+        assertEquals(2, cache.getCapacity());
+        final AtomicInteger calls = new AtomicInteger();
+        final DoubleFunction<String> formatter = value -> {
+            calls.incrementAndGet();
+            return Double.toString(value);
+        };
+
+        final String label = cache.get(1.0, formatter);
+        assertEquals("1.0", label);
+        assertSame(label, cache.get(1.0, formatter));
+        assertEquals(1, calls.get());
+        assertEquals("-0.0", cache.get(-0.0, formatter));
+        assertEquals("0.0", cache.get(0.0, formatter)); // evicts '1.0'
+        assertEquals(3, calls.get());
+        assertEquals(2, cache.size());
+        assertEquals("1.0", cache.get(1.0, formatter));
+        assertEquals(4, calls.get());
+        assertEquals("NaN", cache.get(Double.NaN, formatter));
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals("NaN", cache.get(Double.NaN, formatter));
+        assertEquals(6, calls.get());
+    }
+
+    @Test
+    void randomisedTests() {
+        final Random rnd = new Random(42);
+        for (final int capacity : new int[] { 1, 3, 16, 100 }) {
+            final FormatterLabelCache cache = new FormatterLabelCache(capacity);
+            final Map<Double, String> reference = new LinkedHashMap<>(16, 0.75f, true);
+            final AtomicInteger calls = new AtomicInteger();
+            for (int i = 0; i < 20_000; i++) {
+                // few distinct values -> frequent hits, collisions and evictions
+                final double value = rnd.nextInt(2 * capacity + 5) * 0.1;
+                final boolean expectHit = reference.containsKey(value);
+                final int before = calls.get();
+                final String label = cache.get(value, v -> {
+                    calls.incrementAndGet();
+                    return "label" + v;
+                });
+                assertEquals("label" + value, label);
+                assertEquals(expectHit ? before : before + 1, calls.get(), "capacity = " + capacity + " i = " + i);
+
+                reference.put(value, label);
+                if (reference.size() > capacity) {
+                    reference.remove(reference.keySet().iterator().next());
+                }
+                assertEquals(reference.size(), cache.size());
+            }
+        }
+    }
+}
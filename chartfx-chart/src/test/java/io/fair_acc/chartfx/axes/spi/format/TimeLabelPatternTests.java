@@ -0,0 +1,76 @@
+package io.fair_acc.chartfx.axes.spi.format;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the direct time-label formatting against {@link DateTimeFormatter}
+ */
+class TimeLabelPatternTests {
+    private static final long FIRST_SECOND = -62_135_596_800L; // 0001-01-01T00:00:00Z
+    private static final long LAST_SECOND = 253_402_300_799L; // 9999-12-31T23:59:59Z
+    private static final long[] SPECIAL_DATES = { 0, -1, 951_782_400, 951_868_799, 4_107_542_400L, -2_203_891_200L, FIRST_SECOND, LAST_SECOND };
+
+    @Test
+    void unsupportedPatterns() {
+        assertNull(TimeLabelPattern.parse("yy-MM-dd", " "));
+        assertNull(TimeLabelPattern.parse("MMMM", " "));
+        assertNull(TimeLabelPattern.parse("HH:mm 'h'", " "));
+        assertNull(TimeLabelPattern.parse("HH:mm[:ss]", " "));
+        assertNull(TimeLabelPattern.parse("EEE HH:mm", " "));
+        assertNotNull(TimeLabelPattern.parse("yyyy/MM/dd  HH.mm.ss,SSS", " "));
+
+        final StringBuilder builder = new StringBuilder();
+        final TimeLabelPattern pattern = TimeLabelPattern.parse("yyyy", " ");
+        assertFalse(pattern.format(builder, FIRST_SECOND - 1, 0, 0), "year 0 is not supported");
+        assertFalse(pattern.format(builder, LAST_SECOND + 1, 0, 0), "year 10000 is not supported");
+    }
+
+    @Test
+    void defaultPatterns() {
+        final Set<String> patterns = new LinkedHashSet<>();
+        patterns.add("HH:mm:ss +SSS");
+        patterns.add(DefaultTimeTickUnitSupplier.HIGHRES_FORMAT);
+        for (final String format : DefaultTimeTickUnitSupplier.TICK_UNIT_FORMATTER_DEFAULTS) {
+            if (!format.contains(DefaultTimeTickUnitSupplier.HIGHRES_MODE)) {
+                patterns.add(format);
+            }
+        }
+
+        final Random rnd = new Random(42);
+        final StringBuilder builder = new StringBuilder();
+        for (final String format : patterns) {
+            final TimeLabelPattern pattern = TimeLabelPattern.parse(format, "\n");
+            assertNotNull(pattern, format);
+            final DateTimeFormatter reference = DateTimeFormatter.ofPattern(format, Locale.ENGLISH);
+            for (int i = 0; i < 10_000; i++) {
+                // special dates (epoch, leap days, turn of the centuries, first and last supported second) or random
+                // dates between the years 1 and 9999
+                final long epochSecond = i < SPECIAL_DATES.length ? SPECIAL_DATES[i] : FIRST_SECOND + (long) (rnd.nextDouble() * (LAST_SECOND - FIRST_SECOND));
+                final int nanoOfSecond = rnd.nextInt(1_000_000_000);
+                final int offsetSeconds = i < SPECIAL_DATES.length ? 0 : (rnd.nextInt(37) - 18) * 1800;
+                final LocalDateTime dateTime = LocalDateTime.ofEpochSecond(epochSecond, nanoOfSecond, ZoneOffset.ofTotalSeconds(offsetSeconds));
+                builder.setLength(0);
+                if (dateTime.getYear() < 1 || dateTime.getYear() > 9999) {
+                    assertFalse(pattern.format(builder, epochSecond, nanoOfSecond, offsetSeconds));
+                    continue;
+                }
+                assertTrue(pattern.format(builder, epochSecond, nanoOfSecond, offsetSeconds), dateTime.toString());
+                assertEquals(dateTime.format(reference).replace(" ", "\n"), builder.toString(), format + " for " + dateTime);
+            }
+        }
+    }
+}
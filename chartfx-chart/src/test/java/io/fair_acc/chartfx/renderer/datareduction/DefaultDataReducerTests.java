@@ -28,7 +28,7 @@ public class DefaultDataReducerTests {
         dataReducer.setMinPointPixelDistance(3);
         final double[] xValues = new double[] { 0, 4, 8, 12, 16, 20, 24, 28, 32 };
         final double[] yValues = new double[] { 1, 2, 3, 4, 5, 6, 7, 8, 9 };
-        final String[] styles = new String[xValues.length];
+        final int[] styles = new int[xValues.length];
         final boolean[] selected = new boolean[xValues.length];
         final int min = 0;
         final int max = xValues.length;
@@ -54,7 +54,7 @@ public class DefaultDataReducerTests {
         dataReducer.setMinPointPixelDistance(3);
         final double[] xValues = new double[] { 0, 4, 8, 12, 16, 20, 24, 28, 32 };
         final double[] yValues = new double[] { 1, 2, Double.NaN, 4, 5, 6, Double.NaN, Double.NaN, 9 };
-        final String[] styles = new String[xValues.length];
+        final int[] styles = new int[xValues.length];
         final boolean[] selected = new boolean[xValues.length];
         final int min = 0;
         final int max = xValues.length;
@@ -82,7 +82,7 @@ public class DefaultDataReducerTests {
         final double[] yValues = new double[] { 1, 2, 3, 4, 5, 6, 7, 8, 9 };
         final double[] yErrorsNeg = new double[xValues.length];
         final double[] yErrorsPos = new double[xValues.length];
-        final String[] styles = new String[xValues.length];
+        final int[] styles = new int[xValues.length];
         final boolean[] selected = new boolean[xValues.length];
         final int min = 0;
         final int max = xValues.length;
@@ -111,7 +111,7 @@ public class DefaultDataReducerTests {
         final double[] yValues = new double[] { 1, 2, Double.NaN, 4, 5, 6, Double.NaN, Double.NaN, 9 };
         final double[] yErrorsNeg = new double[xValues.length];
         final double[] yErrorsPos = new double[xValues.length];
-        final String[] styles = new String[xValues.length];
+        final int[] styles = new int[xValues.length];
         final boolean[] selected = new boolean[xValues.length];
         final int min = 0;
         final int max = xValues.length;
@@ -141,7 +141,7 @@ public class DefaultDataReducerTests {
         final double[] xErrorsPos = new double[xValues.length];
         final double[] yErrorsNeg = new double[xValues.length];
         final double[] yErrorsPos = new double[xValues.length];
-        final String[] styles = new String[xValues.length];
+        final int[] styles = new int[xValues.length];
         final boolean[] selected = new boolean[xValues.length];
         final int min = 0;
         final int max = xValues.length;
@@ -172,7 +172,7 @@ public class DefaultDataReducerTests {
         final double[] xErrorsPos = new double[xValues.length];
         final double[] yErrorsNeg = new double[xValues.length];
         final double[] yErrorsPos = new double[xValues.length];
-        final String[] styles = new String[xValues.length];
+        final int[] styles = new int[xValues.length];
         final boolean[] selected = new boolean[xValues.length];
         final int min = 0;
         final int max = xValues.length;
@@ -0,0 +1,94 @@
+package io.fair_acc.chartfx.renderer.datareduction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the in-place Ramer-Douglas-Peucker data reduction
+ */
+class RamanDouglasPeukerDataReducerTests {
+    @Test
+    void testProperties() {
+        final RamanDouglasPeukerDataReducer dataReducer = new RamanDouglasPeukerDataReducer();
+        assertEquals(1.0, dataReducer.getEpsilon());
+        dataReducer.setEpsilon(3.0);
+        assertEquals(3.0, dataReducer.getEpsilon());
+        assertThrows(IllegalArgumentException.class, () -> dataReducer.setEpsilon(-1.0));
+    }
+
+    @Test
+    void testReduction() {
+        final RamanDouglasPeukerDataReducer dataReducer = new RamanDouglasPeukerDataReducer();
+        final double[] xValues = { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 };
+        final double[] yValues = { 0, 1, 2, 3, 4, 5, 4, 3, 2, 1, 0 };
+        final double[] yErrorsNeg = new double[xValues.length];
+        final double[] yErrorsPos = new double[xValues.length];
+        for (int i = 0; i < xValues.length; i++) {
+            yErrorsNeg[i] = yValues[i] + 1.0;
+            yErrorsPos[i] = yValues[i] - 1.0;
+        }
+        final int[] styles = new int[xValues.length];
+        styles[5] = 42;
+        final boolean[] selected = new boolean[xValues.length];
+        selected[2] = true;
+
+        final int result = dataReducer.reducePoints(xValues, yValues, null, null, yErrorsPos, yErrorsNeg, styles, selected, 0, xValues.length);
+        assertEquals(3, result);
+        assertArrayEquals(new double[] { 0, 5, 10 }, Arrays.copyOf(xValues, result));
+        assertArrayEquals(new double[] { 0, 5, 0 }, Arrays.copyOf(yValues, result));
+        assertArrayEquals(new int[] { 0, 42, 0 }, Arrays.copyOf(styles, result));
+        assertArrayEquals(new boolean[] { false, true, false }, Arrays.copyOf(selected, result));
+        // error envelope of the dropped points is propagated to the next retained point
+        assertArrayEquals(new double[] { 1, 6, 5 }, Arrays.copyOf(yErrorsNeg, result));
+        assertArrayEquals(new double[] { -1, 0, -1 }, Arrays.copyOf(yErrorsPos, result));
+    }
+
+    @Test
+    void testReductionNaN() {
+        final RamanDouglasPeukerDataReducer dataReducer = new RamanDouglasPeukerDataReducer();
+        final double[] xValues = { -1, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 };
+        final double[] yValues = { 0, 0, 1, Double.NaN, 3, 4, 5, 4, 3, 2, 1, 0 };
+        final int[] styles = new int[xValues.length];
+        final boolean[] selected = new boolean[xValues.length];
+
+        // sub-range starting at index 1
+        final int result = dataReducer.reducePoints(xValues, yValues, null, null, null, null, styles, selected, 1, xValues.length);
+        assertEquals(6, result);
+        assertArrayEquals(new double[] { 0, 1, 2, 3, 5, 10 }, Arrays.copyOf(xValues, result));
+        assertArrayEquals(new double[] { 0, 1, Double.NaN, 3, 5, 0 }, Arrays.copyOf(yValues, result));
+    }
+
+    @Test
+    void testTolerance() {
+        final RamanDouglasPeukerDataReducer dataReducer = new RamanDouglasPeukerDataReducer();
+        final int nSamples = 10_000;
+        final double[] xValues = new double[nSamples];
+        final double[] yValues = new double[nSamples];
+        final double[] xSource = new double[nSamples];
+        final double[] ySource = new double[nSamples];
+        for (int i = 0; i < nSamples; i++) {
+            xSource[i] = 0.1 * i;
+            ySource[i] = 100.0 * Math.sin(2.0 * Math.PI * i / nSamples) + (i % 2 == 0 ? 0.4 : -0.4);
+        }
+        System.arraycopy(xSource, 0, xValues, 0, nSamples);
+        System.arraycopy(ySource, 0, yValues, 0, nSamples);
+        final int result = dataReducer.reducePoints(xValues, yValues, null, null, null, null, new int[nSamples], new boolean[nSamples], 0, nSamples);
+        assertTrue(result < nSamples / 10, "reduced to " + result);
+        assertEquals(xSource[0], xValues[0]);
+        assertEquals(xSource[nSamples - 1], xValues[result - 1]);
+
+        // all original points are within 'epsilon' of the simplified poly-line
+        int segment = 0;
+        for (int i = 0; i < nSamples; i++) {
+            while (xValues[segment + 1] < xSource[i]) {
+                segment++;
+            }
+            final double t = (xSource[i] - xValues[segment]) / (xValues[segment + 1] - xValues[segment]);
+            final double y = yValues[segment] + t * (yValues[segment + 1] - yValues[segment]);
+            assertEquals(ySource[i], y, 2.0 * dataReducer.getEpsilon(), "sample " + i);
+        }
+    }
+}
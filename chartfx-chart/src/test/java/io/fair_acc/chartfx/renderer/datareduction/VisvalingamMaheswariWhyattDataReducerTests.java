@@ -0,0 +1,93 @@
+package io.fair_acc.chartfx.renderer.datareduction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the in-place Visvalingam-Whyatt data reduction
+ */
+class VisvalingamMaheswariWhyattDataReducerTests {
+    @Test
+    void testProperties() {
+        final VisvalingamMaheswariWhyattDataReducer dataReducer = new VisvalingamMaheswariWhyattDataReducer();
+        assertEquals(1.0, dataReducer.getMinArea());
+        dataReducer.setMinArea(3.0);
+        assertEquals(3.0, dataReducer.getMinArea());
+        assertThrows(IllegalArgumentException.class, () -> dataReducer.setMinArea(-1.0));
+    }
+
+    @Test
+    void testReduction() {
+        final VisvalingamMaheswariWhyattDataReducer dataReducer = new VisvalingamMaheswariWhyattDataReducer();
+        final double[] xValues = { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 };
+        final double[] yValues = { 0, 1, 2.1, 3, 4, 5, 4, 3, 2, 1, 0 };
+        final double[] xErrorsNeg = new double[xValues.length];
+        final double[] xErrorsPos = new double[xValues.length];
+        final double[] yErrorsNeg = new double[xValues.length];
+        final double[] yErrorsPos = new double[xValues.length];
+        for (int i = 0; i < xValues.length; i++) {
+            xErrorsNeg[i] = xValues[i] - 0.5;
+            xErrorsPos[i] = xValues[i] + 0.5;
+            yErrorsNeg[i] = yValues[i] - 1.0;
+            yErrorsPos[i] = yValues[i] + 1.0;
+        }
+        final int[] styles = new int[xValues.length];
+        final boolean[] selected = new boolean[xValues.length];
+        selected[7] = true;
+
+        final int result = dataReducer.reducePoints(xValues, yValues, xErrorsPos, xErrorsNeg, yErrorsPos, yErrorsNeg, styles, selected, 0, xValues.length);
+        assertEquals(3, result);
+        assertArrayEquals(new double[] { 0, 5, 10 }, Arrays.copyOf(xValues, result));
+        assertArrayEquals(new double[] { 0, 5, 0 }, Arrays.copyOf(yValues, result));
+        assertArrayEquals(new boolean[] { false, false, true }, Arrays.copyOf(selected, result));
+        assertArrayEquals(new double[] { -0.5, 0.5, 5.5 }, Arrays.copyOf(xErrorsNeg, result));
+        assertArrayEquals(new double[] { 0.5, 5.5, 10.5 }, Arrays.copyOf(xErrorsPos, result));
+        assertArrayEquals(new double[] { -1, 0, -1 }, Arrays.copyOf(yErrorsNeg, result));
+        assertArrayEquals(new double[] { 1, 6, 5 }, Arrays.copyOf(yErrorsPos, result));
+
+        // larger threshold also eliminates the peak
+        final double[] x2 = { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 };
+        final double[] y2 = { 0, 1, 2, 3, 4, 5, 4, 3, 2, 1, 0 };
+        dataReducer.setMinArea(30.0);
+        assertEquals(2, dataReducer.reducePoints(x2, y2, null, null, null, null, styles, selected, 0, x2.length));
+        assertArrayEquals(new double[] { 0, 10 }, Arrays.copyOf(x2, 2));
+    }
+
+    @Test
+    void testReductionNaN() {
+        final VisvalingamMaheswariWhyattDataReducer dataReducer = new VisvalingamMaheswariWhyattDataReducer();
+        final double[] xValues = { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 };
+        final double[] yValues = { 0, 1, Double.NaN, 3, 4, 5, 4, 3, 2, 1, 0 };
+        final int[] styles = new int[xValues.length];
+        final boolean[] selected = new boolean[xValues.length];
+
+        final int result = dataReducer.reducePoints(xValues, yValues, null, null, null, null, styles, selected, 0, xValues.length);
+        assertEquals(6, result);
+        assertArrayEquals(new double[] { 0, 1, 2, 3, 5, 10 }, Arrays.copyOf(xValues, result));
+        assertArrayEquals(new double[] { 0, 1, Double.NaN, 3, 5, 0 }, Arrays.copyOf(yValues, result));
+    }
+
+    @Test
+    void testLargeTrace() {
+        final VisvalingamMaheswariWhyattDataReducer dataReducer = new VisvalingamMaheswariWhyattDataReducer();
+        final int nSamples = 100_000;
+        final double[] xValues = new double[nSamples];
+        final double[] yValues = new double[nSamples];
+        for (int i = 0; i < nSamples; i++) {
+            xValues[i] = 1000.0 * i / nSamples;
+            yValues[i] = 200.0 * Math.sin(2.0 * Math.PI * 3.0 * i / nSamples) + (i % 2 == 0 ? 0.1 : -0.1);
+        }
+        yValues[nSamples / 2] = 1000.0; // isolated spike needs to be preserved
+        final int result = dataReducer.reducePoints(xValues, yValues, null, null, null, null, new int[nSamples], new boolean[nSamples], 0, nSamples);
+        assertTrue(result < nSamples / 100, "reduced to " + result);
+        assertEquals(0.0, xValues[0]);
+        assertEquals(1000.0 * (nSamples - 1) / nSamples, xValues[result - 1]);
+        assertTrue(Arrays.stream(yValues, 0, result).anyMatch(y -> y == 1000.0));
+        for (int i = 1; i < result; i++) {
+            assertTrue(xValues[i - 1] < xValues[i], "order preserved");
+        }
+    }
+}
@@ -40,6 +40,12 @@ public class AbstractContourDataSetRendererParameterTests {
         renderer.setComputeLocalRange(false);
         assertFalse(renderer.computeLocalRange());
 
+        assertFalse(renderer.isIncrementalUpdate());
+        renderer.setIncrementalUpdate(true);
+        assertTrue(renderer.isIncrementalUpdate());
+        renderer.setIncrementalUpdate(false);
+        assertFalse(renderer.isIncrementalUpdate());
+
         renderer.setContourType(ContourType.CONTOUR_HEXAGON);
         assertEquals(ContourType.CONTOUR_HEXAGON, renderer.getContourType());
 
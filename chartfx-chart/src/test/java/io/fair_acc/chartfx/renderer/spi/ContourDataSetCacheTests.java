@@ -11,6 +11,7 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import io.fair_acc.chartfx.axes.AxisTransform;
+import io.fair_acc.chartfx.renderer.spi.utils.ColorGradient;
 import io.fair_acc.dataset.GridDataSet;
 import io.fair_acc.dataset.spi.DataRange;
 import io.fair_acc.dataset.spi.DataSetBuilder;
@@ -202,8 +203,23 @@ public class ContourDataSetCacheTests {
         ContourDataSetCache.copySubFrame(dataSet, dataBuffer, true, false, 0, 2, false, 0, 3);
         assertArrayEquals(TEST_DATA_Z, dataBuffer, "data buffer content - parallel copySubFrame");
 
+        // quantised data -> BGRA pixels, image rows are flipped
+        final int nQuant = 10;
+        final int[] lookupTable = ColorGradient.DEFAULT.getColorLookupTable(nQuant);
+        final double[] quantised = { 0.0, 0.5, 1.0, -0.1, 1.1, Double.NaN };
+        final byte[] bgra = new byte[4 * quantised.length];
+        ContourDataSetCache.convertRowsToBgra(quantised, 3, 2, 0, 2, lookupTable, nQuant, bgra);
+        for (int i = 0; i < quantised.length; i++) {
+            final int pixelIndex = 4 * ((1 - i / 3) * 3 + i % 3);
+            final int[] argb = i < 3 ? ColorGradient.DEFAULT.getColorBytes(quantised[i]) : new int[] { 0, 0, 0, 0 };
+            assertEquals((byte) argb[3], bgra[pixelIndex], "blue pixel " + i);
+            assertEquals((byte) argb[2], bgra[pixelIndex + 1], "green pixel " + i);
+            assertEquals((byte) argb[1], bgra[pixelIndex + 2], "red pixel " + i);
+            assertEquals((byte) argb[0], bgra[pixelIndex + 3], "alpha pixel " + i);
+        }
+
         // requires FX to be tested, now in ContourDataSetRendererTests
         // final ContourDataSetCache cache = FXUtils.runAndWait(() -> new ContourDataSetCache(new XYChart(), new ContourDataSetRenderer(), dataSet));
-        // assertDoesNotThrow(() -> cache.convertDataArrayToImage(TEST_DATA_Z, TEST_DATA_X.length, TEST_DATA_Y.length, ColorGradient.DEFAULT), "data to colour image conversion");
+        // assertDoesNotThrow(() -> cache.convertDataArrayToImage(TEST_DATA_Z, TEST_DATA_X.length, TEST_DATA_Y.length, ColorGradient.DEFAULT, 20, false), "data to colour image conversion");
     }
 }
@@ -131,7 +131,7 @@ public class ContourDataSetRendererTests {
         chart.getRenderers().add(renderer);
         renderer.updateAxes();
         final ContourDataSetCache cache = new ContourDataSetCache(chart, renderer, getTestDataSet());
-        Assertions.assertDoesNotThrow(() -> cache.convertDataArrayToImage(TEST_DATA_Z, TEST_DATA_X.length, TEST_DATA_Y.length, ColorGradient.DEFAULT), "data to colour image conversion");
+        Assertions.assertDoesNotThrow(() -> cache.convertDataArrayToImage(TEST_DATA_Z, TEST_DATA_X.length, TEST_DATA_Y.length, ColorGradient.DEFAULT, 20, false), "data to colour image conversion");
     }
 
     private static GridDataSet getTestDataSet() {
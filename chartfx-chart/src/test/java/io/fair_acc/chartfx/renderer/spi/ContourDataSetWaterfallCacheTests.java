@@ -0,0 +1,52 @@
+package io.fair_acc.chartfx.renderer.spi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class ContourDataSetWaterfallCacheTests {
+    private static final int WIDTH = 3;
+    private static final int HEIGHT = 4;
+    private static final double[] TEST_DATA_Z = { //
+        1, 2, 3, //
+        4, 5, 6, //
+        7, 8, 9, //
+        10, 11, 12
+    };
+    private static final double[] TEST_DATA_Z_SCROLLED = { // rows moved down by one, new row on top
+        4, 5, 6, //
+        7, 8, 9, //
+        10, 11, 12, //
+        13, 14, 15
+    };
+    private static final double[] TEST_DATA_Z_SCROLLED_REVERSE = { // rows moved up by two, new rows at the bottom
+        -5, -4, -3, //
+        -2, -1, 0, //
+        1, 2, 3, //
+        4, 5, 6
+    };
+
+    @Test
+    public void testRowShiftDetection() {
+        assertEquals(0, ContourDataSetWaterfallCache.findRowShift(TEST_DATA_Z, TEST_DATA_Z, WIDTH, HEIGHT));
+        assertEquals(1, ContourDataSetWaterfallCache.findRowShift(TEST_DATA_Z, TEST_DATA_Z_SCROLLED, WIDTH, HEIGHT));
+        assertEquals(-1, ContourDataSetWaterfallCache.findRowShift(TEST_DATA_Z_SCROLLED, TEST_DATA_Z, WIDTH, HEIGHT));
+        assertEquals(-2, ContourDataSetWaterfallCache.findRowShift(TEST_DATA_Z, TEST_DATA_Z_SCROLLED_REVERSE, WIDTH, HEIGHT));
+
+        final double[] modified = TEST_DATA_Z.clone();
+        modified[0] = 42;
+        modified[HEIGHT * WIDTH - 1] = 42;
+        assertEquals(ContourDataSetWaterfallCache.NO_SHIFT, ContourDataSetWaterfallCache.findRowShift(TEST_DATA_Z, modified, WIDTH, HEIGHT));
+
+        // change in an intermediate row -> no shift, only this row needs to be updated
+        modified[0] = TEST_DATA_Z[0];
+        modified[HEIGHT * WIDTH - 1] = TEST_DATA_Z[HEIGHT * WIDTH - 1];
+        modified[WIDTH + 1] = Double.NaN;
+        assertEquals(0, ContourDataSetWaterfallCache.findRowShift(TEST_DATA_Z, modified, WIDTH, HEIGHT));
+        assertTrue(ContourDataSetWaterfallCache.isRowEqual(modified, 0, TEST_DATA_Z, 0, WIDTH));
+        assertFalse(ContourDataSetWaterfallCache.isRowEqual(modified, 1, TEST_DATA_Z, 1, WIDTH));
+        assertTrue(ContourDataSetWaterfallCache.isRowEqual(modified, 1, modified.clone(), 1, WIDTH), "NaN equality");
+    }
+}
@@ -28,6 +28,7 @@ import io.fair_acc.chartfx.ui.utils.JavaFXInterceptorUtils;
 import io.fair_acc.chartfx.ui.utils.TestFx;
 import io.fair_acc.chartfx.utils.FXUtils;
 import io.fair_acc.dataset.DataSet;
+import io.fair_acc.dataset.spi.DoubleDataSet;
 import io.fair_acc.dataset.spi.DoubleErrorDataSet;
 import io.fair_acc.dataset.testdata.spi.SineFunction;
 import io.fair_acc.math.DataSetMath;
@@ -126,6 +127,25 @@ public class ErrorDataSetRendererTests {
         }
     }
 
+    @Test
+    @TestFx
+    public void testRendererDecimated() throws Exception {
+        final int nSamples = 200_000;
+        final DoubleDataSet dataSet = new DoubleDataSet("decimated", nSamples).setMinMaxPyramidEnabled(true);
+        for (int i = 0; i < nSamples; i++) {
+            dataSet.add(i, Math.sin(2.0 * Math.PI * i / nSamples) + (i % 100 == 0 ? 1.0 : 0.0));
+        }
+        for (final ErrorStyle eStyle : ErrorStyle.values()) {
+            renderer.setErrorStyle(eStyle);
+            FXUtils.runAndWait(() -> renderer.getDatasets().setAll(dataSet));
+            FXUtils.runAndWait(() -> chart.invalidate());
+            assertTrue(FXUtils.waitForFxTicks(chart.getScene(), WAIT_N_FX_PULSES, MAX_TIMEOUT_MILLIS));
+        }
+        FXUtils.runAndWait(() -> dataSet.add(nSamples, 0.0)); // incremental index update
+        FXUtils.runAndWait(() -> chart.invalidate());
+        assertTrue(FXUtils.waitForFxTicks(chart.getScene(), WAIT_N_FX_PULSES, MAX_TIMEOUT_MILLIS));
+    }
+
     private void testRenderer(final LineStyle lineStyle) throws Exception {
         renderer.setPolyLineStyle(lineStyle);
         final String referenceImage = getReferenceImageFileName();
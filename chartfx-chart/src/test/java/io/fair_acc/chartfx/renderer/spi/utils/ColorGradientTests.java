@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -20,6 +22,7 @@ public class ColorGradientTests {
         assertDoesNotThrow(() -> new ColorGradient((Stop) null, null));
         assertDoesNotThrow(() -> new ColorGradient("myGradient", new ArrayList<>()));
         assertDoesNotThrow(() -> new ColorGradient("myGradient", null, null));
+        assertThrows(IllegalArgumentException.class, () -> ColorGradient.DEFAULT.getColorLookupTable(0));
 
         final List<ColorGradient> gradients = new ArrayList<>(ColorGradient.colorGradients());
         gradients.add(new ColorGradient("myGradient1", new ArrayList<>()));
@@ -40,6 +43,18 @@ public class ColorGradientTests {
             assertArrayEquals(transparentColorBytes, gradient.getColorBytes(-0.1), " color bytes below range ");
             assertArrayEquals(transparentColorBytes, gradient.getColorBytes(+1.1), " color bytes above range ");
 
+            final int nLevels = 20;
+            final int[] lookupTable = gradient.getColorLookupTable(nLevels);
+            assertEquals(nLevels + 1, lookupTable.length);
+            assertSame(lookupTable, gradient.getColorLookupTable(nLevels), "lookup table caching");
+            assertEquals(2 * nLevels + 1, gradient.getColorLookupTable(2 * nLevels).length);
+            assertSame(lookupTable, gradient.getColorLookupTable(nLevels), "lookup table cached per number of levels");
+            for (int k = 0; k <= nLevels; k++) {
+                final int[] bytes = gradient.getColorBytes(k / (double) nLevels);
+                final int argb = (bytes[0] << 24) | (bytes[1] << 16) | (bytes[2] << 8) | bytes[3];
+                assertEquals(argb, lookupTable[k], "lookup table entry " + k);
+            }
+
             assertNotNull(gradient.toString(), "gradient name");
         }
     }
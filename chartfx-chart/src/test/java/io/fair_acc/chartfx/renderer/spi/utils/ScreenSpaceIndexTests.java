@@ -0,0 +1,120 @@
+package io.fair_acc.chartfx.renderer.spi.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests ScreenSpaceIndex queries against a brute-force scan
+ */
+class ScreenSpaceIndexTests {
+    @Test
+    void basicTests() {
+        assertThrows(IllegalArgumentException.class, () -> new ScreenSpaceIndex(0.0));
+        final ScreenSpaceIndex index = new ScreenSpaceIndex();
+        assertFalse(index.isValid());
+        assertEquals(-1, index.findNearest(0, 0, Double.POSITIVE_INFINITY));
+        assertThrows(IllegalArgumentException.class, () -> index.build(10, 0, 0, 10));
+
+        index.resize(5);
+        System.arraycopy(new double[] { 10, 20, 20, Double.NaN, 200 }, 0, index.getXValues(), 0, 5);
+        System.arraycopy(new double[] { 10, 20, 20, 15, 20 }, 0, index.getYValues(), 0, 5);
+        index.build(0, 0, 100, 100);
+        assertTrue(index.isValid());
+        assertEquals(5, index.getDataCount());
+        assertEquals(20.0, index.getX(1));
+        assertEquals(20.0, index.getY(1));
+
+        assertEquals(0, index.findNearest(11, 11, 5));
+        assertEquals(1, index.findNearest(21, 21, 5)); // tie -> lower index
+        assertEquals(-1, index.findNearest(50, 50, 5));
+        assertEquals(1, index.findNearest(50, 50, Double.POSITIVE_INFINITY));
+        assertEquals(1, index.findNearest(500, 500, Double.POSITIVE_INFINITY)); // outside the indexed area
+        assertEquals(-1, index.findNearest(200, 20, 5)); // point outside of the indexed area is not indexed
+
+        final TreeSet<Integer> selected = new TreeSet<>();
+        index.forEachInRectangle(0, 0, 20, 20, selected::add);
+        assertEquals(new TreeSet<>(List.of(0, 1, 2)), selected);
+
+        index.invalidate();
+        assertFalse(index.isValid());
+        assertEquals(-1, index.findNearest(11, 11, 5));
+    }
+
+    @Test
+    void subRangeTests() {
+        final ScreenSpaceIndex index = new ScreenSpaceIndex();
+        assertThrows(IllegalArgumentException.class, () -> index.resize(5, 4));
+        index.resize(100, 103); // only data indices [100, 103) are stored
+        System.arraycopy(new double[] { 10, 20, 30 }, 0, index.getXValues(), 0, 3);
+        System.arraycopy(new double[] { 10, 20, 30 }, 0, index.getYValues(), 0, 3);
+        index.build(0, 0, 100, 100);
+        assertEquals(100, index.getFromIndex());
+        assertEquals(3, index.getDataCount());
+        assertEquals(20.0, index.getX(101));
+        assertEquals(30.0, index.getY(102));
+
+        assertEquals(101, index.findNearest(21, 21, 5));
+        final TreeSet<Integer> selected = new TreeSet<>();
+        index.forEachInRectangle(15, 15, 50, 50, selected::add);
+        assertEquals(new TreeSet<>(List.of(101, 102)), selected);
+    }
+
+    @Test
+    void randomisedTests() {
+        final Random rnd = new Random(42);
+        final ScreenSpaceIndex index = new ScreenSpaceIndex(7.0);
+        for (final int n : new int[] { 1, 10, 1000, 20_000 }) {
+            index.resize(n);
+            for (int i = 0; i < n; i++) {
+                index.getXValues()[i] = -20 + 440 * rnd.nextDouble();
+                index.getYValues()[i] = i % 10 == 0 ? 150 : -20 + 340 * rnd.nextDouble(); // duplicates -> ties
+            }
+            index.build(-10, -10, 410, 310);
+
+            for (int trial = 0; trial < 200; trial++) {
+                final double x = -50 + 500 * rnd.nextDouble();
+                final double y = -50 + 400 * rnd.nextDouble();
+                for (final double maxDistance : new double[] { 5.0, 40.0, Double.POSITIVE_INFINITY }) {
+                    assertEquals(findNearest(index, x, y, maxDistance), index.findNearest(x, y, maxDistance), "n = " + n + " trial = " + trial);
+                }
+
+                final double x2 = x + 100 * rnd.nextDouble();
+                final double y2 = y + 100 * rnd.nextDouble();
+                final TreeSet<Integer> selected = new TreeSet<>();
+                index.forEachInRectangle(x, y, x2, y2, i -> assertTrue(selected.add(i), "index reported twice"));
+                final TreeSet<Integer> expected = new TreeSet<>();
+                for (int i = 0; i < n; i++) {
+                    if (isIndexed(index, i) && index.getX(i) >= x && index.getX(i) <= x2 && index.getY(i) >= y && index.getY(i) <= y2) {
+                        expected.add(i);
+                    }
+                }
+                assertEquals(expected, selected);
+            }
+        }
+    }
+
+    private static int findNearest(final ScreenSpaceIndex index, final double x, final double y, final double maxDistance) {
+        int nearest = -1;
+        double nearestDistance = maxDistance;
+        for (int i = 0; i < index.getDataCount(); i++) {
+            final double distance = Math.hypot(index.getX(i) - x, index.getY(i) - y);
+            if (isIndexed(index, i) && (distance < nearestDistance || (nearest < 0 && distance <= nearestDistance))) {
+                nearest = i;
+                nearestDistance = distance;
+            }
+        }
+        return nearest;
+    }
+
+    private static boolean isIndexed(final ScreenSpaceIndex index, final int i) {
+        return index.getX(i) >= -10 && index.getX(i) <= 410 && index.getY(i) >= -10 && index.getY(i) <= 310;
+    }
+}
@@ -0,0 +1,49 @@
+package io.fair_acc.chartfx.ui.css;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import javafx.scene.paint.Color;
+
+import org.junit.jupiter.api.Test;
+
+import io.fair_acc.chartfx.marker.DefaultMarker;
+import io.fair_acc.dataset.utils.DataSetStyleBuilder;
+
+class DataSetStyleCacheTest {
+    final DataSetStyleBuilder builder = DataSetStyleBuilder.newInstance();
+
+    @Test
+    void testCompiledStyles() {
+        final DataSetStyleCache cache = new DataSetStyleCache(2);
+        assertEquals(DataSetStyleCache.NO_STYLE, cache.getId(null));
+        assertEquals(DataSetStyleCache.NO_STYLE, cache.getId(""));
+        assertEquals(DataSetStyleCache.NO_STYLE, cache.getId("unknown-key: 42;"));
+        assertNull(cache.get(DataSetStyleCache.NO_STYLE));
+
+        final String style = builder.reset().setMarkerType("circle").setMarkerColor("red").setMarkerSize(5).build();
+        final int id = cache.getId(style);
+        assertNotEquals(DataSetStyleCache.NO_STYLE, id);
+        assertEquals(id, cache.getId(style));
+        assertEquals(id, cache.getId(new String(style))); // equal but not identical string
+        final DataSetStyleCache.Style compiled = cache.get(id);
+        assertEquals(DefaultMarker.CIRCLE, compiled.getMarkerType(DefaultMarker.RECTANGLE));
+        assertTrue(compiled.hasMarkerColor());
+        assertEquals(Color.RED, compiled.getMarkerColor(Color.BLUE));
+        assertEquals(5.0, compiled.getMarkerSize(1.0));
+
+        // unset properties fall back to the defaults
+        final DataSetStyleCache.Style partial = cache.get(cache.getId(builder.reset().setMarkerColor("blue").build()));
+        assertEquals(DefaultMarker.RECTANGLE, partial.getMarkerType(DefaultMarker.RECTANGLE));
+        assertEquals(Color.BLUE, partial.getMarkerColor(Color.RED));
+        assertEquals(1.0, partial.getMarkerSize(1.0));
+        final DataSetStyleCache.Style noColor = cache.get(cache.getId(builder.reset().setMarkerSize(3).build()));
+        assertFalse(noColor.hasMarkerColor());
+        assertEquals(Color.RED, noColor.getMarkerColor(Color.RED));
+
+        assertEquals(4, cache.size());
+        cache.trim();
+        assertEquals(0, cache.size());
+        assertEquals(DataSetStyleCache.NO_STYLE, cache.getId(""));
+        assertNotEquals(DataSetStyleCache.NO_STYLE, cache.getId(style));
+    }
+}
@@ -1,5 +1,7 @@
 package io.fair_acc.dataset;
 
+import java.util.Arrays;
+
 /**
  * Interface for accessing data on a cartesian grid.
  *
@@ -42,6 +44,31 @@ public interface GridDataSet extends DataSet {
         return result;
     }
 
+    /**
+     * Copies consecutive values along one grid dimension (e.g. a row or column of a 2D grid) into the given buffer,
+     * e.g. {@code getSlice(DIM_Z, DIM_X, new int[] { 0, y }, getShape(DIM_X), buffer, 0)} copies the row 'y'. The
+     * default implementation iterates via {@link #get(int, int...)}, implementations with direct access to their
+     * storage should override it.
+     *
+     * @param dimIndex dimension of the values to be copied (grid or value dimension)
+     * @param gridDimIndex grid dimension along which the values are copied
+     * @param indices grid indices of the first value, {@code indices[gridDimIndex]} being the start index along the
+     *            slice (missing indices are treated as zero, not modified)
+     * @param length number of values to be copied
+     * @param buffer destination
+     * @param bufferOffset first index in the destination
+     * @return the destination buffer
+     */
+    default double[] getSlice(final int dimIndex, final int gridDimIndex, final int[] indices, final int length, final double[] buffer, final int bufferOffset) {
+        final int[] index = Arrays.copyOf(indices, Math.max(indices.length, gridDimIndex + 1));
+        final int start = index[gridDimIndex];
+        for (int i = 0; i < length; i++) {
+            index[gridDimIndex] = start + i;
+            buffer[bufferOffset + i] = get(dimIndex, index);
+        }
+        return buffer;
+    }
+
     /**
      * @return the shape of the grid of the data, e.g { 3, 4 } for a 3 x 4 matrix.
      */
@@ -0,0 +1,16 @@
+package io.fair_acc.dataset;
+
+import io.fair_acc.dataset.utils.MinMaxPyramid;
+
+/**
+ * Interface for data sets that (optionally) maintain a multi-resolution min/max index of their y-values that renderers
+ * may use to decimate large data sets to O(pixels) data points before transforming them to screen coordinates.
+ */
+public interface MinMaxIndexedDataSet extends DataSet {
+    /**
+     * N.B. the index is only consistent with the data while holding the data set's (read) lock.
+     *
+     * @return min/max index of the {@link #DIM_Y} values or {@code null} if not enabled
+     */
+    MinMaxPyramid getMinMaxPyramid();
+}
@@ -2,4 +2,18 @@ package io.fair_acc.dataset.events;
 
 public interface EventProcessor {
     void addAction(BitState obj, Runnable action);
+
+    /**
+     * Registers an action that gets executed whenever the state becomes dirty. Processors that do not support
+     * rate limiting or dependency tracking ignore the additional information.
+     *
+     * @param obj state that triggers the action
+     * @param action action to be executed
+     * @param minUpdatePeriod minimum time between two executions in milliseconds (&lt;= 0: no limit). Invalidations in between get coalesced.
+     * @param output state that gets invalidated by the action, e.g., the state of the produced dataset. May be null.
+     * @param inputs states of the data that is consumed by the action. Actions whose output is one of these inputs get executed first.
+     */
+    default void addAction(BitState obj, Runnable action, long minUpdatePeriod, BitState output, BitState... inputs) {
+        addAction(obj, action);
+    }
 }
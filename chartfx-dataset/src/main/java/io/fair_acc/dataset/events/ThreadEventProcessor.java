@@ -2,9 +2,19 @@ package io.fair_acc.dataset.events;
 
 import java.util.*;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
-import org.apache.commons.lang3.tuple.Pair;
+import io.fair_acc.bench.DurationMeasure;
+import io.fair_acc.bench.Measurable;
+import io.fair_acc.bench.MeasurementRecorder;
+import io.fair_acc.bench.TimeMeasure;
+import io.fair_acc.dataset.utils.AssertUtils;
+import io.fair_acc.dataset.utils.CachedDaemonThreadFactory;
 
 /**
  * An event processor class which processes dataset events independent of the UI thread of the chart.
@@ -13,18 +23,24 @@ import org.apache.commons.lang3.tuple.Pair;
  * Data processing can either be added to a separate EventProcessor or be handled inside the event processing of
  * the chartfx-chart package, eg as a member of a plugin which will perform the update during the plugin's preLayout phase.
  * <p>
- * TODO:
- * - implement rate limiting
- * - distribute work on multiple threads/thread-pool
+ * By default, all actions are executed sequentially in registration order on a single event thread. Processors with
+ * more than one thread dispatch independent actions to a worker pool. An action is held back while any of the
+ * actions that produce its inputs are pending or running, and the same action never runs concurrently with itself.
  */
-public class ThreadEventProcessor implements EventProcessor, Runnable {
+public class ThreadEventProcessor implements EventProcessor, Runnable, Measurable {
     private static final AtomicReference<ThreadEventProcessor> INSTANCE = new AtomicReference<>();
     private static EventProcessor userInstance;
 
     private final Object changeLock = new Object();
     private final BitState state = BitState.initDirtyMultiThreaded(this, ChartBits.DataSetMask)
                                            .addChangeListener((src, bits) -> notifyChanged());
-    private final List<Pair<BitState, Runnable>> actions = new CopyOnWriteArrayList<>();
+    private final List<Action> actions = new CopyOnWriteArrayList<>();
+    private final ExecutorService workers; // null if actions are executed on the event thread
+    private final AtomicInteger runningActions = new AtomicInteger();
+    private final Thread eventThread;
+    private volatile boolean shutdown;
+    private MeasurementRecorder recorder = MeasurementRecorder.DISABLED;
+    private TimeMeasure benchQueueDepth = TimeMeasure.DISABLED;
 
     public static EventProcessor getUserInstance() {
         return userInstance != null ? userInstance : getInstance();
@@ -49,31 +65,68 @@ public class ThreadEventProcessor implements EventProcessor, Runnable {
     }
 
     ThreadEventProcessor() {
-        // TODO: use a thread pool instead of a single thread
-        var thread = new Thread(this, "ChartFx event processor");
-        thread.setDaemon(true);
-        thread.start();
+        this(1);
+    }
+
+    /**
+     * @param nThreads number of threads that execute actions. A single thread executes all actions sequentially in
+     *            registration order.
+     */
+    public ThreadEventProcessor(final int nThreads) {
+        AssertUtils.gtThanZero("nThreads", nThreads);
+        workers = nThreads > 1 ? Executors.newFixedThreadPool(nThreads, CachedDaemonThreadFactory.getInstance()) : null;
+        eventThread = new Thread(this, "ChartFx event processor");
+        eventThread.setDaemon(true);
+        eventThread.start();
     }
 
     @Override
     public void run() {
-        // noinspection InfiniteLoopStatement
-        while (true) {
+        while (!shutdown) {
             boolean isDirty = state.clear() != 0;
+            long waitNanos = 0;
             if (isDirty) {
-                for (final var action : actions) {
-                    if (action.getLeft().isDirty(ChartBits.DataSetMask)) {
-                        action.getLeft().clear();
-                        try {
-                            action.getRight().run();
-                        } catch (Exception ignored) {
-                        }
-                    }
+                waitNanos = dispatchActions();
+                if (benchQueueDepth != TimeMeasure.DISABLED) {
+                    // N.B. the recorder API only supports time measures, the dimensionless depth is recorded as seconds
+                    benchQueueDepth.recordTime(TimeUnit.SECONDS, getQueueDepth());
                 }
             }
-            // Todo: add optional rate limiting
-            waitForChanges();
+            waitForChanges(waitNanos);
+        }
+    }
+
+    /**
+     * Starts all dirty actions that are not rate limited and have no pending upstream actions.
+     *
+     * @return nanoseconds until the next rate limited action may be executed, or zero if there is none
+     */
+    private long dispatchActions() {
+        long nextUpdate = Long.MAX_VALUE;
+        for (final Action action : actions) {
+            if (action.running || action.input.isClean(ChartBits.DataSetMask)) {
+                continue;
+            }
+            final long now = System.nanoTime();
+            final long remaining = action.started ? action.lastStart + action.minUpdatePeriod - now : 0;
+            if (remaining > 0) {
+                nextUpdate = Math.min(nextUpdate, remaining);
+                continue;
+            }
+            if (action.hasPendingUpstream()) {
+                continue; // gets re-evaluated after the upstream action finished
+            }
+            action.lastStart = now;
+            action.started = true;
+            action.running = true;
+            runningActions.incrementAndGet();
+            if (workers == null) {
+                action.execute();
+            } else {
+                workers.execute(action::execute);
+            }
         }
+        return nextUpdate == Long.MAX_VALUE ? 0 : nextUpdate;
     }
 
     private void notifyChanged() {
@@ -82,24 +135,152 @@ public class ThreadEventProcessor implements EventProcessor, Runnable {
         }
     }
 
-    private void waitForChanges() {
+    private void waitForChanges(final long timeoutNanos) {
         synchronized (changeLock) {
             if (state.isClean()) {
                 try {
-                    changeLock.wait();
+                    if (timeoutNanos > 0) {
+                        TimeUnit.NANOSECONDS.timedWait(changeLock, timeoutNanos);
+                        state.setDirty(ChartBits.DataSetMask); // re-check rate limited actions
+                    } else {
+                        changeLock.wait();
+                    }
                 } catch (InterruptedException ignored) {
                 }
             }
         }
     }
 
+    /**
+     * Stops the event thread and the worker pool. Pending actions are not executed anymore.
+     */
+    public void shutdown() {
+        shutdown = true;
+        eventThread.interrupt();
+        if (workers != null) {
+            workers.shutdownNow();
+        }
+    }
+
     public BitState getBitState() {
         return state;
     }
 
+    /**
+     * @return number of actions that are either waiting to be executed or currently running
+     */
+    public int getQueueDepth() {
+        int pending = 0;
+        for (final Action action : actions) {
+            if (!action.running && action.input.isDirty(ChartBits.DataSetMask)) {
+                pending++;
+            }
+        }
+        return pending + runningActions.get();
+    }
+
+    /**
+     * @return true if independent actions get executed in parallel on a worker pool
+     */
+    public boolean isParallel() {
+        return workers != null;
+    }
+
     @Override
     public void addAction(final BitState obj, final Runnable action) {
+        addAction(obj, action, 0, null);
+    }
+
+    @Override
+    public void addAction(final BitState obj, final Runnable action, final long minUpdatePeriod, final BitState output, final BitState... inputs) {
+        final Action newAction = new Action(obj, action, minUpdatePeriod, output, actions.size());
+        // only previously registered actions may be upstream, which rules out dependency cycles
+        for (final Action existing : actions) {
+            if (existing.output != null && Arrays.asList(inputs).contains(existing.output)) {
+                newAction.upstream.add(existing);
+            }
+        }
+        newAction.setRecorder(recorder);
+        actions.add(newAction);
         obj.addInvalidateListener(state);
-        actions.add(Pair.of(obj, action));
+    }
+
+    /**
+     * Records the latency from the first invalidation to the end of the execution as well as the execution time of
+     * each action, and the queue depth (see {@link #getQueueDepth()}) after each dispatch round. The queue depth is
+     * recorded as a number of seconds since the recorder only supports time measures.
+     *
+     * @param recorder records benchmark measurements
+     */
+    @Override
+    public void setRecorder(final MeasurementRecorder recorder) {
+        this.recorder = recorder;
+        benchQueueDepth = recorder.newTime("eventprocessor-queue-depth");
+        for (final Action action : actions) {
+            action.setRecorder(recorder);
+        }
+    }
+
+    private class Action {
+        final BitState input;
+        final Runnable runnable;
+        final long minUpdatePeriod;
+        final BitState output;
+        final int index;
+        final List<Action> upstream = new ArrayList<>(1);
+        final AtomicLong dirtySince = new AtomicLong();
+        volatile boolean running;
+        long lastStart; // only accessed by the event thread
+        boolean started;
+        TimeMeasure benchLatency = TimeMeasure.DISABLED;
+        DurationMeasure benchRun = DurationMeasure.DISABLED;
+
+        Action(final BitState input, final Runnable runnable, final long minUpdatePeriod, final BitState output, final int index) {
+            this.input = input;
+            this.runnable = runnable;
+            this.minUpdatePeriod = TimeUnit.MILLISECONDS.toNanos(Math.max(0, minUpdatePeriod));
+            this.output = output;
+            this.index = index;
+            if (input.isDirty()) {
+                dirtySince.set(System.nanoTime());
+            }
+            input.addChangeListener((src, bits) -> dirtySince.compareAndSet(0, System.nanoTime()));
+        }
+
+        boolean hasPendingUpstream() {
+            for (final Action action : upstream) {
+                if (action.running || action.input.isDirty(ChartBits.DataSetMask)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void execute() {
+            // take the timestamp before clearing so that invalidations in between start a new measurement
+            final long invalidated = dirtySince.getAndSet(0);
+            input.clear();
+            benchRun.start();
+            try {
+                runnable.run();
+            } catch (Exception ignored) {
+            } finally {
+                benchRun.stop();
+                if (invalidated != 0) {
+                    benchLatency.recordTime(TimeUnit.NANOSECONDS, System.nanoTime() - invalidated);
+                }
+                running = false;
+                runningActions.decrementAndGet();
+                if (workers != null) {
+                    state.setDirty(ChartBits.DataSetMask); // wake up the event thread to dispatch downstream actions
+                }
+            }
+        }
+
+        void setRecorder(final MeasurementRecorder recorder) {
+            final MeasurementRecorder actionRecorder = recorder.addPrefix("action" + index);
+            benchLatency = actionRecorder.newTime("eventprocessor-latency");
+            benchRun = actionRecorder.newDuration("eventprocessor-run");
+        }
     }
 }
@@ -43,6 +43,9 @@ import io.fair_acc.dataset.DataSet;
  * threads). The lock internally acquires the data w/o explicitly locking, checks afterwards if the data has potentially
  * changed a write-lock acquiring thread, and as a automatic fall-back uses the guaranteed (but more expensive) read
  * lock to assure that the read data structure is consistent.
+ * <p>
+ * Data sets whose producers must not block on this lock (e.g. lock-free accumulation or buffer hand-over) may provide a
+ * {@link DeferredUpdate} that is merged into the readable state before the first reader acquires the lock.
  *
  * @param <D> generics reference, usually to <code>&lt;? extends DataSet&gt;</code>
  * @author rstein
@@ -58,12 +61,22 @@ public class DefaultDataSetLock<D extends DataSet> implements DataSetLock<D> {
     private final AtomicInteger readerCount = new AtomicInteger(0);
     private final AtomicInteger writerCount = new AtomicInteger(0);
     private final transient D dataSet;
+    private final transient DeferredUpdate deferredUpdate;
 
     /**
      * @param dataSet dataSet this set is associate with
      */
     public DefaultDataSetLock(final D dataSet) {
+        this(dataSet, null);
+    }
+
+    /**
+     * @param dataSet dataSet this set is associate with
+     * @param deferredUpdate update that is merged before the first reader acquires the lock (may be {@code null})
+     */
+    public DefaultDataSetLock(final D dataSet, final DeferredUpdate deferredUpdate) {
         this.dataSet = dataSet;
+        this.deferredUpdate = deferredUpdate;
         if (dataSet == null) {
             throw new IllegalArgumentException("dataSet must not be null");
         }
@@ -114,6 +127,7 @@ public class DefaultDataSetLock<D extends DataSet> implements DataSetLock<D> {
     @Override
     public D readLock() {
         benchReadLock.start();
+        mergeDeferredUpdate();
         if (lastReadStamp.get() == -1 && readerCount.get() == 0) {
             // first reader needs to acquire a lock to guard against writes
             final long stamp = stampedLock.readLock();
@@ -200,6 +214,10 @@ public class DefaultDataSetLock<D extends DataSet> implements DataSetLock<D> {
         if (readerCount.decrementAndGet() < 0) {
             throw new IllegalStateException("read lock/unlock mismatch - already unlocked");
         }
+        if (deferredUpdate != null && readerCount.get() == 0 && deferredUpdate.isPending()) {
+            // updated while being read: listeners may have reset their state in the meantime
+            deferredUpdate.notifyPending();
+        }
         return dataSet;
     }
 
@@ -224,6 +242,26 @@ public class DefaultDataSetLock<D extends DataSet> implements DataSetLock<D> {
         return dataSet;
     }
 
+    /**
+     * Non-blocking variant of {@link #writeLock()}: acquires the write lock only if it is immediately available (or
+     * already held by the calling thread). Needs to be followed by {@link #writeUnLock()} if successful.
+     *
+     * @return {@code true} if the write lock has been acquired
+     */
+    public boolean tryWriteLock() {
+        final long callingThreadId = Thread.currentThread().getId();
+        if (writerLockedByThreadId.get() != callingThreadId) {
+            final long stamp = stampedLock.tryWriteLock();
+            if (stamp == 0L) {
+                return false;
+            }
+            writerLockedByThreadId.set(callingThreadId);
+            lastWriteStamp.set(stamp);
+        }
+        writerCount.incrementAndGet();
+        return true;
+    }
+
     @Override
     public D writeLockGuard(final Runnable writing) { // NOPMD -- runnable not used in a thread context
         writeLock();
@@ -262,6 +300,21 @@ public class DefaultDataSetLock<D extends DataSet> implements DataSetLock<D> {
         return dataSet;
     }
 
+    /**
+     * Merges the deferred update, provided that no other reader or writer holds the lock, i.e. the readable state does
+     * not change while any reader holds the lock.
+     */
+    private void mergeDeferredUpdate() {
+        if (deferredUpdate == null || !deferredUpdate.isPending() || !tryWriteLock()) {
+            return;
+        }
+        try {
+            deferredUpdate.merge();
+        } finally {
+            writeUnLock();
+        }
+    }
+
     @Override
     public void setRecorder(MeasurementRecorder recorder) {
         benchReadLock = recorder.newTraceDuration("lock-readLock");
@@ -270,4 +323,25 @@ public class DefaultDataSetLock<D extends DataSet> implements DataSetLock<D> {
 
     private DurationMeasure benchReadLock = DurationMeasure.DISABLED;
     private DurationMeasure benchWriteLock = DurationMeasure.DISABLED;
+
+    /**
+     * Data that has been produced without holding the lock and is merged into the readable state of the data set
+     * ('merge-before-first-read').
+     */
+    public interface DeferredUpdate {
+        /**
+         * @return {@code true} if there is data that has not been merged yet
+         */
+        boolean isPending();
+
+        /**
+         * merges the pending data, invoked while holding the write lock
+         */
+        void merge();
+
+        /**
+         * invoked after the last reader released the lock while data is (still) pending, e.g. to notify the listeners
+         */
+        void notifyPending();
+    }
 }
@@ -1,6 +1,7 @@
 package io.fair_acc.dataset.spi;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -15,7 +16,7 @@ import io.fair_acc.dataset.events.ChartBits;
 import io.fair_acc.dataset.locks.DataSetLock;
 import io.fair_acc.dataset.locks.DefaultDataSetLock;
 import io.fair_acc.dataset.spi.utils.MathUtils;
-import io.fair_acc.dataset.spi.utils.StringHashMapList;
+import io.fair_acc.dataset.spi.utils.SortedIntStringMap;
 import io.fair_acc.dataset.utils.AssertUtils;
 import io.fair_acc.dataset.utils.IndexedStringConsumer;
 
@@ -42,14 +43,16 @@ public abstract class AbstractDataSet<D extends AbstractStylable<D>> extends Abs
     private final List<AxisDescription> axesDescriptions = new ArrayList<>();
     private final transient BitState state = BitState.initDirty(this);
     private final transient DataSetLock<? extends DataSet> lock = new DefaultDataSetLock<>(this);
-    private final StringHashMapList dataLabels = new StringHashMapList();
-    private final StringHashMapList dataStyles = new StringHashMapList();
+    private final SortedIntStringMap dataLabels = new SortedIntStringMap();
+    private final SortedIntStringMap dataStyles = new SortedIntStringMap();
     private final List<String> styleClasses = new ArrayList<>();
     private final List<String> infoList = new ArrayList<>();
     private final List<String> warningList = new ArrayList<>();
     private final List<String> errorList = new ArrayList<>();
     private transient EditConstraints editConstraints;
     private final Map<String, String> metaInfoMap = new ConcurrentHashMap<>();
+    private transient boolean incrementalLimits;
+    private final transient boolean[] validLimits; // dimensions whose limits have been kept up to date since the last rescan
 
     /**
      * default constructor
@@ -62,6 +65,7 @@ public abstract class AbstractDataSet<D extends AbstractStylable<D>> extends Abs
         AssertUtils.gtThanZero("dimension", dimension);
         this.name = name;
         this.dimension = dimension;
+        this.validLimits = new boolean[dimension];
         for (int i = 0; i < this.dimension; i++) {
             final String axisName = i < DEFAULT_AXES_NAME.length ? DEFAULT_AXES_NAME[i] : "dim" + (i + 1) + "-Axis";
             final AxisDescription axisDescription = new DefaultAxisDescription(i, axisName, "a.u.");
@@ -374,25 +378,26 @@ public abstract class AbstractDataSet<D extends AbstractStylable<D>> extends Abs
 
     @Override
     public void forEachDataLabel(int minIx, int maxIx, IndexedStringConsumer consumer) {
-        for (Map.Entry<Integer, String> entry : dataLabels.entrySet()) {
-            int index = entry.getKey();
-            if (index >= minIx && index < maxIx) {
-                consumer.accept(index, entry.getValue());
-            }
-        }
+        dataLabels.forEach(minIx, maxIx, consumer);
     }
 
     /**
+     * N.B. returns a {@link SortedIntStringMap} rather than the previous {@code StringHashMapList} (API change). Single
+     * map operations are thread-safe, compound modifications should hold the data set's {@link #lock()}.
+     *
      * @return data label map for given data point
      */
-    public StringHashMapList getDataLabelMap() {
+    public SortedIntStringMap getDataLabelMap() {
         return dataLabels;
     }
 
     /**
+     * N.B. returns a {@link SortedIntStringMap} rather than the previous {@code StringHashMapList} (API change). Single
+     * map operations are thread-safe, compound modifications should hold the data set's {@link #lock()}.
+     *
      * @return data style map (CSS-styling)
      */
-    public StringHashMapList getDataStyleMap() {
+    public SortedIntStringMap getDataStyleMap() {
         return dataStyles;
     }
 
@@ -483,12 +488,7 @@ public abstract class AbstractDataSet<D extends AbstractStylable<D>> extends Abs
 
     @Override
     public void forEachStyle(int minIx, int maxIx, IndexedStringConsumer consumer) {
-        for (Map.Entry<Integer, String> entry : dataStyles.entrySet()) {
-            int index = entry.getKey();
-            if (index >= minIx && index < maxIx) {
-                consumer.accept(index, entry.getValue());
-            }
-        }
+        dataStyles.forEach(minIx, maxIx, consumer);
     }
 
     @SuppressWarnings("unchecked")
@@ -678,8 +678,64 @@ public abstract class AbstractDataSet<D extends AbstractStylable<D>> extends Abs
         return binarySearch(x[0], 0, lastIndex, val -> get(dimIndex, val));
     }
 
+    /**
+     * Clears the limits of all dimensions, which forces a full recomputation on the next {@link #recomputeLimits(int)}.
+     *
+     * @return itself (fluent design)
+     */
+    public D invalidateLimits() {
+        Arrays.fill(validLimits, false);
+        getAxisDescriptions().forEach(AxisDescription::clear);
+        return getThis();
+    }
+
+    /**
+     * @return {@code true} if the limits are extended incrementally on append rather than being recomputed on demand
+     */
+    public boolean isIncrementalLimits() {
+        return incrementalLimits;
+    }
+
+    /**
+     * Opts into incremental limit tracking. Data sets that extend their axis descriptions when data is appended keep
+     * them valid after an initial full scan, so that {@link #recomputeLimits(int)} does not need to rescan all data
+     * points until the limits get invalidated by a removal or an overwrite. N.B. values that are modified directly via
+     * {@link #getValues(int)} require a subsequent {@link #invalidateLimits()}.
+     *
+     * @param state {@code true}: enable incremental limit tracking
+     * @return itself (fluent design)
+     */
+    public D setIncrementalLimits(final boolean state) {
+        lock().writeLockGuard(() -> {
+            incrementalLimits = state;
+            Arrays.fill(validLimits, false);
+        });
+        return getThis();
+    }
+
+    /**
+     * @param dimIndex the dimension to be checked
+     * @return {@code true} if incremental limit tracking is enabled and the limits have been kept up to date since the
+     *         last full scan
+     */
+    protected boolean isLimitsValid(final int dimIndex) {
+        return incrementalLimits && validLimits[dimIndex] && getAxisDescription(dimIndex).isDefined();
+    }
+
+    /**
+     * marks the limits of the given dimension as up to date after a full scan
+     *
+     * @param dimIndex the dimension that has been recomputed
+     */
+    protected void setLimitsValid(final int dimIndex) {
+        validLimits[dimIndex] = incrementalLimits;
+    }
+
     @Override
     public DataSet recomputeLimits(final int dimIndex) {
+        if (isLimitsValid(dimIndex)) {
+            return this;
+        }
         benchRecomputeLimitsSingle.start();
         // first compute range (does not trigger notify events)
         DataRange newRange = new DataRange();
@@ -689,6 +745,7 @@ public abstract class AbstractDataSet<D extends AbstractStylable<D>> extends Abs
         }
         // set to new computed one and trigger notify event if different to old limits
         getAxisDescription(dimIndex).set(newRange.getMin(), newRange.getMax());
+        setLimitsValid(dimIndex);
         benchRecomputeLimitsSingle.stop();
         return this;
     }
@@ -739,10 +796,8 @@ public abstract class AbstractDataSet<D extends AbstractStylable<D>> extends Abs
         }
 
         var otherAbstract = (AbstractDataSet<?>) other;
-        getDataLabelMap().clear();
-        getDataLabelMap().putAll(otherAbstract.getDataLabelMap());
-        getDataStyleMap().clear();
-        getDataStyleMap().putAll(otherAbstract.getDataStyleMap());
+        getDataLabelMap().setAll(otherAbstract.getDataLabelMap());
+        getDataStyleMap().setAll(otherAbstract.getDataStyleMap());
     }
 
     protected void copyAxisDescription(final DataSet other) {
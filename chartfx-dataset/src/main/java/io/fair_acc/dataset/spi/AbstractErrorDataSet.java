@@ -56,6 +56,9 @@ public abstract class AbstractErrorDataSet<D extends AbstractErrorDataSet<D>> ex
      */
     @Override
     public D recomputeLimits(final int dimIndex) {
+        if (isLimitsValid(dimIndex)) {
+            return getThis();
+        }
         // first compute range (does not trigger notify events)
         DataRange newRange = new DataRange();
         final int dataCount = getDataCount();
@@ -73,6 +76,7 @@ public abstract class AbstractErrorDataSet<D extends AbstractErrorDataSet<D>> ex
             }
             // set to new computed one and trigger notify event if different to old limits
             getAxisDescription(dimIndex).set(newRange.getMin(), newRange.getMax());
+            setLimitsValid(dimIndex);
             break;
         case SYMMETRIC:
         default:
@@ -84,6 +88,7 @@ public abstract class AbstractErrorDataSet<D extends AbstractErrorDataSet<D>> ex
             }
             // set to new computed one and trigger notify event if different to old limits
             getAxisDescription(dimIndex).set(newRange.getMin(), newRange.getMax());
+            setLimitsValid(dimIndex);
             break;
         }
         return getThis();
@@ -3,21 +3,53 @@ package io.fair_acc.dataset.spi;
 import static io.fair_acc.dataset.spi.AbstractHistogram.HistogramOuterBounds.BINS_ALIGNED_WITH_BOUNDARY;
 
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
 
 import io.fair_acc.dataset.DataSet;
 import io.fair_acc.dataset.Histogram;
 import io.fair_acc.dataset.events.ChartBits;
+import io.fair_acc.dataset.locks.DataSetLock;
+import io.fair_acc.dataset.locks.DefaultDataSetLock;
 import io.fair_acc.dataset.utils.AssertUtils;
 
 /**
+ * Base class for binned histograms.
+ * <p>
+ * Besides the regular (write-locked) {@code fill}/{@link #addBinContent(int, double)} methods, the bin content may be
+ * accumulated concurrently by several high-rate producer threads via {@link #accumulateBinContent(int, double)} (and
+ * the {@code accumulate} methods of the implementations). These do not take the data set lock but add to striped
+ * partial bin arrays that are merged into the histogram bins once a reader acquires the read lock (or explicitly via
+ * {@link #mergeAccumulated()}). Listeners are notified once per merge cycle rather than once per entry.
+ *
  * @author rstein
  */
 public abstract class AbstractHistogram extends AbstractDataSet<AbstractHistogram> implements Histogram {
     private static final long serialVersionUID = -6455271782865323112L;
+    private static final int N_STRIPES = Integer.highestOneBit(4 * Runtime.getRuntime().availableProcessors() - 1); // power of two >= 2 x nCPU
     protected final double[] data;
     protected final double[][] axisBins;
     private final boolean equidistant;
     private final HistogramOuterBounds boundsType;
+    private final transient AtomicReferenceArray<PartialBins> partialBins = new AtomicReferenceArray<>(N_STRIPES); // lazily allocated
+    private final transient AtomicBoolean accumulated = new AtomicBoolean(); // partial bins contain data not yet merged
+    private final transient DefaultDataSetLock<AbstractHistogram> histogramLock = new DefaultDataSetLock<>(this, new DefaultDataSetLock.DeferredUpdate() {
+        @Override
+        public boolean isPending() {
+            return accumulated.get();
+        }
+
+        @Override
+        public void merge() {
+            mergePartialBins();
+        }
+
+        @Override
+        public void notifyPending() {
+            fireInvalidated(ChartBits.DataSetDataAdded);
+        }
+    });
 
     /**
      * Defines how the lower and upper bound of equidistant Histograms should be treated
@@ -144,12 +176,31 @@ public abstract class AbstractHistogram extends AbstractDataSet<AbstractHistogra
         this.addBinContent(bin, 1.0);
     }
 
+    /**
+     * Thread-safe and non-blocking variant of {@link #addBinContent(int, double)} for (multiple) high-rate producers.
+     * The weight is added to the partial bins of the calling thread's stripe and becomes visible after the next
+     * {@link #mergeAccumulated() merge}, which is done automatically when a reader acquires the read lock.
+     *
+     * @param bin global bin ID
+     * @param w weight
+     */
+    public void accumulateBinContent(final int bin, final double w) {
+        final PartialBins partial = getPartialBins();
+        synchronized (partial) {
+            partial.add(bin, w);
+        }
+        notifyAccumulated();
+    }
+
     @Override
     public void addBinContent(final int bin, final double w) {
-        lock().writeLockGuard(() -> {
-            data[bin] = data[bin] + w;
-            getAxisDescription(this.getDimension() - 1).add(data[bin]);
-        });
+        lock().writeLock();
+        try {
+            data[bin] += w;
+            updateBinContentRange(bin);
+        } finally {
+            lock().writeUnLock();
+        }
         fireInvalidated(ChartBits.DataSetData);
     }
 
@@ -180,16 +231,27 @@ public abstract class AbstractHistogram extends AbstractDataSet<AbstractHistogra
             return axisBins[dimIndex].length - 1; // overflow bin
         }
 
-        return findNextLargerIndex(axisBins[dimIndex], val);
+        return equidistant ? findEquidistantIndex(axisBins[dimIndex], val) : findNextLargerIndex(axisBins[dimIndex], val);
     }
 
+    /**
+     * @param bin sorted bin boundaries, i.e. {@code bin[i] <= value < bin[i + 1]} for the returned index i
+     * @param value the value to be looked up
+     * @return index of the last boundary that is not larger than the value, {@code bin.length - 1} if none is larger
+     */
     protected int findNextLargerIndex(final double[] bin, final double value) {
-        for (int i = 1; i < bin.length; i++) {
-            if (value < bin[i]) {
-                return i - 1;
+        // binary search for the last 'i' with '!(value < bin[i])' (bin[0] is not checked, N.B. NaN maps to the last bin)
+        int low = 0;
+        int high = bin.length - 1;
+        while (low < high) {
+            final int mid = (low + high + 1) >>> 1;
+            if (value < bin[mid]) {
+                high = mid - 1;
+            } else {
+                low = mid;
             }
         }
-        return bin.length - 1;
+        return low;
     }
 
     /**
@@ -230,6 +292,26 @@ public abstract class AbstractHistogram extends AbstractDataSet<AbstractHistogra
         return equidistant;
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public DataSetLock<? extends DataSet> lock() {
+        return histogramLock;
+    }
+
+    /**
+     * Merges the bin content collected via {@link #accumulateBinContent(int, double)} into the histogram bins. N.B.
+     * this is done automatically when a reader acquires the read lock and needs to be called explicitly only if the
+     * bin content is accessed without the lock.
+     */
+    public void mergeAccumulated() {
+        lock().writeLock();
+        try {
+            mergePartialBins();
+        } finally {
+            lock().writeUnLock();
+        }
+    }
+
     @Override
     public DataSet recomputeLimits(final int dimIndex) {
         // first compute range (does not trigger notify events)
@@ -287,12 +369,138 @@ public abstract class AbstractHistogram extends AbstractDataSet<AbstractHistogra
 
     @Override
     public void reset() {
+        resetAccumulated();
         Arrays.fill(data, 0.0);
         getDataStyleMap().clear();
         getDataLabelMap().clear();
         this.getAxisDescription(this.getDimension() - 1).clear();
     }
 
+    /**
+     * Thread-safe batch variant of {@link #accumulateBinContent(int, double)}: the filler is called once with the
+     * partial bins of the calling thread's stripe which are exclusively held for the duration of the call.
+     *
+     * @param filler adds the entries of the batch to the partial bins
+     */
+    protected void accumulateBatch(final Consumer<PartialBins> filler) {
+        final PartialBins partial = getPartialBins();
+        synchronized (partial) {
+            filler.accept(partial);
+        }
+        notifyAccumulated();
+    }
+
+    /**
+     * discards the bin content accumulated but not yet merged
+     */
+    protected void resetAccumulated() {
+        accumulated.set(false);
+        for (int stripe = 0; stripe < N_STRIPES; stripe++) {
+            final PartialBins partial = partialBins.get(stripe);
+            if (partial != null) {
+                synchronized (partial) {
+                    partial.clear();
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates the range of the bin content axis after the content of the given bin has been modified. N.B. to be
+     * called with the write lock held.
+     *
+     * @param bin global bin ID
+     */
+    protected void updateBinContentRange(final int bin) {
+        getAxisDescription(this.getDimension() - 1).add(data[bin]);
+    }
+
+    private PartialBins getPartialBins() {
+        final int stripe = (int) Thread.currentThread().getId() & (N_STRIPES - 1);
+        final PartialBins partial = partialBins.get(stripe);
+        if (partial != null) {
+            return partial;
+        }
+        partialBins.compareAndSet(stripe, null, new PartialBins(data.length));
+        return partialBins.get(stripe);
+    }
+
+    private void mergePartialBins() {
+        // N.B. reset before merging so that concurrently accumulated data re-triggers the notification
+        accumulated.set(false);
+        for (int stripe = 0; stripe < N_STRIPES; stripe++) {
+            final PartialBins partial = partialBins.get(stripe);
+            if (partial == null) {
+                continue;
+            }
+            synchronized (partial) {
+                for (int bin = partial.minBin; bin <= partial.maxBin; bin++) {
+                    if (partial.content[bin] != 0.0) {
+                        data[bin] += partial.content[bin];
+                        updateBinContentRange(bin);
+                    }
+                }
+                partial.clear();
+            }
+        }
+    }
+
+    private void notifyAccumulated() {
+        if (!accumulated.get() && !accumulated.getAndSet(true)) {
+            // first entry since the last merge
+            fireInvalidated(ChartBits.DataSetDataAdded);
+        }
+    }
+
+    private static int findEquidistantIndex(final double[] bin, final double value) {
+        // O(1) estimate, corrected for rounding w.r.t. the stored boundaries (bin[1] <= value <= bin[bin.length - 1])
+        final int last = bin.length - 1;
+        final double binWidth = (bin[last] - bin[1]) / (last - 1);
+        int index = Math.max(1, Math.min(last, 1 + (int) ((value - bin[1]) / binWidth)));
+        while (index > 1 && value < bin[index]) {
+            index--;
+        }
+        while (index < last && value >= bin[index + 1]) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Partial bin content of one stripe. N.B. to be accessed while synchronised on the instance.
+     */
+    protected static final class PartialBins {
+        private final double[] content;
+        private int minBin = Integer.MAX_VALUE;
+        private int maxBin = -1;
+
+        private PartialBins(final int nBins) {
+            content = new double[nBins];
+        }
+
+        /**
+         * @param bin global bin ID
+         * @param w weight
+         */
+        public void add(final int bin, final double w) {
+            content[bin] += w;
+            if (bin < minBin) {
+                minBin = bin;
+            }
+            if (bin > maxBin) {
+                maxBin = bin;
+            }
+        }
+
+        private void clear() {
+            if (maxBin >= minBin) {
+                Arrays.fill(content, minBin, maxBin + 1, 0.0);
+            }
+            minBin = Integer.MAX_VALUE;
+            maxBin = -1;
+        }
+    }
+
     protected static <T> void swap(T[] arr, final int i, final int j) {
         final T t = arr[i];
         arr[i] = arr[j];
@@ -6,8 +6,8 @@ import io.fair_acc.dataset.DataSet2D;
 import io.fair_acc.dataset.DataSetError;
 import io.fair_acc.dataset.events.ChartBits;
 import io.fair_acc.dataset.utils.AssertUtils;
-import io.fair_acc.dataset.utils.CircularBuffer;
 import io.fair_acc.dataset.utils.DoubleCircularBuffer;
+import io.fair_acc.dataset.utils.SlidingWindowMinMax;
 
 /**
  * @author rstein
@@ -18,8 +18,8 @@ public class CircularDoubleErrorDataSet extends AbstractErrorDataSet<CircularDou
     protected DoubleCircularBuffer yValues;
     protected DoubleCircularBuffer yErrorsPos;
     protected DoubleCircularBuffer yErrorsNeg;
-    protected CircularBuffer<String> dataLabels;
-    protected CircularBuffer<String> dataStyles;
+    private final SlidingWindowMinMax xLimits;
+    private final SlidingWindowMinMax yLimits;
 
     /**
      * Creates a new instance of <code>CircularDoubleErrorDataSet</code>.
@@ -35,8 +35,8 @@ public class CircularDoubleErrorDataSet extends AbstractErrorDataSet<CircularDou
         yValues = new DoubleCircularBuffer(initialSize);
         yErrorsPos = new DoubleCircularBuffer(initialSize);
         yErrorsNeg = new DoubleCircularBuffer(initialSize);
-        dataLabels = new CircularBuffer<>(initialSize);
-        dataStyles = new CircularBuffer<>(initialSize);
+        xLimits = new SlidingWindowMinMax(initialSize);
+        yLimits = new SlidingWindowMinMax(initialSize);
     }
 
     /**
@@ -68,6 +68,9 @@ public class CircularDoubleErrorDataSet extends AbstractErrorDataSet<CircularDou
 
     /**
      * Add point to the DoublePoints object
+     * <p>
+     * N.B. labels and styles are stored sparsely, i.e. only non-empty ones use memory, and are shifted with the
+     * evicted samples in O(log n).
      *
      * @param x the new x coordinate
      * @param y the new y coordinate
@@ -79,17 +82,18 @@ public class CircularDoubleErrorDataSet extends AbstractErrorDataSet<CircularDou
      */
     public CircularDoubleErrorDataSet add(final double x, final double y, final double yErrorNeg, final double yErrorPos, final String label, final String style) {
         lock().writeLockGuard(() -> {
+            evictDataLabelsAndStyles(1);
             xValues.put(x);
             yValues.put(y);
             yErrorsPos.put(yErrorPos);
             yErrorsNeg.put(yErrorNeg);
-            dataLabels.put(label);
-            dataStyles.put(style);
+            final int index = xValues.available() - 1;
+            getDataLabelMap().put(index, label);
+            getDataStyleMap().put(index, style);
 
-            // assumes in X sorted data range
-            getAxisDescription(DIM_X).setMin(xValues.get(0));
-            getAxisDescription(DIM_X).setMax(xValues.get(xValues.available() - 1));
-            getAxisDescription(DIM_Y).clear();
+            xLimits.add(x);
+            yLimits.add(y - yErrorNeg, y + yErrorPos);
+            updateLimits();
         });
 
         fireInvalidated(ChartBits.DataSetDataAdded);
@@ -141,17 +145,18 @@ public class CircularDoubleErrorDataSet extends AbstractErrorDataSet<CircularDou
         AssertUtils.gtOrEqual("Y error pos", dataCount, yErrPos.length);
 
         lock().writeLockGuard(() -> {
+            evictDataLabelsAndStyles(dataCount);
             this.xValues.put(xVals, dataCount);
             this.yValues.put(yVals, dataCount);
             this.yErrorsNeg.put(yErrNeg, dataCount);
             this.yErrorsPos.put(yErrPos, dataCount);
-            dataLabels.put(new String[yVals.length], dataCount);
-            dataStyles.put(new String[yVals.length], dataCount);
 
-            // assumes in X sorted data range
-            getAxisDescription(DIM_X).setMin(xValues.get(0));
-            getAxisDescription(DIM_X).setMax(xValues.get(xValues.available() - 1));
-            getAxisDescription(DIM_Y).clear();
+            // only the last 'capacity' samples remain in the window
+            for (int i = Math.max(0, dataCount - xLimits.capacity()); i < dataCount; i++) {
+                xLimits.add(xVals[i]);
+                yLimits.add(yVals[i] - yErrNeg[i], yVals[i] + yErrPos[i]);
+            }
+            updateLimits();
         });
 
         fireInvalidated(ChartBits.DataSetDataAdded);
@@ -163,11 +168,6 @@ public class CircularDoubleErrorDataSet extends AbstractErrorDataSet<CircularDou
         return xValues.available();
     }
 
-    @Override
-    public String getDataLabel(final int index) {
-        return dataLabels.get(index);
-    }
-
     @Override
     public double getErrorNegative(final int dimIndex, final int index) {
         return dimIndex == DIM_X ? 0.0 : yErrorsNeg.get(index);
@@ -179,13 +179,18 @@ public class CircularDoubleErrorDataSet extends AbstractErrorDataSet<CircularDou
     }
 
     @Override
-    public String getStyle(final int index) {
-        return dataStyles.get(index);
+    public final double get(final int dimIndex, final int index) {
+        return dimIndex == DataSet.DIM_X ? xValues.get(index) : yValues.get(index);
     }
 
+    /**
+     * The limits are tracked incrementally while data is added and evicted, thus no rescan of the buffer is needed.
+     */
     @Override
-    public final double get(final int dimIndex, final int index) {
-        return dimIndex == DataSet.DIM_X ? xValues.get(index) : yValues.get(index);
+    public CircularDoubleErrorDataSet recomputeLimits(final int dimIndex) {
+        final SlidingWindowMinMax limits = dimIndex == DIM_X ? xLimits : yLimits;
+        getAxisDescription(dimIndex).set(limits.getMin(), limits.getMax());
+        return getThis();
     }
 
     @Override
@@ -219,8 +224,10 @@ public class CircularDoubleErrorDataSet extends AbstractErrorDataSet<CircularDou
             yValues.reset();
             yErrorsNeg.reset();
             yErrorsPos.reset();
-            dataLabels.reset();
-            dataStyles.reset();
+            getDataLabelMap().clear();
+            getDataStyleMap().clear();
+            xLimits.reset();
+            yLimits.reset();
             getAxisDescriptions().forEach(AxisDescription::clear);
         });
 
@@ -228,6 +235,36 @@ public class CircularDoubleErrorDataSet extends AbstractErrorDataSet<CircularDou
         return getThis();
     }
 
+    /**
+     * Drops the labels and styles of the samples that are evicted by adding new ones and shifts the remaining ones
+     * towards the beginning of the buffer.
+     *
+     * @param nSamples number of samples about to be added
+     */
+    private void evictDataLabelsAndStyles(final int nSamples) {
+        final int nEvicted = Math.min(xValues.available(), xValues.available() + nSamples - xValues.capacity());
+        if (nEvicted <= 0) {
+            return;
+        }
+        getDataLabelMap().remove(0, nEvicted);
+        getDataStyleMap().remove(0, nEvicted);
+    }
+
+    @Override
+    protected void copyDataLabelsAndStyles(final DataSet other, final boolean copy) {
+        // labels and styles cannot be added via addDataLabel/addDataStyle for this type of DataSet
+        this.setStyle(other.getStyle());
+        getDataLabelMap().clear();
+        other.forEachDataLabel(0, other.getDataCount(), getDataLabelMap()::put);
+        getDataStyleMap().clear();
+        other.forEachStyle(0, other.getDataCount(), getDataStyleMap()::put);
+    }
+
+    private void updateLimits() {
+        getAxisDescription(DIM_X).set(xLimits.getMin(), xLimits.getMax());
+        getAxisDescription(DIM_Y).set(yLimits.getMin(), yLimits.getMax());
+    }
+
     @Override
     public DataSet set(final DataSet other, final boolean copy) {
         lock().writeLockGuard(() -> other.lock().writeLockGuard(() -> {
@@ -245,6 +282,11 @@ public class CircularDoubleErrorDataSet extends AbstractErrorDataSet<CircularDou
 
             copyMetaData(other);
             copyDataLabelsAndStyles(other, copy);
+            if (count > getDataCount()) {
+                // only the last 'capacity' samples have been retained
+                getDataLabelMap().remove(0, count - getDataCount());
+                getDataStyleMap().remove(0, count - getDataCount());
+            }
             copyAxisDescription(other);
         }));
         fireInvalidated(ChartBits.DataSetData);
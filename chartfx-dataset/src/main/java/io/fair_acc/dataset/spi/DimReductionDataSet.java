@@ -1,10 +1,13 @@
 package io.fair_acc.dataset.spi;
 
+import java.util.Arrays;
+
 import io.fair_acc.dataset.DataSet;
 import io.fair_acc.dataset.DataSetMetaData;
 import io.fair_acc.dataset.GridDataSet;
 import io.fair_acc.dataset.events.ChartBits;
 import io.fair_acc.dataset.events.StateListener;
+import io.fair_acc.dataset.utils.DoubleArrayCache;
 
 /**
  * Reduces 3D data to 2D DataSet either via slicing, min, mean, max or integration
@@ -135,68 +138,139 @@ public class DimReductionDataSet extends DoubleDataSet implements StateListener
     }
 
     protected void updateMeanIntegral(final boolean isMean) {
-        final int min = Math.min(minIndex, maxIndex);
-        final int max = Math.max(Math.max(minIndex, maxIndex), min + 1);
-        this.clearData();
+        updateReduction(isMean ? Option.MEAN : Option.INTEGRAL);
+    }
+
+    protected void updateMinMax(final boolean isMin) {
+        updateReduction(isMin ? Option.MIN : Option.MAX);
+    }
+
+    protected void updateSlice() {
         final int nDataCount = source.getShape(dimIndex);
-        for (int index = 0; index < nDataCount; index++) {
-            final double x = source.getGrid(dimIndex, index);
-            double integral = 0.0;
-            double nSlices = 0.0;
-            for (int i = min; i <= Math.min(max, nDataCount - 1); i++) {
-                if (dimIndex == DataSet.DIM_Y) {
-                    integral += source.get(DIM_Z, i, index);
-                } else {
-                    integral += source.get(DIM_Z, index, i);
-                }
-                nSlices += 1.0;
-            }
-            if (isMean) {
-                this.add(x, nSlices == 0.0 ? Double.NaN : (integral / nSlices));
-            } else {
-                this.add(x, integral);
-            }
+        final double[] result = DoubleArrayCache.getInstance().getArrayExact(nDataCount);
+        final int[] indices = new int[2];
+        if (dimIndex == DIM_Y) {
+            indices[DIM_X] = minIndex;
+        } else {
+            indices[DIM_Y] = minIndex;
         }
+        source.getSlice(DIM_Z, dimIndex, indices, nDataCount, result, 0);
+        setResult(result, nDataCount);
     }
 
-    protected void updateMinMax(final boolean isMin) {
-        final int min = Math.min(minIndex, maxIndex);
-        final int max = Math.max(Math.max(minIndex, maxIndex), min + 1);
+    private void setResult(final double[] result, final int nDataCount) {
         this.clearData();
+        this.set(Arrays.copyOf(source.getGridValues(dimIndex), nDataCount), result, nDataCount, true);
+        DoubleArrayCache.getInstance().add(result);
+    }
+
+    private void updateReduction(final Option option) {
         final int nDataCount = source.getShape(dimIndex);
-        for (int index = 0; index < nDataCount; index++) {
-            final double x = source.get(dimIndex, index);
-            double ret;
-            if (dimIndex == DataSet.DIM_Y) {
-                ret = source.get(DIM_Z, min, index);
-            } else {
-                ret = source.get(DIM_Z, index, min);
+        final double[] result = DoubleArrayCache.getInstance().getArrayExact(nDataCount);
+        reduce(source, dimIndex, minIndex, maxIndex, option, result);
+        setResult(result, nDataCount);
+    }
+
+    /**
+     * Reduces the grid over the index range [minIndex, maxIndex] of the grid dimension other than 'dimIndex' by
+     * processing whole (contiguous) rows of the source.
+     *
+     * @param source 3D grid data to be reduced
+     * @param dimIndex the axis index onto which the projection should be performed
+     * @param minIndex first grid index of the other dimension
+     * @param maxIndex last grid index of the other dimension
+     * @param option one of {@link Option#MIN}, {@link Option#MAX}, {@link Option#MEAN} or {@link Option#INTEGRAL}
+     * @param result storage for the reduced values (needs to hold at least {@code source.getShape(dimIndex)} elements)
+     * @return the result array
+     */
+    public static double[] reduce(final GridDataSet source, final int dimIndex, final int minIndex, final int maxIndex, final Option option, final double[] result) {
+        if (option == Option.SLICE) {
+            throw new IllegalArgumentException("slices are not a reduction: " + option);
+        }
+        final int nDataCount = source.getShape(dimIndex);
+        final int nOther = source.getShape(dimIndex == DIM_X ? DIM_Y : DIM_X);
+        final int min = Math.min(minIndex, maxIndex);
+        final int max = Math.min(Math.max(Math.max(minIndex, maxIndex), min + 1), nOther - 1);
+        final int nSlices = Math.max(0, max - min + 1);
+        final int[] indices = new int[2];
+        if (nSlices == 0) {
+            Arrays.fill(result, 0, nDataCount, option == Option.INTEGRAL ? 0.0 : Double.NaN);
+            return result;
+        }
+
+        if (dimIndex == DIM_X) {
+            // combine whole rows (contiguous along x) over the y-range
+            final double[] row = DoubleArrayCache.getInstance().getArrayExact(nDataCount);
+            indices[DIM_Y] = min;
+            source.getSlice(DIM_Z, DIM_X, indices, nDataCount, result, 0);
+            for (int y = min + 1; y <= max; y++) {
+                indices[DIM_Y] = y;
+                source.getSlice(DIM_Z, DIM_X, indices, nDataCount, row, 0);
+                combineRows(option, row, result, nDataCount);
             }
-            for (int i = min + 1; i <= Math.min(max, nDataCount - 1); i++) {
-                final double val;
-                if (dimIndex == DataSet.DIM_Y) {
-                    val = source.get(DIM_Z, i, index);
-                } else {
-                    val = source.get(DIM_Z, index, i);
+            DoubleArrayCache.getInstance().add(row);
+            if (option == Option.MEAN) {
+                for (int x = 0; x < nDataCount; x++) {
+                    result[x] /= nSlices;
                 }
-                ret = isMin ? Math.min(val, ret) : Math.max(val, ret);
             }
-            this.add(x, ret);
+            return result;
+        }
+
+        // reduce the x-range of each row
+        final double[] row = DoubleArrayCache.getInstance().getArrayExact(nSlices);
+        indices[DIM_X] = min;
+        for (int y = 0; y < nDataCount; y++) {
+            indices[DIM_Y] = y;
+            source.getSlice(DIM_Z, DIM_X, indices, nSlices, row, 0);
+            result[y] = reduceRow(option, row, nSlices);
         }
+        DoubleArrayCache.getInstance().add(row);
+        return result;
     }
 
-    protected void updateSlice() {
-        this.clearData();
-        final int nDataCount = source.getShape(dimIndex);
-        for (int index = 0; index < nDataCount; index++) {
-            final double x = source.getGrid(dimIndex, index);
-            final double y;
-            if (dimIndex == DataSet.DIM_Y) {
-                y = source.get(DIM_Z, minIndex, index);
-            } else {
-                y = source.get(DIM_Z, index, minIndex);
+    private static void combineRows(final Option option, final double[] row, final double[] result, final int length) {
+        switch (option) {
+        case MIN:
+            for (int i = 0; i < length; i++) {
+                result[i] = Math.min(row[i], result[i]);
+            }
+            break;
+        case MAX:
+            for (int i = 0; i < length; i++) {
+                result[i] = Math.max(row[i], result[i]);
+            }
+            break;
+        case MEAN:
+        case INTEGRAL:
+        default:
+            for (int i = 0; i < length; i++) {
+                result[i] += row[i];
+            }
+            break;
+        }
+    }
+
+    private static double reduceRow(final Option option, final double[] row, final int length) {
+        double ret = row[0];
+        switch (option) {
+        case MIN:
+            for (int i = 1; i < length; i++) {
+                ret = Math.min(row[i], ret);
+            }
+            return ret;
+        case MAX:
+            for (int i = 1; i < length; i++) {
+                ret = Math.max(row[i], ret);
+            }
+            return ret;
+        case MEAN:
+        case INTEGRAL:
+        default:
+            for (int i = 1; i < length; i++) {
+                ret += row[i];
             }
-            this.add(x, y);
+            return option == Option.MEAN ? ret / length : ret;
         }
     }
 }
@@ -0,0 +1,273 @@
+package io.fair_acc.dataset.spi;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.fair_acc.dataset.DataSet;
+import io.fair_acc.dataset.DataSet2D;
+import io.fair_acc.dataset.events.ChartBits;
+import io.fair_acc.dataset.locks.DataSetLock;
+import io.fair_acc.dataset.locks.DefaultDataSetLock;
+import io.fair_acc.dataset.utils.AssertUtils;
+import io.fair_acc.dataset.utils.IndexedStringConsumer;
+
+/**
+ * Triple-buffered data set for high-rate producers that must not be stalled by slow readers (e.g. the chart holding
+ * the read lock for a whole rendering pulse).
+ * <p>
+ * The producer writes exclusively into the {@link #getBackBuffer() back buffer} and hands it over via
+ * {@link #publish()}, which only swaps buffer indices atomically and never waits for the readers. Readers see an
+ * immutable front snapshot through the regular {@link DataSet} interface and {@link #lock()}. The latest published
+ * buffer is latched into the front once a reader acquires the read lock and no other reader is holding it, i.e. the
+ * snapshot does not change while any reader holds the lock. Intermediate buffers that have been published but not been
+ * latched in the meantime are skipped.
+ * <p>
+ * Usage (single producer thread, or externally synchronised producers):
+ *
+ * <pre>
+ * final DoubleBufferedDataSet dataSet = new DoubleBufferedDataSet("acquisition");
+ * // producer thread
+ * dataSet.getBackBuffer().set(xValues, yValues, yErrorsNeg, yErrorsPos, true);
+ * dataSet.publish();
+ * </pre>
+ * <p>
+ * By default, the back buffer handed to the producer after {@link #publish()} contains stale data of an earlier
+ * publication, i.e. the producer is expected to overwrite the whole content. Producers that incrementally append to
+ * the published data need to enable {@link #setRetainData(boolean)}, which copies the published buffer into the new
+ * back buffer on each {@link #publish()}, i.e. costs O(n) per publication.
+ * <p>
+ * N.B. data labels and styles are taken from the front buffer. {@link #addDataLabel(int, String)},
+ * {@link #addDataStyle(int, String)}, {@link #removeDataLabel(int)} and {@link #removeStyle(int)} are forwarded to the
+ * back buffer, i.e. are producer-side operations that become visible with the next {@link #publish()}.
+ */
+public class DoubleBufferedDataSet extends AbstractErrorDataSet<DoubleBufferedDataSet> implements DataSet2D {
+    private static final long serialVersionUID = -7398418542151271653L;
+    private static final int INDEX_MASK = 0x3;
+    private static final int DIRTY = 0x4; // the pending buffer has been published but not yet latched by a reader
+    private final transient DoubleErrorDataSet[] buffers = new DoubleErrorDataSet[3];
+    private final transient AtomicInteger pending = new AtomicInteger(1); // buffer index (and DIRTY flag) shared between producer and readers
+    private transient int frontIndex; // owned by the readers, only changed under the write lock
+    private transient int backIndex = 2; // owned by the producer
+    private final transient DefaultDataSetLock<DoubleBufferedDataSet> bufferedLock = new DefaultDataSetLock<>(this, new DefaultDataSetLock.DeferredUpdate() {
+        @Override
+        public boolean isPending() {
+            return DoubleBufferedDataSet.this.isPending();
+        }
+
+        @Override
+        public void merge() {
+            latchFrontBuffer();
+        }
+
+        @Override
+        public void notifyPending() {
+            fireInvalidated(ChartBits.DataSetData);
+        }
+    });
+    private boolean retainData;
+
+    /**
+     * @param name data set name
+     */
+    public DoubleBufferedDataSet(final String name) {
+        this(name, 0);
+    }
+
+    /**
+     * @param name data set name
+     * @param initialCapacity initial capacity of each of the buffers
+     */
+    public DoubleBufferedDataSet(final String name, final int initialCapacity) {
+        super(name, 2, ErrorType.NO_ERROR, ErrorType.ASYMMETRIC);
+        AssertUtils.gtEqThanZero("initialCapacity", initialCapacity);
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = new DoubleErrorDataSet(name, initialCapacity);
+        }
+    }
+
+    /**
+     * N.B. producer-side operation, see {@link #getBackBuffer()}
+     */
+    @Override
+    public String addDataLabel(final int index, final String label) {
+        return getBackBuffer().addDataLabel(index, label);
+    }
+
+    /**
+     * N.B. producer-side operation, see {@link #getBackBuffer()}
+     */
+    @Override
+    public String addDataStyle(final int index, final String style) {
+        return getBackBuffer().addDataStyle(index, style);
+    }
+
+    @Override
+    public void forEachDataLabel(final int minIx, final int maxIx, final IndexedStringConsumer consumer) {
+        getFrontBuffer().forEachDataLabel(minIx, maxIx, consumer);
+    }
+
+    @Override
+    public void forEachStyle(final int minIx, final int maxIx, final IndexedStringConsumer consumer) {
+        getFrontBuffer().forEachStyle(minIx, maxIx, consumer);
+    }
+
+    @Override
+    public double get(final int dimIndex, final int index) {
+        return getFrontBuffer().get(dimIndex, index);
+    }
+
+    /**
+     * N.B. to be accessed by the producer only. The buffer is handed over to the readers by {@link #publish()}.
+     *
+     * @return the buffer the producer writes into
+     */
+    public DoubleErrorDataSet getBackBuffer() {
+        return buffers[backIndex];
+    }
+
+    @Override
+    public int getDataCount() {
+        return getFrontBuffer().getDataCount();
+    }
+
+    @Override
+    public String getDataLabel(final int index) {
+        return getFrontBuffer().getDataLabel(index);
+    }
+
+    @Override
+    public double getErrorNegative(final int dimIndex, final int index) {
+        return getFrontBuffer().getErrorNegative(dimIndex, index);
+    }
+
+    @Override
+    public double getErrorPositive(final int dimIndex, final int index) {
+        return getFrontBuffer().getErrorPositive(dimIndex, index);
+    }
+
+    @Override
+    public double[] getErrorsNegative(final int dimIndex) {
+        return getFrontBuffer().getErrorsNegative(dimIndex);
+    }
+
+    @Override
+    public double[] getErrorsPositive(final int dimIndex) {
+        return getFrontBuffer().getErrorsPositive(dimIndex);
+    }
+
+    @Override
+    public ErrorType getErrorType(final int dimIndex) {
+        return getFrontBuffer().getErrorType(dimIndex);
+    }
+
+    @Override
+    public String getStyle(final int index) {
+        return getFrontBuffer().getStyle(index);
+    }
+
+    @Override
+    public double[] getValues(final int dimIndex) {
+        return getFrontBuffer().getValues(dimIndex);
+    }
+
+    @Override
+    public boolean hasDataLabels() {
+        return getFrontBuffer().hasDataLabels();
+    }
+
+    @Override
+    public boolean hasStyles() {
+        return getFrontBuffer().hasStyles();
+    }
+
+    /**
+     * @return {@code true} if a published buffer is waiting to be latched into the front by the next reader
+     */
+    public boolean isPending() {
+        return (pending.get() & DIRTY) != 0;
+    }
+
+    /**
+     * @return {@code true}: the new back buffer is initialised with the published data on {@link #publish()}, default:
+     *         {@code false}
+     */
+    public boolean isRetainData() {
+        return retainData;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public DataSetLock<? extends DataSet> lock() {
+        return bufferedLock;
+    }
+
+    /**
+     * N.B. producer-side operation, see {@link #getBackBuffer()}
+     */
+    @Override
+    public String removeDataLabel(final int index) {
+        return getBackBuffer().removeDataLabel(index);
+    }
+
+    /**
+     * N.B. producer-side operation, see {@link #getBackBuffer()}
+     */
+    @Override
+    public String removeStyle(final int index) {
+        return getBackBuffer().removeStyle(index);
+    }
+
+    /**
+     * Hands the back buffer over to the readers and notifies the listeners. This never blocks on the readers' lock.
+     * Depending on {@link #isRetainData()}, the new back buffer keeps the stale content of an earlier publication (for
+     * producers that overwrite the whole data set, default) or is initialised with an O(n) copy of the published data
+     * (for producers that append to the existing data).
+     *
+     * @return itself (fluent design)
+     */
+    public DoubleBufferedDataSet publish() {
+        final int published = backIndex;
+        backIndex = pending.getAndSet(published | DIRTY) & INDEX_MASK;
+        if (retainData) {
+            // N.B. the published buffer is read-only from here on, i.e. may be read concurrently with the readers
+            buffers[backIndex].set(buffers[published], true);
+        }
+        fireInvalidated(ChartBits.DataSetData);
+        return getThis();
+    }
+
+    /**
+     * Copies the data of the other data set into the back buffer and publishes it.
+     *
+     * @param other the source data set
+     * @param copy N.B. the data is always copied
+     * @return itself (fluent design)
+     */
+    @Override
+    public DoubleBufferedDataSet set(final DataSet other, final boolean copy) {
+        getBackBuffer().set(other, true);
+        return publish();
+    }
+
+    /**
+     * @param state {@code true}: the new back buffer is initialised with a copy of the published data on
+     *            {@link #publish()}, i.e. O(n) per publication
+     * @return itself (fluent design)
+     */
+    public DoubleBufferedDataSet setRetainData(final boolean state) {
+        retainData = state;
+        return getThis();
+    }
+
+    private DoubleErrorDataSet getFrontBuffer() {
+        return buffers[frontIndex];
+    }
+
+    /**
+     * Latches the latest published buffer into the front. N.B. invoked by the lock before the first reader while
+     * holding the write lock.
+     */
+    private void latchFrontBuffer() {
+        frontIndex = pending.getAndSet(frontIndex) & INDEX_MASK;
+        invalidateLimits();
+    }
+}
@@ -4,24 +4,32 @@ import io.fair_acc.dataset.AxisDescription;
 import io.fair_acc.dataset.DataSet;
 import io.fair_acc.dataset.DataSet2D;
 import io.fair_acc.dataset.EditableDataSet;
+import io.fair_acc.dataset.MinMaxIndexedDataSet;
 import io.fair_acc.dataset.events.ChartBits;
 import io.fair_acc.dataset.spi.fastutil.DoubleArrayList;
 import io.fair_acc.dataset.utils.AssertUtils;
+import io.fair_acc.dataset.utils.MinMaxPyramid;
 
 /**
  * Implementation of the {@code DataSet} interface which stores x,y values in two separate arrays. It provides methods
  * allowing easily manipulate of data points.
  *
+ * <p>
+ * For very large data sets, an optional min/max index of the y-values can be enabled via
+ * {@link #setMinMaxPyramidEnabled(boolean)} that allows renderers to decimate the data to O(pixels) points. The index
+ * is updated incrementally, i.e. appending data only touches O(log(n)) index entries.
+ *
  * @see DoubleErrorDataSet for an implementation with asymmetric errors in Y
  * @author rstein
  */
 @SuppressWarnings("PMD.TooManyMethods") // part of the flexible class nature
-public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements EditableDataSet, DataSet2D {
+public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements EditableDataSet, DataSet2D, MinMaxIndexedDataSet {
     private static final long serialVersionUID = -493232313124620828L;
     private static final String X_COORDINATES = "X coordinates";
     private static final String Y_COORDINATES = "Y coordinates";
     protected DoubleArrayList xValues; // way faster than java default lists
     protected DoubleArrayList yValues; // way faster than java default lists
+    protected transient MinMaxPyramid minMaxPyramid; // optional, null: disabled
 
     /**
      * Creates a new instance of <code>DoubleDataSet</code> as copy of another (deep-copy).
@@ -101,6 +109,7 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
         lock().writeLockGuard(() -> {
             xValues.add(x);
             yValues.add(y);
+            updateMinMaxPyramid(yValues.size() - 1, yValues.size());
 
             if ((label != null) && !label.isEmpty()) {
                 addDataLabel(xValues.size() - 1, label);
@@ -128,9 +137,11 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
         lock().writeLockGuard(() -> {
             final int addAt = xValues.size();
             final int newElements = Math.min(xValuesNew.length, yValuesNew.length);
-            resize(addAt + newElements);
+            xValues.size(addAt + newElements);
+            yValues.size(addAt + newElements);
             xValues.setElements(addAt, xValuesNew);
             yValues.setElements(addAt, yValuesNew);
+            updateMinMaxPyramid(addAt, yValues.size());
 
             getAxisDescription(DIM_X).add(xValuesNew);
             getAxisDescription(DIM_Y).add(yValuesNew);
@@ -179,8 +190,10 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
 
             xValues.add(indexAt, x);
             yValues.add(indexAt, y);
-            getDataLabelMap().addValueAndShiftKeys(indexAt, xValues.size(), label);
-            getDataStyleMap().shiftKeys(indexAt, xValues.size());
+            updateMinMaxPyramid(indexAt, yValues.size());
+            getDataLabelMap().insert(indexAt, 1);
+            getDataLabelMap().put(indexAt, label);
+            getDataStyleMap().insert(indexAt, 1);
             getAxisDescription(DIM_X).add(x);
             getAxisDescription(DIM_Y).add(y);
         });
@@ -206,10 +219,11 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
             final int indexAt = Math.max(0, Math.min(index, getDataCount() + 1));
             xValues.addElements(indexAt, x, 0, min);
             yValues.addElements(indexAt, y, 0, min);
+            updateMinMaxPyramid(indexAt, yValues.size());
             getAxisDescription(DIM_X).add(x, min);
             getAxisDescription(DIM_Y).add(y, min);
-            getDataLabelMap().shiftKeys(indexAt, xValues.size());
-            getDataStyleMap().shiftKeys(indexAt, xValues.size());
+            getDataLabelMap().insert(indexAt, min);
+            getDataStyleMap().insert(indexAt, min);
         });
         fireInvalidated(ChartBits.DataSetDataAdded);
         return getThis();
@@ -224,11 +238,12 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
         lock().writeLockGuard(() -> {
             xValues.clear();
             yValues.clear();
+            updateMinMaxPyramid(0, 0);
             getDataLabelMap().clear();
             getDataStyleMap().clear();
             clearMetaInfo();
 
-            getAxisDescriptions().forEach(AxisDescription::clear);
+            invalidateLimits();
         });
         fireInvalidated(ChartBits.DataSetDataRemoved);
         return getThis();
@@ -251,6 +266,11 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
         return Math.min(xValues.size(), yValues.size());
     }
 
+    @Override
+    public MinMaxPyramid getMinMaxPyramid() {
+        return minMaxPyramid;
+    }
+
     @Override
     public final double[] getValues(final int dimIndex) {
         return dimIndex == DataSet.DIM_X ? xValues.elements() : yValues.elements();
@@ -295,13 +315,14 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
             final int clampedToIndex = Math.min(toIndex, getDataCount());
             xValues.removeElements(fromIndex, clampedToIndex);
             yValues.removeElements(fromIndex, clampedToIndex);
+            updateMinMaxPyramid(fromIndex, yValues.size());
 
             // remove old label and style keys
             getDataLabelMap().remove(fromIndex, clampedToIndex);
             getDataStyleMap().remove(fromIndex, clampedToIndex);
 
             // invalidate ranges
-            getAxisDescriptions().forEach(AxisDescription::clear);
+            invalidateLimits();
         });
         fireInvalidated(ChartBits.DataSetDataRemoved);
         return getThis();
@@ -315,8 +336,13 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
      */
     public DoubleDataSet resize(final int size) {
         lock().writeLockGuard(() -> {
+            final int oldSize = getDataCount();
+            if (size != oldSize) {
+                invalidateLimits();
+            }
             xValues.size(size);
             yValues.size(size);
+            updateMinMaxPyramid(oldSize, size);
         });
         fireInvalidated(ChartBits.DataSetData);
         return getThis();
@@ -413,9 +439,10 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
                 this.xValues = DoubleArrayList.wrap(xValues, nSamplesToAdd);
                 this.yValues = DoubleArrayList.wrap(yValues, nSamplesToAdd);
             }
+            updateMinMaxPyramid(0, this.yValues.size());
 
             // invalidate ranges
-            getAxisDescriptions().forEach(AxisDescription::clear);
+            invalidateLimits();
         });
         fireInvalidated(ChartBits.DataSetData);
         return getThis();
@@ -448,11 +475,12 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
             yValues.size(dataCount);
             xValues.elements()[index] = x;
             yValues.elements()[index] = y;
+            updateMinMaxPyramid(index, index + 1);
             getDataLabelMap().remove(index);
             getDataStyleMap().remove(index);
 
             // invalidate ranges
-            getAxisDescriptions().forEach(AxisDescription::clear);
+            invalidateLimits();
         });
         fireInvalidated(ChartBits.DataSetData);
         return getThis();
@@ -463,16 +491,37 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
             resize(Math.max(index + x.length, xValues.size()));
             System.arraycopy(x, 0, xValues.elements(), index, x.length);
             System.arraycopy(y, 0, yValues.elements(), index, y.length);
-            getDataLabelMap().remove(index, index + x.length);
-            getDataStyleMap().remove(index, index + x.length);
+            updateMinMaxPyramid(index, index + y.length);
+            getDataLabelMap().clear(index, index + x.length);
+            getDataStyleMap().clear(index, index + x.length);
 
             // invalidate ranges
-            getAxisDescriptions().forEach(AxisDescription::clear);
+            invalidateLimits();
         });
         fireInvalidated(ChartBits.DataSetData);
         return getThis();
     }
 
+    /**
+     * Enables or disables the min/max index of the y-values (disabled by default). Enabling it builds the index for the
+     * existing data, which is subsequently updated with every modification.
+     *
+     * @param state true: maintain the index, false: drop the index
+     * @return itself (fluent design)
+     * @see MinMaxIndexedDataSet
+     */
+    public DoubleDataSet setMinMaxPyramidEnabled(final boolean state) {
+        lock().writeLockGuard(() -> {
+            if (!state) {
+                minMaxPyramid = null; // NOPMD
+            } else if (minMaxPyramid == null) {
+                minMaxPyramid = new MinMaxPyramid();
+                updateMinMaxPyramid(0, yValues.size());
+            }
+        });
+        return getThis();
+    }
+
     /**
      * Trims the arrays list so that the capacity is equal to the size.
      *
@@ -487,4 +536,10 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
         fireInvalidated(ChartBits.DataSetData);
         return getThis();
     }
+
+    private void updateMinMaxPyramid(final int fromIndex, final int toIndex) {
+        if (minMaxPyramid != null) {
+            minMaxPyramid.update(yValues.elements(), yValues.size(), fromIndex, toIndex);
+        }
+    }
 }
@@ -157,15 +157,17 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
         lock().writeLockGuard(() -> {
             final int addAt = xValues.size();
             final int newElements = Math.min(Math.min(xValuesNew.length, yValuesNew.length), Math.min(yErrorsNegNew.length, yErrorsPosNew.length));
-            this.resize(addAt + newElements);
+            xValues.size(addAt + newElements);
+            yValues.size(addAt + newElements);
+            yErrorsNeg.size(addAt + newElements);
+            yErrorsPos.size(addAt + newElements);
 
             xValues.setElements(addAt, xValuesNew, 0, newElements);
             yValues.setElements(addAt, yValuesNew, 0, newElements);
             yErrorsNeg.setElements(addAt, yErrorsNegNew, 0, newElements);
             yErrorsPos.setElements(addAt, yErrorsPosNew, 0, newElements);
 
-            getAxisDescription(DIM_X).add(xValuesNew);
-            getAxisDescription(DIM_Y).add(yValuesNew);
+            addLimits(xValuesNew, yValuesNew, yErrorsNegNew, yErrorsPosNew, newElements);
         });
         fireInvalidated(ChartBits.DataSetDataAdded);
         return getThis();
@@ -231,8 +233,9 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
             yValues.add(indexAt, y);
             yErrorsNeg.add(indexAt, yErrorNeg);
             yErrorsPos.add(indexAt, yErrorPos);
-            getDataLabelMap().addValueAndShiftKeys(indexAt, xValues.size(), label);
-            getDataStyleMap().shiftKeys(indexAt, xValues.size());
+            getDataLabelMap().insert(indexAt, 1);
+            getDataLabelMap().put(indexAt, label);
+            getDataStyleMap().insert(indexAt, 1);
             getAxisDescription(DIM_X).add(x);
             getAxisDescription(DIM_Y).add(y - yErrorNeg);
             getAxisDescription(DIM_Y).add(y + yErrorPos);
@@ -268,11 +271,10 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
             yErrorsPos.addElements(indexAt, yErrorPos, 0, min);
 
             // recompute ranges
-            getAxisDescription(DIM_X).add(x);
-            getAxisDescription(DIM_Y).add(y);
+            addLimits(x, y, yErrorNeg, yErrorPos, min);
 
-            getDataLabelMap().shiftKeys(indexAt, xValues.size());
-            getDataStyleMap().shiftKeys(indexAt, xValues.size());
+            getDataLabelMap().insert(indexAt, min);
+            getDataStyleMap().insert(indexAt, min);
         });
 
         fireInvalidated(ChartBits.DataSetDataAdded);
@@ -294,7 +296,7 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
             getDataStyleMap().clear();
             clearMetaInfo();
 
-            getAxisDescriptions().forEach(AxisDescription::clear);
+            invalidateLimits();
         });
         fireInvalidated(ChartBits.DataSetDataRemoved);
         return getThis();
@@ -380,10 +382,10 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
 
             // remove old label and style keys
             getDataLabelMap().remove(fromIndex, clampedToIndex);
-            getDataLabelMap().remove(fromIndex, clampedToIndex);
+            getDataStyleMap().remove(fromIndex, clampedToIndex);
 
             // invalidate ranges
-            getAxisDescriptions().forEach(AxisDescription::clear);
+            invalidateLimits();
         });
         fireInvalidated(ChartBits.DataSetDataRemoved);
         return getThis();
@@ -397,6 +399,9 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
      */
     public DoubleErrorDataSet resize(final int size) {
         lock().writeLockGuard(() -> {
+            if (size != getDataCount()) {
+                invalidateLimits();
+            }
             xValues.size(size);
             yValues.size(size);
             yErrorsPos.size(size);
@@ -528,7 +533,7 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
             }
 
             // invalidate ranges
-            getAxisDescriptions().forEach(AxisDescription::clear);
+            invalidateLimits();
         });
         fireInvalidated(ChartBits.DataSetData);
         return getThis();
@@ -586,7 +591,7 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
             getDataStyleMap().remove(index);
 
             // invalidate ranges
-            getAxisDescriptions().forEach(AxisDescription::clear);
+            invalidateLimits();
         });
 
         fireInvalidated(ChartBits.DataSetData);
@@ -600,11 +605,11 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
             System.arraycopy(y, 0, yValues.elements(), index, y.length);
             System.arraycopy(yErrorNeg, 0, yErrorsNeg.elements(), index, yErrorNeg.length);
             System.arraycopy(yErrorPos, 0, yErrorsPos.elements(), index, yErrorPos.length);
-            getDataLabelMap().remove(index, index + x.length);
-            getDataStyleMap().remove(index, index + x.length);
+            getDataLabelMap().clear(index, index + x.length);
+            getDataStyleMap().clear(index, index + x.length);
 
             // invalidate ranges
-            getAxisDescriptions().forEach(AxisDescription::clear);
+            invalidateLimits();
         });
         fireInvalidated(ChartBits.DataSetData);
         return getThis();
@@ -626,4 +631,14 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
         fireInvalidated(ChartBits.DataSetDataRemoved);
         return getThis();
     }
+
+    private void addLimits(final double[] x, final double[] y, final double[] yErrorNeg, final double[] yErrorPos, final int length) {
+        final AxisDescription xRange = getAxisDescription(DIM_X);
+        final AxisDescription yRange = getAxisDescription(DIM_Y);
+        for (int i = 0; i < length; i++) {
+            xRange.add(x[i]);
+            yRange.add(y[i] - yErrorNeg[i]);
+            yRange.add(y[i] + yErrorPos[i]);
+        }
+    }
 }
@@ -15,6 +15,11 @@ import io.fair_acc.dataset.spi.utils.MultiArrayDouble;
  *
  * The data is stored in a row-major container, but as the renderer interface expects column major, the data is transposed
  * internally in the DoubleGridDataSet.
+ * <p>
+ * For bulk processing, the values of a value dimension may be accessed without copying via {@link #getValues(int)}
+ * using the strides of the grid dimensions, i.e. the value at the grid indices {@code (i0, i1, ...)} is located at
+ * {@code getValues(dimIndex)[i0 * getStride(0) + i1 * getStride(1) + ...]}, or row/column-wise copied into a caller
+ * provided buffer via {@link #getSlice(int, int, int[], int, double[], int)}.
  *
  * @author Alexander Krimm
  */
@@ -116,7 +121,10 @@ public class DoubleGridDataSet extends AbstractGridDataSet<DoubleGridDataSet> im
     @Override
     public double get(int dimIndex, int index) {
         if (dimIndex < shape.length) {
-            return grid[dimIndex][values[0].getIndices(index)[shape.length - 1 - dimIndex]];
+            if (index < 0 || index >= dataCount) {
+                throw new IndexOutOfBoundsException("index " + index + " out of bounds [0, " + dataCount + "[");
+            }
+            return grid[dimIndex][(index / getStride(dimIndex)) % shape[dimIndex]];
         }
         return values[dimIndex - shape.length].getStrided(index);
     }
@@ -157,7 +165,55 @@ public class DoubleGridDataSet extends AbstractGridDataSet<DoubleGridDataSet> im
         if (dimIndex < shape.length) {
             return grid[dimIndex][indices[dimIndex]];
         }
-        return values[dimIndex - shape.length].get(reverseOrder(indices));
+        return values[dimIndex - shape.length].getStrided(getFlatIndex(indices));
+    }
+
+    @Override
+    public double[] getSlice(final int dimIndex, final int gridDimIndex, final int[] indices, final int length, final double[] buffer, final int bufferOffset) {
+        final int start = gridDimIndex < indices.length ? indices[gridDimIndex] : 0;
+        if (gridDimIndex >= shape.length || length < 0 || start + length > shape[gridDimIndex]) {
+            throw new IndexOutOfBoundsException("slice [" + start + ", " + (start + length) + "[ out of bounds for grid dimension " + gridDimIndex);
+        }
+        if (length == 0) {
+            return buffer;
+        }
+        if (dimIndex < shape.length) {
+            if (dimIndex == gridDimIndex) {
+                System.arraycopy(grid[dimIndex], start, buffer, bufferOffset, length);
+            } else {
+                Arrays.fill(buffer, bufferOffset, bufferOffset + length, grid[dimIndex][dimIndex < indices.length ? indices[dimIndex] : 0]);
+            }
+            return buffer;
+        }
+        final MultiArrayDouble array = values[dimIndex - shape.length];
+        final double[] elements = array.elements();
+        final int stride = getStride(gridDimIndex);
+        int index = array.getOffset() + getFlatIndex(indices);
+        if (stride == 1) {
+            System.arraycopy(elements, index, buffer, bufferOffset, length);
+            return buffer;
+        }
+        for (int i = 0; i < length; i++) {
+            buffer[bufferOffset + i] = elements[index];
+            index += stride;
+        }
+        return buffer;
+    }
+
+    /**
+     * @param gridDimIndex grid dimension
+     * @return distance within {@link #getValues(int) the value arrays} between neighbouring values along the grid
+     *         dimension
+     */
+    public int getStride(final int gridDimIndex) {
+        if (gridDimIndex >= shape.length) {
+            throw new IndexOutOfBoundsException("Grid index out of bounds");
+        }
+        int stride = 1;
+        for (int i = 0; i < gridDimIndex; i++) {
+            stride *= shape[i];
+        }
+        return stride;
     }
 
     @Override
@@ -257,7 +313,7 @@ public class DoubleGridDataSet extends AbstractGridDataSet<DoubleGridDataSet> im
      * @return itself for method chaining
      */
     public GridDataSet set(int dimIndex, int[] indices, double value) {
-        lock().writeLockGuard(() -> values[dimIndex - shape.length].set(indices, value));
+        lock().writeLockGuard(() -> values[dimIndex - shape.length].setStrided(getFlatIndex(indices), value));
         fireInvalidated(ChartBits.DataSetData);
         return getThis();
     }
@@ -266,6 +322,21 @@ public class DoubleGridDataSet extends AbstractGridDataSet<DoubleGridDataSet> im
         set(false, new double[shape.length][0], new double[1][0]);
     }
 
+    /**
+     * @param indices grid indices (missing indices are treated as zero)
+     * @return index within the value arrays
+     */
+    private int getFlatIndex(final int[] indices) {
+        int index = 0;
+        for (int i = Math.min(indices.length, shape.length) - 1; i >= 0; i--) {
+            if (indices[i] < 0 || indices[i] >= shape[i]) {
+                throw new IndexOutOfBoundsException("Index " + indices[i] + " for dimension " + i + " out of bounds " + shape[i]);
+            }
+            index = index * shape[i] + indices[i];
+        }
+        return index;
+    }
+
     private static int[] reverseOrder(final int[] input) {
         final int[] result = new int[input.length];
         for (int i = 0; i < input.length; i++) {
@@ -1,8 +1,5 @@
 package io.fair_acc.dataset.spi;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import io.fair_acc.dataset.AxisDescription;
 import io.fair_acc.dataset.DataSet;
 import io.fair_acc.dataset.DataSet2D;
@@ -10,18 +7,28 @@ import io.fair_acc.dataset.DataSetError;
 import io.fair_acc.dataset.events.ChartBits;
 import io.fair_acc.dataset.spi.utils.DoublePointError;
 import io.fair_acc.dataset.utils.AssertUtils;
+import io.fair_acc.dataset.utils.DoubleRingBuffer;
 import io.fair_acc.dataset.utils.LimitedQueue;
+import io.fair_acc.dataset.utils.SlidingWindowMinMax;
 
 /**
  * Limited Fifo DoubleErrorDataSet.
  * Maximum number of samples and maximum horizontal span are configurable
+ * <p>
+ * The samples are stored in primitive ring buffer columns, data labels and styles are kept in the sparse maps of the
+ * parent and shifted when old samples are dropped. The x
+ * coordinates are assumed to be increasing (e.g. time stamps) so that expired samples are found via binary search.
  * @author rstein
  */
-public class FifoDoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet> implements DataSetError, DataSet2D {
-    private static final int SAFE_BET = 1;
+public class FifoDoubleErrorDataSet extends AbstractErrorDataSet<FifoDoubleErrorDataSet> implements DataSetError, DataSet2D {
     private static final long serialVersionUID = -7153702141838930486L;
-    protected final transient LimitedQueue<DataBlob> data;
+    protected final transient DoubleRingBuffer xValues;
+    protected final transient DoubleRingBuffer yValues;
+    protected final transient DoubleRingBuffer yErrorsNeg;
+    protected final transient DoubleRingBuffer yErrorsPos;
     protected double maxDistance;
+    private final transient SlidingWindowMinMax xLimits;
+    private final transient SlidingWindowMinMax yLimits;
 
     /**
      * Creates a new instance of <code>FifoDoubleErrorDataSet</code>.
@@ -51,7 +58,12 @@ public class FifoDoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorData
             throw new IllegalArgumentException("negative or zero maxDistance = " + maxDistance);
         }
         this.maxDistance = maxDistance;
-        data = new LimitedQueue<>(initialSize);
+        xValues = new DoubleRingBuffer(initialSize);
+        yValues = new DoubleRingBuffer(initialSize);
+        yErrorsNeg = new DoubleRingBuffer(initialSize);
+        yErrorsPos = new DoubleRingBuffer(initialSize);
+        xLimits = new SlidingWindowMinMax(initialSize);
+        yLimits = new SlidingWindowMinMax(initialSize);
     }
 
     /**
@@ -83,7 +95,7 @@ public class FifoDoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorData
     }
 
     /**
-     * Add point to the DoublePoints object
+     * Add point to the DoublePoints object. Points with a non-finite x coordinate are dropped.
      *
      * @param x the new x coordinate
      * @param y the new y coordinate
@@ -96,13 +108,25 @@ public class FifoDoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorData
     public FifoDoubleErrorDataSet add(final double x, final double y, final double yErrorNeg, final double yErrorPos,
             final String tag, final String style) {
         lock().writeLockGuard(() -> {
-            data.add(new DataBlob(x, y, yErrorNeg, yErrorPos, tag, style));
-            this.getAxisDescription(DIM_X).add(x);
-            this.getAxisDescription(DIM_Y).add(y - yErrorNeg);
-            this.getAxisDescription(DIM_Y).add(y + yErrorPos);
+            if (!Double.isFinite(x)) {
+                return;
+            }
+            if (getDataCount() == xValues.capacity()) {
+                drop(1);
+            }
+            xValues.put(x);
+            yValues.put(y);
+            yErrorsNeg.put(yErrorNeg);
+            yErrorsPos.put(yErrorPos);
+            final int index = getDataCount() - 1;
+            getDataLabelMap().put(index, tag);
+            getDataStyleMap().put(index, style);
+            xLimits.add(x);
+            yLimits.add(y - yErrorNeg, y + yErrorPos);
 
             // remove old fields if necessary
             expire(x);
+            updateLimits();
         });
         fireInvalidated(ChartBits.DataSetDataAdded);
         return this;
@@ -154,28 +178,31 @@ public class FifoDoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorData
 
     /**
      * expire data points that are older than now minus length of the buffer, notifies a 'fireInvalidated()' in case
-     * data has been removed
+     * data has been removed. Since the x coordinates are assumed to be increasing, the expired samples are located via
+     * binary search.
      *
      * @param now the newest time-stamp
      * @return number of items that have been removed
      */
     public int expire(final double now) {
         final int dataPointsToRemove = lock().writeLockGuard(() -> {
-            final List<DataBlob> toRemoveList = new ArrayList<>(SAFE_BET);
-            for (final DataBlob blob : data) {
-                final double x = blob.getX();
-
-                if (!Double.isFinite(x) || Math.abs(now - x) > maxDistance) {
-                    toRemoveList.add(blob);
+            final double oldest = now - maxDistance;
+            // first index with x >= oldest
+            int low = 0;
+            int high = getDataCount();
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (xValues.get(mid) < oldest) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
                 }
             }
-
-            if (!toRemoveList.isEmpty()) {
-                // remove elements and invalidate ranges if necessary
-                data.removeAll(toRemoveList);
-                getAxisDescriptions().forEach(AxisDescription::clear);
+            if (low > 0) {
+                drop(low);
+                updateLimits();
             }
-            return toRemoveList.size();
+            return low;
         });
         if (dataPointsToRemove != 0) {
             fireInvalidated(ChartBits.DataSetDataRemoved);
@@ -185,34 +212,46 @@ public class FifoDoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorData
 
     @Override
     public final double get(final int dimIndex, final int index) {
-        return dimIndex == DataSet.DIM_X ? data.get(index).getX() : data.get(index).getY();
+        return dimIndex == DataSet.DIM_X ? xValues.get(index) : yValues.get(index);
     }
 
     /**
-     * @return the internal data container (N.B. this is not thread-safe)
+     * @return a copy of the buffered data points, {@link #get(int, int)} and {@link #getValues(int)} avoid the
+     *         per-point allocation
      */
     public LimitedQueue<DataBlob> getData() {
-        return data;
+        return lock().readLockGuard(() -> {
+            final LimitedQueue<DataBlob> data = new LimitedQueue<>(xValues.capacity());
+            for (int i = 0; i < getDataCount(); i++) {
+                data.add(new DataBlob(xValues.get(i), yValues.get(i), yErrorsNeg.get(i), yErrorsPos.get(i), getDataLabel(i), getStyle(i)));
+            }
+            return data;
+        });
     }
 
     @Override
     public int getDataCount() {
-        return data.size();
+        return xValues.available();
     }
 
     @Override
-    public String getDataLabel(final int index) {
-        return data.get(index).getDataLabel();
+    public double getErrorNegative(final int dimIndex, final int index) {
+        return dimIndex == DIM_X ? 0.0 : yErrorsNeg.get(index);
     }
 
     @Override
-    public double getErrorNegative(final int dimIndex, final int index) {
-        return dimIndex == DIM_X ? 0.0 : data.get(index).getErrorX();
+    public double getErrorPositive(final int dimIndex, final int index) {
+        return dimIndex == DIM_X ? 0.0 : yErrorsPos.get(index);
     }
 
     @Override
-    public double getErrorPositive(final int dimIndex, final int index) {
-        return dimIndex == DIM_X ? 0.0 : data.get(index).getErrorY();
+    public double[] getErrorsNegative(final int dimIndex) {
+        return dimIndex == DIM_X ? new double[getDataCount()] : copyOf(yErrorsNeg);
+    }
+
+    @Override
+    public double[] getErrorsPositive(final int dimIndex) {
+        return dimIndex == DIM_X ? new double[getDataCount()] : copyOf(yErrorsPos);
     }
 
     /**
@@ -223,15 +262,28 @@ public class FifoDoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorData
     }
 
     @Override
-    public String getStyle(final int index) {
-        return data.get(index).getStyle();
+    public double[] getValues(final int dimIndex) {
+        return copyOf(dimIndex == DIM_X ? xValues : yValues);
+    }
+
+    /**
+     * The limits are tracked incrementally while data is added and expired, thus no rescan of the buffer is needed.
+     */
+    @Override
+    public FifoDoubleErrorDataSet recomputeLimits(final int dimIndex) {
+        final SlidingWindowMinMax limits = dimIndex == DIM_X ? xLimits : yLimits;
+        getAxisDescription(dimIndex).set(limits.getMin(), limits.getMax());
+        return getThis();
     }
 
     /**
      * remove all data points
      */
     public void reset() {
-        data.clear();
+        lock().writeLockGuard(() -> {
+            drop(getDataCount());
+            getAxisDescriptions().forEach(AxisDescription::clear);
+        });
         fireInvalidated(ChartBits.DataSetDataRemoved);
     }
 
@@ -242,6 +294,33 @@ public class FifoDoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorData
         this.maxDistance = maxDistance;
     }
 
+    private double[] copyOf(final DoubleRingBuffer buffer) {
+        final double[] values = new double[buffer.available()];
+        buffer.get(values, 0, values.length);
+        return values;
+    }
+
+    /**
+     * removes the oldest samples including their labels and styles
+     *
+     * @param nSamples number of samples to be removed
+     */
+    private void drop(final int nSamples) {
+        xValues.skip(nSamples);
+        yValues.skip(nSamples);
+        yErrorsNeg.skip(nSamples);
+        yErrorsPos.skip(nSamples);
+        xLimits.remove(nSamples);
+        yLimits.remove(nSamples);
+        getDataLabelMap().remove(0, nSamples);
+        getDataStyleMap().remove(0, nSamples);
+    }
+
+    private void updateLimits() {
+        getAxisDescription(DIM_X).set(xLimits.getMin(), xLimits.getMax());
+        getAxisDescription(DIM_Y).set(yLimits.getMin(), yLimits.getMax());
+    }
+
     protected static class DataBlob extends DoublePointError {
         protected String style;
         protected String tag;
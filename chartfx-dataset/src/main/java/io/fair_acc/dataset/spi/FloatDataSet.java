@@ -184,8 +184,9 @@ public class FloatDataSet extends AbstractDataSet<FloatDataSet> implements DataS
 
             xValues.add(indexAt, x);
             yValues.add(indexAt, y);
-            getDataLabelMap().addValueAndShiftKeys(indexAt, xValues.size(), label);
-            getDataStyleMap().shiftKeys(indexAt, xValues.size());
+            getDataLabelMap().insert(indexAt, 1);
+            getDataLabelMap().put(indexAt, label);
+            getDataStyleMap().insert(indexAt, 1);
             getAxisDescription(DIM_X).add(x);
             getAxisDescription(DIM_Y).add(y);
         });
@@ -216,8 +217,8 @@ public class FloatDataSet extends AbstractDataSet<FloatDataSet> implements DataS
                 getAxisDescription(DIM_Y).add(y[i]);
             }
 
-            getDataLabelMap().shiftKeys(indexAt, xValues.size());
-            getDataStyleMap().shiftKeys(indexAt, xValues.size());
+            getDataLabelMap().insert(indexAt, min);
+            getDataStyleMap().insert(indexAt, min);
         });
         fireInvalidated(ChartBits.DataSetDataAdded);
         return getThis();
@@ -301,7 +302,7 @@ public class FloatDataSet extends AbstractDataSet<FloatDataSet> implements DataS
 
             // remove old label and style keys
             getDataLabelMap().remove(fromIndex, clampedToIndex);
-            getDataLabelMap().remove(fromIndex, clampedToIndex);
+            getDataStyleMap().remove(fromIndex, clampedToIndex);
 
             // invalidate ranges
             // -> fireInvalidated calls computeLimits for autoNotification
@@ -463,8 +464,8 @@ public class FloatDataSet extends AbstractDataSet<FloatDataSet> implements DataS
             resize(Math.max(index + x.length, xValues.size()));
             System.arraycopy(MathUtils.toFloats(x), 0, xValues.elements(), index, x.length);
             System.arraycopy(MathUtils.toFloats(y), 0, yValues.elements(), index, y.length);
-            getDataLabelMap().remove(index, index + x.length);
-            getDataStyleMap().remove(index, index + x.length);
+            getDataLabelMap().clear(index, index + x.length);
+            getDataStyleMap().clear(index, index + x.length);
 
             // invalidate ranges
             getAxisDescriptions().forEach(AxisDescription::clear);
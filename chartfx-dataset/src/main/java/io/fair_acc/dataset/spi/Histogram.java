@@ -75,40 +75,67 @@ public class Histogram extends AbstractHistogram implements Histogram1D, DataSet
         }
     }
 
-    @Override
-    public void addBinContent(final int bin, final double w) {
-        lock().writeLockGuard(() -> {
-            data[bin] += w;
-            if (bin == 0 || bin == data.length - 1) {
-                return;
-            }
-            if (getDimension() == 2) {
-                getAxisDescription(isHorizontal ? DIM_Y : DIM_X).add(data[bin]);
-            } else {
-                getAxisDescription(getDimension() - 1).add(data[bin]);
+    /**
+     * Thread-safe and non-blocking variant of {@link #fill(double, double)} for (multiple) high-rate producers. The
+     * entry becomes visible once a reader acquires the read lock (or after {@link #mergeAccumulated()}).
+     *
+     * @param x new value to be added
+     * @param w weight
+     * @return corresponding bin number which has its content incremented by w
+     */
+    public int accumulate(final double x, final double w) {
+        final int bin = findBin(isHorizontal ? DIM_X : DIM_Y, x);
+        accumulateBinContent(bin, w);
+        return bin;
+    }
+
+    /**
+     * Thread-safe and non-blocking variant of {@link #fillN(double[], double[], int)} for (multiple) high-rate
+     * producers. The entries become visible once a reader acquires the read lock (or after
+     * {@link #mergeAccumulated()}).
+     *
+     * @param x x coordinates to be added.
+     * @param w weights to be added.
+     * @param stepSize step size through arrays x and w
+     */
+    public void accumulateN(final double[] x, final double[] w, final int stepSize) {
+        AssertUtils.gtThanZero("stepSize", stepSize);
+        final int dimIndex = isHorizontal ? DIM_X : DIM_Y;
+        accumulateBatch(partial -> {
+            for (int i = 0; i < x.length; i += stepSize) {
+                partial.add(findBin(dimIndex, x[i]), w[i]);
             }
         });
-        fireInvalidated(ChartBits.DataSetData);
     }
 
     @Override
     public int fill(final double x, final double w) {
-        final int retVal = lock().writeLockGuard(() -> {
-            final int bin = findBin(isHorizontal ? DIM_X : DIM_Y, x);
-            addBinContent(bin, w);
-            return bin;
-        });
+        final int bin = findBin(isHorizontal ? DIM_X : DIM_Y, x);
+        lock().writeLock();
+        try {
+            data[bin] += w;
+            updateBinContentRange(bin);
+        } finally {
+            lock().writeUnLock();
+        }
         fireInvalidated(ChartBits.DataSetDataAdded);
-        return retVal;
+        return bin;
     }
 
     @Override
-    public void fillN(double[] x, double[] w, int stepSize) {
-        lock().writeLockGuard(() -> {
-            for (int i = 0; i < x.length; i++) {
-                this.fill(x[i], w[i]);
+    public void fillN(final double[] x, final double[] w, final int stepSize) {
+        AssertUtils.gtThanZero("stepSize", stepSize);
+        final int dimIndex = isHorizontal ? DIM_X : DIM_Y;
+        lock().writeLock();
+        try {
+            for (int i = 0; i < x.length; i += stepSize) {
+                final int bin = findBin(dimIndex, x[i]);
+                data[bin] += w[i];
+                updateBinContentRange(bin);
             }
-        });
+        } finally {
+            lock().writeUnLock();
+        }
         fireInvalidated(ChartBits.DataSetDataAdded);
     }
 
@@ -157,6 +184,7 @@ public class Histogram extends AbstractHistogram implements Histogram1D, DataSet
 
     @Override
     public void reset() {
+        resetAccumulated();
         Arrays.fill(data, 0.0);
         getDataStyleMap().clear();
         getDataLabelMap().clear();
@@ -174,6 +202,18 @@ public class Histogram extends AbstractHistogram implements Histogram1D, DataSet
         throw new UnsupportedOperationException("set is not implemented");
     }
 
+    @Override
+    protected void updateBinContentRange(final int bin) {
+        if (bin == 0 || bin == data.length - 1) {
+            return;
+        }
+        if (getDimension() == 2) {
+            getAxisDescription(isHorizontal ? DIM_Y : DIM_X).add(data[bin]);
+        } else {
+            getAxisDescription(getDimension() - 1).add(data[bin]);
+        }
+    }
+
     protected void flipAbscissaWithOrdinate() {
         getAxisDescription(DIM_Y).set(getAxisDescription(DIM_X));
         getAxisDescription(DIM_X).clear();
@@ -37,6 +37,43 @@ public class Histogram2 extends AbstractHistogram implements Histogram2D {
         yProjection = new Histogram(name + "-Proj-Y", nBinsY, minY, maxY, false, boundsType);
     }
 
+    /**
+     * Thread-safe and non-blocking variant of {@link #fill(double, double, double)} for (multiple) high-rate
+     * producers. The entry becomes visible once a reader acquires the read lock of this histogram, respectively of
+     * the projections (or after {@link #mergeAccumulated()}).
+     *
+     * @param x new value to be added
+     * @param y new value to be added
+     * @param w weight
+     * @return corresponding bin number which has its content incremented by w
+     */
+    public int accumulate(final double x, final double y, final double w) {
+        xProjection.accumulate(x, w);
+        yProjection.accumulate(y, w);
+        final int bin = findBin(x, y);
+        accumulateBinContent(bin, w);
+        return bin;
+    }
+
+    /**
+     * Thread-safe and non-blocking batch variant of {@link #accumulate(double, double, double)}.
+     *
+     * @param x x coordinates to be added.
+     * @param y y coordinates to be added.
+     * @param w weights to be added.
+     * @param stepSize step size through arrays x, y and w
+     */
+    public void accumulateN(final double[] x, final double[] y, final double[] w, final int stepSize) {
+        AssertUtils.gtThanZero("stepSize", stepSize);
+        xProjection.accumulateN(x, w, stepSize);
+        yProjection.accumulateN(y, w, stepSize);
+        accumulateBatch(partial -> {
+            for (int i = 0; i < x.length; i += stepSize) {
+                partial.add(findBin(x[i], y[i]), w[i]);
+            }
+        });
+    }
+
     /*
      * (non-Javadoc)
      *
@@ -54,15 +91,18 @@ public class Histogram2 extends AbstractHistogram implements Histogram2D {
      */
     @Override
     public int fill(double x, double y, double w) {
-        final int ret = lock().writeLockGuard(() -> {
+        final int bin = findBin(x, y);
+        lock().writeLock();
+        try {
             xProjection.fill(x, w);
             yProjection.fill(y, w);
-            final int bin = super.findBin(x, y);
-            super.addBinContent(bin, w);
-            return bin;
-        });
-        fireInvalidated(ChartBits.DataSetData);
-        return ret;
+            data[bin] += w;
+            updateBinContentRange(bin);
+        } finally {
+            lock().writeUnLock();
+        }
+        fireInvalidated(ChartBits.DataSetDataAdded);
+        return bin;
     }
 
     /*
@@ -157,6 +197,16 @@ public class Histogram2 extends AbstractHistogram implements Histogram2D {
         }
     }
 
+    /**
+     * Merges the accumulated bin content of this histogram and of its projections.
+     */
+    @Override
+    public void mergeAccumulated() {
+        xProjection.mergeAccumulated();
+        yProjection.mergeAccumulated();
+        super.mergeAccumulated();
+    }
+
     @Override
     public void reset() {
         xProjection.reset();
@@ -0,0 +1,445 @@
+package io.fair_acc.dataset.spi;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.fair_acc.dataset.AxisDescription;
+import io.fair_acc.dataset.DataSet;
+import io.fair_acc.dataset.DataSetError;
+import io.fair_acc.dataset.DataSetMetaData;
+import io.fair_acc.dataset.GridDataSet;
+import io.fair_acc.dataset.utils.AssertUtils;
+
+/**
+ * Read-only DataSet view onto a memory-mapped binary DataSet file. The samples are accessed directly in the mapped
+ * file, i.e. opening a file neither parses nor copies the numeric data.
+ * <p>
+ * File layout (version 1, all numbers little-endian):
+ * <ul>
+ * <li>fixed-size header ({@value #HEADER_SIZE} bytes): magic, version, dimension, data count, number of columns, meta
+ * data offset and length, data offset and column stride</li>
+ * <li>meta data block: name, style, axis descriptions (name, unit, min, max), error types, info/warning/error lists and
+ * the meta info map</li>
+ * <li>column blocks, each aligned to {@value #ALIGNMENT} bytes: the values of all dimensions followed by the negative
+ * and positive errors of the dimensions that have errors</li>
+ * </ul>
+ * Data point labels and styles are not stored. {@link #getValues(int)} and the error array getters return copies.
+ */
+public class MappedDataSet extends AbstractErrorDataSet<MappedDataSet> {
+    private static final long serialVersionUID = 5045126311402512405L;
+    public static final int VERSION = 1;
+    private static final long MAGIC = 0x3154455344584643L; // "CFXDSET1" in little-endian byte order
+    private static final int HEADER_SIZE = 64;
+    private static final int ALIGNMENT = 64;
+    private static final int SEGMENT_SHIFT = 27; // 2^27 doubles = 1 GiB per mapping
+    private static final int SEGMENT_MASK = (1 << SEGMENT_SHIFT) - 1;
+    private static final int WRITE_CHUNK_SIZE = 1 << 17; // doubles per write chunk
+    private final int dataCount;
+    private final transient DoubleBuffer[][] values;
+    private final transient DoubleBuffer[][] errorsNeg; // null for dimensions without errors
+    private final transient DoubleBuffer[][] errorsPos;
+    private final double[][] limits;
+
+    private MappedDataSet(final String name, final int dataCount, final ErrorType[] errorTypes, final DoubleBuffer[][] values,
+            final DoubleBuffer[][] errorsNeg, final DoubleBuffer[][] errorsPos, final double[][] limits) {
+        super(name, errorTypes.length, errorTypes);
+        this.dataCount = dataCount;
+        this.values = values;
+        this.errorsNeg = errorsNeg;
+        this.errorsPos = errorsPos;
+        this.limits = limits;
+    }
+
+    @Override
+    public double get(final int dimIndex, final int index) {
+        return get(values[dimIndex], index);
+    }
+
+    @Override
+    public int getDataCount() {
+        return dataCount;
+    }
+
+    @Override
+    public double getErrorNegative(final int dimIndex, final int index) {
+        return errorsNeg[dimIndex] == null ? 0.0 : get(errorsNeg[dimIndex], index);
+    }
+
+    @Override
+    public double getErrorPositive(final int dimIndex, final int index) {
+        return errorsPos[dimIndex] == null ? 0.0 : get(errorsPos[dimIndex], index);
+    }
+
+    @Override
+    public double[] getErrorsNegative(final int dimIndex) {
+        return errorsNeg[dimIndex] == null ? new double[dataCount] : copyOf(errorsNeg[dimIndex]);
+    }
+
+    @Override
+    public double[] getErrorsPositive(final int dimIndex) {
+        return errorsPos[dimIndex] == null ? new double[dataCount] : copyOf(errorsPos[dimIndex]);
+    }
+
+    @Override
+    public double[] getValues(final int dimIndex) {
+        return copyOf(values[dimIndex]);
+    }
+
+    /**
+     * The data is immutable, thus the limits stored in the file are restored rather than recomputed.
+     */
+    @Override
+    public MappedDataSet recomputeLimits(final int dimIndex) {
+        getAxisDescription(dimIndex).set(limits[dimIndex][0], limits[dimIndex][1]);
+        return getThis();
+    }
+
+    @Override
+    public DataSet set(final DataSet other, final boolean copy) {
+        throw new UnsupportedOperationException("MappedDataSet is read-only");
+    }
+
+    /**
+     * Maps the given file into a read-only DataSet. The mapping stays valid after the underlying file channel has been
+     * closed and is released once the DataSet is garbage collected.
+     *
+     * @param file binary DataSet file
+     * @return read-only DataSet view onto the file contents
+     * @throws IOException in case the file could not be read or has an unsupported format
+     */
+    public static MappedDataSet open(final Path file) throws IOException {
+        AssertUtils.notNull("file", file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final ByteBuffer header = readFully(channel, 0, HEADER_SIZE);
+            if (header.getLong() != MAGIC) {
+                throw new IOException("not a binary DataSet file: " + file);
+            }
+            final int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("unsupported binary DataSet file version " + version + ": " + file);
+            }
+            final int nDims = header.getInt();
+            final int count = header.getInt();
+            final int nColumns = header.getInt();
+            final long metaOffset = header.getLong();
+            final int metaLength = header.getInt();
+            header.getInt(); // reserved
+            final long dataOffset = header.getLong();
+            final long columnStride = header.getLong();
+            if (dataOffset + nColumns * columnStride > channel.size()) {
+                throw new IOException("truncated binary DataSet file: " + file);
+            }
+
+            final ByteBuffer meta = readFully(channel, metaOffset, metaLength);
+            final String name = getString(meta);
+            final String style = getString(meta);
+            final String[] axisNames = new String[nDims];
+            final String[] axisUnits = new String[nDims];
+            final double[][] limits = new double[nDims][2];
+            final ErrorType[] errorTypes = new ErrorType[nDims];
+            final ErrorType[] knownErrorTypes = ErrorType.values();
+            for (int dim = 0; dim < nDims; dim++) {
+                axisNames[dim] = getString(meta);
+                axisUnits[dim] = getString(meta);
+                limits[dim][0] = meta.getDouble();
+                limits[dim][1] = meta.getDouble();
+                final int errorType = meta.getInt();
+                if (errorType < 0 || errorType >= knownErrorTypes.length) {
+                    throw new IOException("invalid error type " + errorType + " for dimension " + dim + " in binary DataSet file: " + file);
+                }
+                errorTypes[dim] = knownErrorTypes[errorType];
+            }
+
+            int column = 0;
+            final DoubleBuffer[][] values = new DoubleBuffer[nDims][];
+            for (int dim = 0; dim < nDims; dim++) {
+                values[dim] = map(channel, dataOffset + column++ * columnStride, count);
+            }
+            final DoubleBuffer[][] errorsNeg = new DoubleBuffer[nDims][];
+            final DoubleBuffer[][] errorsPos = new DoubleBuffer[nDims][];
+            for (int dim = 0; dim < nDims; dim++) {
+                if (errorTypes[dim] != ErrorType.NO_ERROR) {
+                    errorsNeg[dim] = map(channel, dataOffset + column++ * columnStride, count);
+                    errorsPos[dim] = map(channel, dataOffset + column++ * columnStride, count);
+                }
+            }
+
+            final MappedDataSet dataSet = new MappedDataSet(name, count, errorTypes, values, errorsNeg, errorsPos, limits);
+            dataSet.setStyle(style);
+            for (int dim = 0; dim < nDims; dim++) {
+                dataSet.getAxisDescription(dim).set(axisNames[dim], axisUnits[dim], limits[dim][0], limits[dim][1]);
+            }
+            dataSet.getInfoList().addAll(getStrings(meta));
+            dataSet.getWarningList().addAll(getStrings(meta));
+            dataSet.getErrorList().addAll(getStrings(meta));
+            final int nMetaInfo = meta.getInt();
+            for (int i = 0; i < nMetaInfo; i++) {
+                dataSet.getMetaInfo().put(getString(meta), getString(meta));
+            }
+            return dataSet;
+        }
+    }
+
+    /**
+     * Writes the DataSet into the binary file format that can be mapped via {@link #open(Path)}. The numeric data is
+     * written column by column with gathering writes through a bounded conversion buffer.
+     *
+     * @param dataSet the DataSet to be exported (GridDataSets are not supported)
+     * @param file target file, existing files are overwritten
+     * @throws IOException in case the file could not be written
+     */
+    public static void write(final DataSet dataSet, final Path file) throws IOException {
+        AssertUtils.notNull("dataSet", dataSet);
+        AssertUtils.notNull("file", file);
+        if (dataSet instanceof GridDataSet) {
+            throw new IllegalArgumentException("GridDataSets are not supported: " + dataSet.getName());
+        }
+        final IOException[] exception = new IOException[1];
+        dataSet.lock().readLockGuard(() -> {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                writeToChannel(dataSet, channel);
+            } catch (IOException e) {
+                exception[0] = e;
+            }
+        });
+        if (exception[0] != null) {
+            throw exception[0];
+        }
+    }
+
+    private static void writeToChannel(final DataSet dataSet, final FileChannel channel) throws IOException {
+        final int nDims = dataSet.getDimension();
+        final int count = dataSet.getDataCount();
+        final DataSetError errorDataSet = dataSet instanceof DataSetError ? (DataSetError) dataSet : null;
+        final ErrorType[] errorTypes = new ErrorType[nDims];
+        int nColumns = nDims;
+        for (int dim = 0; dim < nDims; dim++) {
+            errorTypes[dim] = errorDataSet == null ? ErrorType.NO_ERROR : errorDataSet.getErrorType(dim);
+            if (errorTypes[dim] != ErrorType.NO_ERROR) {
+                nColumns += 2;
+            }
+        }
+
+        // meta data block
+        final List<byte[]> strings = new ArrayList<>();
+        strings.add(utf8(dataSet.getName()));
+        strings.add(utf8(dataSet.getStyle()));
+        final double[][] limits = new double[nDims][];
+        for (int dim = 0; dim < nDims; dim++) {
+            final AxisDescription axis = dataSet.getAxisDescription(dim);
+            // only the read lock is held, so undefined limits are computed locally rather than via recomputeLimits(..)
+            limits[dim] = axis.isDefined() ? new double[] { axis.getMin(), axis.getMax() } : computeLimits(dataSet, errorDataSet, errorTypes[dim], dim, count);
+            strings.add(utf8(axis.getName()));
+            strings.add(utf8(axis.getUnit()));
+        }
+        final List<List<String>> lists = new ArrayList<>();
+        final Map<String, String> metaInfo = new LinkedHashMap<>();
+        if (dataSet instanceof DataSetMetaData) {
+            final DataSetMetaData metaData = (DataSetMetaData) dataSet;
+            lists.add(metaData.getInfoList());
+            lists.add(metaData.getWarningList());
+            lists.add(metaData.getErrorList());
+            metaInfo.putAll(metaData.getMetaInfo());
+        } else {
+            lists.add(List.of());
+            lists.add(List.of());
+            lists.add(List.of());
+        }
+        int metaLength = 0;
+        for (final byte[] string : strings) {
+            metaLength += Integer.BYTES + (string == null ? 0 : string.length);
+        }
+        metaLength += nDims * (2 * Double.BYTES + Integer.BYTES);
+        final List<byte[]> listStrings = new ArrayList<>();
+        for (final List<String> list : lists) {
+            metaLength += Integer.BYTES;
+            for (final String entry : list) {
+                listStrings.add(utf8(entry));
+            }
+        }
+        metaLength += Integer.BYTES;
+        for (final Map.Entry<String, String> entry : metaInfo.entrySet()) {
+            listStrings.add(utf8(entry.getKey()));
+            listStrings.add(utf8(entry.getValue()));
+        }
+        for (final byte[] string : listStrings) {
+            metaLength += Integer.BYTES + (string == null ? 0 : string.length);
+        }
+
+        final ByteBuffer meta = ByteBuffer.allocate(metaLength).order(ByteOrder.LITTLE_ENDIAN);
+        putString(meta, strings.get(0));
+        putString(meta, strings.get(1));
+        for (int dim = 0; dim < nDims; dim++) {
+            putString(meta, strings.get(2 + 2 * dim));
+            putString(meta, strings.get(3 + 2 * dim));
+            meta.putDouble(limits[dim][0]);
+            meta.putDouble(limits[dim][1]);
+            meta.putInt(errorTypes[dim].ordinal());
+        }
+        int listIndex = 0;
+        for (final List<String> list : lists) {
+            meta.putInt(list.size());
+            for (int i = 0; i < list.size(); i++) {
+                putString(meta, listStrings.get(listIndex++));
+            }
+        }
+        meta.putInt(metaInfo.size());
+        while (listIndex < listStrings.size()) {
+            putString(meta, listStrings.get(listIndex++));
+        }
+        meta.flip();
+
+        final long dataOffset = align(HEADER_SIZE + (long) metaLength);
+        final long columnStride = align((long) count * Double.BYTES);
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putLong(MAGIC).putInt(VERSION).putInt(nDims).putInt(count).putInt(nColumns);
+        header.putLong(HEADER_SIZE).putInt(metaLength).putInt(0);
+        header.putLong(dataOffset).putLong(columnStride);
+        header.position(0);
+        final ByteBuffer padding = ByteBuffer.allocate((int) (dataOffset - HEADER_SIZE - metaLength));
+        writeFully(channel, header, meta, padding);
+
+        final ByteBuffer chunk = ByteBuffer.allocateDirect(WRITE_CHUNK_SIZE * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (int dim = 0; dim < nDims; dim++) {
+            writeColumn(channel, dataSet.getValues(dim), count, columnStride, chunk);
+        }
+        for (int dim = 0; dim < nDims; dim++) {
+            if (errorTypes[dim] != ErrorType.NO_ERROR) {
+                writeColumn(channel, errorDataSet.getErrorsNegative(dim), count, columnStride, chunk);
+                writeColumn(channel, errorDataSet.getErrorsPositive(dim), count, columnStride, chunk);
+            }
+        }
+    }
+
+    private static void writeColumn(final FileChannel channel, final double[] column, final int count, final long columnStride, final ByteBuffer chunk) throws IOException {
+        for (int offset = 0; offset < count; offset += WRITE_CHUNK_SIZE) {
+            final int length = Math.min(WRITE_CHUNK_SIZE, count - offset);
+            chunk.clear();
+            chunk.asDoubleBuffer().put(column, offset, length);
+            chunk.limit(length * Double.BYTES);
+            if (offset + length < count) {
+                writeFully(channel, chunk);
+            } else {
+                // last chunk: gather with the column padding
+                writeFully(channel, chunk, ByteBuffer.allocate((int) (columnStride - (long) count * Double.BYTES)));
+            }
+        }
+        if (count == 0) {
+            writeFully(channel, ByteBuffer.allocate((int) columnStride));
+        }
+    }
+
+    private static long align(final long position) {
+        return (position + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+
+    private static double[] copyOf(final DoubleBuffer[] segments) {
+        final double[] copy = new double[getLength(segments)];
+        int offset = 0;
+        for (final DoubleBuffer segment : segments) {
+            final int length = segment.limit();
+            segment.duplicate().get(copy, offset, length);
+            offset += length;
+        }
+        return copy;
+    }
+
+    private static double get(final DoubleBuffer[] segments, final int index) {
+        return segments[index >>> SEGMENT_SHIFT].get(index & SEGMENT_MASK);
+    }
+
+    private static int getLength(final DoubleBuffer[] segments) {
+        int length = 0;
+        for (final DoubleBuffer segment : segments) {
+            length += segment.limit();
+        }
+        return length;
+    }
+
+    private static double[] computeLimits(final DataSet dataSet, final DataSetError errorDataSet, final ErrorType errorType, final int dim, final int count) {
+        final DataRange range = new DataRange();
+        for (int i = 0; i < count; i++) {
+            final double value = dataSet.get(dim, i);
+            if (errorType == ErrorType.NO_ERROR) {
+                range.add(value);
+            } else {
+                range.add(value - errorDataSet.getErrorNegative(dim, i));
+                range.add(value + errorDataSet.getErrorPositive(dim, i));
+            }
+        }
+        return new double[] { range.getMin(), range.getMax() };
+    }
+
+    private static String getString(final ByteBuffer buffer) {
+        final int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        final String string = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return string;
+    }
+
+    private static List<String> getStrings(final ByteBuffer buffer) {
+        final int size = buffer.getInt();
+        final List<String> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(getString(buffer));
+        }
+        return list;
+    }
+
+    private static DoubleBuffer[] map(final FileChannel channel, final long position, final int count) throws IOException {
+        final int nSegments = Math.max(1, (count + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+        final DoubleBuffer[] segments = new DoubleBuffer[nSegments];
+        for (int i = 0; i < nSegments; i++) {
+            final long first = (long) i << SEGMENT_SHIFT;
+            final long length = Math.min(count - first, 1L << SEGMENT_SHIFT);
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position + first * Double.BYTES, length * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+        }
+        return segments;
+    }
+
+    private static void putString(final ByteBuffer buffer, final byte[] string) {
+        if (string == null) {
+            buffer.putInt(-1);
+            return;
+        }
+        buffer.putInt(string.length).put(string);
+    }
+
+    private static ByteBuffer readFully(final FileChannel channel, final long position, final int length) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("unexpected end of binary DataSet file");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static byte[] utf8(final String string) {
+        return string == null ? null : string.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void writeFully(final FileChannel channel, final ByteBuffer... buffers) throws IOException {
+        long remaining = 0;
+        for (final ByteBuffer buffer : buffers) {
+            remaining += buffer.remaining();
+        }
+        while (remaining > 0) {
+            remaining -= channel.write(buffers);
+        }
+    }
+}
@@ -185,8 +185,9 @@ public class MultiDimDoubleDataSet extends AbstractDataSet<MultiDimDoubleDataSet
                 this.values[i].add(indexAt, newValues[i]);
                 getAxisDescription(i).add(newValues[i]);
             }
-            getDataLabelMap().addValueAndShiftKeys(indexAt, this.values[0].size(), label);
-            getDataStyleMap().shiftKeys(indexAt, this.values[0].size());
+            getDataLabelMap().insert(indexAt, 1);
+            getDataLabelMap().put(indexAt, label);
+            getDataStyleMap().insert(indexAt, 1);
         });
         fireInvalidated(ChartBits.DataSetDataAdded);
         return getThis();
@@ -213,8 +214,8 @@ public class MultiDimDoubleDataSet extends AbstractDataSet<MultiDimDoubleDataSet
                 this.values[i].addElements(indexAt, newValues[i], 0, nPointsFinal);
                 getAxisDescription(DIM_X).add(newValues[i], nPointsFinal);
             }
-            getDataLabelMap().shiftKeys(indexAt, this.values[0].size());
-            getDataStyleMap().shiftKeys(indexAt, this.values[0].size());
+            getDataLabelMap().insert(indexAt, nPointsFinal);
+            getDataStyleMap().insert(indexAt, nPointsFinal);
         });
         fireInvalidated(ChartBits.DataSetDataAdded);
         return getThis();
@@ -515,8 +516,8 @@ public class MultiDimDoubleDataSet extends AbstractDataSet<MultiDimDoubleDataSet
             for (int i = 0; i < this.values.length; i++) {
                 System.arraycopy(values[i], 0, this.values[i].elements(), index, values[i].length);
             }
-            getDataLabelMap().remove(index, index + values[0].length);
-            getDataStyleMap().remove(index, index + values[0].length);
+            getDataLabelMap().clear(index, index + values[0].length);
+            getDataStyleMap().clear(index, index + values[0].length);
 
             // invalidate ranges
             // -> fireInvalidated calls computeLimits for autoNotification
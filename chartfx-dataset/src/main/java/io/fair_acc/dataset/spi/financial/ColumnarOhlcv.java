@@ -0,0 +1,473 @@
+package io.fair_acc.dataset.spi.financial;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import io.fair_acc.dataset.DataSet;
+import io.fair_acc.dataset.spi.financial.api.attrs.AttributeModel;
+import io.fair_acc.dataset.spi.financial.api.ohlcv.IOhlcv;
+import io.fair_acc.dataset.spi.financial.api.ohlcv.IOhlcvItem;
+import io.fair_acc.dataset.utils.AssertUtils;
+
+/**
+ * Column-oriented IOhlcv implementation storing the time stamps (epoch milliseconds) and the open, high, low, close,
+ * volume and open-interest values of all bars in growable primitive arrays.
+ * <p>
+ * Compared to one {@link IOhlcvItem} object per bar this keeps the memory footprint low and allows
+ * {@link OhlcvDataSet} and the financial renderers to access the values without object indirection, i.e. via
+ * {@link #getValue(int, int)} or the bulk {@link #getValues(int, int, int, double[], int)} accessor. The
+ * {@link IOhlcvItem} instances returned by {@link #getOhlcvItem(int)} are light-weight views onto the columns. Item
+ * addons are rare and thus kept in a sparse side storage indexed by the bar index.
+ * <p>
+ * N.B. the dimension indices match those of {@link OhlcvDataSet}, with {@link DataSet#DIM_X} being the time stamp in
+ * seconds. Not thread-safe, use the lock of the enclosing data set.
+ */
+public class ColumnarOhlcv implements IOhlcv {
+    private static final int DEFAULT_INITIAL_CAPACITY = 10;
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+    private long[] times; // epoch milliseconds
+    private double[] opens;
+    private double[] highs;
+    private double[] lows;
+    private double[] closes;
+    private double[] volumes;
+    private double[] openInterests;
+    private int size;
+    private final Map<Integer, AttributeModel> itemAddons = new HashMap<>(); // sparse: bar index -> item addon
+    private AttributeModel addon;
+
+    public ColumnarOhlcv() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity number of bars that can be added without resizing
+     */
+    public ColumnarOhlcv(final int initialCapacity) {
+        AssertUtils.gtEqThanZero("initialCapacity", initialCapacity);
+        times = new long[initialCapacity];
+        opens = new double[initialCapacity];
+        highs = new double[initialCapacity];
+        lows = new double[initialCapacity];
+        closes = new double[initialCapacity];
+        volumes = new double[initialCapacity];
+        openInterests = new double[initialCapacity];
+    }
+
+    /**
+     * Copies the values and item addons of the given OHLCV data. N.B. the OHLCV addon is not copied, see
+     * {@link #setAddon(AttributeModel)}.
+     *
+     * @param source OHLCV data to be copied
+     */
+    public ColumnarOhlcv(final IOhlcv source) {
+        this(source.size());
+        for (final IOhlcvItem item : source) {
+            add(item);
+        }
+    }
+
+    /**
+     * Appends a copy of the given item including its addon (if any).
+     *
+     * @param item the bar to be added
+     * @return itself (fluent design)
+     */
+    public ColumnarOhlcv add(final IOhlcvItem item) {
+        add(item.getTimeStamp().getTime(), item.getOpen(), item.getHigh(), item.getLow(), item.getClose(), item.getVolume(), item.getOpenInterest());
+        if (item.getAddon() != null) {
+            itemAddons.put(size - 1, item.getAddon());
+        }
+        return this;
+    }
+
+    /**
+     * @param time time stamp in epoch milliseconds
+     * @param open open value
+     * @param high high value
+     * @param low low value
+     * @param close close value
+     * @param volume volume
+     * @param openInterest open interest
+     * @return itself (fluent design)
+     */
+    public ColumnarOhlcv add(final long time, final double open, final double high, final double low, final double close, final double volume, final double openInterest) {
+        grow(size + 1);
+        set(size++, time, open, high, low, close, volume, openInterest);
+        return this;
+    }
+
+    /**
+     * Removes all bars and item addons. The capacity is retained.
+     *
+     * @return itself (fluent design)
+     */
+    public ColumnarOhlcv clear() {
+        size = 0;
+        itemAddons.clear();
+        return this;
+    }
+
+    /**
+     * @param capacity number of bars that can be stored without resizing
+     * @return itself (fluent design)
+     */
+    public ColumnarOhlcv ensureCapacity(final int capacity) {
+        if (capacity > times.length) {
+            resize(capacity);
+        }
+        return this;
+    }
+
+    @Override
+    public AttributeModel getAddon() {
+        return addon;
+    }
+
+    @Override
+    public AttributeModel getAddonOrCreate() {
+        if (addon == null) {
+            addon = new AttributeModel();
+        }
+        return addon;
+    }
+
+    /**
+     * @return number of bars that can be stored without resizing
+     */
+    public int getCapacity() {
+        return times.length;
+    }
+
+    public double getClose(final int index) {
+        return closes[checkIndex(index)];
+    }
+
+    public double getHigh(final int index) {
+        return highs[checkIndex(index)];
+    }
+
+    /**
+     * @param index bar index
+     * @return addon of the given bar, or {@code null} if not available
+     */
+    public AttributeModel getItemAddon(final int index) {
+        return itemAddons.get(checkIndex(index));
+    }
+
+    /**
+     * @param index bar index
+     * @return addon of the given bar, created if not available
+     */
+    public AttributeModel getItemAddonOrCreate(final int index) {
+        return itemAddons.computeIfAbsent(checkIndex(index), k -> new AttributeModel());
+    }
+
+    public double getLow(final int index) {
+        return lows[checkIndex(index)];
+    }
+
+    /**
+     * @param index bar index
+     * @return light-weight view onto the bar at the given index. N.B. the view is index-based, i.e. it throws an
+     *         {@link IndexOutOfBoundsException} once the index is out of bounds (e.g. after {@link #clear()}) and
+     *         refers to the new bar if the bars have been removed and re-added.
+     */
+    @Override
+    public IOhlcvItem getOhlcvItem(final int index) {
+        return new Item(checkIndex(index));
+    }
+
+    public double getOpen(final int index) {
+        return opens[checkIndex(index)];
+    }
+
+    public double getOpenInterest(final int index) {
+        return openInterests[checkIndex(index)];
+    }
+
+    /**
+     * @param index bar index
+     * @return time stamp in epoch milliseconds
+     */
+    public long getTime(final int index) {
+        return times[checkIndex(index)];
+    }
+
+    /**
+     * @param dimIndex {@link DataSet#DIM_X} (time stamp in seconds) or one of the {@code OhlcvDataSet.DIM_Y_...} indices
+     * @param index bar index
+     * @return value of the given dimension
+     */
+    public double getValue(final int dimIndex, final int index) {
+        checkIndex(index);
+        switch (dimIndex) {
+        case DataSet.DIM_X:
+            return times[index] / 1000.0;
+        case OhlcvDataSet.DIM_Y_OPEN:
+            return opens[index];
+        case OhlcvDataSet.DIM_Y_HIGH:
+            return highs[index];
+        case OhlcvDataSet.DIM_Y_LOW:
+            return lows[index];
+        case OhlcvDataSet.DIM_Y_CLOSE:
+            return closes[index];
+        case OhlcvDataSet.DIM_Y_VOLUME:
+            return volumes[index];
+        case OhlcvDataSet.DIM_Y_OI:
+            return openInterests[index];
+        default:
+            throw new IllegalArgumentException("Dimension not allowed! dimIndex=" + dimIndex);
+        }
+    }
+
+    /**
+     * Bulk copy of the values of the bars [fromIndex, toIndex) of the given dimension.
+     *
+     * @param dimIndex {@link DataSet#DIM_X} (time stamp in seconds) or one of the {@code OhlcvDataSet.DIM_Y_...} indices
+     * @param fromIndex first bar index (inclusive)
+     * @param toIndex last bar index (exclusive)
+     * @param target storage for the values
+     * @param targetOffset position in {@code target} of the value of bar {@code fromIndex}
+     * @return the target array
+     */
+    public double[] getValues(final int dimIndex, final int fromIndex, final int toIndex, final double[] target, final int targetOffset) {
+        AssertUtils.notNull("target", target);
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > size) {
+            throw new IndexOutOfBoundsException("range [" + fromIndex + ", " + toIndex + ") out of bounds for size " + size);
+        }
+        final int length = toIndex - fromIndex;
+        if (targetOffset < 0 || targetOffset + length > target.length) {
+            throw new IndexOutOfBoundsException("target[" + target.length + "] too small for " + length + " values at offset " + targetOffset);
+        }
+        switch (dimIndex) {
+        case DataSet.DIM_X:
+            for (int i = 0; i < length; i++) {
+                target[targetOffset + i] = times[fromIndex + i] / 1000.0;
+            }
+            return target;
+        case OhlcvDataSet.DIM_Y_OPEN:
+            System.arraycopy(opens, fromIndex, target, targetOffset, length);
+            return target;
+        case OhlcvDataSet.DIM_Y_HIGH:
+            System.arraycopy(highs, fromIndex, target, targetOffset, length);
+            return target;
+        case OhlcvDataSet.DIM_Y_LOW:
+            System.arraycopy(lows, fromIndex, target, targetOffset, length);
+            return target;
+        case OhlcvDataSet.DIM_Y_CLOSE:
+            System.arraycopy(closes, fromIndex, target, targetOffset, length);
+            return target;
+        case OhlcvDataSet.DIM_Y_VOLUME:
+            System.arraycopy(volumes, fromIndex, target, targetOffset, length);
+            return target;
+        case OhlcvDataSet.DIM_Y_OI:
+            System.arraycopy(openInterests, fromIndex, target, targetOffset, length);
+            return target;
+        default:
+            throw new IllegalArgumentException("Dimension not allowed! dimIndex=" + dimIndex);
+        }
+    }
+
+    public double getVolume(final int index) {
+        return volumes[checkIndex(index)];
+    }
+
+    @Override
+    public Iterator<IOhlcvItem> iterator() {
+        return new Iterator<>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public IOhlcvItem next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return new Item(index++);
+            }
+        };
+    }
+
+    /**
+     * Overwrites the values of an existing bar (e.g. the last bar that is still being updated). The item addon is
+     * retained.
+     *
+     * @param index bar index
+     * @param time time stamp in epoch milliseconds
+     * @param open open value
+     * @param high high value
+     * @param low low value
+     * @param close close value
+     * @param volume volume
+     * @param openInterest open interest
+     * @return itself (fluent design)
+     */
+    public ColumnarOhlcv set(final int index, final long time, final double open, final double high, final double low, final double close, final double volume, final double openInterest) {
+        checkIndex(index);
+        times[index] = time;
+        opens[index] = open;
+        highs[index] = high;
+        lows[index] = low;
+        closes[index] = close;
+        volumes[index] = volume;
+        openInterests[index] = openInterest;
+        return this;
+    }
+
+    /**
+     * @param addon OHLCV addon
+     */
+    public void setAddon(final AttributeModel addon) {
+        this.addon = addon;
+    }
+
+    /**
+     * @param index bar index
+     * @param addon addon of the given bar, {@code null} removes it
+     * @return itself (fluent design)
+     */
+    public ColumnarOhlcv setItemAddon(final int index, final AttributeModel addon) {
+        if (addon == null) {
+            itemAddons.remove(checkIndex(index));
+        } else {
+            itemAddons.put(checkIndex(index), addon);
+        }
+        return this;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Trims the capacity to the present number of bars.
+     *
+     * @return itself (fluent design)
+     */
+    public ColumnarOhlcv trim() {
+        if (size < times.length) {
+            resize(size);
+        }
+        return this;
+    }
+
+    private int checkIndex(final int index) {
+        // N.B. the index is checked against the size, the backing arrays may be larger
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + " out of bounds for size " + size);
+        }
+        return index;
+    }
+
+    private void grow(final int capacity) {
+        if (capacity <= times.length) {
+            return;
+        }
+        // increase the capacity by at least 50% to amortise the copying
+        resize((int) Math.max(Math.min((long) times.length + (times.length >> 1), MAX_ARRAY_SIZE), Math.max(capacity, DEFAULT_INITIAL_CAPACITY)));
+    }
+
+    private void resize(final int capacity) {
+        times = Arrays.copyOf(times, capacity);
+        opens = Arrays.copyOf(opens, capacity);
+        highs = Arrays.copyOf(highs, capacity);
+        lows = Arrays.copyOf(lows, capacity);
+        closes = Arrays.copyOf(closes, capacity);
+        volumes = Arrays.copyOf(volumes, capacity);
+        openInterests = Arrays.copyOf(openInterests, capacity);
+    }
+
+    /**
+     * Light-weight view onto a bar of the columns. N.B. reflects subsequent modifications of the bar, and its getters
+     * throw an {@link IndexOutOfBoundsException} once the bar index is no longer within the size, e.g. after
+     * {@link #clear()}.
+     */
+    private class Item implements IOhlcvItem {
+        private final int index;
+
+        private Item(final int index) {
+            this.index = index;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Item)) {
+                return false;
+            }
+            final Item other = (Item) obj;
+            return index == other.index && getColumns() == other.getColumns();
+        }
+
+        @Override
+        public AttributeModel getAddon() {
+            return getItemAddon(index);
+        }
+
+        @Override
+        public AttributeModel getAddonOrCreate() {
+            return getItemAddonOrCreate(index);
+        }
+
+        @Override
+        public double getClose() {
+            return ColumnarOhlcv.this.getClose(index);
+        }
+
+        @Override
+        public double getHigh() {
+            return ColumnarOhlcv.this.getHigh(index);
+        }
+
+        @Override
+        public double getLow() {
+            return ColumnarOhlcv.this.getLow(index);
+        }
+
+        @Override
+        public double getOpen() {
+            return ColumnarOhlcv.this.getOpen(index);
+        }
+
+        @Override
+        public double getOpenInterest() {
+            return ColumnarOhlcv.this.getOpenInterest(index);
+        }
+
+        @Override
+        public Date getTimeStamp() {
+            return new Date(getTime(index));
+        }
+
+        @Override
+        public double getVolume() {
+            return ColumnarOhlcv.this.getVolume(index);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(getColumns()) + index;
+        }
+
+        @Override
+        public String toString() {
+            return "Item [index=" + index + ", time=" + getTimeStamp() + ", open=" + getOpen() + ", high=" + getHigh() + ", low=" + getLow() + ", close=" + getClose() + ", volume=" + getVolume() + ", oi=" + getOpenInterest() + "]";
+        }
+
+        private ColumnarOhlcv getColumns() {
+            return ColumnarOhlcv.this;
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package io.fair_acc.dataset.spi.financial;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.fair_acc.dataset.events.ChartBits;
+import io.fair_acc.dataset.utils.AssertUtils;
+
+/**
+ * Incremental consolidation (re-sampling) of a tick or OHLCV stream into several timeframes at once, e.g. 1m, 5m, 1h
+ * and 1d time periods as well as range and volume bars.
+ * <p>
+ * Every increment is consumed once and merged into the last bar of each timeframe, or starts a new bar. The bars are
+ * kept in primitive {@link ColumnarOhlcv} storage and each timeframe is exposed as an {@link OhlcvDataSet}, i.e.
+ * switching the displayed timeframe does not require re-consolidating the history. The data sets are modified under
+ * their write lock, and listeners are notified once per {@link #add add}/{@link #addTicks addTicks} call rather than
+ * once per tick, i.e. batching increments reduces the notification and locking overhead.
+ * <p>
+ * Increments, {@link #clear()} and adding timeframes are serialised internally, i.e. a timeframe may be added (e.g. by
+ * the UI thread when switching the displayed timeframe) while the producer thread keeps adding ticks. The new timeframe
+ * is initialised and registered as one step, so no increment is lost or counted twice.
+ * <p>
+ * Usage:
+ *
+ * <pre>
+ * final OhlcvConsolidation consolidation = new OhlcvConsolidation();
+ * final OhlcvDataSet minutes = consolidation.addTimePeriod("1m", 60_000L);
+ * final OhlcvDataSet rangeBars = consolidation.addRangeBars("RB4", 4.0);
+ * // producer thread
+ * consolidation.addTicks(times, prices, volumes, 0, n);
+ * </pre>
+ * <p>
+ * N.B. time-period bars are aligned to {@code origin + k * period} and cover the interval {@code (end - period, end]}
+ * with the bar time stamp being the end of the interval. Increments older than the last bar are merged into the last
+ * bar, i.e. the bar time stamps remain monotonic. Range and volume bars are time-stamped by their first increment.
+ */
+public class OhlcvConsolidation {
+    private final Object producerLock = new Object(); // serialises increments and changes of the timeframes
+    private final List<Timeframe> timeframes = new ArrayList<>(); // guarded by producerLock
+    private final List<OhlcvDataSet> dataSets = new CopyOnWriteArrayList<>();
+
+    /**
+     * Consolidates an OHLCV increment (e.g. a tick or a bar of a finer timeframe) into all timeframes.
+     *
+     * @param time time stamp in epoch milliseconds
+     * @param open open value
+     * @param high high value
+     * @param low low value
+     * @param close close value
+     * @param volume volume
+     * @param openInterest open interest (the last value is retained per bar)
+     * @return itself (fluent design)
+     */
+    public OhlcvConsolidation add(final long time, final double open, final double high, final double low, final double close, final double volume, final double openInterest) {
+        synchronized (producerLock) {
+            writeLockAll();
+            try {
+                for (final Timeframe timeframe : timeframes) {
+                    timeframe.add(time, open, high, low, close, volume, openInterest);
+                }
+            } finally {
+                writeUnLockAllAndNotify();
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Consolidates a single tick into all timeframes.
+     *
+     * @param time time stamp in epoch milliseconds
+     * @param price traded price
+     * @param volume traded volume
+     * @return itself (fluent design)
+     */
+    public OhlcvConsolidation add(final long time, final double price, final double volume) {
+        return add(time, price, price, price, price, volume, 0.0);
+    }
+
+    /**
+     * Adds a range bars timeframe. A bar is closed once its high-low range reached the given length and an increment
+     * exceeds it.
+     *
+     * @param name name of the new data set
+     * @param range bar length in price units (e.g. number of ticks times the minimum price move)
+     * @return data set of the new timeframe (initially empty)
+     */
+    public OhlcvDataSet addRangeBars(final String name, final double range) {
+        AssertUtils.gtThanZero("range", range);
+        synchronized (producerLock) {
+            return addTimeframe(new RangeBars(name, range));
+        }
+    }
+
+    /**
+     * Consolidates the ticks [fromIndex, toIndex) into all timeframes. The listeners are notified once for the whole
+     * batch.
+     *
+     * @param times time stamps in epoch milliseconds
+     * @param prices traded prices
+     * @param volumes traded volumes
+     * @param fromIndex first tick index (inclusive)
+     * @param toIndex last tick index (exclusive)
+     * @return itself (fluent design)
+     */
+    public OhlcvConsolidation addTicks(final long[] times, final double[] prices, final double[] volumes, final int fromIndex, final int toIndex) {
+        AssertUtils.notNull("times", times);
+        AssertUtils.notNull("prices", prices);
+        AssertUtils.notNull("volumes", volumes);
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > Math.min(times.length, Math.min(prices.length, volumes.length))) {
+            throw new IndexOutOfBoundsException("tick range [" + fromIndex + ", " + toIndex + ") out of bounds");
+        }
+        synchronized (producerLock) {
+            writeLockAll();
+            try {
+                for (final Timeframe timeframe : timeframes) {
+                    for (int i = fromIndex; i < toIndex; i++) {
+                        final double price = prices[i];
+                        timeframe.add(times[i], price, price, price, price, volumes[i], 0.0);
+                    }
+                }
+            } finally {
+                writeUnLockAllAndNotify();
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Adds a time period timeframe with bars aligned to multiples of the period since the epoch (UTC).
+     *
+     * @param name name of the new data set
+     * @param period bar duration in milliseconds
+     * @return data set of the new timeframe
+     * @see #addTimePeriod(String, long, long)
+     */
+    public OhlcvDataSet addTimePeriod(final String name, final long period) {
+        return addTimePeriod(name, period, 0L);
+    }
+
+    /**
+     * Adds a time period timeframe. If already consolidated, the new timeframe is initialised from the bars of the
+     * coarsest existing time period timeframe whose bars are exactly contained in the new ones (i.e. the period is a
+     * multiple and the bars are aligned), rather than being empty.
+     *
+     * @param name name of the new data set
+     * @param period bar duration in milliseconds
+     * @param origin bar alignment in epoch milliseconds, e.g. the session start or the time-zone offset for daily bars
+     * @return data set of the new timeframe
+     */
+    public OhlcvDataSet addTimePeriod(final String name, final long period, final long origin) {
+        AssertUtils.gtThanZero("period", period);
+        final TimePeriod timePeriod = new TimePeriod(name, period, origin);
+        synchronized (producerLock) {
+            // initialise and register in one step, i.e. without increments in between
+            TimePeriod source = null;
+            for (final Timeframe timeframe : timeframes) {
+                if (timeframe instanceof TimePeriod && ((TimePeriod) timeframe).isContainedIn(timePeriod) //
+                        && (source == null || ((TimePeriod) timeframe).period > source.period)) {
+                    source = (TimePeriod) timeframe;
+                }
+            }
+            if (source != null) {
+                final ColumnarOhlcv bars = source.bars;
+                source.dataSet.lock().readLockGuard(() -> {
+                    for (int i = 0; i < bars.size(); i++) {
+                        timePeriod.add(bars.getTime(i), bars.getOpen(i), bars.getHigh(i), bars.getLow(i), bars.getClose(i), bars.getVolume(i), bars.getOpenInterest(i));
+                    }
+                });
+                timePeriod.modified = false;
+            }
+            return addTimeframe(timePeriod);
+        }
+    }
+
+    /**
+     * Adds a volume bars timeframe. A bar is closed before an increment would exceed the given volume.
+     *
+     * @param name name of the new data set
+     * @param volume volume per bar
+     * @return data set of the new timeframe (initially empty)
+     */
+    public OhlcvDataSet addVolumeBars(final String name, final double volume) {
+        AssertUtils.gtThanZero("volume", volume);
+        synchronized (producerLock) {
+            return addTimeframe(new VolumeBars(name, volume));
+        }
+    }
+
+    /**
+     * Removes the bars of all timeframes.
+     *
+     * @return itself (fluent design)
+     */
+    public OhlcvConsolidation clear() {
+        synchronized (producerLock) {
+            for (final Timeframe timeframe : timeframes) {
+                timeframe.dataSet.lock().writeLockGuard(() -> {
+                    timeframe.bars.clear();
+                    timeframe.dataSet.invalidateLimits();
+                });
+                timeframe.dataSet.fireInvalidated(ChartBits.DataSetDataRemoved);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * @param name data set name
+     * @return data set of the timeframe with the given name, or {@code null} if not available
+     */
+    public OhlcvDataSet getDataSet(final String name) {
+        for (final OhlcvDataSet dataSet : dataSets) {
+            if (dataSet.getName().equals(name)) {
+                return dataSet;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return unmodifiable list of the data sets of all timeframes in the order they have been added
+     */
+    public List<OhlcvDataSet> getDataSets() {
+        return Collections.unmodifiableList(dataSets);
+    }
+
+    /**
+     * N.B. to be called while holding the producer lock
+     */
+    private OhlcvDataSet addTimeframe(final Timeframe timeframe) {
+        if (getDataSet(timeframe.dataSet.getName()) != null) {
+            throw new IllegalArgumentException("timeframe '" + timeframe.dataSet.getName() + "' already exists");
+        }
+        timeframes.add(timeframe);
+        dataSets.add(timeframe.dataSet);
+        return timeframe.dataSet;
+    }
+
+    private void writeLockAll() {
+        for (final Timeframe timeframe : timeframes) {
+            timeframe.dataSet.lock().writeLock();
+        }
+    }
+
+    private void writeUnLockAllAndNotify() {
+        for (final Timeframe timeframe : timeframes) {
+            if (timeframe.modified) {
+                timeframe.dataSet.invalidateLimits();
+            }
+            timeframe.dataSet.lock().writeUnLock();
+        }
+        for (final Timeframe timeframe : timeframes) {
+            if (timeframe.modified) {
+                timeframe.modified = false;
+                timeframe.dataSet.fireInvalidated(ChartBits.DataSetDataAdded);
+            }
+        }
+    }
+
+    private abstract static class Timeframe {
+        protected final ColumnarOhlcv bars = new ColumnarOhlcv();
+        protected final OhlcvDataSet dataSet;
+        protected boolean modified;
+
+        protected Timeframe(final String name) {
+            dataSet = new OhlcvDataSet(name);
+            dataSet.setData(bars);
+        }
+
+        protected void add(final long time, final double open, final double high, final double low, final double close, final double volume, final double openInterest) {
+            final int last = bars.size() - 1;
+            if (last >= 0 && isPartOfLastBar(time, high, low, volume)) {
+                bars.set(last, bars.getTime(last), bars.getOpen(last), Math.max(bars.getHigh(last), high), Math.min(bars.getLow(last), low), close, bars.getVolume(last) + volume, openInterest);
+            } else {
+                bars.add(newBarTime(time), open, high, low, close, volume, openInterest);
+            }
+            modified = true;
+        }
+
+        /**
+         * @param time increment time stamp
+         * @param high increment high
+         * @param low increment low
+         * @param volume increment volume
+         * @return {@code true}: the increment is merged into the last bar, {@code false}: it starts a new bar
+         */
+        protected abstract boolean isPartOfLastBar(long time, double high, double low, double volume);
+
+        protected long newBarTime(final long time) {
+            return time;
+        }
+    }
+
+    private static class TimePeriod extends Timeframe {
+        private final long period;
+        private final long origin;
+
+        TimePeriod(final String name, final long period, final long origin) {
+            super(name);
+            this.period = period;
+            this.origin = origin;
+        }
+
+        @Override
+        protected boolean isPartOfLastBar(final long time, final double high, final double low, final double volume) {
+            return time <= bars.getTime(bars.size() - 1);
+        }
+
+        /**
+         * @param other coarser time period
+         * @return {@code true} if each of the bars of this time period lies within a single bar of the other one
+         */
+        boolean isContainedIn(final TimePeriod other) {
+            return other.period % period == 0 && Math.floorMod(other.origin - origin, period) == 0;
+        }
+
+        @Override
+        protected long newBarTime(final long time) {
+            // end of the interval (end - period, end] containing the time stamp
+            return origin - Math.floorDiv(origin - time, period) * period;
+        }
+    }
+
+    private static class RangeBars extends Timeframe {
+        private final double range;
+
+        RangeBars(final String name, final double range) {
+            super(name);
+            this.range = range;
+        }
+
+        @Override
+        protected boolean isPartOfLastBar(final long time, final double high, final double low, final double volume) {
+            final int last = bars.size() - 1;
+            final double lastHigh = bars.getHigh(last);
+            final double lastLow = bars.getLow(last);
+            return lastHigh - lastLow < range || (low >= lastLow && high <= lastHigh);
+        }
+    }
+
+    private static class VolumeBars extends Timeframe {
+        private final double volume;
+
+        VolumeBars(final String name, final double volume) {
+            super(name);
+            this.volume = volume;
+        }
+
+        @Override
+        protected boolean isPartOfLastBar(final long time, final double high, final double low, final double increment) {
+            return increment <= volume - bars.getVolume(bars.size() - 1);
+        }
+    }
+}
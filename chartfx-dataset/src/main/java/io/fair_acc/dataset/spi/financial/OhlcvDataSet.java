@@ -12,7 +12,12 @@ import io.fair_acc.dataset.spi.financial.api.ohlcv.IOhlcvItemAware;
 
 /**
  * Dataset Domain Object for encapsulation of IOhlcv API structure.
+ * <p>
+ * N.B. for large data sets, {@link ColumnarOhlcv} is recommended as domain object: its values are accessed directly
+ * from the primitive columns rather than via one {@link IOhlcvItem} per bar, e.g. by the bulk
+ * {@link #getValues(int, int, int, double[], int)} accessor used by the financial renderers.
  *
+ * @see ColumnarOhlcv column-oriented IOhlcv implementation.
  * @see IOhlcv API provides OHLCV domain object access.
  * @see IOhlcvItem API provides OHLCV item domain object access.
  */
@@ -25,6 +30,7 @@ public class OhlcvDataSet extends AbstractDataSet<OhlcvDataSet> implements Itera
     public static final int DIM_Y_OI = 6;
 
     private IOhlcv ohlcv;
+    private ColumnarOhlcv columnarOhlcv; // non-null if 'ohlcv' is column-oriented
 
     private boolean isCategoryBased = false;
 
@@ -39,6 +45,7 @@ public class OhlcvDataSet extends AbstractDataSet<OhlcvDataSet> implements Itera
      */
     public void setData(IOhlcv ohlcv) {
         this.ohlcv = ohlcv;
+        this.columnarOhlcv = ohlcv instanceof ColumnarOhlcv ? (ColumnarOhlcv) ohlcv : null;
     }
 
     /**
@@ -66,10 +73,16 @@ public class OhlcvDataSet extends AbstractDataSet<OhlcvDataSet> implements Itera
 
     @Override
     public double get(int dimIndex, int index) {
+        if (dimIndex == DIM_X && isCategoryBased) {
+            return index;
+        }
+        if (columnarOhlcv != null) {
+            return columnarOhlcv.getValue(dimIndex, index);
+        }
         IOhlcvItem ohlcvItem = ohlcv.getOhlcvItem(index);
         switch (dimIndex) {
         case DIM_X:
-            return isCategoryBased ? index : ohlcvItem.getTimeStamp().getTime() / 1000.0;
+            return ohlcvItem.getTimeStamp().getTime() / 1000.0;
         case DIM_Y_OPEN:
             return ohlcvItem.getOpen();
         case DIM_Y_HIGH:
@@ -87,6 +100,38 @@ public class OhlcvDataSet extends AbstractDataSet<OhlcvDataSet> implements Itera
         }
     }
 
+    /**
+     * Bulk copy of the values of the data points [fromIndex, toIndex) of the given dimension, e.g. for renderers
+     * transforming a visible range into screen coordinates.
+     *
+     * @param dimIndex DIM_X or one of the DIM_Y_... indices
+     * @param fromIndex first data point index (inclusive)
+     * @param toIndex last data point index (exclusive)
+     * @param target storage for the values
+     * @param targetOffset position in {@code target} of the value of data point {@code fromIndex}
+     * @return the target array
+     */
+    public double[] getValues(int dimIndex, int fromIndex, int toIndex, double[] target, int targetOffset) {
+        if (dimIndex == DIM_X && isCategoryBased) {
+            for (int i = fromIndex; i < toIndex; i++) {
+                target[targetOffset + i - fromIndex] = i;
+            }
+            return target;
+        }
+        if (columnarOhlcv != null) {
+            return columnarOhlcv.getValues(dimIndex, fromIndex, toIndex, target, targetOffset);
+        }
+        for (int i = fromIndex; i < toIndex; i++) {
+            target[targetOffset + i - fromIndex] = get(dimIndex, i);
+        }
+        return target;
+    }
+
+    @Override
+    public double[] getValues(int dimIndex) {
+        return getValues(dimIndex, 0, getDataCount(), new double[getDataCount()], 0);
+    }
+
     @Override
     public Iterator<IOhlcvItem> iterator() {
         return ohlcv.iterator();
@@ -99,7 +144,7 @@ public class OhlcvDataSet extends AbstractDataSet<OhlcvDataSet> implements Itera
 
     @Override
     public DataSet set(DataSet other, boolean copy) {
-        this.ohlcv = ((OhlcvDataSet) other).ohlcv;
+        setData(((OhlcvDataSet) other).ohlcv);
         return this;
     }
 
@@ -0,0 +1,457 @@
+package io.fair_acc.dataset.spi.utils;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import io.fair_acc.dataset.utils.IndexedStringConsumer;
+
+/**
+ * Sorted sparse map from primitive {@code int} keys (e.g. data point indices) to non-empty strings (e.g. data point
+ * labels or styles).
+ * <p>
+ * The entries are stored in a randomised balanced search tree (treap) whose nodes are kept in primitive arrays, i.e.
+ * keys are not boxed. Shifting all keys above a given index (as needed when inserting or removing data points) is
+ * applied lazily to whole sub-trees, thus {@link #get(int)}, {@link #put(int, String)}, {@link #insert(int, int)} and
+ * {@link #remove(int, int)} are O(log n) in the number of entries rather than O(n) in the number of data points, and
+ * {@link #forEach(int, int, IndexedStringConsumer)} visits a key range in O(log n + k).
+ * <p>
+ * N.B. the individual operations are thread-safe (synchronised on this map), i.e. entries may be read by threads that
+ * do not hold the lock of the enclosing data set while it is being modified. Compound operations (e.g. shifting keys and
+ * adding a value) and the consistency with the data points still require the data set's lock. The consumer of
+ * {@link #forEach(int, int, IndexedStringConsumer)} is invoked while holding this map's monitor.
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public class SortedIntStringMap implements Serializable {
+    private static final long serialVersionUID = 2402614213394212548L;
+    private static final int NIL = -1;
+    private static final int DEFAULT_CAPACITY = 8;
+    private int[] keys; // indexed by node: key relative to the pending offsets of the ancestors
+    private int[] offsets; // indexed by node: pending key offset of all descendants (excluding the node itself)
+    private int[] priorities; // indexed by node: heap order
+    private int[] left; // indexed by node: also links the free nodes
+    private int[] right; // indexed by node
+    private String[] values; // indexed by node
+    private int root = NIL;
+    private int free = NIL;
+    private int used; // number of nodes that have been allocated at least once
+    private int size;
+    private int seed = 0x2545F491;
+
+    public SortedIntStringMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity number of entries that can be stored without resizing
+     */
+    public SortedIntStringMap(final int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("initialCapacity must not be negative: " + initialCapacity);
+        }
+        keys = new int[initialCapacity];
+        offsets = new int[initialCapacity];
+        priorities = new int[initialCapacity];
+        left = new int[initialCapacity];
+        right = new int[initialCapacity];
+        values = new String[initialCapacity];
+    }
+
+    /**
+     * removes all entries
+     */
+    public synchronized void clear() {
+        Arrays.fill(values, 0, used, null);
+        root = NIL;
+        free = NIL;
+        used = 0;
+        size = 0;
+    }
+
+    /**
+     * Removes the entries within [fromKey, toKey) without shifting the other keys.
+     *
+     * @param fromKey first key (inclusive)
+     * @param toKey last key (exclusive)
+     */
+    public synchronized void clear(final int fromKey, final int toKey) {
+        if (fromKey >= toKey || root == NIL) {
+            return;
+        }
+        final long lower = split(root, fromKey);
+        final long upper = split(upper(lower), toKey);
+        release(lower(upper));
+        root = merge(lower(lower), upper(upper));
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof SortedIntStringMap)) {
+            return false;
+        }
+        // compare with a private copy to avoid holding the monitors of both maps
+        final SortedIntStringMap other = new SortedIntStringMap(0);
+        other.setAll((SortedIntStringMap) obj);
+        synchronized (this) {
+            if (size != other.size) {
+                return false;
+            }
+            final int[] thisKeys = new int[size];
+            final String[] thisValues = new String[size];
+            entries(thisKeys, thisValues);
+            final int[] otherKeys = new int[size];
+            final String[] otherValues = new String[size];
+            other.entries(otherKeys, otherValues);
+            return Arrays.equals(thisKeys, otherKeys) && Arrays.equals(thisValues, otherValues);
+        }
+    }
+
+    /**
+     * Visits the entries with keys within [fromKey, toKey) in ascending key order.
+     *
+     * @param fromKey first key (inclusive)
+     * @param toKey last key (exclusive)
+     * @param consumer receives the key and value of the entries
+     */
+    public synchronized void forEach(final int fromKey, final int toKey, final IndexedStringConsumer consumer) {
+        if (fromKey < toKey) {
+            forEach(root, 0, fromKey, toKey, consumer);
+        }
+    }
+
+    /**
+     * @param key the key
+     * @return value associated with the key or {@code null} if not available
+     */
+    public synchronized String get(final int key) {
+        final int node = find(key);
+        return node == NIL ? null : values[node];
+    }
+
+    @Override
+    public synchronized int hashCode() {
+        final int[] hash = { 1 };
+        forEach(Integer.MIN_VALUE, Integer.MAX_VALUE, (key, value) -> hash[0] = 31 * hash[0] + (key ^ value.hashCode()));
+        return hash[0];
+    }
+
+    /**
+     * Shifts all keys greater or equal than {@code key} by {@code length}, e.g. when inserting data points.
+     *
+     * @param key first key to be shifted
+     * @param length number of inserted keys
+     */
+    public synchronized void insert(final int key, final int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("length must not be negative: " + length);
+        }
+        if (length == 0 || root == NIL) {
+            return;
+        }
+        final long parts = split(root, key);
+        final int upper = upper(parts);
+        if (upper != NIL) {
+            keys[upper] += length;
+            offsets[upper] += length;
+        }
+        root = merge(lower(parts), upper);
+    }
+
+    /**
+     * @return {@code true} if the map contains no entries
+     */
+    public synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param target storage for the keys (needs to hold at least {@link #size()} elements)
+     * @return the keys in ascending order
+     */
+    public synchronized int[] keys(final int[] target) {
+        if (target.length < size) {
+            throw new IllegalArgumentException("target length " + target.length + " smaller than size " + size);
+        }
+        entries(target, null);
+        return target;
+    }
+
+    /**
+     * @param key the key
+     * @param value the new value, {@code null} or empty strings remove the entry
+     * @return the previous value or {@code null} if not available
+     */
+    public synchronized String put(final int key, final String value) {
+        if (value == null || value.isEmpty()) {
+            return remove(key);
+        }
+        final int existing = find(key);
+        if (existing != NIL) {
+            final String previous = values[existing];
+            values[existing] = value;
+            return previous;
+        }
+        final long lower = split(root, key);
+        final long upper = split(upper(lower), key + 1);
+        root = merge(merge(lower(lower), allocate(key, value)), upper(upper));
+        return null;
+    }
+
+    /**
+     * Removes an entry without shifting the other keys.
+     *
+     * @param key the key
+     * @return the removed value or {@code null} if not available
+     */
+    public synchronized String remove(final int key) {
+        if (find(key) == NIL) {
+            return null;
+        }
+        final long lower = split(root, key);
+        final long upper = split(upper(lower), key + 1);
+        final String previous = values[lower(upper)];
+        release(lower(upper));
+        root = merge(lower(lower), upper(upper));
+        return previous;
+    }
+
+    /**
+     * Removes the entries within [fromKey, toKey) and shifts all keys greater or equal than {@code toKey} by
+     * {@code fromKey - toKey}, e.g. when removing data points.
+     *
+     * @param fromKey first key (inclusive)
+     * @param toKey last key (exclusive)
+     */
+    public synchronized void remove(final int fromKey, final int toKey) {
+        if (fromKey >= toKey || root == NIL) {
+            return;
+        }
+        final long lower = split(root, fromKey);
+        final long upper = split(upper(lower), toKey);
+        release(lower(upper));
+        final int shifted = upper(upper);
+        if (shifted != NIL) {
+            keys[shifted] -= toKey - fromKey;
+            offsets[shifted] -= toKey - fromKey;
+        }
+        root = merge(lower(lower), shifted);
+    }
+
+    /**
+     * Replaces the entries with those of another map.
+     *
+     * @param other the source map
+     */
+    public void setAll(final SortedIntStringMap other) {
+        if (other == this) {
+            return;
+        }
+        final SortedIntStringMap copy = new SortedIntStringMap(0);
+        synchronized (other) {
+            copy.keys = Arrays.copyOf(other.keys, other.used);
+            copy.offsets = Arrays.copyOf(other.offsets, other.used);
+            copy.priorities = Arrays.copyOf(other.priorities, other.used);
+            copy.left = Arrays.copyOf(other.left, other.used);
+            copy.right = Arrays.copyOf(other.right, other.used);
+            copy.values = Arrays.copyOf(other.values, other.used);
+            copy.root = other.root;
+            copy.free = other.free;
+            copy.used = other.used;
+            copy.size = other.size;
+        }
+        synchronized (this) {
+            keys = copy.keys;
+            offsets = copy.offsets;
+            priorities = copy.priorities;
+            left = copy.left;
+            right = copy.right;
+            values = copy.values;
+            root = copy.root;
+            free = copy.free;
+            used = copy.used;
+            size = copy.size;
+        }
+    }
+
+    /**
+     * @return number of entries
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    @Override
+    public synchronized String toString() {
+        final StringBuilder builder = new StringBuilder().append('{');
+        forEach(Integer.MIN_VALUE, Integer.MAX_VALUE, (key, value) -> {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(key).append('=').append(value);
+        });
+        return builder.append('}').toString();
+    }
+
+    private int allocate(final int key, final String value) {
+        final int node;
+        if (free == NIL) {
+            if (used == keys.length) {
+                grow();
+            }
+            node = used++;
+        } else {
+            node = free;
+            free = left[node];
+        }
+        // xorshift32 pseudo-random priorities keep the tree balanced in expectation
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        keys[node] = key;
+        offsets[node] = 0;
+        priorities[node] = seed;
+        left[node] = NIL;
+        right[node] = NIL;
+        values[node] = value;
+        size++;
+        return node;
+    }
+
+    private void entries(final int[] targetKeys, final String[] targetValues) {
+        forEach(Integer.MIN_VALUE, Integer.MAX_VALUE, new IndexedStringConsumer() {
+            private int i;
+
+            @Override
+            public void accept(final int index, final String value) {
+                targetKeys[i] = index;
+                if (targetValues != null) {
+                    targetValues[i] = value;
+                }
+                i++;
+            }
+        });
+    }
+
+    private int find(final int key) {
+        int node = root;
+        int offset = 0;
+        while (node != NIL) {
+            final int nodeKey = keys[node] + offset;
+            if (key == nodeKey) {
+                return node;
+            }
+            offset += offsets[node];
+            node = key < nodeKey ? left[node] : right[node];
+        }
+        return NIL;
+    }
+
+    private void forEach(final int node, final int offset, final int fromKey, final int toKey, final IndexedStringConsumer consumer) {
+        if (node == NIL) {
+            return;
+        }
+        final int key = keys[node] + offset;
+        final int childOffset = offset + offsets[node];
+        if (key > fromKey) {
+            forEach(left[node], childOffset, fromKey, toKey, consumer);
+        }
+        if (key >= fromKey && key < toKey) {
+            consumer.accept(key, values[node]);
+        }
+        if (key < toKey - 1) {
+            forEach(right[node], childOffset, fromKey, toKey, consumer);
+        }
+    }
+
+    private void grow() {
+        final int capacity = (int) Math.min(Math.max(2L * keys.length, DEFAULT_CAPACITY), Integer.MAX_VALUE - 8L);
+        keys = Arrays.copyOf(keys, capacity);
+        offsets = Arrays.copyOf(offsets, capacity);
+        priorities = Arrays.copyOf(priorities, capacity);
+        left = Arrays.copyOf(left, capacity);
+        right = Arrays.copyOf(right, capacity);
+        values = Arrays.copyOf(values, capacity);
+    }
+
+    private int merge(final int lower, final int upper) {
+        // all keys of 'lower' are smaller than those of 'upper'
+        if (lower == NIL) {
+            return upper;
+        }
+        if (upper == NIL) {
+            return lower;
+        }
+        if (priorities[lower] > priorities[upper]) {
+            pushDown(lower);
+            right[lower] = merge(right[lower], upper);
+            return lower;
+        }
+        pushDown(upper);
+        left[upper] = merge(lower, left[upper]);
+        return upper;
+    }
+
+    private void pushDown(final int node) {
+        final int offset = offsets[node];
+        if (offset == 0) {
+            return;
+        }
+        final int leftChild = left[node];
+        if (leftChild != NIL) {
+            keys[leftChild] += offset;
+            offsets[leftChild] += offset;
+        }
+        final int rightChild = right[node];
+        if (rightChild != NIL) {
+            keys[rightChild] += offset;
+            offsets[rightChild] += offset;
+        }
+        offsets[node] = 0;
+    }
+
+    private void release(final int node) {
+        if (node == NIL) {
+            return;
+        }
+        release(left[node]);
+        release(right[node]);
+        values[node] = null;
+        left[node] = free;
+        free = node;
+        size--;
+    }
+
+    /**
+     * @param node sub-tree root
+     * @param key split key
+     * @return packed roots of the sub-trees with keys smaller than, and greater or equal than the key
+     */
+    private long split(final int node, final int key) {
+        if (node == NIL) {
+            return pack(NIL, NIL);
+        }
+        pushDown(node);
+        if (keys[node] < key) {
+            final long parts = split(right[node], key);
+            right[node] = lower(parts);
+            return pack(node, upper(parts));
+        }
+        final long parts = split(left[node], key);
+        left[node] = upper(parts);
+        return pack(lower(parts), node);
+    }
+
+    private static int lower(final long parts) {
+        return (int) (parts >> 32);
+    }
+
+    private static long pack(final int lower, final int upper) {
+        return ((long) lower << 32) | (upper & 0xFFFFFFFFL);
+    }
+
+    private static int upper(final long parts) {
+        return (int) parts;
+    }
+}
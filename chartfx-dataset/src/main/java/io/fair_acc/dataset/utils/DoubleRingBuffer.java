@@ -33,6 +33,48 @@ public class DoubleRingBuffer {
         return capacity - readPos + writePos;
     }
 
+    /**
+     * @return maximum capacity of the buffer
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * N.B. does not consume the element
+     *
+     * @param index index relative to the head of the buffer (0: oldest element)
+     * @return element at the given index
+     */
+    public double get(final int index) {
+        final int pos = readPos + index;
+        return elements[pos < capacity ? pos : pos - capacity];
+    }
+
+    /**
+     * copies a range of elements without consuming them. The (at most two) contiguous sections of the internal array
+     * are copied in bulk.
+     *
+     * @param into storage container
+     * @param index index relative to the head of the buffer (0: oldest element)
+     * @param length number of elements to be copied
+     * @return number of elements copied
+     */
+    public int get(final double[] into, final int index, final int length) {
+        final int nCopy = Math.max(0, Math.min(length, available() - index));
+        if (nCopy == 0) {
+            return 0;
+        }
+        int start = readPos + index;
+        if (start >= capacity) {
+            start -= capacity;
+        }
+        final int nTop = Math.min(nCopy, capacity - start);
+        System.arraycopy(elements, start, into, 0, nTop);
+        System.arraycopy(elements, 0, into, nTop, nCopy - nTop);
+        return nCopy;
+    }
+
     /**
      *
      * @param element new element
@@ -132,6 +174,22 @@ public class DoubleRingBuffer {
         flipped = false;
     }
 
+    /**
+     * discards elements at the head of the buffer
+     *
+     * @param length number of elements to be discarded
+     * @return number of elements discarded
+     */
+    public int skip(final int length) {
+        final int nSkip = Math.max(0, Math.min(length, available()));
+        readPos += nSkip;
+        if (flipped && readPos >= capacity) {
+            readPos -= capacity;
+            flipped = false;
+        }
+        return nSkip;
+    }
+
     /**
      *
      * @return element at head of buffer
@@ -0,0 +1,245 @@
+package io.fair_acc.dataset.utils;
+
+import java.util.Arrays;
+
+/**
+ * Multi-resolution min/max index of a sample array (e.g. the y-values of a data set) enabling M4-type (first, min, max,
+ * last) decimation in O(output) rather than O(samples).
+ * <p>
+ * Level 0 partitions the samples into buckets of {@link #BASE_BUCKET_SIZE} samples and each further level merges two
+ * adjacent buckets of the level below. Every bucket stores the indices of its minimum and maximum sample. The index is
+ * updated incrementally via {@link #update(double[], int, int, int)}, i.e. appending samples only touches the last
+ * bucket of each level. Non-finite values are ignored unless the whole bucket is non-finite.
+ * <p>
+ * N.B. the index does not synchronise itself, updates and queries must be guarded by the lock of the owning data set.
+ */
+public class MinMaxPyramid {
+    /**
+     * number of samples per bucket on level 0
+     */
+    public static final int BASE_BUCKET_SIZE = 16;
+    private static final int BASE_BUCKET_SHIFT = 4; // log2(BASE_BUCKET_SIZE)
+    private int[][] minIndex = new int[0][];
+    private int[][] maxIndex = new int[0][];
+    private int nLevels;
+    private int count;
+
+    /**
+     * @param level pyramid level
+     * @return number of samples per bucket on the given level
+     */
+    public static int getBucketSize(final int level) {
+        return BASE_BUCKET_SIZE << level;
+    }
+
+    /**
+     * @return number of indexed samples
+     */
+    public int getDataCount() {
+        return count;
+    }
+
+    /**
+     * @param from first sample index of the range (inclusive)
+     * @param to last sample index of the range (exclusive)
+     * @param nPixels number of pixels the range is mapped onto
+     * @return coarsest level whose buckets still contain at most one pixel's worth of samples, or {@code -1} if the
+     *         sample density is too low for the pyramid to be beneficial
+     */
+    public int getLevel(final int from, final int to, final int nPixels) {
+        final int samplesPerPixel = (Math.min(to, count) - Math.max(from, 0)) / Math.max(nPixels, 1);
+        int level = -1;
+        while (level + 1 < nLevels && getBucketSize(level + 1) <= samplesPerPixel) {
+            level++;
+        }
+        return level;
+    }
+
+    /**
+     * @return number of levels
+     */
+    public int getLevelCount() {
+        return nLevels;
+    }
+
+    /**
+     * @param level pyramid level as returned by {@link #getLevel(int, int, int)}
+     * @param from first sample index of the range (inclusive)
+     * @param to last sample index of the range (exclusive)
+     * @return upper bound of the number of indices returned by {@link #reduce(double[], int, int, int, int[])}
+     */
+    public static int getReducedSizeLimit(final int level, final int from, final int to) {
+        return 4 * (Math.max(0, to - from) / getBucketSize(level) + 2);
+    }
+
+    /**
+     * Computes the ascending indices of the first, minimum, maximum and last sample of every bucket overlapping the
+     * given range. The partial buckets at the range boundaries are scanned directly.
+     *
+     * @param values sample array the index has been built for
+     * @param level pyramid level as returned by {@link #getLevel(int, int, int)}
+     * @param from first sample index of the range (inclusive)
+     * @param to last sample index of the range (exclusive)
+     * @param indices storage for the sample indices, needs to be at least of size
+     *            {@link #getReducedSizeLimit(int, int, int)}
+     * @return number of sample indices written to 'indices'
+     */
+    public int reduce(final double[] values, final int level, final int from, final int to, final int[] indices) {
+        AssertUtils.indexInBounds(level, nLevels, "level");
+        final int min = Math.max(from, 0);
+        final int max = Math.min(to, count);
+        if (min >= max) {
+            return 0;
+        }
+        final int shift = BASE_BUCKET_SHIFT + level;
+        final int bucketSize = 1 << shift;
+        final int firstBucket = (min + bucketSize - 1) >> shift; // first bucket fully inside the range
+        final int lastBucket = max >> shift; // first bucket not fully inside the range
+        int n = 0;
+        final int head = Math.min(firstBucket << shift, max);
+        if (min < head) {
+            n = addM4(indices, n, min, head, scanMin(values, min, head), scanMax(values, min, head));
+        }
+        final int[] levelMin = minIndex[level];
+        final int[] levelMax = maxIndex[level];
+        for (int bucket = firstBucket; bucket < lastBucket; bucket++) {
+            final int start = bucket << shift;
+            n = addM4(indices, n, start, start + bucketSize, levelMin[bucket], levelMax[bucket]);
+        }
+        final int tail = Math.max(lastBucket << shift, head);
+        if (tail < max) {
+            n = addM4(indices, n, tail, max, scanMin(values, tail, max), scanMax(values, tail, max));
+        }
+        return n;
+    }
+
+    /**
+     * Updates the index after samples have been modified, added or removed.
+     *
+     * @param values sample array (N.B. may have been re-allocated since the last update)
+     * @param length new number of valid samples
+     * @param from first modified sample index (inclusive)
+     * @param to last modified sample index (exclusive), samples shifted due to insertions or removals count as modified
+     */
+    public void update(final double[] values, final int length, final int from, final int to) {
+        AssertUtils.gtEqThanZero("length", length);
+        int start = Math.max(0, Math.min(from, length));
+        int end = Math.max(start, Math.min(to, length));
+        if (length > count) {
+            // samples beyond the previously indexed range are always new
+            start = Math.min(start, count);
+            end = length;
+        } else if (length < count && length > 0) {
+            // the formerly full or partial last bucket may have been truncated
+            start = Math.min(start, length - 1);
+            end = length;
+        }
+        count = length;
+        resize();
+        if (start >= end) {
+            return;
+        }
+
+        // level 0: scan the samples
+        int firstBucket = start >> BASE_BUCKET_SHIFT;
+        int lastBucket = (end - 1) >> BASE_BUCKET_SHIFT;
+        for (int bucket = firstBucket; bucket <= lastBucket; bucket++) {
+            final int bucketStart = bucket << BASE_BUCKET_SHIFT;
+            final int bucketEnd = Math.min(length, bucketStart + BASE_BUCKET_SIZE);
+            minIndex[0][bucket] = scanMin(values, bucketStart, bucketEnd);
+            maxIndex[0][bucket] = scanMax(values, bucketStart, bucketEnd);
+        }
+
+        // higher levels: merge the two child buckets
+        for (int level = 1; level < nLevels; level++) {
+            final int[] childMin = minIndex[level - 1];
+            final int[] childMax = maxIndex[level - 1];
+            final int nChildren = getBucketCount(level - 1);
+            final int[] levelMin = minIndex[level];
+            final int[] levelMax = maxIndex[level];
+            firstBucket >>= 1;
+            lastBucket >>= 1;
+            for (int bucket = firstBucket; bucket <= lastBucket; bucket++) {
+                final int left = bucket << 1;
+                if (left + 1 < nChildren) {
+                    levelMin[bucket] = isLess(values, childMin[left + 1], childMin[left]) ? childMin[left + 1] : childMin[left];
+                    levelMax[bucket] = isGreater(values, childMax[left + 1], childMax[left]) ? childMax[left + 1] : childMax[left];
+                } else {
+                    levelMin[bucket] = childMin[left];
+                    levelMax[bucket] = childMax[left];
+                }
+            }
+        }
+    }
+
+    private int getBucketCount(final int level) {
+        final int shift = BASE_BUCKET_SHIFT + level;
+        return (count + (1 << shift) - 1) >> shift;
+    }
+
+    private void resize() {
+        int levels = 1;
+        while (levels < Integer.SIZE - BASE_BUCKET_SHIFT - 1 && getBucketCount(levels - 1) > 1) {
+            levels++;
+        }
+        if (levels > minIndex.length) {
+            minIndex = Arrays.copyOf(minIndex, levels);
+            maxIndex = Arrays.copyOf(maxIndex, levels);
+        }
+        nLevels = levels;
+        for (int level = 0; level < nLevels; level++) {
+            final int nBuckets = getBucketCount(level);
+            if (minIndex[level] == null || minIndex[level].length < nBuckets) {
+                // grow geometrically to keep the cost of appending single samples amortised constant
+                final int capacity = Math.max(nBuckets, minIndex[level] == null ? 0 : minIndex[level].length + (minIndex[level].length >> 1));
+                minIndex[level] = minIndex[level] == null ? new int[capacity] : Arrays.copyOf(minIndex[level], capacity);
+                maxIndex[level] = maxIndex[level] == null ? new int[capacity] : Arrays.copyOf(maxIndex[level], capacity);
+            }
+        }
+    }
+
+    private static int addM4(final int[] indices, final int n, final int first, final int end, final int minIdx, final int maxIdx) {
+        int k = n;
+        k = addIndex(indices, k, first);
+        k = addIndex(indices, k, Math.min(minIdx, maxIdx));
+        k = addIndex(indices, k, Math.max(minIdx, maxIdx));
+        return addIndex(indices, k, end - 1);
+    }
+
+    private static int addIndex(final int[] indices, final int n, final int index) {
+        if (n > 0 && indices[n - 1] >= index) {
+            return n;
+        }
+        indices[n] = index;
+        return n + 1;
+    }
+
+    private static boolean isGreater(final double[] values, final int a, final int b) {
+        return Double.isFinite(values[a]) && (values[a] > values[b] || !Double.isFinite(values[b]));
+    }
+
+    private static boolean isLess(final double[] values, final int a, final int b) {
+        // non-finite values are only retained if there are no finite alternatives
+        return Double.isFinite(values[a]) && (values[a] < values[b] || !Double.isFinite(values[b]));
+    }
+
+    private static int scanMax(final double[] values, final int from, final int to) {
+        int index = from;
+        for (int i = from + 1; i < to; i++) {
+            if (isGreater(values, i, index)) {
+                index = i;
+            }
+        }
+        return index;
+    }
+
+    private static int scanMin(final double[] values, final int from, final int to) {
+        int index = from;
+        for (int i = from + 1; i < to; i++) {
+            if (isLess(values, i, index)) {
+                index = i;
+            }
+        }
+        return index;
+    }
+}
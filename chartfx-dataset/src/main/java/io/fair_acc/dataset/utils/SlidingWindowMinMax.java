@@ -0,0 +1,185 @@
+package io.fair_acc.dataset.utils;
+
+import io.fair_acc.dataset.spi.DataRange;
+
+/**
+ * Tracks the minimum and maximum of a FIFO window of samples, e.g. the contents of a circular buffer, with amortised
+ * O(1) cost per added or evicted sample. Internally two monotonic deques keep only those samples that may still become
+ * the window minimum or maximum after older samples have been evicted.
+ * <p>
+ * Samples are evicted in insertion order, either explicitly via {@link #remove(int)} or implicitly once more than
+ * 'capacity' samples have been added. Non-finite values occupy a slot in the window but are otherwise ignored (same as
+ * {@link DataRange#add(double)}).
+ */
+public class SlidingWindowMinMax {
+    private final int capacity;
+    private final MonotonicDeque minDeque = new MonotonicDeque(true);
+    private final MonotonicDeque maxDeque = new MonotonicDeque(false);
+    private long head; // sequence number of the oldest sample in the window
+    private long tail; // sequence number of the next sample to be added
+
+    /**
+     * @param capacity maximum number of samples in the window, older samples are evicted on overflow
+     */
+    public SlidingWindowMinMax(final int capacity) {
+        AssertUtils.gtThanZero("capacity", capacity);
+        this.capacity = capacity;
+    }
+
+    /**
+     * adds a new sample, evicts the oldest sample if the window is full
+     *
+     * @param value new sample value
+     */
+    public void add(final double value) {
+        add(value, value);
+    }
+
+    /**
+     * adds a new sample that covers the interval [lower, upper] (e.g. a value with its error bars), evicts the oldest
+     * sample if the window is full
+     *
+     * @param lower lower bound of the new sample
+     * @param upper upper bound of the new sample
+     */
+    public void add(final double lower, final double upper) {
+        if (size() == capacity) {
+            remove(1);
+        }
+        minDeque.push(tail, lower);
+        maxDeque.push(tail, upper);
+        tail++;
+    }
+
+    /**
+     * adds new samples, evicts the oldest samples if the window is full
+     *
+     * @param values new sample values
+     * @param length number of samples to be added
+     */
+    public void add(final double[] values, final int length) {
+        for (int i = 0; i < length; i++) {
+            add(values[i], values[i]);
+        }
+    }
+
+    /**
+     * @return maximum number of samples in the window
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return maximum of the current window or -Double.MAX_VALUE if there are no finite samples (undefined range)
+     */
+    public double getMax() {
+        return maxDeque.isEmpty() ? -Double.MAX_VALUE : maxDeque.first();
+    }
+
+    /**
+     * @return minimum of the current window or +Double.MAX_VALUE if there are no finite samples (undefined range)
+     */
+    public double getMin() {
+        return minDeque.isEmpty() ? Double.MAX_VALUE : minDeque.first();
+    }
+
+    /**
+     * evicts the oldest samples
+     *
+     * @param nSamples number of samples to be evicted (clamped to the window size)
+     */
+    public void remove(final int nSamples) {
+        head += Math.min(Math.max(nSamples, 0), size());
+        minDeque.evictBefore(head);
+        maxDeque.evictBefore(head);
+    }
+
+    /**
+     * removes all samples
+     */
+    public void reset() {
+        head = tail;
+        minDeque.clear();
+        maxDeque.clear();
+    }
+
+    /**
+     * @return number of samples in the current window
+     */
+    public int size() {
+        return (int) (tail - head);
+    }
+
+    /**
+     * Double ended queue of (sequence number, value) pairs with strictly increasing sequence numbers and monotonic
+     * values. The backing ring buffer grows on demand, since for noisy data only a few candidates are retained.
+     */
+    private static class MonotonicDeque {
+        private static final int INITIAL_SIZE = 16;
+        private final boolean ascending;
+        private long[] sequence = new long[INITIAL_SIZE];
+        private double[] values = new double[INITIAL_SIZE];
+        private int first;
+        private int size;
+
+        private MonotonicDeque(final boolean ascending) {
+            this.ascending = ascending;
+        }
+
+        private void clear() {
+            first = 0;
+            size = 0;
+        }
+
+        private void evictBefore(final long seq) {
+            while (size > 0 && sequence[first] < seq) {
+                first = (first + 1) % values.length;
+                size--;
+            }
+        }
+
+        private double first() {
+            return values[first];
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+
+        private void push(final long seq, final double value) {
+            if (!Double.isFinite(value)) {
+                return;
+            }
+            // drop candidates that can no longer be the extremum while the new value is in the window
+            while (size > 0) {
+                final double last = values[(first + size - 1) % values.length];
+                if (ascending ? last < value : last > value) {
+                    break;
+                }
+                size--;
+            }
+            if (size == values.length) {
+                grow();
+            }
+            final int index = (first + size) % values.length;
+            sequence[index] = seq;
+            values[index] = value;
+            size++;
+        }
+
+        private void grow() {
+            final int newLength = values.length * 2;
+            final long[] newSequence = new long[newLength];
+            final double[] newValues = new double[newLength];
+            for (int i = 0; i < size; i++) {
+                final int index = (first + i) % values.length;
+                newSequence[i] = sequence[index];
+                newValues[i] = values[index];
+            }
+            sequence = newSequence;
+            values = newValues;
+            first = 0;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package io.fair_acc.dataset.events;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.fair_acc.bench.MeasurementRecorder;
+
+class ThreadEventProcessorTest {
+    private final List<ThreadEventProcessor> processors = new ArrayList<>();
+
+    @AfterEach
+    void shutdown() {
+        processors.forEach(ThreadEventProcessor::shutdown);
+        processors.clear();
+    }
+
+    @Test
+    void dependentActionsRunInOrder() {
+        final ThreadEventProcessor processor = newProcessor(4);
+        assertTrue(processor.isParallel());
+        final List<String> executed = new CopyOnWriteArrayList<>();
+
+        final BitState source = BitState.initCleanMultiThreaded(this, ChartBits.DataSetMask);
+        final BitState inputA = BitState.initCleanMultiThreaded(this, ChartBits.DataSetMask);
+        final BitState outputA = BitState.initCleanMultiThreaded(this, ChartBits.DataSetMask);
+        final BitState inputB = BitState.initCleanMultiThreaded(this, ChartBits.DataSetMask);
+        final BitState outputB = BitState.initCleanMultiThreaded(this, ChartBits.DataSetMask);
+        source.addInvalidateListener(inputA);
+        source.addInvalidateListener(inputB);
+        outputA.addInvalidateListener(inputB);
+
+        processor.addAction(inputA, () -> {
+            sleep(50);
+            executed.add("A");
+            outputA.setDirty(ChartBits.DataSetDataAdded);
+        }, 0, outputA, source);
+        processor.addAction(inputB, () -> executed.add("B"), 0, outputB, source, outputA);
+
+        source.setDirty(ChartBits.DataSetDataAdded);
+        Awaitility.await().atMost(1, TimeUnit.SECONDS).until(() -> executed.size() == 2 && processor.getQueueDepth() == 0);
+        assertEquals(List.of("A", "B"), executed);
+    }
+
+    @Test
+    void rateLimitCoalescesBursts() {
+        final ThreadEventProcessor processor = newProcessor(2);
+        final AtomicInteger counter = new AtomicInteger();
+        final AtomicInteger latencies = new AtomicInteger();
+        final List<Long> queueDepths = new CopyOnWriteArrayList<>();
+        processor.setRecorder((tag, level) -> (unit, time) -> {
+            if (tag.endsWith("latency")) {
+                latencies.incrementAndGet();
+            } else if ("eventprocessor-queue-depth".equals(tag)) {
+                queueDepths.add(unit.toSeconds(time));
+            }
+        });
+        final BitState input = BitState.initCleanMultiThreaded(this, ChartBits.DataSetMask);
+        processor.addAction(input, counter::incrementAndGet, 200, null);
+
+        input.setDirty(ChartBits.DataSetDataAdded);
+        Awaitility.await().atMost(1, TimeUnit.SECONDS).until(() -> counter.get() == 1);
+        for (int i = 0; i < 100; i++) {
+            input.setDirty(ChartBits.DataSetDataAdded);
+        }
+        assertEquals(1, counter.get());
+        Awaitility.await().atMost(1, TimeUnit.SECONDS).until(() -> counter.get() == 2 && processor.getQueueDepth() == 0);
+        assertEquals(2, latencies.get());
+        assertFalse(queueDepths.isEmpty());
+        assertTrue(queueDepths.stream().allMatch(depth -> depth >= 0 && depth <= 1), queueDepths.toString());
+    }
+
+    @Test
+    void sequentialDefault() {
+        final ThreadEventProcessor processor = newProcessor(1);
+        assertFalse(processor.isParallel());
+        processor.setRecorder(MeasurementRecorder.DISABLED);
+        final AtomicInteger counter = new AtomicInteger();
+        final BitState input = BitState.initCleanMultiThreaded(this, ChartBits.DataSetMask);
+        processor.addAction(input, counter::incrementAndGet);
+        input.setDirty(ChartBits.DataSetDataAdded);
+        Awaitility.await().atMost(1, TimeUnit.SECONDS).until(() -> counter.get() == 1);
+        input.setDirty(ChartBits.DataSetDataRemoved);
+        Awaitility.await().atMost(1, TimeUnit.SECONDS).until(() -> counter.get() == 2);
+        assertThrows(IllegalArgumentException.class, () -> new ThreadEventProcessor(0));
+    }
+
+    private ThreadEventProcessor newProcessor(final int nThreads) {
+        final ThreadEventProcessor processor = new ThreadEventProcessor(nThreads);
+        processors.add(processor);
+        return processor;
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -314,6 +314,85 @@ public class DataSetLockTest {
         assertEquals(0, myLockImpl.getWriterCount());
     }
 
+    @Test
+    @DisplayName("Tests non-blocking DefaultDataSetLock::tryWriteLock")
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    public void testDataSetTryWriteLock() throws InterruptedException {
+        DefaultDataSet dataSet = new DefaultDataSet("test");
+        DefaultDataSetLock<DefaultDataSet> myLock = new DefaultDataSetLock<>(dataSet);
+
+        assertTrue(myLock.tryWriteLock());
+        assertTrue(myLock.tryWriteLock()); // re-entrant
+        assertEquals(2, myLock.getWriterCount());
+        final boolean[] acquired = { true };
+        Thread other = new Thread(() -> acquired[0] = myLock.tryWriteLock());
+        other.start();
+        other.join();
+        assertFalse(acquired[0], "write-locked by another thread");
+        myLock.writeUnLock();
+        myLock.writeUnLock();
+        assertEquals(0, myLock.getWriterCount());
+
+        myLock.readLock();
+        assertFalse(myLock.tryWriteLock(), "read-locked");
+        assertEquals(0, myLock.getWriterCount());
+        myLock.readUnLock();
+
+        assertTrue(myLock.tryWriteLock());
+        myLock.writeUnLock();
+        assertEquals(0, myLock.getWriterCount());
+    }
+
+    @Test
+    @DisplayName("Tests DefaultDataSetLock::DeferredUpdate merge-before-first-read")
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    public void testDataSetLockDeferredUpdate() {
+        DefaultDataSet dataSet = new DefaultDataSet("test");
+        final boolean[] pending = { false };
+        final int[] counts = { 0, 0 }; // merges, notifications
+        DefaultDataSetLock<DefaultDataSet> myLock = new DefaultDataSetLock<>(dataSet, new DefaultDataSetLock.DeferredUpdate() {
+            @Override
+            public boolean isPending() {
+                return pending[0];
+            }
+
+            @Override
+            public void merge() {
+                pending[0] = false;
+                counts[0]++;
+            }
+
+            @Override
+            public void notifyPending() {
+                counts[1]++;
+            }
+        });
+
+        myLock.readLock();
+        myLock.readUnLock();
+        assertEquals(0, counts[0], "nothing pending");
+
+        pending[0] = true;
+        myLock.readLock();
+        assertEquals(1, counts[0], "merged before first read");
+        pending[0] = true; // updated while being read
+        myLock.readLock();
+        assertEquals(1, counts[0], "not merged while being read");
+        myLock.readUnLock();
+        assertEquals(0, counts[1], "still being read");
+        myLock.readUnLock();
+        assertEquals(1, counts[1], "notified after last reader");
+
+        myLock.writeLock();
+        assertTrue(pending[0]);
+        myLock.writeUnLock();
+        myLock.readLock();
+        assertFalse(pending[0]);
+        assertEquals(2, counts[0]);
+        myLock.readUnLock();
+        assertEquals(1, counts[1]);
+    }
+
     @Test
     @Timeout(value = 4, unit = TimeUnit.SECONDS)
     public void testDataSetLockReadWriteContention() {
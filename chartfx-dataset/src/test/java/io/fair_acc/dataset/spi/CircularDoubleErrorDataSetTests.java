@@ -175,6 +175,35 @@ class CircularDoubleErrorDataSetTests {
         assertEquals(2.1, yAxisDescription.getMax());
     }
 
+    @Test
+    void testThatEvictedExtremaAreRemovedFromAxisDescription() {
+        CircularDoubleErrorDataSet dataSet = new CircularDoubleErrorDataSet("test", 3);
+        AxisDescription xAxisDescription = dataSet.getAxisDescription(DataSet.DIM_X);
+        AxisDescription yAxisDescription = dataSet.getAxisDescription(DataSet.DIM_Y);
+
+        // unsorted x values and y extrema at the head of the buffer
+        dataSet.add(5., 100., 1., 1.);
+        dataSet.add(1., -100., 1., 1.);
+        dataSet.add(3., 0., 1., 1.);
+        assertAxisDescriptionRange(xAxisDescription, 1., 5.);
+        assertAxisDescriptionRange(yAxisDescription, -101., 101.);
+
+        dataSet.add(2., 1., 1., 1.);
+        assertAxisDescriptionRange(xAxisDescription, 1., 3.);
+        assertAxisDescriptionRange(yAxisDescription, -101., 2.);
+
+        dataSet.add(4., 2., 1., 1.);
+        dataSet.recomputeLimits(DataSet.DIM_X);
+        dataSet.recomputeLimits(DataSet.DIM_Y);
+        assertAxisDescriptionRange(xAxisDescription, 2., 4.);
+        assertAxisDescriptionRange(yAxisDescription, -1., 3.);
+
+        dataSet.reset();
+        assertAxisDescriptionRange(xAxisDescription, Double.NaN, Double.NaN);
+        dataSet.recomputeLimits(DataSet.DIM_Y);
+        assertAxisDescriptionRange(yAxisDescription, Double.NaN, Double.NaN);
+    }
+
     private void assertAxisDescriptionRange(AxisDescription axisDescription, double min, double max) {
         assertEquals(min, axisDescription.getMin());
         assertEquals(max, axisDescription.getMax());
@@ -0,0 +1,155 @@
+package io.fair_acc.dataset.spi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import io.fair_acc.dataset.DataSet;
+
+/**
+ * Checks the producer/reader hand-over of the DoubleBufferedDataSet.
+ */
+class DoubleBufferedDataSetTests {
+    @Test
+    void basicTests() {
+        final DoubleBufferedDataSet dataSet = new DoubleBufferedDataSet("test");
+        assertEquals("test", dataSet.getName());
+        assertEquals(0, dataSet.getDataCount());
+        assertFalse(dataSet.isPending());
+        assertFalse(dataSet.isRetainData());
+        dataSet.setRetainData(true);
+
+        dataSet.getBackBuffer().add(1.0, 2.0, 0.1, 0.2, "label");
+        assertEquals(0, dataSet.getDataCount(), "unpublished data is not visible");
+        dataSet.publish();
+        assertTrue(dataSet.isPending());
+
+        dataSet.lock().readLockGuard(() -> {
+            assertFalse(dataSet.isPending());
+            assertEquals(1, dataSet.getDataCount());
+            assertEquals(1.0, dataSet.get(DataSet.DIM_X, 0));
+            assertEquals(2.0, dataSet.get(DataSet.DIM_Y, 0));
+            assertEquals(0.1, dataSet.getErrorNegative(DataSet.DIM_Y, 0));
+            assertEquals(0.2, dataSet.getErrorPositive(DataSet.DIM_Y, 0));
+            assertEquals("label", dataSet.getDataLabel(0));
+            assertEquals(2.2, dataSet.recomputeLimits(DataSet.DIM_Y).getAxisDescription(DataSet.DIM_Y).getMax(), 1e-12);
+
+            // published while being read: the snapshot does not change
+            dataSet.getBackBuffer().add(2.0, 4.0);
+            dataSet.publish();
+            assertTrue(dataSet.isPending());
+            assertEquals(1, dataSet.getDataCount());
+        });
+
+        // retained data: the producer continues on the published content
+        dataSet.lock().readLockGuard(() -> {
+            assertEquals(2, dataSet.getDataCount());
+            assertEquals(4.0, dataSet.get(DataSet.DIM_Y, 1));
+            assertEquals(4.0, dataSet.recomputeLimits(DataSet.DIM_Y).getAxisDescription(DataSet.DIM_Y).getMax(), 1e-12);
+        });
+        assertEquals(2, dataSet.getBackBuffer().getDataCount());
+
+        // producers that overwrite all data do not need the copy
+        dataSet.setRetainData(false);
+        assertFalse(dataSet.isRetainData());
+        dataSet.getBackBuffer().set(new double[] { 5.0 }, new double[] { 6.0 }, new double[1], new double[1], true);
+        dataSet.publish();
+        dataSet.lock().readLockGuard(() -> {
+            assertEquals(1, dataSet.getDataCount());
+            assertEquals(6.0, dataSet.get(DataSet.DIM_Y, 0));
+        });
+
+        dataSet.set(new DoubleDataSet("other", new double[] { 1, 2, 3 }, new double[] { 4, 5, 6 }, 3, true), false);
+        dataSet.lock().readLockGuard(() -> assertEquals(3, dataSet.getDataCount()));
+    }
+
+    @Test
+    void labelsAndStylesAreForwardedToTheBackBuffer() {
+        final DoubleBufferedDataSet dataSet = new DoubleBufferedDataSet("test").setRetainData(true);
+        dataSet.getBackBuffer().add(1.0, 2.0);
+        dataSet.getBackBuffer().add(2.0, 3.0);
+        assertNull(dataSet.addDataLabel(1, "label"));
+        assertNull(dataSet.addDataStyle(0, "color:red"));
+        assertEquals("label", dataSet.getBackBuffer().getDataLabel(1));
+        dataSet.lock().readLockGuard(() -> assertNull(dataSet.getDataLabel(1), "not yet published"));
+
+        dataSet.publish();
+        dataSet.lock().readLockGuard(() -> {
+            assertEquals("label", dataSet.getDataLabel(1));
+            assertEquals("color:red", dataSet.getStyle(0));
+            assertTrue(dataSet.hasDataLabels());
+        });
+
+        assertEquals("label", dataSet.removeDataLabel(1));
+        assertEquals("color:red", dataSet.removeStyle(0));
+        dataSet.publish();
+        dataSet.lock().readLockGuard(() -> {
+            assertFalse(dataSet.hasDataLabels());
+            assertFalse(dataSet.hasStyles());
+        });
+    }
+
+    @Test
+    void producerIsNotBlockedByReaders() throws InterruptedException {
+        final DoubleBufferedDataSet dataSet = new DoubleBufferedDataSet("test").setRetainData(true); // appending producer
+        final int nSamples = 10_000;
+        dataSet.lock().readLock();
+        try {
+            final int countBefore = dataSet.getDataCount();
+            final Thread producer = new Thread(() -> {
+                for (int i = 0; i < nSamples; i++) {
+                    dataSet.getBackBuffer().add(i, i);
+                    dataSet.publish();
+                }
+            });
+            producer.start();
+            assertTimeoutPreemptively(Duration.ofSeconds(20), () -> producer.join());
+            assertEquals(countBefore, dataSet.getDataCount());
+        } finally {
+            dataSet.lock().readUnLock();
+        }
+
+        dataSet.lock().readLockGuard(() -> {
+            assertEquals(nSamples, dataSet.getDataCount());
+            for (int i = 0; i < nSamples; i++) {
+                assertEquals(i, dataSet.get(DataSet.DIM_Y, i));
+            }
+        });
+    }
+
+    @Test
+    void concurrentReadersSeeConsistentSnapshots() throws InterruptedException {
+        final DoubleBufferedDataSet dataSet = new DoubleBufferedDataSet("test").setRetainData(false);
+        final Thread producer = new Thread(() -> {
+            for (int i = 1; i <= 5000; i++) {
+                final double[] values = new double[i % 50 + 1];
+                Arrays.fill(values, i);
+                dataSet.getBackBuffer().set(values, values, new double[values.length], new double[values.length], true);
+                dataSet.publish();
+            }
+        });
+        producer.start();
+        while (producer.isAlive()) {
+            dataSet.lock().readLockGuard(() -> {
+                final int n = dataSet.getDataCount();
+                if (n > 0) {
+                    // all points of one snapshot carry the same value
+                    final double first = dataSet.get(DataSet.DIM_Y, 0);
+                    for (int i = 0; i < n; i++) {
+                        assertEquals(first, dataSet.get(DataSet.DIM_Y, i));
+                    }
+                    assertEquals((int) first % 50 + 1, n);
+                }
+            });
+        }
+        producer.join();
+        dataSet.lock().readLockGuard(() -> assertEquals(5000.0, dataSet.get(DataSet.DIM_Y, 0)));
+    }
+}
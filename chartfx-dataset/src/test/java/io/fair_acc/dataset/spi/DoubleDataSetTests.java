@@ -180,6 +180,43 @@ public class DoubleDataSetTests extends EditableDataSetTests {
         }
     }
 
+    @Test
+    public void incrementalLimitsTest() {
+        final DoubleDataSet dataSet = new DoubleDataSet("test", testCoordinate[0], testCoordinate[1], n, true);
+        assertFalse(dataSet.isIncrementalLimits());
+        dataSet.setIncrementalLimits(true);
+        assertTrue(dataSet.isIncrementalLimits());
+
+        dataSet.recomputeLimits(DataSet.DIM_Y);
+        assertEquals(2.0, dataSet.getAxisDescription(DataSet.DIM_Y).getMin());
+        assertEquals(6.0, dataSet.getAxisDescription(DataSet.DIM_Y).getMax());
+
+        // appended values extend the limits without a rescan
+        dataSet.add(4.0, 10.0);
+        dataSet.add(new double[] { 5.0 }, new double[] { -1.0 });
+        dataSet.recomputeLimits(DataSet.DIM_Y);
+        assertEquals(-1.0, dataSet.getAxisDescription(DataSet.DIM_Y).getMin());
+        assertEquals(10.0, dataSet.getAxisDescription(DataSet.DIM_Y).getMax());
+
+        // values modified behind the data set's back are only picked up after an explicit invalidation
+        dataSet.getValues(DataSet.DIM_Y)[3] = 20.0;
+        dataSet.recomputeLimits(DataSet.DIM_Y);
+        assertEquals(10.0, dataSet.getAxisDescription(DataSet.DIM_Y).getMax());
+        dataSet.invalidateLimits();
+        dataSet.recomputeLimits(DataSet.DIM_Y);
+        assertEquals(20.0, dataSet.getAxisDescription(DataSet.DIM_Y).getMax());
+
+        // removal invalidates the limits
+        dataSet.remove(3, 5);
+        dataSet.recomputeLimits(DataSet.DIM_Y);
+        assertEquals(2.0, dataSet.getAxisDescription(DataSet.DIM_Y).getMin());
+        assertEquals(6.0, dataSet.getAxisDescription(DataSet.DIM_Y).getMax());
+
+        dataSet.resize(4);
+        dataSet.recomputeLimits(DataSet.DIM_Y);
+        assertEquals(0.0, dataSet.getAxisDescription(DataSet.DIM_Y).getMin());
+    }
+
     @Test
     public void trimTest() {
         DoubleDataSet dataSet = new DoubleDataSet("test");
@@ -199,4 +199,53 @@ class DoubleGridDataSetTests {
         assertThrows(IllegalArgumentException.class, () -> dataset.set(false, new double[2][1], new double[2]));
         assertThrows(IllegalArgumentException.class, () -> dataset.set(false, new double[3][1], new double[2]));
     }
+
+    @Test
+    void testBulkAccess() {
+        final int[] shape = { 4, 3, 2 };
+        final double[] data = new double[4 * 3 * 2];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = i + 1.0;
+        }
+        final DoubleGridDataSet dataset = new DoubleGridDataSet("testGridDataSet", false, new double[][] { { 0.1, 0.2, 0.3, 0.4 }, { 1.1, 2.2, 3.3 }, { -0.5, 0.5 } }, data);
+        assertEquals(1, dataset.getStride(DIM_X));
+        assertEquals(4, dataset.getStride(DIM_Y));
+        assertEquals(12, dataset.getStride(DIM_Z));
+        assertThrows(IndexOutOfBoundsException.class, () -> dataset.getStride(3));
+
+        for (int index = 0; index < dataset.getDataCount(); index++) {
+            final int x = index % 4;
+            final int y = (index / 4) % 3;
+            final int z = index / 12;
+            assertEquals(dataset.getGrid(DIM_X, x), dataset.get(DIM_X, index));
+            assertEquals(dataset.getGrid(DIM_Y, y), dataset.get(DIM_Y, index));
+            assertEquals(dataset.getGrid(DIM_Z, z), dataset.get(DIM_Z, index));
+            assertEquals(data[x * dataset.getStride(DIM_X) + y * dataset.getStride(DIM_Y) + z * dataset.getStride(DIM_Z)], dataset.get(3, x, y, z));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> dataset.get(DIM_X, 24));
+        assertThrows(IndexOutOfBoundsException.class, () -> dataset.get(3, 4, 0, 0));
+        assertEquals(5.0, dataset.get(3, 0, 1), "missing indices are treated as zero");
+
+        for (int dimIndex = 0; dimIndex < 4; dimIndex++) {
+            for (int gridDim = 0; gridDim < 3; gridDim++) {
+                final int[] start = { gridDim == DIM_X ? 1 : 3, gridDim == DIM_Y ? 1 : 2, gridDim == DIM_Z ? 0 : 1 };
+                final int length = shape[gridDim] - start[gridDim];
+                final double[] expected = new double[length + 2];
+                for (int i = 0; i < length; i++) {
+                    final int[] indices = start.clone();
+                    indices[gridDim] += i;
+                    expected[2 + i] = dataset.get(dimIndex, indices);
+                }
+                assertArrayEquals(expected, dataset.getSlice(dimIndex, gridDim, start, length, new double[length + 2], 2), "dim = " + dimIndex + " gridDim = " + gridDim);
+            }
+        }
+        assertArrayEquals(new double[] { 5, 6, 7, 8 }, dataset.getSlice(3, DIM_X, new int[] { 0, 1 }, 4, new double[4], 0), "row");
+        assertArrayEquals(new double[] { 2, 6, 10 }, dataset.getSlice(3, DIM_Y, new int[] { 1 }, 3, new double[3], 0), "column");
+        assertThrows(IndexOutOfBoundsException.class, () -> dataset.getSlice(3, DIM_X, new int[] { 1, 0, 0 }, 4, new double[4], 0));
+
+        // non-symmetric shape: setter and getter use the same index order
+        dataset.set(3, new int[] { 3, 1, 0 }, -1.0);
+        assertEquals(-1.0, dataset.get(3, 3, 1, 0));
+        assertEquals(-1.0, data[3 + 4]);
+    }
 }
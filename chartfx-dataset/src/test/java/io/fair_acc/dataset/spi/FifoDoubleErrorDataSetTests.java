@@ -4,7 +4,12 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -70,4 +75,93 @@ public class FifoDoubleErrorDataSetTests {
         testDataSet.expire(10.0001);
         assertEquals(0, testDataSet.getDataCount());
     }
+
+    @Test
+    public void testLimits() {
+        FifoDoubleErrorDataSet testDataSet = new FifoDoubleErrorDataSet("test data set", 4, 10.0);
+        testDataSet.add(new double[] { 1, 2, 3 }, new double[] { 20, -5, 3 }, new double[] { 1, 1, 1 }, new double[] { 2, 2, 2 });
+        assertEquals(1, testDataSet.getAxisDescription(DataSet.DIM_X).getMin());
+        assertEquals(3, testDataSet.getAxisDescription(DataSet.DIM_X).getMax());
+        assertEquals(-6, testDataSet.getAxisDescription(DataSet.DIM_Y).getMin());
+        assertEquals(22, testDataSet.getAxisDescription(DataSet.DIM_Y).getMax());
+
+        // queue limit evicts the oldest point
+        testDataSet.add(4, 0, 0, 0);
+        testDataSet.add(5, 0, 0, 0);
+        assertEquals(4, testDataSet.getDataCount());
+        assertEquals(2, testDataSet.getAxisDescription(DataSet.DIM_X).getMin());
+        assertEquals(5, testDataSet.getAxisDescription(DataSet.DIM_X).getMax());
+        assertEquals(-6, testDataSet.getAxisDescription(DataSet.DIM_Y).getMin());
+        assertEquals(5, testDataSet.getAxisDescription(DataSet.DIM_Y).getMax());
+
+        // max distance expires the oldest points
+        testDataSet.add(14, 1, 0, 0);
+        assertEquals(3, testDataSet.getDataCount());
+        testDataSet.recomputeLimits(DataSet.DIM_X);
+        testDataSet.recomputeLimits(DataSet.DIM_Y);
+        assertEquals(4, testDataSet.getAxisDescription(DataSet.DIM_X).getMin());
+        assertEquals(14, testDataSet.getAxisDescription(DataSet.DIM_X).getMax());
+        assertEquals(0, testDataSet.getAxisDescription(DataSet.DIM_Y).getMin());
+        assertEquals(1, testDataSet.getAxisDescription(DataSet.DIM_Y).getMax());
+
+        testDataSet.reset();
+        assertEquals(Double.NaN, testDataSet.getAxisDescription(DataSet.DIM_X).getMin());
+    }
+
+    @Test
+    public void testLabelsAndStylesFollowSamples() {
+        FifoDoubleErrorDataSet testDataSet = new FifoDoubleErrorDataSet("test data set", 3, 100.0);
+        testDataSet.add(1, 1, 0, 0, "label1", null);
+        testDataSet.add(2, 2, 0, 0);
+        testDataSet.add(3, 3, 0, 0, null, "style3");
+        testDataSet.addDataLabel(1, "label2");
+        assertEquals("label1", testDataSet.getDataLabel(0));
+        assertEquals("label2", testDataSet.getDataLabel(1));
+        assertEquals("style3", testDataSet.getStyle(2));
+
+        // evict the oldest sample, labels and styles have to move with their samples
+        testDataSet.add(4, 4, 0, 0);
+        assertArrayEquals(new double[] { 2, 3, 4 }, testDataSet.getValues(DataSet.DIM_X));
+        assertEquals("label2", testDataSet.getDataLabel(0));
+        assertNull(testDataSet.getDataLabel(2));
+        assertEquals("style3", testDataSet.getStyle(1));
+        assertEquals(2.0, testDataSet.get(DataSet.DIM_X, 0));
+
+        final List<String> labels = new ArrayList<>();
+        testDataSet.forEachDataLabel(0, testDataSet.getDataCount(), (index, label) -> labels.add(index + ":" + label));
+        assertEquals(List.of("0:label2"), labels);
+        final List<String> styles = new ArrayList<>();
+        testDataSet.forEachStyle(0, testDataSet.getDataCount(), (index, style) -> styles.add(index + ":" + style));
+        assertEquals(List.of("1:style3"), styles);
+
+        assertEquals("label2", testDataSet.removeDataLabel(0));
+        assertNull(testDataSet.getDataLabel(0));
+
+        // the expired samples are found by binary search on the increasing x coordinates
+        testDataSet.add(103.5, 5, 0, 0);
+        assertArrayEquals(new double[] { 4, 103.5 }, testDataSet.getValues(DataSet.DIM_X));
+        assertEquals(2, testDataSet.getData().size());
+    }
+
+    @Test
+    public void testCopyLabelsAndStyles() {
+        final DoubleDataSet source = new DoubleDataSet("source", new double[] { 1, 2, 3 }, new double[] { 1, 2, 3 }, 3, false);
+        source.addDataLabel(1, "label1");
+        source.addDataStyle(2, "style2");
+
+        final FifoDoubleErrorDataSet fifo = new FifoDoubleErrorDataSet("fifo", 10);
+        fifo.set(source);
+        assertTrue(fifo.hasDataLabels());
+        assertEquals("label1", fifo.getDataLabel(1));
+        assertEquals("style2", fifo.getStyle(2));
+
+        fifo.add(4, 4, 0, 0, "label3", null);
+        for (final boolean copy : new boolean[] { true, false }) {
+            final DoubleDataSet target = new DoubleDataSet("target");
+            target.set(fifo, copy);
+            assertEquals("label1", target.getDataLabel(1), "copy = " + copy);
+            assertEquals("style2", target.getStyle(2), "copy = " + copy);
+            assertEquals("label3", target.getDataLabel(3), "copy = " + copy);
+        }
+    }
 }
@@ -14,10 +14,19 @@ import static io.fair_acc.dataset.Histogram.Boundary.UPPER;
 import static io.fair_acc.dataset.spi.AbstractHistogram.HistogramOuterBounds.BINS_ALIGNED_WITH_BOUNDARY;
 import static io.fair_acc.dataset.spi.AbstractHistogram.HistogramOuterBounds.BINS_CENTERED_ON_BOUNDARY;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import io.fair_acc.dataset.AxisDescription;
+import io.fair_acc.dataset.events.ChartBits;
 
 class HistogramTests {
     private static final int N_BINS = 10;
@@ -290,4 +299,148 @@ class HistogramTests {
         assertEquals(0.0, dataSet.getAxisDescription(DIM_Y).getMin());
         assertEquals(6.0, dataSet.getAxisDescription(DIM_Y).getMax());
     }
+
+    @Test
+    void testFindBinAgainstLinearScan() {
+        final Random rnd = new Random(42);
+        final List<Histogram> histograms = List.of(new Histogram("aligned", 37, 0.1, 0.7, BINS_ALIGNED_WITH_BOUNDARY),
+                new Histogram("centred", 13, -3.3, 17.1, BINS_CENTERED_ON_BOUNDARY),
+                new Histogram("vertical", 7, 1e3, 1e3 + 1e-6, false, BINS_ALIGNED_WITH_BOUNDARY),
+                new Histogram("non-equidistant", new double[] { -1.0, 0.0, 0.1, 0.1, 1.0, 5.0, 6.0 }));
+        for (final Histogram histogram : histograms) {
+            final int dimIndex = histogram.getAxisDescription(DIM_X).getLength() > 0 ? DIM_X : DIM_Y;
+            final double min = histogram.getAxisDescription(dimIndex).getMin();
+            final double max = histogram.getAxisDescription(dimIndex).getMax();
+            final double[] bins = histogram.axisBins[dimIndex];
+            final List<Double> values = new ArrayList<>(List.of(Double.NaN, min, max, Math.nextDown(min), Math.nextUp(max)));
+            for (int i = 1; i < bins.length; i++) {
+                values.add(bins[i]);
+                values.add(Math.nextDown(bins[i]));
+                values.add(Math.nextUp(bins[i]));
+            }
+            for (int i = 0; i < 1000; i++) {
+                values.add(min - 0.1 * (max - min) + 1.2 * (max - min) * rnd.nextDouble());
+            }
+            for (final double value : values) {
+                assertEquals(findBinLinear(histogram, dimIndex, value), histogram.findBin(dimIndex, value), histogram.getName() + " value = " + value);
+            }
+        }
+    }
+
+    @Test
+    void testConcurrentAccumulation() throws Exception {
+        final int nThreads = 4;
+        final int nSamples = 20_000;
+        final Histogram reference = new Histogram("reference", N_BINS, 0.0, N_BINS, BINS_ALIGNED_WITH_BOUNDARY);
+        final Histogram histogram = new Histogram("accumulated", N_BINS, 0.0, N_BINS, BINS_ALIGNED_WITH_BOUNDARY);
+        final Histogram2 reference2 = new Histogram2("reference2", N_BINS, 0.0, N_BINS, N_BINS, 0.0, N_BINS, BINS_ALIGNED_WITH_BOUNDARY);
+        final Histogram2 histogram2 = new Histogram2("accumulated2", N_BINS, 0.0, N_BINS, N_BINS, 0.0, N_BINS, BINS_ALIGNED_WITH_BOUNDARY);
+        final double[][] x = new double[nThreads][nSamples];
+        final double[][] y = new double[nThreads][nSamples];
+        final double[][] w = new double[nThreads][nSamples];
+        final Random rnd = new Random(42);
+        for (int thread = 0; thread < nThreads; thread++) {
+            for (int i = 0; i < nSamples; i++) {
+                x[thread][i] = -1.0 + (N_BINS + 2.0) * rnd.nextDouble(); // includes under- and over-flow
+                y[thread][i] = -1.0 + (N_BINS + 2.0) * rnd.nextDouble();
+                w[thread][i] = rnd.nextInt(4); // integer weights -> exact sums independent of the order
+            }
+            reference.fillN(x[thread], w[thread], 1);
+            for (int i = 0; i < nSamples; i++) {
+                reference2.fill(x[thread][i], y[thread][i], w[thread][i]);
+            }
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(nThreads);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < nThreads; thread++) {
+                final int index = thread;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < nSamples / 2; i++) {
+                        histogram.accumulate(x[index][i], w[index][i]);
+                        histogram2.accumulate(x[index][i], y[index][i], w[index][i]);
+                    }
+                    final double[] xBatch = Arrays.copyOfRange(x[index], nSamples / 2, nSamples);
+                    final double[] yBatch = Arrays.copyOfRange(y[index], nSamples / 2, nSamples);
+                    final double[] wBatch = Arrays.copyOfRange(w[index], nSamples / 2, nSamples);
+                    histogram.accumulateN(xBatch, wBatch, 1);
+                    histogram2.accumulateN(xBatch, yBatch, wBatch, 1);
+                }));
+                // concurrent readers merge the partial bins while the producers are still running
+                histogram.lock().readLockGuard(() -> assertTrue(histogram.getBinContent(1) >= 0.0));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        histogram.lock().readLockGuard(() -> {
+            for (int bin = 0; bin < N_BINS + 2; bin++) {
+                assertEquals(reference.getBinContent(bin), histogram.getBinContent(bin), "bin " + bin);
+            }
+        });
+        assertEquals(reference.getAxisDescription(DIM_Y).getMax(), histogram.getAxisDescription(DIM_Y).getMax());
+
+        histogram2.mergeAccumulated();
+        for (int bin = 0; bin < reference2.data.length; bin++) {
+            assertEquals(reference2.getBinContent(bin), histogram2.getBinContent(bin), "bin " + bin);
+        }
+        for (int bin = 0; bin < N_BINS + 2; bin++) {
+            assertEquals(reference2.getProjectionX().getBinContent(bin), histogram2.getProjectionX().getBinContent(bin));
+            assertEquals(reference2.getProjectionY().getBinContent(bin), histogram2.getProjectionY().getBinContent(bin));
+        }
+
+        histogram.reset();
+        histogram.accumulate(1.5, 1.0);
+        histogram.reset();
+        histogram.mergeAccumulated();
+        assertEquals(0.0, histogram.getBinContent(2), "reset discards the accumulated data");
+    }
+
+    @Test
+    void testAccumulationNotifiesOncePerMerge() {
+        final Histogram histogram = new Histogram("accumulated", N_BINS, 0.0, N_BINS, BINS_ALIGNED_WITH_BOUNDARY);
+        histogram.getBitState().clear();
+        histogram.accumulate(1.5, 1.0);
+        assertTrue(histogram.getBitState().isDirty(ChartBits.DataSetDataAdded));
+
+        histogram.getBitState().clear();
+        histogram.accumulateN(new double[] { 1.5, 2.5, 3.5 }, new double[] { 1.0, 2.0, 3.0 }, 2);
+        assertFalse(histogram.getBitState().isDirty(ChartBits.DataSetDataAdded), "already notified since last merge");
+        assertEquals(0.0, histogram.getBinContent(2), "not yet merged");
+
+        histogram.lock().readLockGuard(() -> {
+            assertEquals(2.0, histogram.getBinContent(2));
+            assertEquals(0.0, histogram.getBinContent(3), "step size");
+            assertEquals(3.0, histogram.getBinContent(4));
+        });
+        assertFalse(histogram.getBitState().isDirty(ChartBits.DataSetDataAdded));
+        histogram.accumulate(1.5, 1.0);
+        assertTrue(histogram.getBitState().isDirty(ChartBits.DataSetDataAdded));
+
+        // data accumulated while being read is re-notified when the last reader releases the lock
+        histogram.mergeAccumulated();
+        histogram.lock().readLock();
+        histogram.accumulate(1.5, 1.0);
+        histogram.getBitState().clear();
+        histogram.lock().readUnLock();
+        assertTrue(histogram.getBitState().isDirty(ChartBits.DataSetDataAdded));
+        histogram.lock().readLockGuard(() -> assertEquals(4.0, histogram.getBinContent(2)));
+    }
+
+    private static int findBinLinear(final Histogram histogram, final int dimIndex, final double value) {
+        final double[] bins = histogram.axisBins[dimIndex];
+        if (!histogram.getAxisDescription(dimIndex).contains(value)) {
+            return value < bins[1] ? 0 : bins.length - 1;
+        }
+        for (int i = 1; i < bins.length; i++) {
+            if (value < bins[i]) {
+                return i - 1;
+            }
+        }
+        return bins.length - 1;
+    }
 }
@@ -0,0 +1,100 @@
+package io.fair_acc.dataset.spi;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import static io.fair_acc.dataset.DataSet.DIM_X;
+import static io.fair_acc.dataset.DataSet.DIM_Y;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.fair_acc.dataset.DataSetError.ErrorType;
+
+/**
+ * Checks the binary DataSet file format round-trip via {@link MappedDataSet}.
+ */
+class MappedDataSetTests {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testRoundTrip() throws IOException {
+        final int n = 1000;
+        final DoubleErrorDataSet original = new DoubleErrorDataSet("test data set µ", n);
+        for (int i = 0; i < n; i++) {
+            original.add(i * 0.1, Math.sin(i * 0.01), 0.1 + i * 1e-3, 0.2 + i * 1e-3);
+        }
+        original.getAxisDescription(DIM_X).set("time", "s");
+        original.getAxisDescription(DIM_Y).set("voltage", "V");
+        original.getInfoList().add("info");
+        original.getWarningList().add("warning");
+        original.getMetaInfo().put("key", "value");
+        original.setStyle("strokeColor=red");
+
+        final Path file = tempDir.resolve("test.bin");
+        MappedDataSet.write(original, file);
+        assertEquals(0, Files.size(file) % 64);
+
+        final MappedDataSet mapped = MappedDataSet.open(file);
+        assertEquals(original.getName(), mapped.getName());
+        assertEquals(n, mapped.getDataCount());
+        assertEquals(original.getStyle(), mapped.getStyle());
+        assertArrayEquals(original.getValues(DIM_X), mapped.getValues(DIM_X));
+        assertArrayEquals(original.getValues(DIM_Y), mapped.getValues(DIM_Y));
+        assertArrayEquals(original.getErrorsNegative(DIM_Y), mapped.getErrorsNegative(DIM_Y));
+        assertArrayEquals(original.getErrorsPositive(DIM_Y), mapped.getErrorsPositive(DIM_Y));
+        assertArrayEquals(new double[n], mapped.getErrorsNegative(DIM_X));
+        assertEquals(original.get(DIM_Y, 123), mapped.get(DIM_Y, 123));
+        assertEquals(original.getErrorPositive(DIM_Y, 999), mapped.getErrorPositive(DIM_Y, 999));
+        assertEquals(ErrorType.NO_ERROR, mapped.getErrorType(DIM_X));
+        assertEquals(ErrorType.ASYMMETRIC, mapped.getErrorType(DIM_Y));
+
+        assertEquals("voltage", mapped.getAxisDescription(DIM_Y).getName());
+        assertEquals("V", mapped.getAxisDescription(DIM_Y).getUnit());
+        original.recomputeLimits(DIM_Y);
+        assertEquals(original.getAxisDescription(DIM_Y).getMin(), mapped.getAxisDescription(DIM_Y).getMin());
+        assertEquals(original.getAxisDescription(DIM_Y).getMax(), mapped.recomputeLimits(DIM_Y).getAxisDescription(DIM_Y).getMax());
+        assertEquals("info", mapped.getInfoList().get(0));
+        assertEquals("warning", mapped.getWarningList().get(0));
+        assertEquals("value", mapped.getMetaInfo().get("key"));
+
+        assertThrows(UnsupportedOperationException.class, () -> mapped.set(original));
+    }
+
+    @Test
+    void testEmptyAndInvalidFiles() throws IOException {
+        final Path file = tempDir.resolve("empty.bin");
+        MappedDataSet.write(new DoubleDataSet("empty"), file);
+        final MappedDataSet mapped = MappedDataSet.open(file);
+        assertEquals(0, mapped.getDataCount());
+        assertEquals(0, mapped.getValues(DIM_Y).length);
+
+        final Path invalid = tempDir.resolve("invalid.bin");
+        Files.write(invalid, new byte[128]);
+        assertThrows(IOException.class, () -> MappedDataSet.open(invalid));
+        assertThrows(IllegalArgumentException.class, () -> MappedDataSet.write(new DoubleGridDataSet("grid", 3), file));
+
+        // corrupt the error type of the first dimension
+        final Path corrupt = tempDir.resolve("corrupt.bin");
+        MappedDataSet.write(new DoubleDataSet("corrupt", new double[] { 1, 2 }, new double[] { 3, 4 }, 2, false), corrupt);
+        final byte[] bytes = Files.readAllBytes(corrupt);
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        int position = (int) buffer.getLong(24); // meta data offset
+        for (int i = 0; i < 4; i++) { // name, style, axis name and unit
+            position += Integer.BYTES + Math.max(0, buffer.getInt(position));
+        }
+        buffer.putInt(position + 2 * Double.BYTES, 42);
+        Files.write(corrupt, bytes);
+        final IOException exception = assertThrows(IOException.class, () -> MappedDataSet.open(corrupt));
+        assertTrue(exception.getMessage().contains("invalid error type 42"), exception.getMessage());
+    }
+}
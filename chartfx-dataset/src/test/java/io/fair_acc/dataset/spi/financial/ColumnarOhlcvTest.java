@@ -0,0 +1,135 @@
+package io.fair_acc.dataset.spi.financial;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.fair_acc.dataset.DataSet;
+import io.fair_acc.dataset.spi.financial.api.attrs.AttributeKey;
+import io.fair_acc.dataset.spi.financial.api.ohlcv.IOhlcv;
+import io.fair_acc.dataset.spi.financial.api.ohlcv.IOhlcvItem;
+import io.fair_acc.dataset.spi.financial.utils.FinancialTestUtils;
+
+class ColumnarOhlcvTest {
+    private static final AttributeKey<String> NOTE = AttributeKey.create(String.class, "NOTE");
+    private IOhlcv ohlcv;
+    private ColumnarOhlcv columnar;
+
+    @BeforeEach
+    void setUp() {
+        ohlcv = FinancialTestUtils.createTestOhlcv();
+        ohlcv.getOhlcvItem(1).getAddonOrCreate().setAttribute(NOTE, "second");
+        columnar = new ColumnarOhlcv(ohlcv);
+    }
+
+    @Test
+    void copyOfItems() {
+        assertEquals(ohlcv.size(), columnar.size());
+        for (int i = 0; i < ohlcv.size(); i++) {
+            final IOhlcvItem expected = ohlcv.getOhlcvItem(i);
+            final IOhlcvItem item = columnar.getOhlcvItem(i);
+            assertEquals(expected.getTimeStamp(), item.getTimeStamp());
+            assertEquals(expected.getTimeStamp().getTime(), columnar.getTime(i));
+            assertEquals(expected.getOpen(), item.getOpen());
+            assertEquals(expected.getHigh(), item.getHigh());
+            assertEquals(expected.getLow(), item.getLow());
+            assertEquals(expected.getClose(), item.getClose());
+            assertEquals(expected.getVolume(), item.getVolume());
+            assertEquals(expected.getOpenInterest(), item.getOpenInterest());
+            assertEquals(item, columnar.getOhlcvItem(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> columnar.getOhlcvItem(ohlcv.size()));
+        assertThrows(IndexOutOfBoundsException.class, () -> columnar.getValue(DataSet.DIM_X, -1));
+        assertThrows(IllegalArgumentException.class, () -> columnar.getValue(7, 0));
+
+        final IOhlcvItem retained = columnar.getOhlcvItem(0);
+        columnar.clear();
+        assertThrows(IndexOutOfBoundsException.class, retained::getClose, "view of a removed bar");
+        assertThrows(IndexOutOfBoundsException.class, retained::getTimeStamp, "view of a removed bar");
+    }
+
+    @Test
+    void sparseItemAddons() {
+        assertNull(columnar.getOhlcvItem(0).getAddon());
+        assertEquals("second", columnar.getOhlcvItem(1).getAddon().getAttribute(NOTE));
+
+        columnar.getOhlcvItem(2).getAddonOrCreate().setAttribute(NOTE, "third");
+        assertEquals("third", columnar.getItemAddon(2).getAttribute(NOTE));
+        columnar.setItemAddon(2, null);
+        assertNull(columnar.getOhlcvItem(2).getAddon());
+
+        assertNull(columnar.getAddon());
+        assertSame(columnar.getAddonOrCreate(), columnar.getAddon());
+        columnar.clear();
+        assertEquals(0, columnar.size());
+        columnar.add(0L, 1, 2, 0, 1, 10, 0);
+        assertNull(columnar.getItemAddon(0));
+    }
+
+    @Test
+    void growAndModify() {
+        final ColumnarOhlcv bars = new ColumnarOhlcv(0);
+        assertThrows(IllegalArgumentException.class, () -> new ColumnarOhlcv(-1));
+        for (int i = 0; i < 1000; i++) {
+            bars.add(60_000L * i, i, i + 2, i - 1, i + 1, 10 * i, 0);
+        }
+        assertEquals(1000, bars.size());
+        assertTrue(bars.getCapacity() >= 1000);
+        assertEquals(999 + 2, bars.getHigh(999));
+        assertEquals(60.0 * 999, bars.getValue(DataSet.DIM_X, 999));
+
+        final IOhlcvItem view = bars.getOhlcvItem(999);
+        bars.set(999, 60_000L * 999, 1, 5, 0.5, 4, 42, 7);
+        assertEquals(5, view.getHigh()); // items are views onto the columns
+        assertEquals(42, bars.getVolume(999));
+        assertEquals(7, bars.getOpenInterest(999));
+
+        bars.trim();
+        assertEquals(1000, bars.getCapacity());
+        bars.ensureCapacity(2000);
+        assertEquals(2000, bars.getCapacity());
+        assertEquals(4, bars.getClose(999));
+
+        int count = 0;
+        final Iterator<IOhlcvItem> iterator = bars.iterator();
+        while (iterator.hasNext()) {
+            assertEquals(bars.getOpen(count), iterator.next().getOpen());
+            count++;
+        }
+        assertEquals(1000, count);
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void bulkValues() {
+        final OhlcvDataSet reference = new OhlcvDataSet("reference");
+        reference.setData(ohlcv);
+        final OhlcvDataSet dataSet = new OhlcvDataSet("columnar");
+        dataSet.setData(columnar);
+        final int n = ohlcv.size();
+        for (int dim = DataSet.DIM_X; dim <= OhlcvDataSet.DIM_Y_OI; dim++) {
+            for (int i = 0; i < n; i++) {
+                assertEquals(reference.get(dim, i), dataSet.get(dim, i), "dim = " + dim + " index = " + i);
+            }
+            assertArrayEquals(reference.getValues(dim), dataSet.getValues(dim), "dim = " + dim);
+
+            final double[] buffer = new double[n + 2];
+            columnar.getValues(dim, 1, n - 1, buffer, 3);
+            for (int i = 1; i < n - 1; i++) {
+                assertEquals(reference.get(dim, i), buffer[i + 2], "dim = " + dim + " index = " + i);
+            }
+            assertArrayEquals(reference.getValues(dim, 1, n - 1, new double[n], 1), dataSet.getValues(dim, 1, n - 1, new double[n], 1));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> columnar.getValues(OhlcvDataSet.DIM_Y_OPEN, 0, n + 1, new double[n + 1], 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> columnar.getValues(OhlcvDataSet.DIM_Y_OPEN, 0, n, new double[n], 1));
+        assertThrows(IllegalArgumentException.class, () -> columnar.getValues(7, 0, n, new double[n], 0));
+
+        dataSet.setCategoryBased(true);
+        assertEquals(2.0, dataSet.get(DataSet.DIM_X, 2));
+        assertEquals(2.0, dataSet.getValues(DataSet.DIM_X, 1, 3, new double[2], 0)[1]);
+    }
+}
@@ -0,0 +1,179 @@
+package io.fair_acc.dataset.spi.financial;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.fair_acc.dataset.DataSet;
+import io.fair_acc.dataset.events.ChartBits;
+
+class OhlcvConsolidationTest {
+    private static final long MINUTE = 60_000L;
+
+    @Test
+    void timePeriods() {
+        final OhlcvConsolidation consolidation = new OhlcvConsolidation();
+        final OhlcvDataSet minutes = consolidation.addTimePeriod("1m", MINUTE);
+        final OhlcvDataSet fiveMinutes = consolidation.addTimePeriod("5m", 5 * MINUTE);
+        assertEquals(List.of(minutes, fiveMinutes), consolidation.getDataSets());
+        assertSame(fiveMinutes, consolidation.getDataSet("5m"));
+        assertNull(consolidation.getDataSet("1h"));
+        assertThrows(IllegalArgumentException.class, () -> consolidation.addTimePeriod("1m", MINUTE));
+        assertThrows(IllegalArgumentException.class, () -> consolidation.addTimePeriod("0m", 0));
+
+        consolidation.add(1_000L, 10.0, 1.0); // -> 1m bar (0, 60s]
+        consolidation.add(MINUTE, 12.0, 2.0); // boundary belongs to the bar ending there
+        consolidation.add(MINUTE + 1L, 8.0, 3.0);
+        consolidation.add(5 * MINUTE + 1L, 9.0, 4.0);
+        consolidation.add(30_000L, 11.0, 5.0); // late tick -> merged into the last bar
+
+        final ColumnarOhlcv bars = (ColumnarOhlcv) minutes.getData();
+        assertEquals(3, bars.size());
+        assertBar(bars, 0, MINUTE, 10.0, 12.0, 10.0, 12.0, 3.0);
+        assertBar(bars, 1, 2 * MINUTE, 8.0, 8.0, 8.0, 8.0, 3.0);
+        assertBar(bars, 2, 6 * MINUTE, 9.0, 11.0, 9.0, 11.0, 9.0);
+        assertEquals(2 * 60.0, minutes.get(DataSet.DIM_X, 1));
+
+        final ColumnarOhlcv fiveMinuteBars = (ColumnarOhlcv) fiveMinutes.getData();
+        assertEquals(2, fiveMinuteBars.size());
+        assertBar(fiveMinuteBars, 0, 5 * MINUTE, 10.0, 12.0, 8.0, 8.0, 6.0);
+        assertBar(fiveMinuteBars, 1, 10 * MINUTE, 9.0, 11.0, 9.0, 11.0, 9.0);
+
+        consolidation.clear();
+        assertEquals(0, minutes.getDataCount());
+        assertEquals(0, fiveMinutes.getDataCount());
+    }
+
+    @Test
+    void rangeAndVolumeBars() {
+        final OhlcvConsolidation consolidation = new OhlcvConsolidation();
+        final OhlcvDataSet rangeBars = consolidation.addRangeBars("RB2", 2.0);
+        final OhlcvDataSet volumeBars = consolidation.addVolumeBars("V10", 10.0);
+        assertThrows(IllegalArgumentException.class, () -> consolidation.addRangeBars("RB0", 0.0));
+        assertThrows(IllegalArgumentException.class, () -> consolidation.addVolumeBars("V0", 0.0));
+
+        final long[] times = { 1, 2, 3, 4, 5, 6 };
+        final double[] prices = { 10, 11, 12, 11, 13, 12.5 };
+        final double[] volumes = { 4, 4, 4, 4, 12, 1 };
+        consolidation.addTicks(times, prices, volumes, 0, times.length);
+
+        // range reached by the third tick, the fourth one is within the range, the fifth one exceeds it
+        final ColumnarOhlcv range = (ColumnarOhlcv) rangeBars.getData();
+        assertEquals(2, range.size());
+        assertBar(range, 0, 1, 10, 12, 10, 11, 16);
+        assertBar(range, 1, 5, 13, 13, 12.5, 12.5, 13);
+
+        final ColumnarOhlcv volume = (ColumnarOhlcv) volumeBars.getData();
+        assertEquals(4, volume.size());
+        assertBar(volume, 0, 1, 10, 11, 10, 11, 8);
+        assertBar(volume, 1, 3, 12, 12, 11, 11, 8);
+        assertBar(volume, 2, 5, 13, 13, 13, 13, 12);
+        assertBar(volume, 3, 6, 12.5, 12.5, 12.5, 12.5, 1);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> consolidation.addTicks(times, prices, volumes, 0, times.length + 1));
+    }
+
+    @Test
+    void lateTimeframeIsInitialisedFromFinerBars() {
+        final Random rnd = new Random(42);
+        final int n = 5000;
+        final long[] times = new long[n];
+        final double[] prices = new double[n];
+        final double[] volumes = new double[n];
+        for (int i = 0; i < n; i++) {
+            times[i] = 1_600_000_000_000L + 1000L * i + rnd.nextInt(1000);
+            prices[i] = 100 + rnd.nextGaussian();
+            volumes[i] = 1 + rnd.nextInt(10);
+        }
+
+        final OhlcvConsolidation reference = new OhlcvConsolidation();
+        final OhlcvDataSet expected = reference.addTimePeriod("15m", 15 * MINUTE, 30_000L);
+        reference.addTicks(times, prices, volumes, 0, n);
+
+        final OhlcvConsolidation consolidation = new OhlcvConsolidation();
+        consolidation.addTimePeriod("1m", MINUTE);
+        consolidation.addTimePeriod("30s", MINUTE / 2);
+        consolidation.addTicks(times, prices, volumes, 0, n / 2);
+        final OhlcvDataSet late = consolidation.addTimePeriod("15m", 15 * MINUTE, 30_000L); // initialised from the 30s bars
+        assertTrue(late.getDataCount() > 0);
+        consolidation.addTicks(times, prices, volumes, n / 2, n);
+
+        assertEquals(expected.getDataCount(), late.getDataCount());
+        for (int dim = DataSet.DIM_X; dim <= OhlcvDataSet.DIM_Y_VOLUME; dim++) {
+            assertArrayEquals(expected.getValues(dim), late.getValues(dim), 1e-9, "dim = " + dim);
+        }
+    }
+
+    @Test
+    void timeframesAddedWhileTicksArrive() throws InterruptedException {
+        final Random rnd = new Random(42);
+        final int n = 20_000;
+        final long[] times = new long[n];
+        final double[] prices = new double[n];
+        final double[] volumes = new double[n];
+        for (int i = 0; i < n; i++) {
+            times[i] = 1_600_000_000_000L + 100L * i;
+            prices[i] = 100 + rnd.nextGaussian();
+            volumes[i] = 1 + rnd.nextInt(10);
+        }
+        final OhlcvConsolidation reference = new OhlcvConsolidation();
+        reference.addTimePeriod("5m", 5 * MINUTE);
+        reference.addTimePeriod("15m", 15 * MINUTE);
+        reference.addTicks(times, prices, volumes, 0, n);
+
+        final OhlcvConsolidation consolidation = new OhlcvConsolidation();
+        consolidation.addTimePeriod("1m", MINUTE);
+        consolidation.add(times[0], prices[0], volumes[0]);
+        final Thread producer = new Thread(() -> {
+            for (int i = 1; i < n; i++) {
+                consolidation.add(times[i], prices[i], volumes[i]);
+            }
+        });
+        producer.start();
+        consolidation.addTimePeriod("5m", 5 * MINUTE); // initialised from the 1m bars while ticks arrive
+        consolidation.addTimePeriod("15m", 15 * MINUTE);
+        producer.join();
+
+        for (final String name : List.of("5m", "15m")) {
+            final OhlcvDataSet expected = reference.getDataSet(name);
+            final OhlcvDataSet actual = consolidation.getDataSet(name);
+            assertEquals(expected.getDataCount(), actual.getDataCount(), name);
+            for (int dim = DataSet.DIM_X; dim <= OhlcvDataSet.DIM_Y_VOLUME; dim++) {
+                assertArrayEquals(expected.getValues(dim), actual.getValues(dim), 1e-9, name + " dim = " + dim);
+            }
+        }
+    }
+
+    @Test
+    void batchedNotification() {
+        final OhlcvConsolidation consolidation = new OhlcvConsolidation();
+        final OhlcvDataSet minutes = consolidation.addTimePeriod("1m", MINUTE);
+        final AtomicInteger counter = new AtomicInteger();
+        minutes.getBitState().addInvalidateListener(ChartBits.DataSetData, (src, bits) -> counter.incrementAndGet());
+
+        consolidation.addTicks(new long[] { 1, 2, MINUTE + 1 }, new double[] { 1, 2, 3 }, new double[] { 1, 1, 1 }, 0, 3);
+        assertEquals(1, counter.get());
+        assertEquals(2, minutes.getDataCount());
+        assertEquals(3.0, minutes.get(OhlcvDataSet.DIM_Y_HIGH, 1));
+        minutes.recomputeLimits(OhlcvDataSet.DIM_Y_LOW);
+        assertEquals(1.0, minutes.getAxisDescription(OhlcvDataSet.DIM_Y_LOW).getMin());
+
+        consolidation.add(MINUTE + 2, 0.5, 1.0);
+        assertEquals(2, counter.get());
+        minutes.recomputeLimits(OhlcvDataSet.DIM_Y_LOW);
+        assertEquals(0.5, minutes.getAxisDescription(OhlcvDataSet.DIM_Y_LOW).getMin(), "limits are invalidated");
+    }
+
+    private static void assertBar(final ColumnarOhlcv bars, final int index, final long time, final double open, final double high, final double low, final double close, final double volume) {
+        assertEquals(time, bars.getTime(index), "time");
+        assertEquals(open, bars.getOpen(index), "open");
+        assertEquals(high, bars.getHigh(index), "high");
+        assertEquals(low, bars.getLow(index), "low");
+        assertEquals(close, bars.getClose(index), "close");
+        assertEquals(volume, bars.getVolume(index), "volume");
+    }
+}
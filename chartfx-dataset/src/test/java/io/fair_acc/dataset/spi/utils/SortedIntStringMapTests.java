@@ -0,0 +1,210 @@
+package io.fair_acc.dataset.spi.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import io.fair_acc.dataset.spi.CircularDoubleErrorDataSet;
+import io.fair_acc.dataset.spi.DoubleDataSet;
+
+class SortedIntStringMapTests {
+    @Test
+    void basicOperations() {
+        final SortedIntStringMap map = new SortedIntStringMap(0);
+        assertTrue(map.isEmpty());
+        assertNull(map.put(5, "five"));
+        assertNull(map.put(1, "one"));
+        assertNull(map.put(3, ""));
+        assertEquals("five", map.put(5, "FIVE"));
+        assertEquals(2, map.size());
+        assertEquals("{1=one, 5=FIVE}", map.toString());
+        assertArrayEquals(new int[] { 1, 5 }, map.keys(new int[2]));
+        assertThrows(IllegalArgumentException.class, () -> map.keys(new int[1]));
+
+        map.insert(2, 10);
+        assertNull(map.get(5));
+        assertEquals("FIVE", map.get(15));
+        assertEquals("one", map.get(1));
+        assertThrows(IllegalArgumentException.class, () -> map.insert(0, -1));
+
+        map.remove(0, 5);
+        assertEquals("FIVE", map.get(10));
+        assertNull(map.get(1));
+        assertEquals("FIVE", map.put(10, null));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void equalsAndCopies() {
+        final SortedIntStringMap map = new SortedIntStringMap();
+        final SortedIntStringMap copy = new SortedIntStringMap();
+        assertEquals(map, copy);
+        for (int i = 0; i < 100; i += 3) {
+            map.put(i, "value" + i);
+        }
+        assertNotEquals(map, copy);
+        copy.setAll(map);
+        assertEquals(map, copy);
+        assertEquals(map.hashCode(), copy.hashCode());
+
+        copy.put(1000, "additional");
+        assertNull(map.get(1000), "copies are independent");
+        copy.remove(1000);
+        copy.put(3, "modified");
+        assertNotEquals(map, copy);
+        assertEquals("value3", map.get(3));
+
+        copy.clear();
+        assertTrue(copy.isEmpty());
+        copy.put(7, "seven");
+        assertEquals("seven", copy.get(7));
+    }
+
+    @Test
+    void randomisedAgainstTreeMap() {
+        final Random rnd = new Random(42);
+        final SortedIntStringMap map = new SortedIntStringMap();
+        TreeMap<Integer, String> reference = new TreeMap<>();
+        for (int step = 0; step < 20_000; step++) {
+            final int key = rnd.nextInt(500);
+            final int length = rnd.nextInt(20);
+            switch (rnd.nextInt(7)) {
+            case 0:
+            case 1:
+                final String value = "v" + step;
+                assertEquals(reference.put(key, value), map.put(key, value));
+                break;
+            case 2:
+                assertEquals(reference.remove(key), map.remove(key));
+                break;
+            case 3: // insert and shift
+                final TreeMap<Integer, String> inserted = new TreeMap<>(reference.headMap(key));
+                reference.tailMap(key).forEach((k, v) -> inserted.put(k + length, v));
+                reference = inserted;
+                map.insert(key, length);
+                break;
+            case 4: // remove range and shift
+                final TreeMap<Integer, String> removed = new TreeMap<>(reference.headMap(key));
+                reference.tailMap(key + length).forEach((k, v) -> removed.put(k - length, v));
+                reference = removed;
+                map.remove(key, key + length);
+                break;
+            case 5: // clear range without shift
+                reference.subMap(key, key + length).clear();
+                map.clear(key, key + length);
+                break;
+            default:
+                assertEquals(reference.get(key), map.get(key));
+                break;
+            }
+            assertEquals(reference.size(), map.size());
+            if (step % 100 == 0) {
+                assertRange(reference, map, key, key + length);
+                assertRange(reference, map, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            }
+        }
+    }
+
+    @Test
+    void concurrentReadsWhileModified() throws InterruptedException {
+        final int sentinel = 1_000_000;
+        final SortedIntStringMap map = new SortedIntStringMap();
+        for (int i = 0; i < 1000; i += 2) {
+            map.put(i, "label" + i);
+        }
+        map.put(sentinel, "sentinel");
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final Thread reader = new Thread(() -> {
+            try {
+                while (running.get()) {
+                    // the writer shifts the sentinel by at most one position
+                    final List<String> found = new ArrayList<>();
+                    map.forEach(sentinel, sentinel + 2, (index, value) -> found.add(value));
+                    assertEquals(List.of("sentinel"), found);
+                    for (int i = 0; i < 1000; i++) {
+                        final String value = map.get(i);
+                        assertTrue(value == null || value.startsWith("label"), value);
+                    }
+                }
+            } catch (final Throwable t) { // NOPMD -- propagated to the test thread
+                failure.set(t);
+            }
+        });
+        reader.start();
+        final Random rnd = new Random(42);
+        for (int step = 0; step < 200_000 && failure.get() == null; step++) {
+            final int key = rnd.nextInt(1000);
+            map.insert(key, 1);
+            map.put(key, "label" + step);
+            final int removed = rnd.nextInt(1000);
+            map.remove(removed, removed + 1);
+        }
+        running.set(false);
+        reader.join();
+        assertNull(failure.get());
+    }
+
+    @Test
+    void dataSetLabels() {
+        final DoubleDataSet dataSet = new DoubleDataSet("test");
+        dataSet.add(new double[] { 0, 1, 2, 3 }, new double[] { 0, 1, 2, 3 });
+        dataSet.addDataLabel(1, "one");
+        dataSet.addDataStyle(2, "color:red");
+        dataSet.add(0, -1.0, -1.0, "first");
+        assertEquals("first", dataSet.getDataLabel(0));
+        assertEquals("one", dataSet.getDataLabel(2));
+        assertEquals("color:red", dataSet.getStyle(3));
+        assertNull(dataSet.getStyle(2));
+
+        dataSet.remove(0, 2);
+        assertEquals("one", dataSet.getDataLabel(0));
+        assertEquals("color:red", dataSet.getStyle(1));
+        final List<Integer> indices = new ArrayList<>();
+        dataSet.forEachStyle(0, dataSet.getDataCount(), (index, style) -> indices.add(index));
+        assertEquals(List.of(1), indices);
+
+        final CircularDoubleErrorDataSet circular = new CircularDoubleErrorDataSet("circular", 3);
+        for (int i = 0; i < 5; i++) {
+            circular.add(i, i, 0, 0, i % 2 == 0 ? "even" + i : null, i == 3 ? "color:blue" : null);
+        }
+        assertEquals(3, circular.getDataCount());
+        assertEquals("even2", circular.getDataLabel(0));
+        assertNull(circular.getDataLabel(1));
+        assertEquals("color:blue", circular.getStyle(1));
+        assertEquals("even4", circular.getDataLabel(2));
+        assertTrue(circular.hasDataLabels());
+
+        circular.add(new double[] { 5, 6 }, new double[] { 5, 6 }, new double[2], new double[2]);
+        assertEquals("even4", circular.getDataLabel(0));
+        assertNull(circular.getStyle(0));
+        assertFalse(circular.hasStyles());
+        circular.reset();
+        assertFalse(circular.hasDataLabels());
+    }
+
+    private static void assertRange(final Map<Integer, String> reference, final SortedIntStringMap map, final int fromKey, final int toKey) {
+        final TreeMap<Integer, String> expected = new TreeMap<>();
+        reference.forEach((key, value) -> {
+            if (key >= fromKey && key < toKey) {
+                expected.put(key, value);
+            }
+        });
+        final TreeMap<Integer, String> actual = new TreeMap<>();
+        final int[] lastKey = { Integer.MIN_VALUE };
+        map.forEach(fromKey, toKey, (key, value) -> {
+            assertTrue(actual.isEmpty() || key > lastKey[0], "ascending key order");
+            lastKey[0] = key;
+            actual.put(key, value);
+        });
+        assertEquals(expected, actual);
+    }
+}
@@ -0,0 +1,182 @@
+package io.fair_acc.dataset.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import io.fair_acc.dataset.DataSet;
+import io.fair_acc.dataset.spi.DoubleDataSet;
+
+/**
+ * Tests MinMaxPyramid (and its maintenance by the DoubleDataSet) against a brute-force bucket scan
+ */
+class MinMaxPyramidTests {
+    @Test
+    void basicTests() {
+        final MinMaxPyramid pyramid = new MinMaxPyramid();
+        pyramid.update(new double[0], 0, 0, 0);
+        assertEquals(0, pyramid.getDataCount());
+        assertEquals(1, pyramid.getLevelCount());
+        assertEquals(-1, pyramid.getLevel(0, 0, 100));
+
+        final double[] values = new double[100];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i % 10;
+        }
+        values[42] = Double.NaN;
+        values[43] = -1.0;
+        values[44] = 20.0;
+        pyramid.update(values, values.length, 0, values.length);
+        assertEquals(100, pyramid.getDataCount());
+        assertEquals(4, pyramid.getLevelCount()); // 7, 4, 2, 1 buckets
+        assertEquals(-1, pyramid.getLevel(0, 100, 10)); // 10 samples/pixel < 16
+        assertEquals(0, pyramid.getLevel(0, 100, 5));
+        assertEquals(2, pyramid.getLevel(0, 100, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> pyramid.reduce(values, 4, 0, 100, new int[100]));
+
+        final int[] indices = new int[MinMaxPyramid.getReducedSizeLimit(0, 0, 100)];
+        final int n = pyramid.reduce(values, 0, 0, 100, indices);
+        checkReduction(values, 0, 0, 100, indices, n);
+        assertTrue(contains(indices, n, 43));
+        assertTrue(contains(indices, n, 44));
+        assertEquals(0, indices[0]);
+        assertEquals(99, indices[n - 1]);
+
+        // all non-finite bucket
+        final double[] nan = { Double.NaN, Double.NaN, Double.NaN };
+        pyramid.update(nan, nan.length, 0, nan.length);
+        assertEquals(2, pyramid.reduce(nan, 0, 0, 3, indices));
+    }
+
+    @Test
+    void dataSetTests() {
+        final DoubleDataSet dataSet = new DoubleDataSet("test");
+        assertNull(dataSet.getMinMaxPyramid());
+        final Random rnd = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            dataSet.add(i, rnd.nextGaussian());
+        }
+        assertSame(dataSet, dataSet.setMinMaxPyramidEnabled(true));
+        final MinMaxPyramid pyramid = dataSet.getMinMaxPyramid();
+        assertNotNull(pyramid);
+        checkDataSet(dataSet, rnd);
+
+        // appending single samples and arrays
+        for (int i = 0; i < 5000; i++) {
+            dataSet.add(dataSet.getDataCount(), rnd.nextGaussian() * i);
+        }
+        checkDataSet(dataSet, rnd);
+        dataSet.add(new double[] { 1, 2, 3 }, new double[] { 1e3, -1e3, Double.NaN });
+        checkDataSet(dataSet, rnd);
+
+        // modifying, inserting and removing samples
+        dataSet.set(17, 17, 1e6);
+        dataSet.set(500, new double[] { 1, 2 }, new double[] { -1e6, Double.NaN });
+        dataSet.add(33, 1.0, -2e6);
+        dataSet.add(700, new double[] { 1, 2, 3 }, new double[] { 3e6, -3e6, 0.0 });
+        checkDataSet(dataSet, rnd);
+        dataSet.remove(100, 200);
+        dataSet.remove(dataSet.getDataCount() - 5, dataSet.getDataCount());
+        checkDataSet(dataSet, rnd);
+        dataSet.resize(3000);
+        checkDataSet(dataSet, rnd);
+        dataSet.resize(4000);
+        checkDataSet(dataSet, rnd);
+        dataSet.set(dataSet.getDataCount() + 10, 0.0, 5e6); // implicitly grows the data set
+        checkDataSet(dataSet, rnd);
+
+        final double[] x = new double[20_000];
+        final double[] y = new double[20_000];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = i;
+            y[i] = Math.sin(0.01 * i) + rnd.nextGaussian();
+        }
+        dataSet.set(x, y);
+        checkDataSet(dataSet, rnd);
+        assertEquals(y.length, pyramid.getDataCount());
+
+        dataSet.clearData();
+        assertEquals(0, pyramid.getDataCount());
+        dataSet.add(1.0, 2.0);
+        checkDataSet(dataSet, rnd);
+
+        dataSet.setMinMaxPyramidEnabled(false);
+        assertNull(dataSet.getMinMaxPyramid());
+    }
+
+    private static void checkDataSet(final DoubleDataSet dataSet, final Random rnd) {
+        final MinMaxPyramid pyramid = dataSet.getMinMaxPyramid();
+        final double[] values = dataSet.getValues(DataSet.DIM_Y);
+        final int count = dataSet.getDataCount();
+        assertEquals(count, pyramid.getDataCount());
+        for (int level = 0; level < pyramid.getLevelCount(); level++) {
+            checkRange(pyramid, values, level, 0, count);
+            for (int trial = 0; trial < 10; trial++) {
+                final int from = rnd.nextInt(count + 1);
+                checkRange(pyramid, values, level, from, from + rnd.nextInt(count - from + 1));
+            }
+        }
+    }
+
+    private static void checkRange(final MinMaxPyramid pyramid, final double[] values, final int level, final int from, final int to) {
+        final int[] indices = new int[MinMaxPyramid.getReducedSizeLimit(level, from, to)];
+        final int n = pyramid.reduce(values, level, from, to, indices);
+        checkReduction(values, level, from, to, indices, n);
+    }
+
+    private static void checkReduction(final double[] values, final int level, final int from, final int to, final int[] indices, final int n) {
+        if (from >= to) {
+            assertEquals(0, n);
+            return;
+        }
+        assertEquals(from, indices[0]);
+        assertEquals(to - 1, indices[n - 1]);
+        for (int i = 1; i < n; i++) {
+            assertTrue(indices[i - 1] < indices[i], "ascending indices");
+        }
+
+        // every bucket (clipped to the range) needs to retain its min and max value
+        final int bucketSize = MinMaxPyramid.getBucketSize(level);
+        for (int start = from / bucketSize * bucketSize; start < to; start += bucketSize) {
+            final int min = Math.max(from, start);
+            final int max = Math.min(to, start + bucketSize);
+            double minValue = Double.NaN;
+            double maxValue = Double.NaN;
+            for (int i = min; i < max; i++) {
+                if (Double.isFinite(values[i])) {
+                    minValue = Double.isNaN(minValue) ? values[i] : Math.min(minValue, values[i]);
+                    maxValue = Double.isNaN(maxValue) ? values[i] : Math.max(maxValue, values[i]);
+                }
+            }
+            if (Double.isNaN(minValue)) {
+                continue;
+            }
+            boolean foundMin = false;
+            boolean foundMax = false;
+            for (int k = 0; k < n; k++) {
+                if (indices[k] >= min && indices[k] < max) {
+                    foundMin |= values[indices[k]] == minValue;
+                    foundMax |= values[indices[k]] == maxValue;
+                }
+            }
+            assertTrue(foundMin, "bucket minimum retained");
+            assertTrue(foundMax, "bucket maximum retained");
+        }
+    }
+
+    private static boolean contains(final int[] indices, final int n, final int index) {
+        for (int i = 0; i < n; i++) {
+            if (indices[i] == index) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
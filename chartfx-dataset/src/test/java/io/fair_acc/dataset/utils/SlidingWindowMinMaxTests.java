@@ -0,0 +1,82 @@
+package io.fair_acc.dataset.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests SlidingWindowMinMax against a brute-force window scan
+ */
+class SlidingWindowMinMaxTests {
+    @Test
+    void basicTests() {
+        assertThrows(IllegalArgumentException.class, () -> new SlidingWindowMinMax(0));
+
+        final SlidingWindowMinMax limits = new SlidingWindowMinMax(3);
+        assertEquals(3, limits.capacity());
+        assertEquals(0, limits.size());
+        assertEquals(Double.MAX_VALUE, limits.getMin());
+        assertEquals(-Double.MAX_VALUE, limits.getMax());
+
+        limits.add(5.0);
+        limits.add(1.0, 2.0);
+        limits.add(Double.NaN);
+        assertEquals(3, limits.size());
+        assertEquals(1.0, limits.getMin());
+        assertEquals(5.0, limits.getMax());
+
+        limits.add(3.0); // evicts 5.0
+        assertEquals(3, limits.size());
+        assertEquals(1.0, limits.getMin());
+        assertEquals(3.0, limits.getMax());
+
+        limits.remove(1); // evicts [1.0, 2.0]
+        assertEquals(2, limits.size());
+        assertEquals(3.0, limits.getMin());
+        assertEquals(3.0, limits.getMax());
+
+        limits.remove(10);
+        assertEquals(0, limits.size());
+        assertEquals(Double.MAX_VALUE, limits.getMin());
+
+        limits.add(new double[] { 4.0, -4.0, 2.0 }, 2);
+        assertEquals(-4.0, limits.getMin());
+        assertEquals(4.0, limits.getMax());
+        limits.reset();
+        assertEquals(0, limits.size());
+        assertEquals(-Double.MAX_VALUE, limits.getMax());
+    }
+
+    @Test
+    void randomWindowTests() {
+        final Random random = new Random(42);
+        final int capacity = 100;
+        final SlidingWindowMinMax limits = new SlidingWindowMinMax(capacity);
+        final Deque<Double> reference = new ArrayDeque<>();
+        for (int i = 0; i < 10_000; i++) {
+            if (random.nextInt(10) == 0) {
+                final int nRemove = random.nextInt(20);
+                limits.remove(nRemove);
+                for (int j = 0; j < nRemove && !reference.isEmpty(); j++) {
+                    reference.removeFirst();
+                }
+            } else {
+                // mix of trends and noise to exercise both deques
+                final double value = (i % 500 < 250 ? i : -i) + 10.0 * random.nextGaussian();
+                limits.add(value);
+                reference.addLast(value);
+                if (reference.size() > capacity) {
+                    reference.removeFirst();
+                }
+            }
+            assertEquals(reference.size(), limits.size());
+            assertEquals(reference.stream().mapToDouble(Double::doubleValue).min().orElse(Double.MAX_VALUE), limits.getMin());
+            assertEquals(reference.stream().mapToDouble(Double::doubleValue).max().orElse(-Double.MAX_VALUE), limits.getMax());
+        }
+    }
+}
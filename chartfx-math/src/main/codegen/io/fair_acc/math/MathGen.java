@@ -2596,7 +2596,7 @@ public class MathGen extends MathBase {
         final double[] temp = sort(data, length, false);
 
         if (length % 2 == 0) {
-            return (0.5 * (temp[length / 2] + temp[length / 2 + 1])); //// codegen: returncast all
+            return (0.5 * (temp[length / 2 - 1] + temp[length / 2])); //// codegen: returncast all
         } else {
             return temp[length / 2];
         }
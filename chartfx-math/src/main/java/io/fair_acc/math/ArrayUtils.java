@@ -434,6 +434,15 @@ public final class ArrayUtils {
         return array != null && array.length > maxSize ? null : array;
     }
 
+    /**
+     * @param array existing array
+     * @param maxSize max size
+     * @return existing array or null if it is larger than the max size
+     */
+    public static int[] clearIfLarger(int[] array, int maxSize) {
+        return array != null && array.length > maxSize ? null : array;
+    }
+
     /**
      * @param array existing array
      * @param maxSize max size
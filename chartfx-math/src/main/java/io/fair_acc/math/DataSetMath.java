@@ -408,6 +408,17 @@ public final class DataSetMath { // NOPMD - nomen est omen
         }
     }
 
+    /**
+     * Filters the function with a window of all samples within +-width of the given sample. For finite, ascending x
+     * coordinates the window is slid incrementally (see {@link SlidingWindowFilter}), otherwise all samples are scanned
+     * for each window, i.e. O(n^2).
+     *
+     * @param function input function
+     * @param width half-width of the window in x units
+     * @param filterType filter kernel
+     * @param format optional name formatter
+     * @return filtered function
+     */
     @SafeVarargs
     public static DataSet filterFunction(final DataSet function, final double width, final Filter filterType, @NotNull final Formatter<Number>... format) {
         final int n = function.getDataCount();
@@ -417,15 +428,31 @@ public final class DataSetMath { // NOPMD - nomen est omen
             final var refAxisDescription = function.getAxisDescription(dim);
             filteredFunction.getAxisDescription(dim).set(refAxisDescription.getName(), refAxisDescription.getUnit());
         }
-        final var subArrayY = new double[n];
-        final var subArrayYn = new double[n];
-        final var subArrayYp = new double[n];
-
         final double[] xValues = function.getValues(DIM_X);
         final double[] yValues = function.getValues(DIM_Y);
         final double[] yen = errors(function, EYN);
         final double[] yep = errors(function, EYN);
 
+        if (width >= 0 && SlidingWindowFilter.isApplicable(xValues, n)) {
+            // sorted x: window bounds only move forward -> incremental O(n) resp. O(n log n) kernels
+            final double[] filteredY = SlidingWindowFilter.filter(filterType, xValues, yValues, n, width);
+            final double[] filteredYn = SlidingWindowFilter.filter(filterType, xValues, yen, n, width);
+            final double[] filteredYp = SlidingWindowFilter.filter(filterType, xValues, yep, n, width);
+            if (filterType == Filter.MEAN) {
+                final int[] counts = SlidingWindowFilter.windowSizes(xValues, n, width);
+                for (var i = 0; i < n; i++) {
+                    final double norm = 1.0 / MathBase.sqrt(counts[i]);
+                    filteredYn[i] *= norm;
+                    filteredYp[i] *= norm;
+                }
+            }
+            return filteredFunction.set(Arrays.copyOf(xValues, n), filteredY, filteredYn, filteredYp, false);
+        }
+
+        final var subArrayY = new double[n];
+        final var subArrayYn = new double[n];
+        final var subArrayYp = new double[n];
+
         for (var i = 0; i < n; i++) {
             final double time0 = xValues[i];
 
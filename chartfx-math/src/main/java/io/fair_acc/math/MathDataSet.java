@@ -22,12 +22,12 @@ import io.fair_acc.dataset.spi.DoubleErrorDataSet;
  */
 public class MathDataSet extends DoubleErrorDataSet {
     private static final long serialVersionUID = -4978160822533565009L;
-    private static final long DEFAULT_UPDATE_LIMIT = 40;
+    private static final long DEFAULT_UPDATE_LIMIT = 0; // no rate limit unless explicitly requested
     private final transient List<DataSet> sourceDataSets;
     private final transient DataSetFunction dataSetFunction;
     private final transient DataSetsFunction dataSetsFunction;
     private final transient DataSetValueFunction dataSetValueFunction;
-    private final transient long minUpdatePeriod; // NOPMD
+    private final transient long minUpdatePeriod;
     private final transient String transformName;
     private final BitState inputDataSetBitState = BitState.initDirtyMultiThreaded(this, ChartBits.DataSetMask);
 
@@ -43,7 +43,8 @@ public class MathDataSet extends DoubleErrorDataSet {
     /**
      * @param transformName String defining the prefix of the name of the calculated DataSet
      * @param dataSetFunction the DataSet in-to-out transform. see {@link DataSetFunction} for details
-     *            a minimum update time-out
+     * @param minUpdatePeriod minimum time in milliseconds between two updates, bursts of source updates within this
+     *            period are coalesced (0: no rate limit)
      * @param source reference source DataSet
      */
     public MathDataSet(final String transformName, final DataSetFunction dataSetFunction, final long minUpdatePeriod, final DataSet source) {
@@ -62,6 +63,8 @@ public class MathDataSet extends DoubleErrorDataSet {
     /**
      * @param transformName String defining the prefix of the name of the calculated DataSet
      * @param dataSetFunction the DataSet in-to-out transform. see {@link DataSetsFunction} for details
+     * @param minUpdatePeriod minimum time in milliseconds between two updates, bursts of source updates within this
+     *            period are coalesced (0: no rate limit)
      * @param sources reference source DataSet array
      */
     public MathDataSet(final String transformName, final DataSetsFunction dataSetFunction, final long minUpdatePeriod, final DataSet... sources) {
@@ -80,6 +83,8 @@ public class MathDataSet extends DoubleErrorDataSet {
     /**
      * @param transformName String defining the prefix of the name of the calculated DataSet
      * @param dataSetFunction the DataSet in-to-out transform. see {@link DataSetValueFunction} for details
+     * @param minUpdatePeriod minimum time in milliseconds between two updates, bursts of source updates within this
+     *            period are coalesced (0: no rate limit)
      * @param source reference source DataSet
      */
     public MathDataSet(final String transformName, final DataSetValueFunction dataSetFunction, final long minUpdatePeriod, final DataSet source) {
@@ -113,7 +118,8 @@ public class MathDataSet extends DoubleErrorDataSet {
         registerListener();
         EventProcessor eventProcessor = ThreadEventProcessor.getUserInstance();
         // eventProcessor.getBitState().addChangeListener(this);
-        eventProcessor.addAction(inputDataSetBitState, this::update);
+        eventProcessor.addAction(inputDataSetBitState, this::update, minUpdatePeriod, getBitState(),
+                sourceDataSets.stream().map(DataSet::getBitState).toArray(BitState[] ::new));
         // inputDataSetBitState.addChangeListener((source, bits) -> update());
 
         // update();
@@ -14,6 +14,8 @@ import io.fair_acc.dataset.DataSet;
 import io.fair_acc.dataset.DefaultNumberFormatter;
 import io.fair_acc.dataset.Formatter;
 import io.fair_acc.dataset.GridDataSet;
+import io.fair_acc.dataset.spi.DimReductionDataSet;
+import io.fair_acc.dataset.spi.DimReductionDataSet.Option;
 import io.fair_acc.dataset.spi.DoubleErrorDataSet;
 import io.fair_acc.dataset.utils.DoubleArrayCache;
 
@@ -81,66 +83,16 @@ public final class MultiDimDataSetMath { // NOPMD -- nomen est omen
 
         final int minIndex = source.getGridIndex(dimIndex == DIM_X ? DIM_Y : DIM_X, xMin);
         final int maxIndex = source.getGridIndex(dimIndex == DIM_X ? DIM_Y : DIM_X, xMax);
-        final int min = Math.min(minIndex, maxIndex);
-        final int max = Math.max(Math.max(minIndex, maxIndex), min + 1);
-
-        final int nDataCount = source.getShape(dimIndex);
-        if (dimIndex == DIM_Y) {
-            for (int index = 0; index < nDataCount; index++) {
-                double integral = 0.0;
-                int nSlices = 0;
-                for (int i = min; i <= Math.min(max, nDataCount - 1); i++) {
-                    integral += source.get(DIM_Z, i, index);
-                    nSlices += 1;
-                }
-                ret[index] = isMean ? nSlices == 0 ? Double.NaN : integral / nSlices : integral;
-            }
-        } else {
-            for (int index = 0; index < nDataCount; index++) {
-                double integral = 0.0;
-                int nSlices = 0;
-                for (int i = min; i <= Math.min(max, nDataCount - 1); i++) {
-                    integral += source.get(DIM_Z, index, i);
-                    nSlices += 1;
-                }
-                ret[index] = isMean ? nSlices == 0 ? Double.NaN : integral / nSlices : integral;
-            }
-        }
-        return ret;
+        return DimReductionDataSet.reduce(source, dimIndex, minIndex, maxIndex, isMean ? Option.MEAN : Option.INTEGRAL, ret);
     }
 
     public static double[] getMinMaxArray(final GridDataSet source, final int dimIndex, final double xMin, final double xMax, final double[] buffer, final boolean isMin) {
         checkMultiDimDataSetCompatibility(source);
         final double[] ret = getSanitizedBuffer(source, dimIndex, buffer);
 
-        final int minIndex = source.getIndex(dimIndex == DIM_X ? DIM_Y : DIM_X, xMin);
-        final int maxIndex = source.getIndex(dimIndex == DIM_X ? DIM_Y : DIM_X, xMax);
-
-        final int min = Math.min(minIndex, maxIndex);
-        final int max = Math.max(Math.max(minIndex, maxIndex), min + 1);
-
-        final int nDataCount = source.getShape(dimIndex);
-        if (dimIndex == DIM_Y) {
-            for (int index = 0; index < nDataCount; index++) {
-                double extreme = source.get(DIM_Z, min, index);
-                for (int i = min + 1; i <= Math.min(max, nDataCount - 1); i++) {
-                    final double val = source.get(DIM_Z, i, index);
-                    extreme = isMin ? Math.min(val, extreme) : Math.max(val, extreme);
-                }
-                ret[index] = extreme;
-            }
-        } else {
-            for (int index = 0; index < nDataCount; index++) {
-                double extreme = source.get(DIM_Z, index, min);
-                for (int i = min + 1; i <= Math.min(max, nDataCount - 1); i++) {
-                    final double val = source.get(DIM_Z, index, i);
-                    extreme = isMin ? Math.min(val, extreme) : Math.max(val, extreme);
-                }
-                ret[index] = extreme;
-            }
-        }
-
-        return ret;
+        final int minIndex = source.getGridIndex(dimIndex == DIM_X ? DIM_Y : DIM_X, xMin);
+        final int maxIndex = source.getGridIndex(dimIndex == DIM_X ? DIM_Y : DIM_X, xMax);
+        return DimReductionDataSet.reduce(source, dimIndex, minIndex, maxIndex, isMin ? Option.MIN : Option.MAX, ret);
     }
 
     public static double[] getSliceArray(final GridDataSet source, final int dimIndex, final double xMin, final double[] buffer) {
@@ -149,20 +101,9 @@ public final class MultiDimDataSetMath { // NOPMD -- nomen est omen
 
         final int minIndex = source.getGridIndex(dimIndex == DIM_X ? DIM_Y : DIM_X, xMin);
 
-        final int nDataCount = source.getShape(dimIndex);
-        if (dimIndex == DIM_Y) {
-            for (int index = 0; index < nDataCount; index++) {
-                final double y = source.get(DIM_Z, minIndex, index);
-                ret[index] = y;
-            }
-        } else {
-            for (int index = 0; index < nDataCount; index++) {
-                final double y = source.get(DIM_Z, index, minIndex);
-                ret[index] = y;
-            }
-        }
-
-        return ret;
+        final int[] indices = new int[2];
+        indices[dimIndex == DIM_Y ? DIM_X : DIM_Y] = minIndex;
+        return source.getSlice(DIM_Z, dimIndex, indices, source.getShape(dimIndex), ret, 0);
     }
 
     private static void checkMultiDimDataSetCompatibility(final DataSet source) {
@@ -0,0 +1,339 @@
+package io.fair_acc.math;
+
+import java.util.Arrays;
+
+import io.fair_acc.math.DataSetMath.Filter;
+
+/**
+ * Sliding-window implementation of the {@link DataSetMath#filterFunction} kernels for data with sorted x coordinates.
+ * The window of sample i covers all samples j with |x[i] - x[j]| &lt;= width, i.e. a contiguous index range whose
+ * bounds only move forward. The kernels are thus updated incrementally:
+ * <ul>
+ * <li>MIN, MAX, P2P: monotonic deques, O(n)</li>
+ * <li>MEAN, RMS, GEOMMEAN: running sums, O(n)</li>
+ * <li>MEDIAN: Fenwick tree over the value ranks, O(n log n)</li>
+ * </ul>
+ * Columns containing non-finite values are evaluated window by window to retain the NaN/infinity propagation of the
+ * {@link Math} reference implementations.
+ */
+final class SlidingWindowFilter {
+    private SlidingWindowFilter() {
+        // this is a static class
+    }
+
+    /**
+     * @param x coordinates
+     * @param length number of samples to check
+     * @return true if the coordinates are finite and ascending, i.e. the sliding-window kernels can be applied
+     */
+    static boolean isApplicable(final double[] x, final int length) {
+        for (int i = 0; i < length; i++) {
+            if (!Double.isFinite(x[i]) || (i > 0 && x[i] < x[i - 1])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param filterType filter kernel
+     * @param x sorted x coordinates
+     * @param values values to be filtered
+     * @param length number of samples
+     * @param width half-width of the window in x units
+     * @return filtered values
+     */
+    static double[] filter(final Filter filterType, final double[] x, final double[] values, final int length, final double width) {
+        final double[] result = new double[length];
+        if (length == 0) {
+            return result;
+        }
+        if (!isFinite(values, length) && filterType != Filter.MEDIAN) {
+            filterDirect(filterType, x, values, length, width, result);
+            return result;
+        }
+        switch (filterType) {
+        case MEDIAN:
+            filterMedian(x, values, length, width, result);
+            break;
+        case MIN:
+        case MAX:
+        case P2P:
+            filterExtrema(filterType, x, values, length, width, result);
+            break;
+        case RMS:
+        case GEOMMEAN:
+        case MEAN:
+        default:
+            filterSums(filterType, x, values, length, width, result);
+            break;
+        }
+        return result;
+    }
+
+    /**
+     * @param x sorted x coordinates
+     * @param length number of samples
+     * @param width half-width of the window in x units
+     * @return number of samples within each window
+     */
+    static int[] windowSizes(final double[] x, final int length, final double width) {
+        final int[] sizes = new int[length];
+        final Window window = new Window(x, length, width);
+        for (int i = 0; i < length; i++) {
+            window.moveTo(i);
+            sizes[i] = window.hi - window.lo;
+        }
+        return sizes;
+    }
+
+    private static void filterDirect(final Filter filterType, final double[] x, final double[] values, final int length, final double width, final double[] result) {
+        final Window window = new Window(x, length, width);
+        final double[] subArray = new double[length];
+        for (int i = 0; i < length; i++) {
+            window.moveTo(i);
+            final int count = window.hi - window.lo;
+            System.arraycopy(values, window.lo, subArray, 0, count);
+            switch (filterType) {
+            case MIN:
+                result[i] = Math.minimum(subArray, count);
+                break;
+            case MAX:
+                result[i] = Math.maximum(subArray, count);
+                break;
+            case P2P:
+                result[i] = Math.peakToPeak(subArray, count);
+                break;
+            case RMS:
+                result[i] = Math.rms(subArray, count);
+                break;
+            case GEOMMEAN:
+                result[i] = Math.geometricMean(subArray, 0, count);
+                break;
+            case MEAN:
+            default:
+                result[i] = Math.mean(subArray, count);
+                break;
+            }
+        }
+    }
+
+    private static void filterExtrema(final Filter filterType, final double[] x, final double[] values, final int length, final double width, final double[] result) {
+        final Window window = new Window(x, length, width);
+        // deques of sample indices with ascending (min) resp. descending (max) values
+        final int[] minDeque = new int[length];
+        final int[] maxDeque = new int[length];
+        int minFirst = 0;
+        int minLast = 0; // exclusive
+        int maxFirst = 0;
+        int maxLast = 0; // exclusive
+        int added = 0;
+        for (int i = 0; i < length; i++) {
+            window.moveTo(i);
+            for (; added < window.hi; added++) {
+                final double value = values[added];
+                while (minLast > minFirst && values[minDeque[minLast - 1]] >= value) {
+                    minLast--;
+                }
+                minDeque[minLast++] = added;
+                while (maxLast > maxFirst && values[maxDeque[maxLast - 1]] <= value) {
+                    maxLast--;
+                }
+                maxDeque[maxLast++] = added;
+            }
+            while (minDeque[minFirst] < window.lo) {
+                minFirst++;
+            }
+            while (maxDeque[maxFirst] < window.lo) {
+                maxFirst++;
+            }
+            final double min = values[minDeque[minFirst]];
+            final double max = values[maxDeque[maxFirst]];
+            switch (filterType) {
+            case MIN:
+                result[i] = min;
+                break;
+            case MAX:
+                result[i] = max;
+                break;
+            case P2P:
+            default:
+                result[i] = MathBase.abs(max - min);
+                break;
+            }
+        }
+    }
+
+    private static void filterMedian(final double[] x, final double[] values, final int length, final double width, final double[] result) {
+        // rank of each sample in the sorted value order (same total order as Arrays.sort)
+        final Integer[] order = new Integer[length];
+        for (int i = 0; i < length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+        final int[] rank = new int[length];
+        final double[] sorted = new double[length];
+        for (int r = 0; r < length; r++) {
+            rank[order[r]] = r;
+            sorted[r] = values[order[r]];
+        }
+
+        final Window window = new Window(x, length, width);
+        final FenwickTree tree = new FenwickTree(length);
+        int added = 0;
+        int removed = 0;
+        for (int i = 0; i < length; i++) {
+            window.moveTo(i);
+            for (; added < window.hi; added++) {
+                tree.add(rank[added], +1);
+            }
+            for (; removed < window.lo; removed++) {
+                tree.add(rank[removed], -1);
+            }
+            final int count = window.hi - window.lo;
+            if (count % 2 == 0) {
+                result[i] = 0.5 * (sorted[tree.kthSmallest(count / 2 - 1)] + sorted[tree.kthSmallest(count / 2)]);
+            } else {
+                result[i] = sorted[tree.kthSmallest(count / 2)];
+            }
+        }
+    }
+
+    private static void filterSums(final Filter filterType, final double[] x, final double[] values, final int length, final double width, final double[] result) {
+        final boolean geometric = filterType == Filter.GEOMMEAN;
+        final Window window = new Window(x, length, width);
+        double sum = 0.0;
+        double sum2 = 0.0;
+        int nZeros = 0; // geometric mean: number of zero values in the window
+        int first = 0;
+        int last = 0; // exclusive
+        int rebuildAt = 0;
+        for (int i = 0; i < length; i++) {
+            window.moveTo(i);
+            if (window.lo >= rebuildAt) {
+                // recompute the sums from scratch once the window contents have been replaced to bound the round-off drift
+                sum = 0.0;
+                sum2 = 0.0;
+                nZeros = 0;
+                first = window.lo;
+                last = window.lo;
+                rebuildAt = window.hi;
+            }
+            for (; last < window.hi; last++) {
+                final double value = values[last];
+                if (geometric) {
+                    if (value == 0.0) {
+                        nZeros++;
+                    } else {
+                        sum += java.lang.Math.log(MathBase.abs(value));
+                    }
+                } else {
+                    sum += value;
+                    sum2 += value * value;
+                }
+            }
+            for (; first < window.lo; first++) {
+                final double value = values[first];
+                if (geometric) {
+                    if (value == 0.0) {
+                        nZeros--;
+                    } else {
+                        sum -= java.lang.Math.log(MathBase.abs(value));
+                    }
+                } else {
+                    sum -= value;
+                    sum2 -= value * value;
+                }
+            }
+            final double norm = 1.0 / (window.hi - window.lo);
+            switch (filterType) {
+            case GEOMMEAN:
+                result[i] = nZeros > 0 ? 0.0 : java.lang.Math.exp(sum * norm);
+                break;
+            case RMS:
+                final double mean = sum * norm;
+                result[i] = MathBase.sqrt(MathBase.abs(sum2 * norm - mean * mean));
+                break;
+            case MEAN:
+            default:
+                result[i] = sum * norm;
+                break;
+            }
+        }
+    }
+
+    private static boolean isFinite(final double[] values, final int length) {
+        for (int i = 0; i < length; i++) {
+            if (!Double.isFinite(values[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * index range [lo, hi) of the samples within |x[i] - x[j]| &lt;= width of the current sample i
+     */
+    private static class Window {
+        private final double[] x;
+        private final int length;
+        private final double width;
+        private int lo;
+        private int hi;
+
+        private Window(final double[] x, final int length, final double width) {
+            this.x = x;
+            this.length = length;
+            this.width = width;
+        }
+
+        private void moveTo(final int index) {
+            final double x0 = x[index];
+            while (lo < index && MathBase.abs(x0 - x[lo]) > width) {
+                lo++;
+            }
+            if (hi < lo) {
+                hi = lo;
+            }
+            while (hi < length && MathBase.abs(x[hi] - x0) <= width) {
+                hi++;
+            }
+        }
+    }
+
+    /**
+     * binary indexed tree counting the samples per rank
+     */
+    private static class FenwickTree {
+        private final int[] tree;
+        private final int highestBit;
+
+        private FenwickTree(final int size) {
+            tree = new int[size + 1];
+            highestBit = Integer.highestOneBit(size);
+        }
+
+        private void add(final int rank, final int delta) {
+            for (int i = rank + 1; i < tree.length; i += i & -i) {
+                tree[i] += delta;
+            }
+        }
+
+        /**
+         * @param k zero-based order statistic
+         * @return rank of the k-th smallest sample
+         */
+        private int kthSmallest(final int k) {
+            int pos = 0;
+            int remaining = k + 1;
+            for (int step = highestBit; step > 0; step >>= 1) {
+                final int next = pos + step;
+                if (next < tree.length && tree[next] < remaining) {
+                    pos = next;
+                    remaining -= tree[next];
+                }
+            }
+            return pos; // one-based position pos + 1 corresponds to rank pos
+        }
+    }
+}
@@ -328,6 +328,19 @@ public class Convolution {
     }
 
     public static double[] getMorletFilter(final int length, final double f0, final double width) {
+        return getMorletFilter(length, f0, width, null);
+    }
+
+    /**
+     * computes the Morlet wavelet filter (Fourier Domain)
+     *
+     * @param length the length of the filter (power of two)
+     * @param f0 centre frequency of the wavelet
+     * @param width the number of oscillations per wavelet
+     * @param output optional storage, re-used if its length is '2 * length'
+     * @return array containing the interleaved complex Morlet filter kernel
+     */
+    public static double[] getMorletFilter(final int length, final double f0, final double width, final double[] output) {
         if (length <= 0 || !ConcurrencyUtils.isPowerOf2(length)) {
             throw new InvalidParameterException(
                     "getMorletFilter(" + length + "," + f0 + ")"
@@ -339,7 +352,7 @@ public class Convolution {
                     + " - frequency has to be within [0,0.5]");
         }
 
-        final double[] ret = new double[2 * length];
+        final double[] ret = output == null || output.length != 2 * length ? new double[2 * length] : output;
         final int half = length;
         final int end = 2 * length - 1;
         for (int i = 0; i < half; i++) {
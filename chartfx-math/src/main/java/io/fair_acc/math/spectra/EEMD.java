@@ -1,5 +1,12 @@
 package io.fair_acc.math.spectra;
 
+import java.util.SplittableRandom;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import io.fair_acc.dataset.DataSet;
 import io.fair_acc.dataset.spi.DataSetBuilder;
 import io.fair_acc.math.Math;
@@ -13,130 +20,73 @@ import io.fair_acc.math.utils.ConcurrencyUtils;
  * @author rstein
  */
 public class EEMD {
-    private static final TRandom rnd = new TRandom(0);
-    private int fstatus = 100;
+    private static final Logger LOGGER = LoggerFactory.getLogger(EEMD.class);
+    private static final long DEFAULT_SEED = 42L;
+    private static final int MAX_CHUNKS = 16; // fixed partitioning of the trials, independent of the number of threads
+    private volatile int fstatus = 100;
+    private long seed = DEFAULT_SEED;
 
+    /**
+     * Ensemble empirical mode decomposition. The 'NE' noise-ensemble trials are independent and are computed in
+     * parallel. Each trial uses its own random number stream that is derived from {@link #getSeed()}. The trials are
+     * split into a fixed number of chunks of consecutive trials that are summed and reduced in trial order, i.e. the
+     * result is bit-wise reproducible and independent of the number of threads.
+     *
+     * @param data input data
+     * @param rms_noise rms of the white noise that is added to the (normalised) data for each ensemble trial
+     * @param NE number of ensemble trials
+     * @return matrix [data.length][nModes + 2] containing the raw data (column '0'), the ensemble-averaged modes and
+     *         the remainder of the sifting process (last column)
+     */
     public MatrixD eemd(final double[] data, final double rms_noise, final double NE) {
         final int xsize = data.length;
-        final double[] X1 = new double[xsize];
-        final double[] xorigin = new double[xsize];
-        final double[] xstart = new double[xsize];
-        final double[] xstart_old = new double[xsize];
-        final double[] xend = new double[xsize];
-        // dd=1:1:xsize;
         final double Ystd = Math.rms(data);
 
         final int TNM = (int) Math.floor(MathBase.log2(xsize)) - 1;
         final int TNM2 = TNM + 2;
+        final int nTrials = (int) NE;
 
-        final MatrixD allmode = new MatrixD(xsize, TNM2 + 1);
-        final MatrixD mode = new MatrixD(xsize, TNM2 + 1);
-
-        for (int iii = 0; iii < NE; iii++) {
-            for (int i = 0; i < xsize; i++) {
-                final double temp = rnd.Gaus(0, rms_noise);
-                X1[i] = data[i] / Ystd + temp;
-            }
-
-            for (int jj = 0; jj < xsize; jj++) {
-                mode.set(jj, 0, data[jj]);
-            }
-
-            System.arraycopy(X1, 0, xorigin, 0, xsize);
-            System.arraycopy(X1, 0, xend, 0, xsize);
-
-            for (int nmode = 1; nmode < TNM; nmode++) {
-                System.arraycopy(xend, 0, xstart, 0, xsize);
-                System.arraycopy(xend, 0, xstart_old, 0, xsize);
-
-                fstatus = (int) ((double) nmode / (double) TNM) * 100;
-                // the sifting process
-                // need to implement a more proper break condition than
-                // limited number of interactions
-                boolean abort = false;
-                for (int iter = 0; iter < 30000; iter++) {
-                    final double[][] spmax = SpectrumTools.computeMaxima(xstart);
-                    final double[][] spmin = SpectrumTools.computeMinima(xstart);
-                    final int nextrema = spmax[0].length + spmin[0].length;
-                    final int ncrossing = computeZeroCrossings(xstart);
-
-                    if (spmax[0].length < 3 || spmin[0].length < 3) {
-                        abort = true;
-                        System.err.println("break loop: iter = " + iter + " nmode " + nmode);
-                        break;
-                    }
-
-                    // System.err.printf("extrema %d vs. %d zero-crossings = %d vs (%d)\n", spmax[0].length,
-                    // spmin[0].length, ncrossing, nextrema);
-
-                    final Spline upper = new Spline(spmax[0], spmax[1]);
-                    final Spline lower = new Spline(spmin[0], spmin[1]);
-
-                    for (int i = 0; i < xsize; i++) {
-                        final double mean_ul = (upper.getValue(i) + lower.getValue(i)) / 2.0;
-                        xstart[i] -= mean_ul;
-                    }
-                    // final double residual = TMath.Mean(xstart);
-                    // final double rms = TMath.RMS(xstart);
-                    // System.err.printf("mode %d iter %d -> residual = %f\n",
-                    // nmode, iter, residual/rms);
-
-                    // check breaking condition
-                    double sum_sqr = 0, diff_sqr = 0;
-                    for (int i = 0; i < xstart.length; i++) {
-                        diff_sqr += MathBase.sqr(xstart_old[i] - xstart[i]);
-                        sum_sqr += MathBase.sqr(xstart_old[i]);
-                    }
-
-                    final double break_crit = 1e-12; // 0.3;
-
-                    final double estimate = sum_sqr != 0 ? diff_sqr / sum_sqr : 42;
-
-                    if (true) {
-                        if (sum_sqr == 0 || estimate < break_crit) {
-                            System.err.printf("break at mode %d and  iteration %d with criteria %e\n", nmode, iter,
-                                    estimate);
-                            break;
-                        }
-                    }
+        // deterministic, well-separated seeds for each trial
+        final long[] trialSeeds = new long[nTrials];
+        final SplittableRandom seedGenerator = new SplittableRandom(seed == 0 ? System.nanoTime() : seed);
+        for (int iii = 0; iii < nTrials; iii++) {
+            trialSeeds[iii] = 1 + seedGenerator.nextInt(Integer.MAX_VALUE - 1);
+        }
 
-                    if (true) {
-                        if (sum_sqr == 0 || Math.abs(nextrema - ncrossing) <= 0) {
-                            System.err.printf("break (crossing) at mode %d and  iteration %d with criteria %f\n", nmode,
-                                    iter, diff_sqr / sum_sqr);
-                            break;
-                        }
+        // chunks of consecutive trials are dynamically assigned to the workers but always summed in the same order
+        final int nChunks = Math.max(1, MathBase.min(MAX_CHUNKS, nTrials));
+        final MatrixD[] chunkSums = new MatrixD[nChunks];
+        final int nWorkers = Math.max(1, MathBase.min(ConcurrencyUtils.getNumberOfThreads(), nChunks));
+        final AtomicInteger nextChunk = new AtomicInteger();
+        final AtomicInteger nTrialsDone = new AtomicInteger();
+        final Future<?>[] futures = new Future[nWorkers];
+        for (int worker = 0; worker < nWorkers; worker++) {
+            futures[worker] = ConcurrencyUtils.submit(() -> {
+                final Ensemble ensemble = new Ensemble(xsize, TNM2 + 1);
+                for (int chunk = nextChunk.getAndIncrement(); chunk < nChunks; chunk = nextChunk.getAndIncrement()) {
+                    final MatrixD chunkSum = new MatrixD(xsize, TNM2 + 1);
+                    final int lastTrial = (int) ((long) (chunk + 1) * nTrials / nChunks);
+                    for (int iii = (int) ((long) chunk * nTrials / nChunks); iii < lastTrial; iii++) {
+                        ensemble.computeTrial(data, Ystd, rms_noise, trialSeeds[iii], TNM, chunkSum);
+                        fstatus = (int) (100.0 * nTrialsDone.incrementAndGet() / (nTrials + 1));
                     }
-
-                    System.arraycopy(xstart, 0, xstart_old, 0, xstart.length);
+                    chunkSums[chunk] = chunkSum;
                 }
-                for (int i = 0; i < xsize; i++) {
-                    xend[i] -= xstart[i];
-                }
-
-                // System.out.printf("store mode %d -> %f\n", nmode,
-                // TMath.RMS(xstart));
-                for (int jj = 0; jj < xsize; jj++) {
-                    mode.set(jj, nmode, xstart[jj]);
-                }
-
-                if (abort) {
-                    nmode = TNM + 1;
-                }
-            }
-
-            // store remainder of the sifting process
-            for (int jj = 0; jj < xsize; jj++) {
-                mode.set(jj, TNM + 1, xend[jj]);
-            }
-
-            allmode.plus(mode);
+            });
         }
+        ConcurrencyUtils.waitForCompletion(futures);
 
-        allmode.times(1.0 / NE);
-        allmode.times(Ystd);
+        // reduce in chunk order: ensemble average, scaled back to the input amplitude
+        final MatrixD allmode = chunkSums[0];
+        for (int chunk = 1; chunk < nChunks; chunk++) {
+            allmode.plusEquals(chunkSums[chunk]);
+        }
+        allmode.timesEquals(Ystd / MathBase.max(1, nTrials));
+        for (int jj = 0; jj < xsize; jj++) {
+            allmode.set(jj, 0, data[jj]);
+        }
 
-        return mode;
+        return allmode;
     }
 
     /**
@@ -147,7 +97,7 @@ public class EEMD {
      * @param nQuanty quantisation in Y
      * @return the complex HHT spectrum
      */
-    public synchronized DataSet getScalogram(final double[] data, final int nQuantx, final int nQuanty) {
+    public DataSet getScalogram(final double[] data, final int nQuantx, final int nQuanty) {
         // create and return data set.
         fstatus = 0;
         final int nsamples = data.length;
@@ -306,4 +256,123 @@ public class EEMD {
 
         return kk + ll > 2 ? 1 : -1;
     }
+
+    /**
+     * @return seed from which the random number streams of the ensemble trials are derived (0: seeded by the clock)
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @param seed seed from which the random number streams of the ensemble trials are derived (0: seeded by the
+     *            clock, default: {@value #DEFAULT_SEED})
+     */
+    public void setSeed(final long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * per-worker scratch buffers
+     */
+    private static final class Ensemble {
+        private final double[] xstart;
+        private final double[] xstartOld;
+        private final double[] xend;
+        private final MatrixD mode;
+
+        private Ensemble(final int xsize, final int nColumns) {
+            xstart = new double[xsize];
+            xstartOld = new double[xsize];
+            xend = new double[xsize];
+            mode = new MatrixD(xsize, nColumns);
+        }
+
+        private void computeTrial(final double[] data, final double Ystd, final double rms_noise, final long trialSeed, final int TNM, final MatrixD sum) {
+            final int xsize = data.length;
+            final TRandom rnd = new TRandom(trialSeed);
+            for (int i = 0; i < xsize; i++) {
+                final double temp = rnd.Gaus(0, rms_noise);
+                xend[i] = data[i] / Ystd + temp;
+            }
+            mode.timesEquals(0.0);
+
+            for (int nmode = 1; nmode < TNM; nmode++) {
+                System.arraycopy(xend, 0, xstart, 0, xsize);
+                System.arraycopy(xend, 0, xstartOld, 0, xsize);
+
+                // the sifting process
+                // need to implement a more proper break condition than
+                // limited number of interactions
+                boolean abort = false;
+                for (int iter = 0; iter < 30000; iter++) {
+                    final double[][] spmax = SpectrumTools.computeMaxima(xstart);
+                    final double[][] spmin = SpectrumTools.computeMinima(xstart);
+                    final int nextrema = spmax[0].length + spmin[0].length;
+                    final int ncrossing = computeZeroCrossings(xstart);
+
+                    if (spmax[0].length < 3 || spmin[0].length < 3) {
+                        abort = true;
+                        if (LOGGER.isTraceEnabled()) {
+                            LOGGER.atTrace().addArgument(iter).addArgument(nmode).log("break loop: iter = {} nmode {}");
+                        }
+                        break;
+                    }
+
+                    final Spline upper = new Spline(spmax[0], spmax[1]);
+                    final Spline lower = new Spline(spmin[0], spmin[1]);
+
+                    for (int i = 0; i < xsize; i++) {
+                        final double mean_ul = (upper.getValue(i) + lower.getValue(i)) / 2.0;
+                        xstart[i] -= mean_ul;
+                    }
+
+                    // check breaking condition
+                    double sum_sqr = 0, diff_sqr = 0;
+                    for (int i = 0; i < xstart.length; i++) {
+                        diff_sqr += MathBase.sqr(xstartOld[i] - xstart[i]);
+                        sum_sqr += MathBase.sqr(xstartOld[i]);
+                    }
+
+                    final double break_crit = 1e-12; // 0.3;
+
+                    final double estimate = sum_sqr != 0 ? diff_sqr / sum_sqr : 42;
+
+                    if (sum_sqr == 0 || estimate < break_crit) {
+                        if (LOGGER.isTraceEnabled()) {
+                            LOGGER.atTrace().addArgument(nmode).addArgument(iter).addArgument(estimate).log("break at mode {} and iteration {} with criteria {}");
+                        }
+                        break;
+                    }
+
+                    if (Math.abs(nextrema - ncrossing) <= 0) {
+                        if (LOGGER.isTraceEnabled()) {
+                            LOGGER.atTrace().addArgument(nmode).addArgument(iter).addArgument(diff_sqr / sum_sqr).log("break (crossing) at mode {} and iteration {} with criteria {}");
+                        }
+                        break;
+                    }
+
+                    System.arraycopy(xstart, 0, xstartOld, 0, xstart.length);
+                }
+                for (int i = 0; i < xsize; i++) {
+                    xend[i] -= xstart[i];
+                }
+
+                for (int jj = 0; jj < xsize; jj++) {
+                    mode.set(jj, nmode, xstart[jj]);
+                }
+
+                if (abort) {
+                    nmode = TNM + 1;
+                }
+            }
+
+            // store remainder of the sifting process
+            for (int jj = 0; jj < xsize; jj++) {
+                mode.set(jj, TNM + 1, xend[jj]);
+            }
+
+            sum.plusEquals(mode);
+        }
+    }
 }
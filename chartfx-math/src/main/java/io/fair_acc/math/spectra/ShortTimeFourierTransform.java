@@ -5,6 +5,7 @@ import static io.fair_acc.dataset.DataSet.DIM_Y;
 import static io.fair_acc.dataset.DataSet.DIM_Z;
 
 import java.util.Arrays;
+import java.util.stream.IntStream;
 
 import org.jtransforms.fft.DoubleFFT_1D;
 
@@ -14,7 +15,6 @@ import io.fair_acc.dataset.spi.DataSetBuilder;
 import io.fair_acc.dataset.spi.DoubleGridDataSet;
 import io.fair_acc.dataset.spi.MultiDimDoubleDataSet;
 import io.fair_acc.dataset.utils.AssertUtils;
-import io.fair_acc.dataset.utils.DoubleArrayCache;
 
 /**
  * Static utility class providing magnitude spectrograms from complex and real valued input data.
@@ -22,10 +22,15 @@ import io.fair_acc.dataset.utils.DoubleArrayCache;
  * but also low level array based functions.
  * For complex input values, the data can be provided as two separate arrays as well as in the "interleaved"
  * layout used by JTransforms.
+ * Large spectrograms are computed frame-parallel, each thread re-using its own FFT plan and scratch arrays.
+ * For continuously appended data see {@link StreamingShortTimeFourierTransform}.
  *
  * @author Alexander Krimm
  */
 public class ShortTimeFourierTransform {
+    private static final int PARALLEL_THRESHOLD = 1 << 16; // minimum number of spectrogram samples for a parallel computation
+    static final ThreadLocal<FrameWorkspace> WORKSPACE = ThreadLocal.withInitial(FrameWorkspace::new);
+
     /**
      * Applies the apodization function to data in "interleaved" complex array.
      *
@@ -135,11 +140,9 @@ public class ShortTimeFourierTransform {
         AssertUtils.equalDoubleArrays(real, imag); // check for same length
         final int nT = ceilDiv(real.length, step); // number of time steps
         final double[] amplitudeData = output == null || output.length != nFFT * nT ? new double[nFFT * nT] : output; // output array
-        final double[] currentMagnitudeData = DoubleArrayCache.getInstance().getArray(nFFT);
         // calculate spectrogram
-        final DoubleFFT_1D fastFourierTrafo = new DoubleFFT_1D(nFFT);
-        final double[] raw = DoubleArrayCache.getInstance().getArrayExact(2 * nFFT); // array to perform calculations in
-        for (int i = 0; i < nT; i++) {
+        forEachFrame(nT, nFFT, (i, workspace) -> {
+            final double[] raw = workspace.getRaw(2 * nFFT); // array to perform calculations in
             // obtain input data for FFT
             final int offset = i * step;
             final int validLength = real.length - offset;
@@ -165,23 +168,8 @@ public class ShortTimeFourierTransform {
                     }
                 }
             }
-            // apply apodization function
-            apodizeComplex(raw, apodization);
-            // perform Fourier transform
-            fastFourierTrafo.complexForward(raw);
-            // calculate magnitude spectrum
-            if (dbScale) {
-                SpectrumTools.computeMagnitudeSpectrum_dB(raw, 0, 2 * nFFT, currentMagnitudeData, 0, truncateDCNy);
-            } else {
-                SpectrumTools.computeMagnitudeSpectrum(raw, 0, 2 * nFFT, currentMagnitudeData, 0, truncateDCNy);
-            }
-            // copy output into result array (layout of spectrum is 0, ..., fmax, 0, ..., fmin)
-            System.arraycopy(currentMagnitudeData, 0, amplitudeData, i * nFFT + nFFT / 2, nFFT / 2);
-            System.arraycopy(currentMagnitudeData, nFFT / 2, amplitudeData, i * nFFT, nFFT / 2);
-        }
-        // return cached arrays
-        DoubleArrayCache.getInstance().add(currentMagnitudeData);
-        DoubleArrayCache.getInstance().add(raw);
+            computeComplexFrame(workspace, nFFT, apodization, dbScale, truncateDCNy, amplitudeData, i);
+        });
         return amplitudeData;
     }
 
@@ -189,11 +177,9 @@ public class ShortTimeFourierTransform {
             final Padding padding, final boolean dbScale, final boolean truncateDCNy) {
         final int nT = ceilDiv(complexInput.length, 2 * step); // number of time steps
         final double[] amplitudeData = output == null || output.length != nFFT * nT ? new double[nFFT * nT] : output; // output array
-        final double[] currentMagnitudeData = DoubleArrayCache.getInstance().getArray(nFFT);
         // calculate spectrogram
-        final DoubleFFT_1D fastFourierTrafo = new DoubleFFT_1D(nFFT);
-        final double[] raw = DoubleArrayCache.getInstance().getArrayExact(2 * nFFT); // array to perform calculations in
-        for (int i = 0; i < nT; i++) {
+        forEachFrame(nT, nFFT, (i, workspace) -> {
+            final double[] raw = workspace.getRaw(2 * nFFT); // array to perform calculations in
             // obtain input data for FFT
             final int offset = i * 2 * step;
             final int validLength = complexInput.length - offset;
@@ -220,26 +206,80 @@ public class ShortTimeFourierTransform {
                     break;
                 }
             }
-            // apply apodization function
-            apodizeComplex(raw, apodization);
-            // perform Fourier transform
-            fastFourierTrafo.complexForward(raw);
-            // calculate magnitude spectrum
-            if (dbScale) {
-                SpectrumTools.computeMagnitudeSpectrum_dB(raw, 0, 2 * nFFT, currentMagnitudeData, 0, truncateDCNy);
-            } else {
-                SpectrumTools.computeMagnitudeSpectrum(raw, 0, 2 * nFFT, currentMagnitudeData, 0, truncateDCNy);
-            }
-            // copy output into result array (layout of spectrum is 0, ..., fmax, 0, ..., fmin)
-            System.arraycopy(currentMagnitudeData, 0, amplitudeData, i * nFFT + nFFT / 2, nFFT / 2);
-            System.arraycopy(currentMagnitudeData, nFFT / 2, amplitudeData, i * nFFT, nFFT / 2);
-        }
-        // return cached arrays
-        DoubleArrayCache.getInstance().add(currentMagnitudeData);
-        DoubleArrayCache.getInstance().add(raw);
+            computeComplexFrame(workspace, nFFT, apodization, dbScale, truncateDCNy, amplitudeData, i);
+        });
         return amplitudeData;
     }
 
+    /**
+     * Transforms the complex frame in the workspace's raw array and stores its magnitude spectrum as row 'frame' of the
+     * spectrogram (layout of spectrum is 0, ..., fmax, 0, ..., fmin).
+     */
+    private static void computeComplexFrame(final FrameWorkspace workspace, final int nFFT, final Apodization apodization, final boolean dbScale,
+            final boolean truncateDCNy, final double[] amplitudeData, final int frame) {
+        final double[] raw = workspace.getRaw(2 * nFFT);
+        final double[] currentMagnitudeData = workspace.getMagnitude(nFFT);
+        // apply apodization function
+        apodizeComplex(raw, apodization);
+        // perform Fourier transform
+        workspace.getFFT(nFFT).complexForward(raw);
+        // calculate magnitude spectrum
+        if (dbScale) {
+            SpectrumTools.computeMagnitudeSpectrum_dB(raw, 0, 2 * nFFT, currentMagnitudeData, 0, truncateDCNy);
+        } else {
+            SpectrumTools.computeMagnitudeSpectrum(raw, 0, 2 * nFFT, currentMagnitudeData, 0, truncateDCNy);
+        }
+        // copy output into result array
+        System.arraycopy(currentMagnitudeData, 0, amplitudeData, frame * nFFT + nFFT / 2, nFFT / 2);
+        System.arraycopy(currentMagnitudeData, nFFT / 2, amplitudeData, frame * nFFT, nFFT / 2);
+    }
+
+    /**
+     * Transforms the real-valued frame in the workspace's raw array and stores its magnitude spectrum at the given
+     * position of the output array.
+     *
+     * @param workspace per-thread FFT plan and scratch arrays, the raw array has to contain the input samples
+     * @param nFFT the number of samples per frame
+     * @param apodization the apodization window function to use
+     * @param dbScale {@code true} to convert the spectrum to dB scale
+     * @param truncateDCNy {@code true} to interpolate the DC- and Nyquist-bins to their respective nearest neighbours
+     * @param output array receiving the nFFT/2 magnitude bins
+     * @param outputOffset position of the first bin in the output array
+     */
+    static void computeRealFrame(final FrameWorkspace workspace, final int nFFT, final Apodization apodization, final boolean dbScale,
+            final boolean truncateDCNy, final double[] output, final int outputOffset) {
+        final double[] raw = workspace.getRaw(nFFT);
+        // apply apodization function
+        apodization.apodize(raw);
+        // perform Fourier transform
+        workspace.getFFT(nFFT).realForward(raw);
+        // calculate magnitude spectrum
+        if (dbScale) {
+            SpectrumTools.computeMagnitudeSpectrum_dB(raw, 0, nFFT, output, outputOffset, truncateDCNy);
+        } else {
+            SpectrumTools.computeMagnitudeSpectrum(raw, 0, nFFT, output, outputOffset, truncateDCNy);
+        }
+    }
+
+    /**
+     * Executes the frame action for all frames, either sequentially or - for large spectrograms - distributed across the
+     * common fork-join pool. Each thread uses its own cached FFT plan and scratch arrays.
+     *
+     * @param nFrames number of frames
+     * @param nFFT number of samples per frame
+     * @param action frame action
+     */
+    private static void forEachFrame(final int nFrames, final int nFFT, final FrameAction action) {
+        if (nFrames > 1 && (long) nFrames * nFFT >= PARALLEL_THRESHOLD) {
+            IntStream.range(0, nFrames).parallel().forEach(i -> action.compute(i, WORKSPACE.get()));
+            return;
+        }
+        final FrameWorkspace workspace = WORKSPACE.get();
+        for (int i = 0; i < nFrames; i++) {
+            action.compute(i, workspace);
+        }
+    }
+
     public static double[] getFrequencyAxisComplex(final double dt, final int nFFT, final double[] output) {
         final double fStep = 1.0 / dt / nFFT;
         final double[] frequencyAxis = output == null || output.length != nFFT ? new double[nFFT] : output;
@@ -330,11 +370,9 @@ public class ShortTimeFourierTransform {
             final Padding padding, final boolean dbScale, final boolean truncateDCNy) {
         final int nT = ceilDiv(input.length, step); // number of time steps
         final double[] amplitudeData = output == null || output.length != nFFT / 2 * nT ? new double[nFFT / 2 * nT] : output; // output array
-        final double[] currentMagnitudeData = DoubleArrayCache.getInstance().getArray(nFFT / 2);
         // calculate spectrogram
-        final DoubleFFT_1D fastFourierTrafo = new DoubleFFT_1D(nFFT);
-        final double[] raw = DoubleArrayCache.getInstance().getArrayExact(nFFT); // array to perform calculations in
-        for (int i = 0; i < nT; i++) {
+        forEachFrame(nT, nFFT, (i, workspace) -> {
+            final double[] raw = workspace.getRaw(nFFT); // array to perform calculations in
             // obtain input data for FFT
             final int offset = i * step;
             final int validLength = input.length - offset;
@@ -357,22 +395,8 @@ public class ShortTimeFourierTransform {
                     break;
                 }
             }
-            // apply apodization function
-            apodization.apodize(raw);
-            // perform Fourier transform
-            fastFourierTrafo.realForward(raw);
-            // calculate magnitude spectrum
-            if (dbScale) {
-                SpectrumTools.computeMagnitudeSpectrum_dB(raw, 0, nFFT, currentMagnitudeData, 0, truncateDCNy);
-            } else {
-                SpectrumTools.computeMagnitudeSpectrum(raw, 0, nFFT, currentMagnitudeData, 0, truncateDCNy);
-            }
-            System.arraycopy(currentMagnitudeData, 0, amplitudeData, i * nFFT / 2, nFFT / 2);
-        }
-        // return cached arrays
-        DoubleArrayCache.getInstance().add(currentMagnitudeData);
-        DoubleArrayCache.getInstance().add(raw);
-
+            computeRealFrame(workspace, nFFT, apodization, dbScale, truncateDCNy, amplitudeData, i * nFFT / 2);
+        });
         return amplitudeData;
     }
 
@@ -381,4 +405,41 @@ public class ShortTimeFourierTransform {
         ZOH,
         MIRROR
     }
+
+    @FunctionalInterface
+    private interface FrameAction {
+        void compute(int frame, FrameWorkspace workspace);
+    }
+
+    /**
+     * Per-thread FFT plan and scratch arrays, re-allocated only if the transform size changes.
+     */
+    static final class FrameWorkspace {
+        private DoubleFFT_1D fft;
+        private int fftSize = -1;
+        private double[] raw = new double[0];
+        private double[] magnitude = new double[0];
+
+        DoubleFFT_1D getFFT(final int nFFT) {
+            if (fftSize != nFFT) {
+                fft = new DoubleFFT_1D(nFFT);
+                fftSize = nFFT;
+            }
+            return fft;
+        }
+
+        double[] getMagnitude(final int length) {
+            if (magnitude.length != length) {
+                magnitude = new double[length];
+            }
+            return magnitude;
+        }
+
+        double[] getRaw(final int length) {
+            if (raw.length != length) {
+                raw = new double[length];
+            }
+            return raw;
+        }
+    }
 }
@@ -0,0 +1,310 @@
+package io.fair_acc.math.spectra;
+
+import static io.fair_acc.dataset.DataSet.DIM_X;
+import static io.fair_acc.dataset.DataSet.DIM_Y;
+import static io.fair_acc.dataset.DataSet.DIM_Z;
+
+import java.util.Arrays;
+
+import io.fair_acc.dataset.DataSet;
+import io.fair_acc.dataset.events.ChartBits;
+import io.fair_acc.dataset.spi.DoubleGridDataSet;
+import io.fair_acc.dataset.spi.utils.MultiArrayDouble;
+import io.fair_acc.dataset.utils.AssertUtils;
+import io.fair_acc.dataset.utils.DoubleRingBuffer;
+import io.fair_acc.dataset.utils.SlidingWindowMinMax;
+import io.fair_acc.math.spectra.ShortTimeFourierTransform.FrameWorkspace;
+
+/**
+ * Stateful short-time Fourier transform of a continuously appended real-valued signal.
+ * <p>
+ * Contrary to {@link ShortTimeFourierTransform#real(DataSet, io.fair_acc.dataset.GridDataSet, int, int, Apodization,
+ * ShortTimeFourierTransform.Padding, boolean, boolean)}, which recomputes the whole spectrogram, only the frames that
+ * are completed by newly added samples are transformed. Frame k covers the samples [k * step, k * step + nFFT), i.e.
+ * the same frames as the batch transform but without padding. The last 'nFrames' frames are kept in a ring-buffered
+ * {@link DoubleGridDataSet} (frequency x time), so that an update costs O(new samples) independent of the history
+ * length.
+ */
+public class StreamingShortTimeFourierTransform {
+    private final int nFFT;
+    private final int step;
+    private final int nFrames;
+    private final int nBins;
+    private final double dt;
+    private final Apodization apodization;
+    private final boolean dbScale;
+    private final boolean truncateDCNy;
+    private final DoubleRingBuffer samples; // the latest nFFT input samples
+    private final FrameWorkspace workspace = new FrameWorkspace();
+    // each frame is stored twice (rows k and k + nFrames) so that the latest nFrames rows are always contiguous
+    private final double[] spectra;
+    private final double[] times; // frame time stamps, double-mapped like the spectra
+    private final SlidingWindowMinMax magnitudeLimits;
+    private final SpectrogramDataSet dataSet;
+    private long nSamples; // total number of received samples
+    private long nextFrameEnd; // number of received samples that completes the next frame
+    private long frameCount; // total number of computed frames
+
+    /**
+     * @param name name of the spectrogram data set
+     * @param nFFT the number of samples per frame
+     * @param step the timestep size in samples
+     * @param nFrames number of frames kept in the spectrogram history
+     * @param dt sampling period in seconds
+     * @param apodization apodization window function
+     * @param dbScale {@code true} to convert the spectrum to dB scale
+     * @param truncateDCNy {@code true} to interpolate the DC- and Nyquist-bins to their respective nearest neighbours
+     */
+    public StreamingShortTimeFourierTransform(final String name, final int nFFT, final int step, final int nFrames, final double dt,
+            final Apodization apodization, final boolean dbScale, final boolean truncateDCNy) {
+        AssertUtils.gtThanZero("nFFT", nFFT);
+        AssertUtils.gtThanZero("step", step);
+        AssertUtils.gtThanZero("nFrames", nFrames);
+        AssertUtils.gtThanZero("dt", dt);
+        AssertUtils.notNull("apodization", apodization);
+        this.nFFT = nFFT;
+        this.step = step;
+        this.nFrames = nFrames;
+        this.nBins = nFFT / 2;
+        this.dt = dt;
+        this.apodization = apodization;
+        this.dbScale = dbScale;
+        this.truncateDCNy = truncateDCNy;
+        samples = new DoubleRingBuffer(nFFT);
+        spectra = new double[2 * nFrames * nBins];
+        times = new double[2 * nFrames];
+        magnitudeLimits = new SlidingWindowMinMax(nFrames);
+        nextFrameEnd = nFFT;
+        dataSet = new SpectrogramDataSet(name);
+    }
+
+    /**
+     * @param sample new sample
+     * @return number of new spectrogram frames
+     */
+    public int add(final double sample) {
+        final boolean newFrame;
+        dataSet.lock().writeLock();
+        try {
+            newFrame = put(sample);
+            if (newFrame) {
+                dataSet.update();
+            }
+        } finally {
+            dataSet.lock().writeUnLock();
+        }
+        if (newFrame) {
+            dataSet.fireInvalidated(ChartBits.DataSetData);
+        }
+        return newFrame ? 1 : 0;
+    }
+
+    /**
+     * Appends new samples and transforms all frames that have been completed by them.
+     *
+     * @param newSamples new samples
+     * @param length number of samples to be added
+     * @return number of new spectrogram frames
+     */
+    public int add(final double[] newSamples, final int length) {
+        AssertUtils.notNull("newSamples", newSamples);
+        int newFrames = 0;
+        dataSet.lock().writeLock();
+        try {
+            for (int i = 0; i < length; i++) {
+                if (put(newSamples[i])) {
+                    newFrames++;
+                }
+            }
+            if (newFrames > 0) {
+                dataSet.update();
+            }
+        } finally {
+            dataSet.lock().writeUnLock();
+        }
+        if (newFrames > 0) {
+            dataSet.fireInvalidated(ChartBits.DataSetData);
+        }
+        return newFrames;
+    }
+
+    /**
+     * @return the spectrogram containing the latest frames (DIM_X: frequency, DIM_Y: time, DIM_Z: magnitude)
+     */
+    public DoubleGridDataSet getDataSet() {
+        return dataSet;
+    }
+
+    /**
+     * @return total number of frames computed since the last reset
+     */
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * removes all samples and frames
+     */
+    public void reset() {
+        dataSet.lock().writeLockGuard(() -> {
+            samples.reset();
+            magnitudeLimits.reset();
+            nSamples = 0;
+            nextFrameEnd = nFFT;
+            frameCount = 0;
+            dataSet.update();
+        });
+        dataSet.fireInvalidated(ChartBits.DataSetData);
+    }
+
+    /**
+     * appends a sample, needs to be called with the write lock held
+     *
+     * @param sample new sample
+     * @return {@code true} if the sample completed a new frame
+     */
+    private boolean put(final double sample) {
+        if (samples.remainingCapacity() == 0) {
+            samples.skip(1);
+        }
+        samples.put(sample);
+        nSamples++;
+        if (nSamples != nextFrameEnd) {
+            return false;
+        }
+        computeFrame();
+        nextFrameEnd += step;
+        return true;
+    }
+
+    private void computeFrame() {
+        samples.get(workspace.getRaw(nFFT), 0, nFFT);
+        final double[] magnitude = workspace.getMagnitude(nBins);
+        ShortTimeFourierTransform.computeRealFrame(workspace, nFFT, apodization, dbScale, truncateDCNy, magnitude, 0);
+        double min = Double.MAX_VALUE;
+        double max = -Double.MAX_VALUE;
+        for (final double value : magnitude) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        magnitudeLimits.add(min, max);
+
+        final int row = (int) (frameCount % nFrames);
+        System.arraycopy(magnitude, 0, spectra, row * nBins, nBins);
+        System.arraycopy(magnitude, 0, spectra, (row + nFrames) * nBins, nBins);
+        times[row] = dt * frameCount * step;
+        times[row + nFrames] = times[row];
+        frameCount++;
+    }
+
+    /**
+     * Grid data set view onto the latest rows of the double-mapped spectra and time ring buffers.
+     */
+    private class SpectrogramDataSet extends DoubleGridDataSet {
+        private static final long serialVersionUID = 1L;
+        private int firstRow; // ring buffer row of the oldest visible frame
+
+        private SpectrogramDataSet(final String name) {
+            super(name, 3, new int[] { nBins, 0 });
+            grid[DIM_X] = ShortTimeFourierTransform.getFrequencyAxisReal(dt, nFFT, null);
+            getAxisDescription(DIM_X).set("Frequency", "Hz");
+            getAxisDescription(DIM_Y).set("Time", "s");
+            getAxisDescription(DIM_Z).set("Magnitude", dbScale ? "dB" : "");
+            getMetaInfo().put("RealSTFT-nFFT", Integer.toString(nFFT));
+            getMetaInfo().put("RealSTFT-step", Integer.toString(step));
+        }
+
+        @Override
+        public double get(final int dimIndex, final int index) {
+            if (dimIndex != DIM_Y) {
+                return super.get(dimIndex, index);
+            }
+            if (index < 0 || index >= dataCount) {
+                throw new IndexOutOfBoundsException("index " + index + " out of bounds [0, " + dataCount + "[");
+            }
+            return times[firstRow + index / nBins];
+        }
+
+        @Override
+        public double get(final int dimIndex, final int... indices) {
+            return dimIndex == DIM_Y ? getGrid(DIM_Y, indices[DIM_Y]) : super.get(dimIndex, indices);
+        }
+
+        @Override
+        public double getGrid(final int dimIndex, final int index) {
+            if (dimIndex != DIM_Y) {
+                return super.getGrid(dimIndex, index);
+            }
+            if (index < 0 || index >= shape[DIM_Y]) {
+                throw new IndexOutOfBoundsException("index " + index + " out of bounds [0, " + shape[DIM_Y] + "[");
+            }
+            return times[firstRow + index];
+        }
+
+        /**
+         * N.B. the time axis is returned as a copy, use {@link #getGrid(int, int)} for allocation-free access
+         */
+        @Override
+        public double[] getGridValues(final int dimIndex) {
+            return dimIndex == DIM_Y ? Arrays.copyOfRange(times, firstRow, firstRow + shape[DIM_Y]) : super.getGridValues(dimIndex);
+        }
+
+        @Override
+        public double[] getSlice(final int dimIndex, final int gridDimIndex, final int[] indices, final int length, final double[] buffer, final int bufferOffset) {
+            if (dimIndex != DIM_Y) {
+                return super.getSlice(dimIndex, gridDimIndex, indices, length, buffer, bufferOffset);
+            }
+            final int start = gridDimIndex < indices.length ? indices[gridDimIndex] : 0;
+            if (gridDimIndex >= shape.length || length < 0 || start + length > shape[gridDimIndex]) {
+                throw new IndexOutOfBoundsException("slice [" + start + ", " + (start + length) + "[ out of bounds for grid dimension " + gridDimIndex);
+            }
+            if (gridDimIndex == DIM_Y) {
+                System.arraycopy(times, firstRow + start, buffer, bufferOffset, length);
+            } else if (length > 0) {
+                Arrays.fill(buffer, bufferOffset, bufferOffset + length, getGrid(DIM_Y, DIM_Y < indices.length ? indices[DIM_Y] : 0));
+            }
+            return buffer;
+        }
+
+        @Override
+        public double[] getValues(final int dimIndex) {
+            if (dimIndex != DIM_Z) {
+                return super.getValues(dimIndex);
+            }
+            final double[] copy = new double[dataCount];
+            for (int i = 0; i < dataCount; i++) {
+                copy[i] = values[0].getStrided(i);
+            }
+            return copy;
+        }
+
+        @Override
+        public DataSet recomputeLimits(final int dimIndex) {
+            if (dimIndex != DIM_Z) {
+                return super.recomputeLimits(dimIndex);
+            }
+            getAxisDescription(DIM_Z).set(magnitudeLimits.getMin(), magnitudeLimits.getMax());
+            return this;
+        }
+
+        /**
+         * re-wraps the visible part of the ring buffers in O(1), needs to be called with the write lock held
+         */
+        private void update() {
+            final int nRows = (int) Math.min(frameCount, nFrames);
+            firstRow = (int) ((frameCount - nRows) % nFrames);
+            shape[DIM_Y] = nRows;
+            dataCount = nBins * nRows;
+            values[0] = MultiArrayDouble.wrap(spectra, firstRow * nBins, new int[] { nRows, nBins });
+
+            final double[] frequencyAxis = grid[DIM_X];
+            getAxisDescription(DIM_X).set(frequencyAxis[0], frequencyAxis[frequencyAxis.length - 1]);
+            if (nRows > 0) {
+                getAxisDescription(DIM_Y).set(times[firstRow], times[firstRow + nRows - 1]);
+            } else {
+                getAxisDescription(DIM_Y).clear();
+            }
+            recomputeLimits(DIM_Z);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package io.fair_acc.math.spectra.lomb;
 
 import java.util.concurrent.Future;
 
+import org.jtransforms.fft.DoubleFFT_1D;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -22,6 +23,22 @@ import io.fair_acc.math.utils.ConcurrencyUtils;
 public class LombPeriodogram {
     private static final Logger LOGGER = LoggerFactory.getLogger(LombPeriodogram.class);
     protected static final int START_THREADS = 256;
+    private static final int N_EXTIRPOLATION = 4; // number of grid points each sample is spread to
+    private static final int EXTIRPOLATION_OVERSAMPLING = 8; // FFT grid size w.r.t. to the highest required frequency index
+    private static final double MIN_RELATIVE_NORM = 1e-9; // normalisation sums below this (x N) are treated as zero
+    private static final double EQUIDISTANT_TOLERANCE = 1e-6; // relative to the frequency spacing
+    private static final double[] LAGRANGE_DENOMINATOR = new double[N_EXTIRPOLATION];
+
+    static {
+        for (int i = 0; i < N_EXTIRPOLATION; i++) {
+            LAGRANGE_DENOMINATOR[i] = 1.0;
+            for (int m = 0; m < N_EXTIRPOLATION; m++) {
+                if (m != i) {
+                    LAGRANGE_DENOMINATOR[i] *= i - m;
+                }
+            }
+        }
+    }
 
     private LombPeriodogram() {
         // static utilitiy class
@@ -70,6 +87,38 @@ public class LombPeriodogram {
         return computePeridodogram(t, val, computeFrequencyRange(t));
     }
 
+    /**
+     * Lomb periodogram computation. The maximum frequency and binning is derived from the acquisition range
+     * (t_max-t_min) and the minimum non-zero sampling distance.
+     *
+     * @param t the time indices
+     * @param val the measurement
+     * @param fast {@code true}: use the O(N log N) approximation (see {@link #computePeridodogramFast}), {@code false}:
+     *            exact O(N M) computation
+     * @return vector containing Lomb-type Periodogram
+     */
+    public static double[] computePeridodogram(final double[] t, final double[] val, final boolean fast) {
+        return computePeridodogram(t, val, computeFrequencyRange(t), fast);
+    }
+
+    /**
+     * Lomb periodogram computation
+     *
+     * @param t the time indices
+     * @param val the measurement
+     * @param testFrequencies array containing the frequencies for which the spectra is being evaluated
+     * @param fast {@code true}: use the O(N log N) approximation (see {@link #computePeridodogramFast}) if the test
+     *            frequencies are equidistant, {@code false}: exact O(N M) computation
+     * @return vector containing Lomb-type Periodogram
+     */
+    public static double[] computePeridodogram(final double[] t, final double[] val, final double[] testFrequencies, final boolean fast) {
+        final int n = testFrequencies.length;
+        if (!fast || n < 2 || !isEquidistant(testFrequencies)) {
+            return computePeridodogram(t, val, testFrequencies);
+        }
+        return computePeridodogramFast(t, val, testFrequencies[0], (testFrequencies[n - 1] - testFrequencies[0]) / (n - 1), n);
+    }
+
     /**
      * Lomb periodogram computation
      *
@@ -82,15 +131,7 @@ public class LombPeriodogram {
         final int n = testFrequencies.length;
         final double[] ret = new double[n];
         final long start = System.nanoTime();
-
-        // compute tau
-        double sum1 = 0.0;
-        double sum2 = 0.0;
-        for (int i = 0; i < t.length; i++) {
-            sum1 += MathBase.sin(MathBase.TWO_PI * t[i]);
-            sum2 += MathBase.cos(MathBase.TWO_PI * t[i]);
-        }
-        final double tau = MathBase.aTan2(sum1, sum2) / MathBase.TWO_PI;
+        final double tau = computeTau(t);
 
         final int nthreads = ConcurrencyUtils.getNumberOfThreads();
         if (nthreads > 1 && n > START_THREADS) {
@@ -99,54 +140,12 @@ public class LombPeriodogram {
             for (int thread = 0; thread < nthreads; thread++) {
                 final int firstIdx = thread * k;
                 final int lastIdx = thread == nthreads - 1 ? n : firstIdx + k;
-                futures[thread] = ConcurrencyUtils.submit(() -> {
-                    for (int i = firstIdx; i < lastIdx; i++) {
-                        final double omega = MathBase.TWO_PI * testFrequencies[i];
-                        double sum11 = 0.0;
-                        double sum12 = 0.0;
-                        double sum21 = 0.0;
-                        double sum22 = 0.0;
-                        for (int j = 0; j < t.length; j++) {
-                            sum11 += val[j] * MathBase.cos(omega * (t[j] - tau));
-                            sum21 += val[j] * MathBase.sin(omega * (t[j] - tau));
-
-                            sum12 += MathBase.sqr(MathBase.cos(omega * (t[j] - tau)));
-                            sum22 += MathBase.sqr(MathBase.sin(omega * (t[j] - tau)));
-                        }
-                        if (sum12 <= 0 || sum22 <= 0) {
-                            ret[i] = 0.0;
-                        } else {
-                            ret[i] = MathBase
-                                             .sqrt(2 * (MathBase.sqr(sum11) / sum12 + MathBase.sqr(sum21) / sum22)
-                                                     / t.length);
-                        }
-                    }
-                });
+                futures[thread] = ConcurrencyUtils.submit(() -> computePeridodogram(t, val, testFrequencies, tau, ret, firstIdx, lastIdx));
             }
             ConcurrencyUtils.waitForCompletion(futures);
 
         } else {
-            for (int i = 0; i < n; i++) {
-                final double omega = MathBase.TWO_PI * testFrequencies[i];
-                double sum11 = 0.0;
-                double sum12 = 0.0;
-                double sum21 = 0.0;
-                double sum22 = 0.0;
-                for (int j = 0; j < t.length; j++) {
-                    sum11 += val[j] * MathBase.cos(omega * (t[j] - tau));
-                    sum21 += val[j] * MathBase.sin(omega * (t[j] - tau));
-
-                    sum12 += MathBase.sqr(MathBase.cos(omega * (t[j] - tau)));
-                    sum22 += MathBase.sqr(MathBase.sin(omega * (t[j] - tau)));
-                }
-
-                if (sum12 <= 0 || sum22 <= 0) {
-                    ret[i] = 0.0;
-                } else {
-                    ret[i] = MathBase.sqrt(
-                            2 * (MathBase.sqr(sum11) / sum12 + MathBase.sqr(sum21) / sum22) / t.length);
-                }
-            }
+            computePeridodogram(t, val, testFrequencies, tau, ret, 0, n);
         }
 
         final long stop = System.nanoTime();
@@ -156,4 +155,156 @@ public class LombPeriodogram {
 
         return ret;
     }
+
+    /**
+     * Fast Lomb periodogram computation for equidistant test frequencies {@code f_k = fMin + k * df} based on: W. H.
+     * Press and G. B. Rybicki, "Fast Algorithm for Spectral Analysis of Unevenly Sampled Data", The Astrophysical
+     * Journal, Vol. 338, 1989, pp. 277-280.
+     * <p>
+     * The trigonometric sums of the exact computation are evaluated for all frequencies at once: the (complex-valued)
+     * samples are 'extirpolated', i.e. spread onto a regular grid using Lagrange interpolation weights, and the grid is
+     * transformed using a single FFT. The complexity is thus O(N + M log M) rather than O(N M) for N samples and M test
+     * frequencies, at the cost of a small interpolation error (typically well below 0.1% of the spectral peak
+     * amplitude). Use {@link #computePeridodogram(double[], double[], double[])} for the exact computation (e.g. for
+     * validation).
+     *
+     * @param t the time indices
+     * @param val the measurement
+     * @param fMin first test frequency
+     * @param df test frequency spacing (&gt; 0)
+     * @param nFrequencies number of test frequencies
+     * @return vector containing Lomb-type Periodogram
+     */
+    public static double[] computePeridodogramFast(final double[] t, final double[] val, final double fMin, final double df, final int nFrequencies) {
+        if (t.length != val.length) {
+            throw new IllegalArgumentException("t.length = " + t.length + " != val.length = " + val.length);
+        }
+        if (!(df > 0) || nFrequencies < 0) {
+            throw new IllegalArgumentException("invalid frequency range: df = " + df + " nFrequencies = " + nFrequencies);
+        }
+        final double[] ret = new double[nFrequencies];
+        final int nSamples = t.length;
+        if (nSamples == 0 || nFrequencies == 0) {
+            return ret;
+        }
+        final long start = System.nanoTime();
+        final double tau = computeTau(t);
+        final double tMin = Math.minimum(t);
+
+        // the double-frequency terms require indices up to 2 * nFrequencies, the grid is oversampled w.r.t. these to
+        // limit the interpolation error
+        final int nFFT = ConcurrencyUtils.nextPow2(MathBase.max(2 * N_EXTIRPOLATION, EXTIRPOLATION_OVERSAMPLING * 2 * nFrequencies));
+        final double[] sumVal = new double[2 * nFFT]; // interleaved complex: sum_j val_j exp(i 2 pi f (t_j - tMin))
+        final double[] sum2 = new double[2 * nFFT]; // interleaved complex: sum_j exp(i 2 pi 2f (t_j - tMin))
+        for (int j = 0; j < nSamples; j++) {
+            final double dt = t[j] - tMin;
+            final double cycles = dt * df;
+            final double position = (cycles - MathBase.floor(cycles)) * nFFT;
+            // frequency offset 'fMin' -> complex sample weights
+            final double phase = MathBase.TWO_PI * fMin * dt;
+            final double cos = MathBase.cos(phase);
+            final double sin = MathBase.sin(phase);
+            extirpolate(sumVal, nFFT, position, val[j] * cos, val[j] * sin);
+            extirpolate(sum2, nFFT, position, cos * cos - sin * sin, 2 * sin * cos);
+        }
+        final DoubleFFT_1D fft = new DoubleFFT_1D(nFFT);
+        fft.complexInverse(sumVal, false);
+        fft.complexInverse(sum2, false);
+
+        final double minNorm = MIN_RELATIVE_NORM * nSamples;
+        for (int k = 0; k < nFrequencies; k++) {
+            // shift the reference time from 'tMin' to 'tau'
+            final double phase = MathBase.TWO_PI * (fMin + k * df) * (tMin - tau);
+            final double cos = MathBase.cos(phase);
+            final double sin = MathBase.sin(phase);
+            final double cos2 = cos * cos - sin * sin;
+            final double sin2 = 2 * sin * cos;
+            final double sumCos = sumVal[2 * k] * cos - sumVal[2 * k + 1] * sin; // sum_j val_j cos(omega (t_j - tau))
+            final double sumSin = sumVal[2 * k] * sin + sumVal[2 * k + 1] * cos; // sum_j val_j sin(omega (t_j - tau))
+            // sum_j cos^2(omega (t_j - tau)) = (N + sum_j cos(2 omega (t_j - tau))) / 2
+            final double sumCos2 = 0.5 * (nSamples + sum2[4 * k] * cos2 - sum2[4 * k + 1] * sin2);
+            final double sumSin2 = nSamples - sumCos2;
+            if (sumCos2 <= minNorm || sumSin2 <= minNorm) {
+                ret[k] = 0.0;
+            } else {
+                ret[k] = MathBase.sqrt(2 * (MathBase.sqr(sumCos) / sumCos2 + MathBase.sqr(sumSin) / sumSin2) / nSamples);
+            }
+        }
+
+        final long stop = System.nanoTime();
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.atDebug().addArgument((stop - start) * 1e-6).log("LombPeriodogram(double[], double[], double, double, int) - took {} ms");
+        }
+        return ret;
+    }
+
+    private static void computePeridodogram(final double[] t, final double[] val, final double[] testFrequencies, final double tau, final double[] ret, final int firstIdx, final int lastIdx) {
+        for (int i = firstIdx; i < lastIdx; i++) {
+            final double omega = MathBase.TWO_PI * testFrequencies[i];
+            double sum11 = 0.0;
+            double sum12 = 0.0;
+            double sum21 = 0.0;
+            double sum22 = 0.0;
+            for (int j = 0; j < t.length; j++) {
+                final double cos = MathBase.cos(omega * (t[j] - tau));
+                final double sin = MathBase.sin(omega * (t[j] - tau));
+                sum11 += val[j] * cos;
+                sum21 += val[j] * sin;
+
+                sum12 += cos * cos;
+                sum22 += sin * sin;
+            }
+
+            if (sum12 <= 0 || sum22 <= 0) {
+                ret[i] = 0.0;
+            } else {
+                ret[i] = MathBase.sqrt(2 * (MathBase.sqr(sum11) / sum12 + MathBase.sqr(sum21) / sum22) / t.length);
+            }
+        }
+    }
+
+    private static double computeTau(final double[] t) {
+        double sum1 = 0.0;
+        double sum2 = 0.0;
+        for (int i = 0; i < t.length; i++) {
+            sum1 += MathBase.sin(MathBase.TWO_PI * t[i]);
+            sum2 += MathBase.cos(MathBase.TWO_PI * t[i]);
+        }
+        return MathBase.aTan2(sum1, sum2) / MathBase.TWO_PI;
+    }
+
+    /**
+     * Adds a complex value at a (non-integer) position of a periodic grid, such that the sum over any grid function
+     * that is a polynomial of order &lt; {@value #N_EXTIRPOLATION} (locally) is reproduced, i.e. the inverse of
+     * Lagrange interpolation.
+     */
+    private static void extirpolate(final double[] grid, final int nGrid, final double position, final double re, final double im) {
+        final int first = (int) MathBase.floor(position) - N_EXTIRPOLATION / 2 + 1;
+        final double u = position - first;
+        for (int i = 0; i < N_EXTIRPOLATION; i++) {
+            double weight = 1.0 / LAGRANGE_DENOMINATOR[i];
+            for (int m = 0; m < N_EXTIRPOLATION; m++) {
+                if (m != i) {
+                    weight *= u - m;
+                }
+            }
+            final int index = java.lang.Math.floorMod(first + i, nGrid);
+            grid[2 * index] += weight * re;
+            grid[2 * index + 1] += weight * im;
+        }
+    }
+
+    private static boolean isEquidistant(final double[] frequencies) {
+        final int n = frequencies.length;
+        final double df = (frequencies[n - 1] - frequencies[0]) / (n - 1);
+        if (!(df > 0)) {
+            return false;
+        }
+        for (int i = 1; i < n; i++) {
+            if (MathBase.abs(frequencies[i] - frequencies[0] - i * df) > EQUIDISTANT_TOLERANCE * df) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
@@ -1,23 +1,40 @@
 package io.fair_acc.math.spectra.wavelet;
 
+import static io.fair_acc.dataset.DataSet.DIM_X;
+import static io.fair_acc.dataset.DataSet.DIM_Y;
+import static io.fair_acc.dataset.DataSet.DIM_Z;
+
 import java.security.InvalidParameterException;
-import java.util.concurrent.Future;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 
 import org.apache.commons.math3.complex.Complex;
+import org.jtransforms.fft.DoubleFFT_1D;
 
-import io.fair_acc.dataset.DataSet;
 import io.fair_acc.dataset.GridDataSet;
+import io.fair_acc.dataset.events.ChartBits;
 import io.fair_acc.dataset.spi.DataSetBuilder;
+import io.fair_acc.dataset.spi.DoubleGridDataSet;
 import io.fair_acc.math.Math;
 import io.fair_acc.math.MathBase;
 import io.fair_acc.math.spectra.Convolution;
 import io.fair_acc.math.utils.ConcurrencyUtils;
 
+/**
+ * Continuous wavelet transform based on the complex Morlet wavelet.
+ * <p>
+ * The scalograms are computed in the Fourier domain: the input spectrum is computed once and each scale only requires
+ * a multiplication with the wavelet filter and one inverse FFT. Large scalograms are computed scale-parallel, each
+ * thread re-using its own FFT plan and scratch arrays. The transforms do not share any mutable state, i.e. one instance
+ * may be used concurrently.
+ */
 public class ContinuousWavelet {
-    protected int START_THREADS = 512;
+    private static final int PARALLEL_THRESHOLD = 1 << 16; // minimum number of scalogram samples for a parallel computation
+    private static final ThreadLocal<ScaleWorkspace> WORKSPACE = ThreadLocal.withInitial(ScaleWorkspace::new);
     protected boolean DEBUG = false;
-    private int fstatus = 100;
-    private final Convolution[] fdecon = new Convolution[ConcurrencyUtils.getNumberOfThreads()];
+    private volatile int fstatus = 100;
 
     /**
      * Wavelet Scalogram implementation with truncated convolution the assumption is made that the wavelet vanishes for
@@ -33,6 +50,24 @@ public class ContinuousWavelet {
      */
     public GridDataSet getScalogram(final double[] data, final int nQuantx, final int nQuanty, final double nu,
             final double fmin, final double fmax) {
+        return getScalogram(data, nQuantx, nQuanty, nu, fmin, fmax, null);
+    }
+
+    /**
+     * Wavelet Scalogram implementation with truncated convolution the assumption is made that the wavelet vanishes for
+     * large scales
+     *
+     * @param data real valued input data
+     * @param nQuantx number of bins on the time axis
+     * @param nQuanty number of frequency bins of full range
+     * @param nu the number of oscillations per wavelet
+     * @param fmin minimum scalogram frequency range
+     * @param fmax maximum scalogram frequency range
+     * @param output optional output dataset, if not null and of matching shape, data will be modified in place
+     * @return the complex scalogram spectrum (DIM_X: time, DIM_Y: frequency, DIM_Z: power in dB)
+     */
+    public GridDataSet getScalogram(final double[] data, final int nQuantx, final int nQuanty, final double nu,
+            final double fmin, final double fmax, final GridDataSet output) {
         if (data == null || data.length == 0) {
             throw new InvalidParameterException(
                     " getScalogram(double[],int,int,double,fmin,fmax) - data null or zero length");
@@ -48,12 +83,31 @@ public class ContinuousWavelet {
                                                 + ") - nQuantx out of range [0," + data.length + "]");
         }
 
-        // create and return data set.
-        return new DataSetBuilder("Scalogram") //
-                .setValues(DataSet.DIM_X, getScalogramTimeAxis(data, nQuantx, nQuanty, nu, fmin, fmax)) //
-                .setValues(DataSet.DIM_Y, getScalogramFrequencyAxis(nQuantx, nQuanty, nu, fmin, fmax)) //
-                .setValues(DataSet.DIM_Z, getScalogramArrayFourier(data, nQuantx, nQuanty, nu, fmin, fmax)) //
-                .build(GridDataSet.class);
+        final int nQuantyInternal = getScalogramRows(nQuanty, fmin, fmax);
+        if (!(output instanceof DoubleGridDataSet) || output.getDimension() != 3 || output.getShape().length != 2
+                || output.getShape(DIM_X) != nQuantx || output.getShape(DIM_Y) != nQuantyInternal) {
+            // create and return data set.
+            final double[] values = new double[nQuantyInternal * nQuantx];
+            computeScalogramFourier(data, nQuantx, nQuanty, nu, fmin, fmax, values);
+            return new DataSetBuilder("Scalogram") //
+                    .setValues(DIM_X, getScalogramTimeAxis(data, nQuantx, nQuanty, nu, fmin, fmax)) //
+                    .setValues(DIM_Y, getScalogramFrequencyAxis(nQuantx, nQuanty, nu, fmin, fmax)) //
+                    .setValues(DIM_Z, values) //
+                    .build(GridDataSet.class);
+        }
+
+        // re-use the storage of the existing data set
+        final DoubleGridDataSet result = (DoubleGridDataSet) output;
+        result.lock().writeLockGuard(() -> {
+            fillTimeAxis(result.getGridValues(DIM_X), data.length);
+            fillFrequencyAxis(result.getGridValues(DIM_Y), fmin, fmax);
+            computeScalogramFourier(data, nQuantx, nQuanty, nu, fmin, fmax, result.getValues(DIM_Z));
+            result.recomputeLimits(DIM_X);
+            result.recomputeLimits(DIM_Y);
+            result.recomputeLimits(DIM_Z);
+        });
+        result.fireInvalidated(ChartBits.DataSetData);
+        return result;
     }
 
     /**
@@ -65,9 +119,9 @@ public class ContinuousWavelet {
      * @param fmax maximum scalogram frequency range
      * @return Scalogram power in dB
      */
-    public synchronized double[][] getScalogramArray(final double[] data, final int nQuantx, final int nQuanty,
+    public double[][] getScalogramArray(final double[] data, final int nQuantx, final int nQuanty,
             final double nu, final double fmin, final double fmax) {
-        final int nQuantyInternal = (int) Math.floor(nQuanty * (fmax - fmin) / 0.5) + 1;
+        final int nQuantyInternal = getScalogramRows(nQuanty, fmin, fmax);
         final double[][] ret = new double[nQuantx][nQuantyInternal];
 
         fstatus = 0;
@@ -109,162 +163,27 @@ public class ContinuousWavelet {
      * @param fmax maximum scalogram frequency range
      * @return Scalogram power in dB
      */
-    public synchronized double[][] getScalogramArrayFourier(final double[] data, final int nQuantx, final int nQuanty,
+    public double[][] getScalogramArrayFourier(final double[] data, final int nQuantx, final int nQuanty,
             final double nu, final double fmin, final double fmax) {
-        final int nQuantyInternal = (int) Math.floor(nQuanty * (fmax - fmin) / 0.5) + 1;
-        final double[][] ret = new double[nQuantyInternal][nQuantx];
-        final boolean cyclicBoundaries = true;
-
-        final long start = System.nanoTime();
-
-        fstatus = 0;
-
-        final int min = (int) (2 * fmin * nQuanty);
-        final int max = (int) (2 * fmax * nQuanty);
-        final int n = max - min;
-        final int filterDim = ConcurrencyUtils.nextPow2((cyclicBoundaries ? 1 : 3) * data.length);
-
-        final int nthreads = ConcurrencyUtils.getNumberOfThreads();
-        if (nthreads > 1 && n > START_THREADS) {
-            final Future<?>[] futures = new Future[nthreads];
-            final int k = n / nthreads;
-            for (int thread = 0; thread < nthreads; thread++) {
-                final int firstIdx = min + thread * k;
-                final int lastIdx = thread == nthreads - 1 ? max : firstIdx + k;
-                final int thread_id = thread;
-
-                futures[thread] = ConcurrencyUtils.submit(() -> {
-                    if (fdecon[thread_id] == null) {
-                        fdecon[thread_id] = new Convolution();
-                    }
-
-                    for (int j = firstIdx; j < lastIdx; j++) {
-                        final double f0 = 0.5 * j / nQuanty;
-                        // update status variable
-                        if (thread_id == 0) {
-                            fstatus = (int) ((double) j / (double) lastIdx * 100);
-                        }
-                        final double[] filter = Convolution.getMorletFilter(filterDim, f0, nu);
-                        final double[] wtransformed = fdecon[thread_id].transformFull(data, filter,
-                                cyclicBoundaries);
-
-                        // compute magnitude spectra
-                        if (f0 != 0) {
-                            if (nQuantx != filterDim) {
-                                final int nbin = filterDim / nQuantx;
-                                for (int i = 0; i < nQuantx; i++) {
-                                    final int index = i * nbin;
-                                    final int i2 = index << 1;
-                                    double power = 0.0;
-                                    for (int l = 0; l < nbin; l++) {
-                                        final int l2 = l << 1;
-                                        final double Re = wtransformed[i2 + l2];
-                                        final double Im = wtransformed[i2 + l2 + 1];
-
-                                        power += MathBase.sqr(Re) + MathBase.sqr(Im);
-                                    }
-                                    power /= nbin;
-
-                                    ret[j - min][i] = 10 * MathBase.log10(power + 1e-99);
-                                }
-                            } else {
-                                for (int i = 0; i < filterDim; i++) {
-                                    final int i2 = i << 1;
-                                    final double Re = wtransformed[i2];
-                                    final double Im = wtransformed[i2 + 1];
-
-                                    final double power = MathBase.sqr(Re) + MathBase.sqr(Im);
-                                    ret[j - min][i] = 10 * MathBase.log10(power + 1e-99);
-                                }
-                            }
-
-                        } else {
-                            for (int i = 0; i < nQuantx; i++) {
-                                ret[j - min][i] = Double.NaN;
-                            }
-                        }
-                    }
-                });
-            }
-            ConcurrencyUtils.waitForCompletion(futures);
-
-        } else {
-            // single thread code
-            final int thread_id = 0;
-            if (fdecon[thread_id] == null) {
-                fdecon[thread_id] = new Convolution();
-            }
-            for (int j = min; j < max; j++) {
-                final double f0 = 0.5 * j / nQuanty;
-                // update status variable
-                fstatus = (int) ((double) j / (double) nQuanty * 100);
-                final double[] filter = Convolution.getMorletFilter(filterDim, f0, nu);
-                final double[] wtransformed = fdecon[thread_id].transformFull(data, filter, cyclicBoundaries);
-
-                // compute magnitude spectra
-                if (f0 != 0) {
-                    if (nQuantx != filterDim) {
-                        final int nbin = filterDim / nQuantx;
-                        for (int i = 0; i < nQuantx; i++) {
-                            final int index = i * nbin;
-                            final int i2 = index << 1;
-                            double power = 0.0;
-                            for (int k = 0; k < nbin; k++) {
-                                final int k2 = k << 1;
-                                final double Re = wtransformed[i2 + k2];
-                                final double Im = wtransformed[i2 + k2 + 1];
-
-                                power += MathBase.sqr(Re) + MathBase.sqr(Im);
-                            }
-                            power /= nbin;
-
-                            ret[j - min][i] = 10 * MathBase.log10(power + 1e-99);
-                        }
-                    } else {
-                        for (int i = 0; i < filterDim; i++) {
-                            final int i2 = i << 1;
-                            final double Re = wtransformed[i2];
-                            final double Im = wtransformed[i2 + 1];
-
-                            final double power = MathBase.sqr(Re) + MathBase.sqr(Im);
-                            ret[j - min][i] = 10 * MathBase.log10(power + 1e-99);
-                        }
-                    }
-
-                } else {
-                    for (int i = 0; i < nQuantx; i++) {
-                        ret[j - min][i] = Double.NaN;
-                    }
-                }
-            }
-        }
+        final int nQuantyInternal = getScalogramRows(nQuanty, fmin, fmax);
+        final double[] values = new double[nQuantyInternal * nQuantx];
+        computeScalogramFourier(data, nQuantx, nQuanty, nu, fmin, fmax, values);
 
-        final long stop = System.nanoTime();
-        if (DEBUG) {
-            System.err.printf("getScalogramArrayFourier(double[],int,int,double,double,double) - took %f ms\n",
-                    (stop - start) * 1e-6);
+        final double[][] ret = new double[nQuantyInternal][];
+        for (int j = 0; j < nQuantyInternal; j++) {
+            ret[j] = Arrays.copyOfRange(values, j * nQuantx, (j + 1) * nQuantx);
         }
-
-        fstatus = 100;
         return ret;
     }
 
     public double[] getScalogramFrequencyAxis(final int nQuantx, final int nQuanty, final double nu, final double fmin,
             final double fmax) {
-        final double[] ret = new double[(int) Math.floor(nQuanty * (fmax - fmin) / 0.5) + 1];
-        for (int i = 0; i < ret.length; i++) {
-            ret[i] = fmin + i * (fmax - fmin) / ret.length;
-        }
-        return ret;
+        return fillFrequencyAxis(new double[getScalogramRows(nQuanty, fmin, fmax)], fmin, fmax);
     }
 
     public double[] getScalogramTimeAxis(final double[] data, final int nQuantx, final int nQuanty, final double nu,
             final double fmin, final double fmax) {
-        final double[] ret = new double[nQuantx];
-        for (int i = 0; i < ret.length; i++) {
-            ret[i] = i * data.length / nQuantx;
-        }
-        return ret;
+        return fillTimeAxis(new double[nQuantx], data.length);
     }
 
     /**
@@ -352,7 +271,7 @@ public class ContinuousWavelet {
      * @param nu the number of oscillations per wavelet
      * @return the complex scalogram spectrum coefficient
      */
-    public synchronized Complex WaveletTransform(final Complex[] data, final double scale, final double translation,
+    public Complex WaveletTransform(final Complex[] data, final double scale, final double translation,
             final double nu) {
         double re = 0;
         double im = 0;
@@ -377,7 +296,7 @@ public class ContinuousWavelet {
      * @param nu the number of oscillations per wavelet
      * @return the complex scalogram spectrum coefficient
      */
-    public synchronized Complex WaveletTransform(final double[] data, final double scale, final double translation,
+    public Complex WaveletTransform(final double[] data, final double scale, final double translation,
             final double nu) {
         double re = 0, im = 0;
         final double[] ret = new double[2]; // temp. real/imaginary storage for
@@ -406,10 +325,132 @@ public class ContinuousWavelet {
         return new Complex(re, im);
     }
 
+    /**
+     * Computes the scalogram in the Fourier domain into 'values' (row-major, i.e. values[row * nQuantx + timeBin]).
+     * The input spectrum is computed once and shared (read-only) by all scales.
+     */
+    private void computeScalogramFourier(final double[] data, final int nQuantx, final int nQuanty, final double nu,
+            final double fmin, final double fmax, final double[] values) {
+        final long start = System.nanoTime();
+
+        fstatus = 0;
+
+        final int min = (int) (2 * fmin * nQuanty);
+        final int max = (int) (2 * fmax * nQuanty);
+        final int n = max - min;
+        final int filterDim = ConcurrencyUtils.nextPow2(data.length); // cyclic boundaries
+        // rows beyond the computed scales are not part of the scalogram
+        Arrays.fill(values, n * nQuantx, values.length, 0.0);
+
+        // zero padding at end of dataset
+        final double[] spectrum = new double[2 * filterDim];
+        for (int i = 0; i < data.length; i++) {
+            spectrum[i << 1] = data[i];
+        }
+        WORKSPACE.get().getFFT(filterDim).complexForward(spectrum);
+
+        final AtomicInteger nDone = new AtomicInteger();
+        final IntConsumer scaleAction = j -> {
+            computeScale(spectrum, filterDim, 0.5 * j / nQuanty, nu, values, (j - min) * nQuantx, nQuantx);
+            // update status variable
+            fstatus = (int) ((double) nDone.incrementAndGet() / (double) (n + 1) * 100);
+        };
+        if (n > 1 && (long) n * filterDim >= PARALLEL_THRESHOLD) {
+            IntStream.range(min, max).parallel().forEach(scaleAction);
+        } else {
+            for (int j = min; j < max; j++) {
+                scaleAction.accept(j);
+            }
+        }
+
+        final long stop = System.nanoTime();
+        if (DEBUG) {
+            System.err.printf("getScalogramArrayFourier(double[],int,int,double,double,double) - took %f ms\n",
+                    (stop - start) * 1e-6);
+        }
+
+        fstatus = 100;
+    }
+
+    private static void computeScale(final double[] spectrum, final int filterDim, final double f0, final double nu,
+            final double[] values, final int offset, final int nQuantx) {
+        if (f0 == 0) {
+            Arrays.fill(values, offset, offset + nQuantx, Double.NaN);
+            return;
+        }
+        final ScaleWorkspace workspace = WORKSPACE.get();
+        final double[] wtransformed = workspace.getWork(spectrum.length);
+        System.arraycopy(spectrum, 0, wtransformed, 0, spectrum.length);
+        Convolution.complexMultiply(wtransformed, workspace.getFilter(filterDim, f0, nu));
+        workspace.getFFT(filterDim).complexInverse(wtransformed, true);
+
+        // compute magnitude spectra
+        final int nbin = filterDim / nQuantx;
+        for (int i = 0; i < nQuantx; i++) {
+            final int i2 = (i * nbin) << 1;
+            double power = 0.0;
+            for (int k = 0; k < nbin; k++) {
+                final int k2 = k << 1;
+                power += MathBase.sqr(wtransformed[i2 + k2]) + MathBase.sqr(wtransformed[i2 + k2 + 1]);
+            }
+            power /= nbin;
+
+            values[offset + i] = 10 * MathBase.log10(power + 1e-99);
+        }
+    }
+
+    private static double[] fillFrequencyAxis(final double[] ret, final double fmin, final double fmax) {
+        for (int i = 0; i < ret.length; i++) {
+            ret[i] = fmin + i * (fmax - fmin) / ret.length;
+        }
+        return ret;
+    }
+
+    private static double[] fillTimeAxis(final double[] ret, final int nData) {
+        for (int i = 0; i < ret.length; i++) {
+            ret[i] = i * nData / ret.length;
+        }
+        return ret;
+    }
+
+    private static int getScalogramRows(final int nQuanty, final double fmin, final double fmax) {
+        return (int) Math.floor(nQuanty * (fmax - fmin) / 0.5) + 1;
+    }
+
     public static void main(final String[] args) {
         final ContinuousWavelet wTrafo = new ContinuousWavelet();
 
         final Complex result = wTrafo.WaveletTransform(new double[] { 0.1, 0.2, 0.0, 3.0 }, 1.0 / 1000, 0, 0.8);
         System.err.println("result = " + result);
     }
+
+    /**
+     * Per-thread FFT plan and scratch arrays, re-allocated only if the transform size changes.
+     */
+    private static final class ScaleWorkspace {
+        private DoubleFFT_1D fft;
+        private int fftSize = -1;
+        private double[] filter = new double[0];
+        private double[] work = new double[0];
+
+        DoubleFFT_1D getFFT(final int n) {
+            if (fftSize != n) {
+                fft = new DoubleFFT_1D(n);
+                fftSize = n;
+            }
+            return fft;
+        }
+
+        double[] getFilter(final int n, final double f0, final double nu) {
+            filter = Convolution.getMorletFilter(n, f0, nu, filter);
+            return filter;
+        }
+
+        double[] getWork(final int length) {
+            if (work.length != length) {
+                work = new double[length];
+            }
+            return work;
+        }
+    }
 }
@@ -0,0 +1,119 @@
+package io.fair_acc.math;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import static io.fair_acc.dataset.DataSet.DIM_X;
+import static io.fair_acc.dataset.DataSet.DIM_Y;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import io.fair_acc.dataset.DataSet;
+import io.fair_acc.dataset.spi.DoubleErrorDataSet;
+import io.fair_acc.math.DataSetMath.Filter;
+
+/**
+ * Checks the sliding-window filter kernels against a brute-force evaluation of each window.
+ */
+class SlidingWindowFilterTests {
+    private static final int N_SAMPLES = 500;
+    private static final double WIDTH = 2.5;
+
+    @Test
+    void testAgainstBruteForce() {
+        final Random rnd = new Random(42);
+        final double[] x = new double[N_SAMPLES];
+        final double[] y = new double[N_SAMPLES];
+        for (int i = 1; i < N_SAMPLES; i++) {
+            // irregular spacing including duplicate x coordinates
+            x[i] = x[i - 1] + (rnd.nextInt(4) == 0 ? 0.0 : rnd.nextDouble());
+            y[i] = 1000.0 * rnd.nextGaussian() + (rnd.nextInt(10) == 0 ? 0.0 : 1.0);
+        }
+        assertTrue(SlidingWindowFilter.isApplicable(x, N_SAMPLES));
+
+        for (final Filter filter : Filter.values()) {
+            final double[] filtered = SlidingWindowFilter.filter(filter, x, y, N_SAMPLES, WIDTH);
+            final double[] reference = bruteForce(filter, x, y, WIDTH);
+            final double tolerance = filter == Filter.GEOMMEAN || filter == Filter.RMS ? 1e-6 : 1e-9;
+            for (int i = 0; i < N_SAMPLES; i++) {
+                assertEquals(reference[i], filtered[i], tolerance * MathBase.max(1.0, MathBase.abs(reference[i])), filter + " at index " + i);
+            }
+        }
+    }
+
+    @Test
+    void testFilterFunction() {
+        final double[] x = { 0, 1, 2, 3, 4, 5 };
+        final double[] y = { 5, 1, 4, 2, 3, 0 };
+        final double[] ey = { 1, 1, 1, 1, 1, 1 };
+        final DataSet dataSet = new DoubleErrorDataSet("test", x, y, ey, ey, x.length, true);
+
+        final DataSet median = DataSetMath.medianFilteredFunction(dataSet, 1.0);
+        assertArrayEquals(x, median.getValues(DIM_X));
+        assertArrayEquals(new double[] { 3, 4, 2, 3, 2, 1.5 }, median.getValues(DIM_Y));
+        // unsorted x falls back to the brute-force path, which has to yield the same (even window) medians
+        final double[] xUnsorted = { 1, 0, 2, 3, 5, 4 };
+        final double[] yUnsorted = { 1, 5, 4, 2, 0, 3 };
+        final DataSet unsorted = new DoubleErrorDataSet("unsorted", xUnsorted, yUnsorted, ey, ey, x.length, true);
+        assertArrayEquals(new double[] { 4, 3, 2, 3, 1.5, 2 }, DataSetMath.medianFilteredFunction(unsorted, 1.0).getValues(DIM_Y));
+
+        final DataSet min = DataSetMath.minFilteredFunction(dataSet, 1.0);
+        assertArrayEquals(new double[] { 1, 1, 1, 2, 0, 0 }, min.getValues(DIM_Y));
+
+        final DataSet mean = DataSetMath.filterFunction(dataSet, 1.0, Filter.MEAN);
+        assertEquals(3.0, mean.get(DIM_Y, 0));
+        assertEquals(1.0 / MathBase.sqrt(2.0), ((DoubleErrorDataSet) mean).getErrorNegative(DIM_Y, 0), 1e-12);
+        assertEquals(1.0 / MathBase.sqrt(3.0), ((DoubleErrorDataSet) mean).getErrorPositive(DIM_Y, 1), 1e-12);
+
+        // unsorted and non-finite data retains the reference behaviour
+        assertFalse(SlidingWindowFilter.isApplicable(new double[] { 0, 2, 1 }, 3));
+        assertFalse(SlidingWindowFilter.isApplicable(new double[] { 0, Double.NaN, 1 }, 3));
+        final double[] withNaN = { 1, Double.NaN, 3, 4, 5, 6 };
+        final double[] filtered = SlidingWindowFilter.filter(Filter.MAX, x, withNaN, x.length, 1.0);
+        assertTrue(Double.isNaN(filtered[0]));
+        assertEquals(4.0, filtered[2]); // same as Math.maximum(..)
+        assertEquals(5.0, filtered[3]);
+    }
+
+    private static double[] bruteForce(final Filter filter, final double[] x, final double[] y, final double width) {
+        final double[] result = new double[x.length];
+        final double[] window = new double[x.length];
+        for (int i = 0; i < x.length; i++) {
+            int count = 0;
+            for (int j = 0; j < x.length; j++) {
+                if (MathBase.abs(x[i] - x[j]) <= width) {
+                    window[count++] = y[j];
+                }
+            }
+            switch (filter) {
+            case MEDIAN:
+                result[i] = Math.median(window, count);
+                break;
+            case MIN:
+                result[i] = Math.minimum(window, count);
+                break;
+            case MAX:
+                result[i] = Math.maximum(window, count);
+                break;
+            case P2P:
+                result[i] = Math.peakToPeak(window, count);
+                break;
+            case RMS:
+                result[i] = Math.rms(window, count);
+                break;
+            case GEOMMEAN:
+                result[i] = Math.geometricMean(window, 0, count);
+                break;
+            case MEAN:
+            default:
+                result[i] = Math.mean(window, count);
+                break;
+            }
+        }
+        return result;
+    }
+}
@@ -2,9 +2,13 @@ package io.fair_acc.math.spectra;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 import org.junit.jupiter.api.Test;
 
+import io.fair_acc.math.matrix.MatrixD;
+import io.fair_acc.math.utils.ConcurrencyUtils;
+
 public class EEMDTests {
     @Test
     public void extremeTest() {
@@ -23,4 +27,48 @@ public class EEMDTests {
         assertArrayEquals(new double[] { 0, 4, 0, 0, 0, 0, 0, 0, 0, 0 }, spmin[0]);
         assertArrayEquals(new double[] { 1, 1, 0, 0, 0, 0, 0, 0, 0, 0 }, spmin[1]);
     }
+
+    @Test
+    public void eemdTest() {
+        final int nSamples = 256;
+        final double[] data = new double[nSamples];
+        for (int i = 0; i < nSamples; i++) {
+            data[i] = Math.sin(2 * Math.PI * 0.02 * i) + 0.5 * Math.sin(2 * Math.PI * 0.15 * i);
+        }
+        final EEMD eemd = new EEMD();
+
+        // without noise: the modes and remainder add up to the input data
+        final MatrixD emd = eemd.eemd(data, 0.0, 2);
+        for (int i = 0; i < nSamples; i++) {
+            assertEquals(data[i], emd.get(i, 0));
+            double sum = 0.0;
+            for (int mode = 1; mode < emd.getColumnDimension(); mode++) {
+                sum += emd.get(i, mode);
+            }
+            assertEquals(data[i], sum, 1e-9);
+        }
+
+        // noise ensemble: reproducible and independent of the number of threads
+        final boolean forceThreads = ConcurrencyUtils.isForceThreads();
+        final int nThreads = ConcurrencyUtils.getNumberOfThreads();
+        try {
+            ConcurrencyUtils.setNumberOfThreads(1);
+            final MatrixD reference = eemd.eemd(data, 0.2, 8);
+            for (final int nWorkers : new int[] { 3, 4 }) {
+                ConcurrencyUtils.setNumberOfThreads(nWorkers);
+                final MatrixD parallel = eemd.eemd(data, 0.2, 8);
+                for (int mode = 0; mode < reference.getColumnDimension(); mode++) {
+                    for (int i = 0; i < nSamples; i++) {
+                        assertEquals(reference.get(i, mode), parallel.get(i, mode), "bit-wise identical for nThreads = " + nWorkers);
+                    }
+                }
+            }
+            eemd.setSeed(7);
+            assertEquals(7, eemd.getSeed());
+            assertNotEquals(reference.get(nSamples / 2, 1), eemd.eemd(data, 0.2, 8).get(nSamples / 2, 1));
+        } finally {
+            ConcurrencyUtils.setNumberOfThreads(nThreads);
+            ConcurrencyUtils.setForceThreads(forceThreads);
+        }
+    }
 }
@@ -0,0 +1,113 @@
+package io.fair_acc.math.spectra;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import static io.fair_acc.dataset.DataSet.DIM_X;
+import static io.fair_acc.dataset.DataSet.DIM_Y;
+import static io.fair_acc.dataset.DataSet.DIM_Z;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import io.fair_acc.dataset.GridDataSet;
+import io.fair_acc.math.spectra.ShortTimeFourierTransform.Padding;
+
+/**
+ * Tests the streaming short-time Fourier transform against the batch implementation.
+ */
+class StreamingShortTimeFourierTransformTest {
+    private static final int N_FFT = 64;
+    private static final int STEP = 16;
+    private static final double DT = 1e-3;
+
+    @Test
+    void testAgainstBatchTransform() {
+        final int nSamples = 1000;
+        final double[] signal = new double[nSamples];
+        for (int i = 0; i < nSamples; i++) {
+            signal[i] = Math.sin(2 * Math.PI * 50.0 * i * DT) + 0.5 * Math.cos(2 * Math.PI * 120.0 * i * DT * (1.0 + i * 1e-4));
+        }
+        final double[] batch = ShortTimeFourierTransform.real(signal, null, N_FFT, STEP, Apodization.Hann, Padding.ZERO, false, true);
+        final int nComplete = (nSamples - N_FFT) / STEP + 1; // frames without padding
+
+        final int nFrames = 10;
+        final StreamingShortTimeFourierTransform stft = new StreamingShortTimeFourierTransform("stream", N_FFT, STEP, nFrames, DT, Apodization.Hann, false, true);
+        final GridDataSet dataSet = stft.getDataSet();
+        assertEquals(0, dataSet.getDataCount());
+
+        // add the samples in chunks of irregular size
+        int added = 0;
+        int frames = 0;
+        for (int chunk = 1; added < nSamples; chunk = chunk * 3 % 37 + 1) {
+            final int length = Math.min(chunk, nSamples - added);
+            frames += stft.add(Arrays.copyOfRange(signal, added, added + length), length);
+            added += length;
+
+            final int nRows = (int) Math.min(stft.getFrameCount(), nFrames);
+            assertArrayEquals(new int[] { N_FFT / 2, nRows }, dataSet.getShape());
+            final long firstFrame = stft.getFrameCount() - nRows;
+            for (int row = 0; row < nRows; row++) {
+                assertEquals(DT * (firstFrame + row) * STEP, dataSet.getGrid(DIM_Y, row), 1e-12);
+                for (int bin = 0; bin < N_FFT / 2; bin++) {
+                    final int index = row * N_FFT / 2 + bin;
+                    assertEquals(batch[(int) (firstFrame + row) * N_FFT / 2 + bin], dataSet.get(DIM_Z, index), 1e-12);
+                }
+            }
+        }
+        assertEquals(nComplete, frames);
+        assertEquals(nComplete, stft.getFrameCount());
+
+        // bulk copy of the visible window
+        final double[] zValues = dataSet.getValues(DIM_Z);
+        assertArrayEquals(Arrays.copyOfRange(batch, (nComplete - nFrames) * N_FFT / 2, nComplete * N_FFT / 2), zValues, 1e-12);
+
+        // axis limits
+        assertEquals(0.0, dataSet.getAxisDescription(DIM_X).getMin());
+        assertEquals(DT * (nComplete - nFrames) * STEP, dataSet.getAxisDescription(DIM_Y).getMin(), 1e-12);
+        assertEquals(Arrays.stream(zValues).min().orElseThrow(), dataSet.getAxisDescription(DIM_Z).getMin());
+        assertEquals(Arrays.stream(zValues).max().orElseThrow(), dataSet.getAxisDescription(DIM_Z).getMax());
+
+        // sample-by-sample path
+        final StreamingShortTimeFourierTransform scalar = new StreamingShortTimeFourierTransform("scalar", N_FFT, STEP, nFrames, DT, Apodization.Hann, false, true);
+        int scalarFrames = 0;
+        for (final double sample : signal) {
+            scalarFrames += scalar.add(sample);
+        }
+        assertEquals(nComplete, scalarFrames);
+        final GridDataSet scalarDataSet = scalar.getDataSet();
+        assertArrayEquals(zValues, scalarDataSet.getValues(DIM_Z));
+        assertArrayEquals(dataSet.getValues(DIM_Y), scalarDataSet.getValues(DIM_Y));
+        final double[] timeAxis = scalarDataSet.getGridValues(DIM_Y);
+        assertEquals(nFrames, timeAxis.length);
+        assertArrayEquals(timeAxis, scalarDataSet.getSlice(DIM_Y, DIM_Y, new int[] { 0, 0 }, nFrames, new double[nFrames], 0));
+        assertEquals(timeAxis[3], scalarDataSet.get(DIM_Y, 0, 3));
+        assertEquals(timeAxis[nFrames - 1], scalarDataSet.get(DIM_Y, scalarDataSet.getDataCount() - 1));
+
+        stft.reset();
+        assertEquals(0, stft.getFrameCount());
+        assertEquals(0, dataSet.getDataCount());
+        assertThrows(IllegalArgumentException.class, () -> new StreamingShortTimeFourierTransform("stream", N_FFT, 0, nFrames, DT, Apodization.Hann, false, true));
+    }
+
+    @Test
+    void testParallelBatchTransform() {
+        // large enough to be computed in parallel
+        final int nSamples = 1 << 16;
+        final double[] signal = new double[nSamples];
+        for (int i = 0; i < nSamples; i++) {
+            signal[i] = Math.sin(0.01 * i * (1 + i * 1e-5));
+        }
+        final double[] parallel = ShortTimeFourierTransform.real(signal, null, N_FFT, STEP, Apodization.Hann, Padding.MIRROR, true, false);
+        // sequential reference, one frame at a time
+        for (int frame = 0; frame < nSamples / STEP; frame += 97) {
+            final double[] slice = Arrays.copyOfRange(signal, frame * STEP, Math.min(nSamples, frame * STEP + N_FFT));
+            final double[] mirrored = ShortTimeFourierTransform.real(slice, null, N_FFT, N_FFT, Apodization.Hann, Padding.MIRROR, true, false);
+            if (slice.length == N_FFT) {
+                assertArrayEquals(Arrays.copyOf(mirrored, N_FFT / 2), Arrays.copyOfRange(parallel, frame * N_FFT / 2, (frame + 1) * N_FFT / 2), 1e-12);
+            }
+        }
+    }
+}
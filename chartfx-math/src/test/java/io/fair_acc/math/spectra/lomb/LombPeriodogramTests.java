@@ -0,0 +1,72 @@
+package io.fair_acc.math.spectra.lomb;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the fast (extirpolation + FFT) Lomb periodogram against the exact computation
+ */
+class LombPeriodogramTests {
+    @Test
+    void fastVsExactTest() {
+        final Random rnd = new Random(42);
+        final int nSamples = 400;
+        final double[] t = new double[nSamples];
+        final double[] val = new double[nSamples];
+        double time = 0.0;
+        for (int i = 0; i < nSamples; i++) {
+            time += i % 50 == 0 ? 5.0 : 0.5 + rnd.nextDouble(); // unevenly sampled, with gaps
+            t[i] = time;
+            val[i] = 2.0 * Math.sin(2 * Math.PI * 0.11 * time) + 0.5 * Math.cos(2 * Math.PI * 0.37 * time + 1.0) + 0.3 * rnd.nextGaussian();
+        }
+
+        for (final double fMin : new double[] { 0.0, 0.05 }) {
+            final int nFrequencies = 200;
+            final double df = 0.0025;
+            final double[] frequencies = new double[nFrequencies];
+            for (int i = 0; i < nFrequencies; i++) {
+                frequencies[i] = fMin + i * df;
+            }
+            final double[] exact = LombPeriodogram.computePeridodogram(t, val, frequencies);
+            final double[] fast = LombPeriodogram.computePeridodogramFast(t, val, fMin, df, nFrequencies);
+            assertArrayEquals(fast, LombPeriodogram.computePeridodogram(t, val, frequencies, true));
+            assertArrayEquals(exact, LombPeriodogram.computePeridodogram(t, val, frequencies, false));
+
+            double max = 0.0;
+            int maxIndex = 0;
+            int maxIndexFast = 0;
+            for (int i = 0; i < nFrequencies; i++) {
+                if (exact[i] > max) {
+                    max = exact[i];
+                    maxIndex = i;
+                }
+                if (fast[i] > fast[maxIndexFast]) {
+                    maxIndexFast = i;
+                }
+            }
+            assertEquals(maxIndex, maxIndexFast, "main peak position");
+            for (int i = 0; i < nFrequencies; i++) {
+                assertEquals(exact[i], fast[i], 1e-4 * max, "frequency index " + i + " fMin = " + fMin);
+            }
+        }
+    }
+
+    @Test
+    void fallbackAndExceptionTests() {
+        final double[] t = { 0.0, 1.0, 2.5, 3.0, 4.2 };
+        final double[] val = { 1.0, -1.0, 0.5, 2.0, 0.0 };
+        // non-equidistant frequencies -> exact computation
+        final double[] frequencies = { 0.1, 0.2, 0.4 };
+        assertArrayEquals(LombPeriodogram.computePeridodogram(t, val, frequencies), LombPeriodogram.computePeridodogram(t, val, frequencies, true));
+        assertEquals(0, LombPeriodogram.computePeridodogramFast(t, val, 0.0, 0.1, 0).length);
+        assertEquals(3, LombPeriodogram.computePeridodogramFast(new double[0], new double[0], 0.0, 0.1, 3).length);
+        assertThrows(IllegalArgumentException.class, () -> LombPeriodogram.computePeridodogramFast(t, val, 0.0, 0.0, 3));
+        assertThrows(IllegalArgumentException.class, () -> LombPeriodogram.computePeridodogramFast(t, new double[2], 0.0, 0.1, 3));
+        assertEquals(LombPeriodogram.computeFrequencyRange(t).length, LombPeriodogram.computePeridodogram(t, val, true).length);
+    }
+}
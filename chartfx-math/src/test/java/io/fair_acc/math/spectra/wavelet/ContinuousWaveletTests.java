@@ -0,0 +1,122 @@
+package io.fair_acc.math.spectra.wavelet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.security.InvalidParameterException;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import io.fair_acc.dataset.DataSet;
+import io.fair_acc.dataset.GridDataSet;
+import io.fair_acc.math.spectra.Convolution;
+import io.fair_acc.math.utils.ConcurrencyUtils;
+
+class ContinuousWaveletTests {
+    @Test
+    void scalogramFourierTest() {
+        final ContinuousWavelet wavelet = new ContinuousWavelet();
+        // small (sequential) and large (scale-parallel) scalograms, with and without time binning
+        for (final int[] config : new int[][] { { 200, 64, 64 }, { 200, 256, 64 }, { 500, 125, 128 } }) {
+            final double[] data = getTestData(config[0]);
+            final int nQuantx = config[1];
+            final int nQuanty = config[2];
+            final double[][] expected = getScalogramReference(data, nQuantx, nQuanty, 6.0, 0.0, 0.5);
+            final double[][] result = wavelet.getScalogramArrayFourier(data, nQuantx, nQuanty, 6.0, 0.0, 0.5);
+            assertEquals(expected.length, result.length);
+            for (int j = 0; j < expected.length; j++) {
+                assertArrayEquals(expected[j], result[j], 1e-9, "row " + j);
+            }
+            assertEquals(100, wavelet.getStatus());
+        }
+
+        assertThrows(InvalidParameterException.class, () -> wavelet.getScalogram(new double[0], 1, 64, 6.0, 0.0, 0.5));
+        assertThrows(InvalidParameterException.class, () -> wavelet.getScalogram(new double[10], 1, 64, 6.0, 0.3, 0.2));
+        assertThrows(InvalidParameterException.class, () -> wavelet.getScalogram(new double[10], 11, 64, 6.0, 0.0, 0.5));
+    }
+
+    @Test
+    void scalogramDataSetTest() {
+        final ContinuousWavelet wavelet = new ContinuousWavelet();
+        final double[] data = getTestData(200);
+        final double[][] expected = wavelet.getScalogramArrayFourier(data, 50, 64, 6.0, 0.1, 0.4);
+
+        final GridDataSet scalogram = wavelet.getScalogram(data, 50, 64, 6.0, 0.1, 0.4);
+        assertArrayEquals(new int[] { 50, expected.length }, scalogram.getShape());
+        assertArrayEquals(wavelet.getScalogramTimeAxis(data, 50, 64, 6.0, 0.1, 0.4), scalogram.getGridValues(DataSet.DIM_X));
+        assertArrayEquals(wavelet.getScalogramFrequencyAxis(50, 64, 6.0, 0.1, 0.4), scalogram.getGridValues(DataSet.DIM_Y));
+        for (int j = 0; j < expected.length; j++) {
+            for (int i = 0; i < 50; i++) {
+                assertEquals(expected[j][i], scalogram.get(DataSet.DIM_Z, i, j), "cell " + i + ", " + j);
+            }
+        }
+
+        // compatible output: storage is re-used
+        final double[] values = scalogram.getValues(DataSet.DIM_Z);
+        final double[] data2 = getTestData(200);
+        data2[100] += 10.0;
+        final double[][] expected2 = wavelet.getScalogramArrayFourier(data2, 50, 64, 6.0, 0.1, 0.4);
+        assertSame(scalogram, wavelet.getScalogram(data2, 50, 64, 6.0, 0.1, 0.4, scalogram));
+        assertSame(values, scalogram.getValues(DataSet.DIM_Z));
+        assertEquals(expected2[3][25], scalogram.get(DataSet.DIM_Z, 25, 3));
+        assertTrue(scalogram.getAxisDescription(DataSet.DIM_Z).isDefined());
+
+        // incompatible output: a new data set is returned
+        final GridDataSet other = wavelet.getScalogram(data2, 40, 64, 6.0, 0.1, 0.4, scalogram);
+        assertArrayEquals(new int[] { 40, expected.length }, other.getShape());
+        assertSame(values, scalogram.getValues(DataSet.DIM_Z));
+    }
+
+    @Test
+    void concurrentScalogramTest() {
+        final ContinuousWavelet wavelet = new ContinuousWavelet();
+        final double[][] data = IntStream.range(0, 8).mapToObj(i -> getTestData(100 + 20 * i)).toArray(double[][]::new);
+        final double[][][] expected = new double[data.length][][];
+        for (int i = 0; i < data.length; i++) {
+            expected[i] = wavelet.getScalogramArrayFourier(data[i], 50, 32, 6.0, 0.0, 0.5);
+        }
+        // shared instance used concurrently
+        IntStream.range(0, 4 * data.length).parallel().forEach(k -> {
+            final double[][] result = wavelet.getScalogramArrayFourier(data[k % data.length], 50, 32, 6.0, 0.0, 0.5);
+            for (int j = 0; j < result.length; j++) {
+                assertArrayEquals(expected[k % data.length][j], result[j]);
+            }
+        });
+    }
+
+    private static double[] getTestData(final int n) {
+        final double[] data = new double[n];
+        for (int i = 0; i < n; i++) {
+            data[i] = Math.sin(2 * Math.PI * 0.05 * i) + (i > n / 2 ? 0.5 * Math.sin(2 * Math.PI * 0.3 * i) : 0.0);
+        }
+        return data;
+    }
+
+    // straight-forward per-scale convolution: re-transforms the input for each scale
+    private static double[][] getScalogramReference(final double[] data, final int nQuantx, final int nQuanty,
+            final double nu, final double fmin, final double fmax) {
+        final double[][] ret = new double[(int) Math.floor(nQuanty * (fmax - fmin) / 0.5) + 1][nQuantx];
+        final int min = (int) (2 * fmin * nQuanty);
+        final int max = (int) (2 * fmax * nQuanty);
+        final Convolution convolution = new Convolution();
+        for (int j = min; j < max; j++) {
+            final double f0 = 0.5 * j / nQuanty;
+            final double[] filter = Convolution.getMorletFilter(ConcurrencyUtils.nextPow2(data.length), f0, nu);
+            final double[] transformed = convolution.transformFull(data, filter, true);
+            final int nbin = filter.length / 2 / nQuantx;
+            for (int i = 0; i < nQuantx; i++) {
+                double power = 0.0;
+                for (int k = 0; k < nbin; k++) {
+                    final int index = 2 * (i * nbin + k);
+                    power += transformed[index] * transformed[index] + transformed[index + 1] * transformed[index + 1];
+                }
+                ret[j - min][i] = f0 == 0 ? Double.NaN : 10 * Math.log10(power / nbin + 1e-99);
+            }
+        }
+        return ret;
+    }
+}
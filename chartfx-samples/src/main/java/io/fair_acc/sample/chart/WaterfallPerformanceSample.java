@@ -76,6 +76,7 @@ public class WaterfallPerformanceSample extends ChartSample {
     private final CheckBox smooth = new CheckBox("smooth");
     private final CheckBox altImplementation = new CheckBox("alt impl.");
     private final CheckBox parallelImplementation = new CheckBox("parallel impl.");
+    private final CheckBox incrementalUpdate = new CheckBox("incremental");
 
     private TestDataSetSource dataSet;
     private EventHandler<WindowEvent> previousCloseHandler = null;
@@ -226,8 +227,13 @@ public class WaterfallPerformanceSample extends ChartSample {
         parallelImplementation.selectedProperty().bindBidirectional(renderer.parallelImplementationProperty());
         parallelImplementation.selectedProperty().addListener((ch, old, selection) -> chart.invalidate());
 
+        incrementalUpdate.setSelected(renderer.isIncrementalUpdate());
+        incrementalUpdate.setTooltip(new Tooltip("heatmap: update only new/scrolled rows (best used with a fixed z-range)"));
+        incrementalUpdate.selectedProperty().bindBidirectional(renderer.incrementalUpdateProperty());
+        incrementalUpdate.selectedProperty().addListener((ch, old, selection) -> chart.invalidate());
+
         final ToolBar newCountourParameters = new ToolBar(dataReduction, hBoxReductionFactorSlider, reductionType,
-                smooth, altImplementation, parallelImplementation);
+                smooth, altImplementation, parallelImplementation, incrementalUpdate);
 
         contourToolBar.getItems().addAll(new VBox(standardCountourParameters, newCountourParameters));
         return contourToolBar;